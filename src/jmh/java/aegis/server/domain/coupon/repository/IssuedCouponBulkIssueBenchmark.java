@@ -0,0 +1,101 @@
+package aegis.server.domain.coupon.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 회원별 INSERT 발급과 INSERT ... SELECT 일괄 발급의 한 번 발급 비용을 같은 회원 목록으로 비교한다. </br>
+ * IDENTITY 키라 saveAll도 회원마다 한 번씩 왕복하므로, 엔티티 경로는 회원별 존재 확인과 INSERT로 재현한다.
+ * Testcontainers PostgreSQL에 발급에 필요한 테이블만 만들어 측정하며, 호출마다 새 쿠폰 id로 발급한다.
+ */
+@State(Scope.Benchmark)
+public class IssuedCouponBulkIssueBenchmark {
+
+    private static final String JDBC_URL = "jdbc:tc:postgresql:17-alpine:///benchmark";
+
+    @Param({"1000", "10000"})
+    private int recipientCount;
+
+    private final AtomicLong couponIdSequence = new AtomicLong();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private IssuedCouponJdbcRepository issuedCouponJdbcRepository;
+    private List<Long> memberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 연결을 하나만 열어 두어 측정에 연결 생성 비용이 섞이지 않게 한다
+        dataSource = new SingleConnectionDataSource(JDBC_URL, true);
+        dataSource.setDriverClassName("org.testcontainers.jdbc.ContainerDatabaseDriver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        issuedCouponJdbcRepository = new IssuedCouponJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE member (member_id bigint PRIMARY KEY)");
+        jdbcTemplate.execute(
+                """
+                CREATE TABLE issued_coupon (
+                    issued_coupon_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    coupon_id bigint NOT NULL,
+                    member_id bigint NOT NULL,
+                    is_valid boolean NOT NULL,
+                    created_at timestamp(6),
+                    updated_at timestamp(6)
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_issued_coupon_member_coupon ON issued_coupon (member_id, coupon_id)");
+        jdbcTemplate.update(
+                "INSERT INTO member (member_id) SELECT g FROM generate_series(1, ?) AS g", (long) recipientCount);
+        memberIds = LongStream.rangeClosed(1, recipientCount).boxed().toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearIssuedCoupons() {
+        jdbcTemplate.execute("TRUNCATE issued_coupon");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE issued_coupon, member");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void perMemberInsert(Blackhole blackhole) {
+        long couponId = couponIdSequence.incrementAndGet();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Long memberId : memberIds) {
+            Boolean exists = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM member WHERE member_id = ?)", Boolean.class, memberId);
+            if (Boolean.TRUE.equals(exists)) {
+                blackhole.consume(jdbcTemplate.update(
+                        "INSERT INTO issued_coupon (coupon_id, member_id, is_valid, created_at, updated_at) "
+                                + "VALUES (?, ?, true, ?, ?)",
+                        couponId,
+                        memberId,
+                        now,
+                        now));
+            }
+        }
+    }
+
+    @Benchmark
+    public IssuedCouponBulkWriteResult insertSelect() {
+        return issuedCouponJdbcRepository.issueAll(couponIdSequence.incrementAndGet(), memberIds, LocalDateTime.now());
+    }
+}
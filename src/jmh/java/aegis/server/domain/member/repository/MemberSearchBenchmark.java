@@ -0,0 +1,85 @@
+package aegis.server.domain.member.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 회원 키워드 검색을 trigram 인덱스 탐색과 LIKE 순차 탐색으로 나눠 한 번 검색 비용을 비교한다. </br>
+ * Testcontainers PostgreSQL에 검색에 필요한 열만 가진 member 테이블과 {@link MemberSearchIndexInitializer}의 인덱스를 만들고,
+ * 순차 탐색은 인덱스 탐색을 끈 연결에서 측정한다.
+ */
+@State(Scope.Benchmark)
+public class MemberSearchBenchmark {
+
+    private static final String JDBC_URL = "jdbc:tc:postgresql:17-alpine:///benchmark";
+    private static final String KEYWORD = "32012345";
+
+    // searchByStudentIdOrName이 생성하는 SQL과 같은 조건과 정렬
+    private static final String SEARCH_SQL =
+            """
+            SELECT member_id FROM member
+            WHERE lower(name) LIKE lower('%' || ? || '%')
+               OR lower(coalesce(student_id, '')) LIKE lower('%' || ? || '%')
+            ORDER BY CASE
+                WHEN lower(name) = lower(?) OR lower(coalesce(student_id, '')) = lower(?) THEN 0
+                WHEN lower(name) LIKE lower(? || '%') OR lower(coalesce(student_id, '')) LIKE lower(? || '%') THEN 1
+                ELSE 2 END, member_id
+            LIMIT 20
+            """;
+
+    @Param({"20000"})
+    private int memberCount;
+
+    @Param({"trigram", "sequential"})
+    private String scan;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 연결을 하나만 열어 두어 측정에 연결 생성 비용이 섞이지 않게 한다
+        dataSource = new SingleConnectionDataSource(JDBC_URL, true);
+        dataSource.setDriverClassName("org.testcontainers.jdbc.ContainerDatabaseDriver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute(
+                "CREATE TABLE member (member_id bigint PRIMARY KEY, name varchar(255), student_id varchar(255),"
+                        + " email varchar(255))");
+        jdbcTemplate.update(
+                "INSERT INTO member (member_id, name, student_id, email) "
+                        + "SELECT g, '벤치회원' || g, (32000000 + g)::text, 'bench' || g || '@dankook.ac.kr' "
+                        + "FROM generate_series(1, ?) AS g",
+                (long) memberCount);
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        MemberSearchIndexInitializer.TRIGRAM_INDEXES.stream()
+                .filter(index -> index.definition().startsWith("member "))
+                .forEach(index -> jdbcTemplate.execute("CREATE INDEX " + index.name() + " ON " + index.definition()));
+        jdbcTemplate.execute("ANALYZE member");
+        if (scan.equals("sequential")) {
+            jdbcTemplate.execute("SET enable_bitmapscan = off");
+            jdbcTemplate.execute("SET enable_indexscan = off");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE member");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return jdbcTemplate.queryForList(SEARCH_SQL, Long.class, KEYWORD, KEYWORD, KEYWORD, KEYWORD, KEYWORD, KEYWORD);
+    }
+}
@@ -0,0 +1,91 @@
+package aegis.server.domain.payment.service.parser;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 정규식 파서와 단일 순회 파서의 IBK 문자 한 건당 파싱 비용을 비교한다. </br>
+ * 실제 문자와 같은 모양의 입출금 내역에 malformedPercent 비율만큼 형식이 깨진 문자를 섞어, 예외 경로의 비용도 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+public class IbkTransactionParserBenchmark {
+
+    private static final int CORPUS_SIZE = 1024;
+    private static final String[] NAMES = {"윤성민212874", "홍길동", "김철수32201234", "ATM출금", "이영희 회비", "박지민"};
+    private static final String[] MALFORMED = {
+        "[송금] 50,000원 홍길동\n982-******-01-017\n12/25 14:30 /잔액 150,000원",
+        "[입금] 50,000원 홍길동\n982-******-01-017\n2023년 12월 25일 /잔액 150,000원",
+        "[입금] 50,000원 홍길동\n982-******-01-017",
+        "잘못된 형식의 로그\n입니다"
+    };
+
+    @Param({"0", "10"})
+    private int malformedPercent;
+
+    private IbkTransactionParser regexParser;
+    private IbkSinglePassTransactionParser singlePassParser;
+    private String[] corpus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ZoneId timeZone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(
+                LocalDateTime.of(2024, 12, 17, 14, 30).atZone(timeZone).toInstant(), timeZone);
+        regexParser = new IbkTransactionParser(clock);
+        singlePassParser = new IbkSinglePassTransactionParser(clock);
+
+        Random random = new Random(42);
+        List<String> logs = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            if (random.nextInt(100) < malformedPercent) {
+                logs.add(MALFORMED[random.nextInt(MALFORMED.length)]);
+                continue;
+            }
+            String type = random.nextInt(4) == 0 ? "출금" : "입금";
+            String log = "[%s] %,d원 %s\n982-******-01-017\n%02d/%02d %02d:%02d /잔액 %,d원"
+                    .formatted(
+                            type,
+                            (random.nextInt(100) + 1) * 1000,
+                            NAMES[random.nextInt(NAMES.length)],
+                            random.nextInt(12) + 1,
+                            random.nextInt(28) + 1,
+                            random.nextInt(24),
+                            random.nextInt(60),
+                            random.nextInt(10_000_000));
+            logs.add(random.nextBoolean() ? log : log + "\n지금 i-ONE Bank 앱을 설치해보세요.");
+        }
+        corpus = logs.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        parseAll(regexParser, blackhole);
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        parseAll(singlePassParser, blackhole);
+    }
+
+    private void parseAll(TransactionParser parser, Blackhole blackhole) {
+        for (String log : corpus) {
+            try {
+                blackhole.consume(parser.parse(log));
+            } catch (RuntimeException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+}
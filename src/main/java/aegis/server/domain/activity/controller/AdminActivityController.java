@@ -39,9 +39,11 @@ public class AdminActivityController {
     public ResponseEntity<AdminActivityPageResponse> getAllActivities(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sort) {
-        AdminActivityPageResponse response = activityService.searchActivitiesForAdmin(page, size, keyword, sort);
+        AdminActivityPageResponse response =
+                activityService.searchActivitiesForAdmin(page, size, cursor, keyword, sort);
         return ResponseEntity.ok().body(response);
     }
 
@@ -2,20 +2,26 @@ package aegis.server.domain.activity.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.activity.domain.Activity;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminActivityPageResponse(
-        List<ActivityResponse> content, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+        List<ActivityResponse> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages,
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminActivityPageResponse from(Page<Activity> activityPage) {
+    public static AdminActivityPageResponse from(KeysetPage<Activity> activityPage) {
         return new AdminActivityPageResponse(
-                activityPage.getContent().stream().map(ActivityResponse::from).toList(),
-                activityPage.getNumber(),
-                activityPage.getSize(),
-                activityPage.getTotalElements(),
-                activityPage.getTotalPages(),
-                activityPage.hasNext());
+                activityPage.content().stream().map(ActivityResponse::from).toList(),
+                activityPage.page(),
+                activityPage.size(),
+                activityPage.totalElements(),
+                activityPage.totalPages(),
+                activityPage.hasNext(),
+                activityPage.nextCursor());
     }
 }
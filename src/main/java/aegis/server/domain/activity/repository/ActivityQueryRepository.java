@@ -1,11 +1,12 @@
 package aegis.server.domain.activity.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.activity.domain.Activity;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface ActivityQueryRepository {
 
-    Page<Activity> searchAdminActivities(String keyword, Pageable pageable, String orderByClause);
+    KeysetPage<Activity> searchAdminActivities(
+            String keyword, KeysetPageRequest pageRequest, KeysetSort<Activity> sort);
 }
@@ -1,57 +1,40 @@
 package aegis.server.domain.activity.repository;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import lombok.RequiredArgsConstructor;
+
 import aegis.server.domain.activity.domain.Activity;
+import aegis.server.global.paging.AdminQuery;
+import aegis.server.global.paging.AdminQuerySpec;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetPager;
+import aegis.server.global.paging.KeysetSort;
 
 @Repository
+@RequiredArgsConstructor
 public class ActivityQueryRepositoryImpl implements ActivityQueryRepository {
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
-    @Override
-    public Page<Activity> searchAdminActivities(String keyword, Pageable pageable, String orderByClause) {
-        Map<String, Object> params = new LinkedHashMap<>();
-        List<String> conditions = new ArrayList<>();
-
-        if (keyword != null) {
-            conditions.add("(LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
-                    + "OR STR(a.id) LIKE CONCAT('%', :keyword, '%') "
-                    + "OR STR(a.pointAmount) LIKE CONCAT('%', :keyword, '%'))");
-            params.put("keyword", keyword);
-        }
+    private static final AdminQuerySpec<Activity> ADMIN_ACTIVITY_QUERY = AdminQuerySpec.builder(
+                    "searchAdminActivities",
+                    Activity.class,
+                    "SELECT a FROM Activity a",
+                    "SELECT COUNT(a) FROM Activity a")
+            .filter(
+                    "keyword",
+                    "(LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR STR(a.id) LIKE CONCAT('%', :keyword, '%') "
+                            + "OR STR(a.pointAmount) LIKE CONCAT('%', :keyword, '%'))")
+            .build();
 
-        String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    private final KeysetPager keysetPager;
 
-        String selectJpql = "SELECT a FROM Activity a" + whereClause + " ORDER BY " + orderByClause;
-        String countJpql = "SELECT COUNT(a) FROM Activity a" + whereClause;
-
-        TypedQuery<Activity> selectQuery = entityManager.createQuery(selectJpql, Activity.class);
-        TypedQuery<Long> countQuery = entityManager.createQuery(countJpql, Long.class);
-
-        for (Map.Entry<String, Object> param : params.entrySet()) {
-            selectQuery.setParameter(param.getKey(), param.getValue());
-            countQuery.setParameter(param.getKey(), param.getValue());
-        }
-
-        selectQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
-        selectQuery.setMaxResults(pageable.getPageSize());
+    @Override
+    public KeysetPage<Activity> searchAdminActivities(
+            String keyword, KeysetPageRequest pageRequest, KeysetSort<Activity> sort) {
+        AdminQuery<Activity> query = ADMIN_ACTIVITY_QUERY.query().where("keyword", keyword);
 
-        List<Activity> content = selectQuery.getResultList();
-        Long total = countQuery.getSingleResult();
-        return new PageImpl<>(content, pageable, total);
+        return keysetPager.fetch(query, sort, pageRequest);
     }
 }
@@ -1,10 +1,10 @@
 package aegis.server.domain.activity.service;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +17,13 @@ import aegis.server.domain.activity.dto.response.AdminActivityPageResponse;
 import aegis.server.domain.activity.repository.ActivityRepository;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
+import aegis.server.global.paging.KeysetSortKeys;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +31,7 @@ import aegis.server.global.exception.ErrorCode;
 public class ActivityService {
 
     private static final int MAX_PAGE_SIZE = 100;
+    private static final KeysetSortKeys<Activity> ACTIVITY_SORT_KEYS = KeysetSortKeys.of("a.id", Activity::getId);
 
     private final ActivityRepository activityRepository;
 
@@ -31,14 +39,15 @@ public class ActivityService {
         return activityRepository.findAll().stream().map(ActivityResponse::from).toList();
     }
 
-    public AdminActivityPageResponse searchActivitiesForAdmin(int page, int size, String keyword, String sort) {
+    public AdminActivityPageResponse searchActivitiesForAdmin(
+            int page, int size, String cursor, String keyword, String sort) {
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(keyword);
-        String orderByClause = resolveActivityOrderBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
+        KeysetSort<Activity> activitySort = resolveActivitySort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<Activity> activityPage =
-                activityRepository.searchAdminActivities(normalizedKeyword, pageRequest, orderByClause);
+        KeysetPage<Activity> activityPage =
+                activityRepository.searchAdminActivities(normalizedKeyword, pageRequest, activitySort);
         return AdminActivityPageResponse.from(activityPage);
     }
 
@@ -89,20 +98,24 @@ public class ActivityService {
         return trimmedKeyword.isEmpty() ? null : trimmedKeyword;
     }
 
-    private String resolveActivityOrderBy(String sort) {
+    private KeysetSort<Activity> resolveActivitySort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "a.id ASC";
+            return ACTIVITY_SORT_KEYS.id(ASC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "a.id ASC";
-            case "id,desc" -> "a.id DESC";
-            case "name,asc" -> "a.name ASC, a.id ASC";
-            case "name,desc" -> "a.name DESC, a.id DESC";
-            case "pointamount,asc" -> "a.pointAmount ASC, a.id ASC";
-            case "pointamount,desc" -> "a.pointAmount DESC, a.id DESC";
-            case "createdat,asc" -> "a.createdAt ASC, a.id ASC";
-            case "createdat,desc" -> "a.createdAt DESC, a.id DESC";
+            case "id,asc" -> ACTIVITY_SORT_KEYS.id(ASC);
+            case "id,desc" -> ACTIVITY_SORT_KEYS.id(DESC);
+            case "name,asc" -> ACTIVITY_SORT_KEYS.by("a.name", String.class, Activity::getName, ASC);
+            case "name,desc" -> ACTIVITY_SORT_KEYS.by("a.name", String.class, Activity::getName, DESC);
+            case "pointamount,asc" -> ACTIVITY_SORT_KEYS.by(
+                    "a.pointAmount", BigDecimal.class, Activity::getPointAmount, ASC);
+            case "pointamount,desc" -> ACTIVITY_SORT_KEYS.by(
+                    "a.pointAmount", BigDecimal.class, Activity::getPointAmount, DESC);
+            case "createdat,asc" -> ACTIVITY_SORT_KEYS.by(
+                    "a.createdAt", LocalDateTime.class, Activity::getCreatedAt, ASC);
+            case "createdat,desc" -> ACTIVITY_SORT_KEYS.by(
+                    "a.createdAt", LocalDateTime.class, Activity::getCreatedAt, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import lombok.RequiredArgsConstructor;
 
+import aegis.server.domain.coupon.dto.request.CouponCodeBulkCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponCodeCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponIssueRequest;
@@ -29,6 +30,9 @@ import aegis.server.domain.coupon.dto.response.AdminCouponPageResponse;
 import aegis.server.domain.coupon.dto.response.AdminCouponResponse;
 import aegis.server.domain.coupon.dto.response.AdminIssuedCouponPageResponse;
 import aegis.server.domain.coupon.dto.response.AdminIssuedCouponResponse;
+import aegis.server.domain.coupon.dto.response.CouponBulkIssueResponse;
+import aegis.server.domain.coupon.dto.response.CouponCodeBulkCreateResponse;
+import aegis.server.domain.coupon.dto.response.CouponCodePoolResponse;
 import aegis.server.domain.coupon.service.CouponService;
 
 @Tag(name = "Admin Coupon", description = "관리자 쿠폰 관리 API")
@@ -48,9 +52,10 @@ public class AdminCouponController {
     public ResponseEntity<AdminCouponPageResponse> getAllCoupons(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sort) {
-        AdminCouponPageResponse response = couponService.getAdminCouponsPage(page, size, keyword, sort);
+        AdminCouponPageResponse response = couponService.getAdminCouponsPage(page, size, cursor, keyword, sort);
         return ResponseEntity.ok().body(response);
     }
 
@@ -109,13 +114,14 @@ public class AdminCouponController {
     public ResponseEntity<AdminIssuedCouponPageResponse> getAllIssuedCoupons(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long couponId,
             @RequestParam(required = false) Long memberId,
             @RequestParam(required = false) Boolean isValid,
             @RequestParam(required = false) String sort) {
-        AdminIssuedCouponPageResponse response =
-                couponService.getAdminIssuedCouponsPage(page, size, keyword, couponId, memberId, isValid, sort);
+        AdminIssuedCouponPageResponse response = couponService.getAdminIssuedCouponsPage(
+                page, size, cursor, keyword, couponId, memberId, isValid, sort);
         return ResponseEntity.ok().body(response);
     }
 
@@ -134,6 +140,20 @@ public class AdminCouponController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responses);
     }
 
+    @Operation(
+            summary = "쿠폰 일괄 발급",
+            description = "다수 사용자에게 쿠폰을 한 번에 발급하고 요약 결과를 반환합니다. 이미 같은 쿠폰을 받은 사용자와 존재하지 않는 사용자는 제외됩니다.",
+            responses = {
+                @ApiResponse(responseCode = "201", description = "쿠폰 일괄 발급 성공"),
+                @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터", content = @Content),
+                @ApiResponse(responseCode = "404", description = "존재하지 않는 쿠폰", content = @Content)
+            })
+    @PostMapping("/issued/bulk")
+    public ResponseEntity<CouponBulkIssueResponse> issueCouponInBulk(@Valid @RequestBody CouponIssueRequest request) {
+        CouponBulkIssueResponse response = couponService.issueCouponInBulk(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(
             summary = "발급된 쿠폰 삭제",
             description = "지정된 ID의 발급된 쿠폰을 삭제합니다.",
@@ -158,9 +178,11 @@ public class AdminCouponController {
     public ResponseEntity<AdminCouponCodePageResponse> getAllCodeCoupons(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sort) {
-        AdminCouponCodePageResponse response = couponService.getAdminCouponCodesPage(page, size, keyword, sort);
+        AdminCouponCodePageResponse response =
+                couponService.getAdminCouponCodesPage(page, size, cursor, keyword, sort);
         return ResponseEntity.ok().body(response);
     }
 
@@ -180,6 +202,31 @@ public class AdminCouponController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "쿠폰 코드 일괄 생성",
+            description = "지정된 쿠폰에 대한 코드를 한 번에 여러 개 생성합니다.",
+            responses = {
+                @ApiResponse(responseCode = "201", description = "쿠폰 코드 일괄 생성 성공"),
+                @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터", content = @Content),
+                @ApiResponse(responseCode = "404", description = "존재하지 않는 쿠폰", content = @Content),
+                @ApiResponse(responseCode = "500", description = "남은 쿠폰 코드가 부족함", content = @Content)
+            })
+    @PostMapping("/code/bulk")
+    public ResponseEntity<CouponCodeBulkCreateResponse> createCodeCouponsInBulk(
+            @Valid @RequestBody CouponCodeBulkCreateRequest request) {
+        CouponCodeBulkCreateResponse response = couponService.createCouponCodesInBulk(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(
+            summary = "쿠폰 코드 풀 조회",
+            description = "쿠폰 코드 공간의 전체, 사용, 남은 개수를 조회합니다.",
+            responses = {@ApiResponse(responseCode = "200", description = "쿠폰 코드 풀 조회 성공")})
+    @GetMapping("/code/pool")
+    public ResponseEntity<CouponCodePoolResponse> getCouponCodePool() {
+        return ResponseEntity.ok(couponService.getCouponCodePool());
+    }
+
     @Operation(
             summary = "쿠폰 코드 삭제",
             description = "지정된 ID의 쿠폰 코드를 삭제합니다.",
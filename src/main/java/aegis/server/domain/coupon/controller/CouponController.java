@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import aegis.server.domain.coupon.dto.request.CouponCodeUseRequest;
 import aegis.server.domain.coupon.dto.response.CouponCodeResponse;
 import aegis.server.domain.coupon.dto.response.IssuedCouponResponse;
+import aegis.server.domain.coupon.service.CouponCodeRedemptionService;
 import aegis.server.domain.coupon.service.CouponService;
 import aegis.server.global.security.annotation.LoginUser;
 import aegis.server.global.security.oidc.UserDetails;
@@ -29,6 +30,7 @@ import aegis.server.global.security.oidc.UserDetails;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponCodeRedemptionService couponCodeRedemptionService;
 
     @Operation(
             summary = "내 발급된 쿠폰 조회",
@@ -72,7 +74,7 @@ public class CouponController {
     public ResponseEntity<CouponCodeResponse> codeCouponIssue(
             @Parameter(hidden = true) @LoginUser UserDetails userDetails,
             @Valid @RequestBody CouponCodeUseRequest request) {
-        CouponCodeResponse response = couponService.useCouponCode(userDetails, request);
+        CouponCodeResponse response = couponCodeRedemptionService.redeem(userDetails, request);
         return ResponseEntity.ok().body(response);
     }
 }
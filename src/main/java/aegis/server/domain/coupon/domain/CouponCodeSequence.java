@@ -0,0 +1,21 @@
+package aegis.server.domain.coupon.domain;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+/**
+ * 쿠폰 코드 순열의 다음 카운터 값. 단일 행이며 {@code CouponCodeJdbcRepository}가 UPDATE ... RETURNING으로 구간을 예약한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponCodeSequence {
+
+    @Id
+    @Column(name = "coupon_code_sequence_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long nextValue;
+}
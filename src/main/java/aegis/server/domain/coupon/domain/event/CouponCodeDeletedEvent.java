@@ -0,0 +1,3 @@
+package aegis.server.domain.coupon.domain.event;
+
+public record CouponCodeDeletedEvent(String code) {}
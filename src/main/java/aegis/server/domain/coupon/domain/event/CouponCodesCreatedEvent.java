@@ -0,0 +1,5 @@
+package aegis.server.domain.coupon.domain.event;
+
+import java.util.List;
+
+public record CouponCodesCreatedEvent(List<String> codes) {}
@@ -0,0 +1,9 @@
+package aegis.server.domain.coupon.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CouponCodeBulkCreateRequest(
+        @NotNull Long couponId, @Min(1) @Max(10_000) int count, @Size(max = 255) String description) {}
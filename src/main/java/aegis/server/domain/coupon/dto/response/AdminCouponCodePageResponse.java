@@ -2,9 +2,8 @@ package aegis.server.domain.coupon.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.coupon.domain.CouponCode;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminCouponCodePageResponse(
         List<AdminCouponCodeResponse> content,
@@ -12,17 +11,19 @@ public record AdminCouponCodePageResponse(
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext) {
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminCouponCodePageResponse from(Page<CouponCode> couponCodePage) {
+    public static AdminCouponCodePageResponse from(KeysetPage<CouponCode> couponCodePage) {
         return new AdminCouponCodePageResponse(
-                couponCodePage.getContent().stream()
+                couponCodePage.content().stream()
                         .map(AdminCouponCodeResponse::from)
                         .toList(),
-                couponCodePage.getNumber(),
-                couponCodePage.getSize(),
-                couponCodePage.getTotalElements(),
-                couponCodePage.getTotalPages(),
-                couponCodePage.hasNext());
+                couponCodePage.page(),
+                couponCodePage.size(),
+                couponCodePage.totalElements(),
+                couponCodePage.totalPages(),
+                couponCodePage.hasNext(),
+                couponCodePage.nextCursor());
     }
 }
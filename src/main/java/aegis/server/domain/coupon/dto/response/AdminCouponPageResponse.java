@@ -2,20 +2,26 @@ package aegis.server.domain.coupon.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.coupon.domain.Coupon;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminCouponPageResponse(
-        List<AdminCouponResponse> content, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+        List<AdminCouponResponse> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages,
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminCouponPageResponse from(Page<Coupon> couponPage) {
+    public static AdminCouponPageResponse from(KeysetPage<Coupon> couponPage) {
         return new AdminCouponPageResponse(
-                couponPage.getContent().stream().map(AdminCouponResponse::from).toList(),
-                couponPage.getNumber(),
-                couponPage.getSize(),
-                couponPage.getTotalElements(),
-                couponPage.getTotalPages(),
-                couponPage.hasNext());
+                couponPage.content().stream().map(AdminCouponResponse::from).toList(),
+                couponPage.page(),
+                couponPage.size(),
+                couponPage.totalElements(),
+                couponPage.totalPages(),
+                couponPage.hasNext(),
+                couponPage.nextCursor());
     }
 }
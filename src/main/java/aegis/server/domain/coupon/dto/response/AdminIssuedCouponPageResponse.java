@@ -2,9 +2,8 @@ package aegis.server.domain.coupon.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.coupon.domain.IssuedCoupon;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminIssuedCouponPageResponse(
         List<AdminIssuedCouponResponse> content,
@@ -12,17 +11,19 @@ public record AdminIssuedCouponPageResponse(
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext) {
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminIssuedCouponPageResponse from(Page<IssuedCoupon> issuedCouponPage) {
+    public static AdminIssuedCouponPageResponse from(KeysetPage<IssuedCoupon> issuedCouponPage) {
         return new AdminIssuedCouponPageResponse(
-                issuedCouponPage.getContent().stream()
+                issuedCouponPage.content().stream()
                         .map(AdminIssuedCouponResponse::from)
                         .toList(),
-                issuedCouponPage.getNumber(),
-                issuedCouponPage.getSize(),
-                issuedCouponPage.getTotalElements(),
-                issuedCouponPage.getTotalPages(),
-                issuedCouponPage.hasNext());
+                issuedCouponPage.page(),
+                issuedCouponPage.size(),
+                issuedCouponPage.totalElements(),
+                issuedCouponPage.totalPages(),
+                issuedCouponPage.hasNext(),
+                issuedCouponPage.nextCursor());
     }
 }
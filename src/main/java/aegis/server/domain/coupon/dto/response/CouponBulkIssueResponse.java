@@ -0,0 +1,21 @@
+package aegis.server.domain.coupon.dto.response;
+
+import java.util.List;
+
+import aegis.server.domain.coupon.repository.IssuedCouponBulkWriteResult;
+
+public record CouponBulkIssueResponse(
+        Long couponId,
+        int requestedCount,
+        int issuedCount,
+        List<Long> alreadyIssuedMemberIds,
+        List<Long> missingMemberIds) {
+    public static CouponBulkIssueResponse of(Long couponId, IssuedCouponBulkWriteResult result) {
+        return new CouponBulkIssueResponse(
+                couponId,
+                result.requestedCount(),
+                result.issuedCount(),
+                result.alreadyIssuedMemberIds(),
+                result.missingMemberIds());
+    }
+}
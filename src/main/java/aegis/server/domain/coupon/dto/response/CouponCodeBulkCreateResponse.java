@@ -0,0 +1,5 @@
+package aegis.server.domain.coupon.dto.response;
+
+import java.util.List;
+
+public record CouponCodeBulkCreateResponse(Long couponId, int createdCount, List<String> codes, long remainingCount) {}
@@ -0,0 +1,3 @@
+package aegis.server.domain.coupon.dto.response;
+
+public record CouponCodePoolResponse(long capacity, long usedCount, long remainingCount) {}
@@ -0,0 +1,144 @@
+package aegis.server.domain.coupon.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쿠폰 코드 선점 상태를 Redis에 관리한다. </br>
+ * 값은 AVAILABLE, CLAIMED:회원ID:선점시각(epoch ms), USED 중 하나이며, 키가 없으면 Redis가 모르는 코드로 보고 DB 잠금 경로로 처리한다.
+ * 선점은 Lua 스크립트 한 번으로 원자적으로 이루어지므로, 같은 코드에 동시에 몰린 요청 중 하나만 DB까지 간다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponCodeClaimBoard {
+
+    private static final String KEY_PREFIX = "coupon:code:claim:";
+    private static final String AVAILABLE = "AVAILABLE";
+    private static final String USED = "USED";
+    private static final String CLAIMED_PREFIX = "CLAIMED:";
+    // 사용된 코드는 DB 잠금 경로로도 거절되므로 일정 시간 뒤 지워 메모리를 돌려받는다
+    private static final Duration USED_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> CLAIM = new DefaultRedisScript<>(
+            """
+            local state = redis.call('GET', KEYS[1])
+            if not state then
+                return -1
+            end
+            if state == 'AVAILABLE' then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """,
+            Long.class);
+
+    // 값이 ARGV[1]로 시작할 때만 ARGV[2]로 바꾼다
+    private static final RedisScript<Long> REPLACE_IF_PREFIXED = new DefaultRedisScript<>(
+            """
+            local state = redis.call('GET', KEYS[1])
+            if state and string.sub(state, 1, string.len(ARGV[1])) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """,
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ClaimResult claim(String code, Long memberId, Instant claimedAt) {
+        Long result = stringRedisTemplate.execute(
+                CLAIM, List.of(key(code)), CLAIMED_PREFIX + memberId + ":" + claimedAt.toEpochMilli());
+        if (result == null || result < 0) {
+            return ClaimResult.UNKNOWN;
+        }
+        return result == 1 ? ClaimResult.CLAIMED : ClaimResult.TAKEN;
+    }
+
+    /**
+     * 회원의 선점을 되돌린다. 그 사이 다른 상태로 바뀌었다면 그대로 둔다.
+     */
+    public void release(String code, Long memberId) {
+        stringRedisTemplate.execute(
+                REPLACE_IF_PREFIXED, List.of(key(code)), CLAIMED_PREFIX + memberId + ":", AVAILABLE);
+    }
+
+    public void markUsed(String code) {
+        stringRedisTemplate.opsForValue().set(key(code), USED, USED_TTL);
+    }
+
+    public void markAvailable(String code) {
+        stringRedisTemplate.opsForValue().setIfAbsent(key(code), AVAILABLE);
+    }
+
+    public void markAllAvailable(List<String> codes) {
+        byte[] available = AVAILABLE.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String code : codes) {
+                setNx(connection, key(code), available);
+            }
+            return null;
+        });
+    }
+
+    public void remove(String code) {
+        stringRedisTemplate.delete(key(code));
+    }
+
+    /**
+     * @return 입력 순서대로의 상태 값 (키가 없으면 null)
+     */
+    public List<String> findStates(List<String> codes) {
+        return stringRedisTemplate.opsForValue().multiGet(codes.stream().map(this::key).toList());
+    }
+
+    /**
+     * 상태 값이 expected일 때만 AVAILABLE로 되돌린다.
+     */
+    public boolean resetToAvailable(String code, String expected) {
+        Long result = stringRedisTemplate.execute(REPLACE_IF_PREFIXED, List.of(key(code)), expected, AVAILABLE);
+        return result != null && result == 1;
+    }
+
+    public static boolean isAvailable(String state) {
+        return AVAILABLE.equals(state);
+    }
+
+    public static boolean isUsed(String state) {
+        return USED.equals(state);
+    }
+
+    public static boolean isClaimedBefore(String state, Instant threshold) {
+        if (state == null || !state.startsWith(CLAIMED_PREFIX)) {
+            return false;
+        }
+        long claimedAt = Long.parseLong(state.substring(state.lastIndexOf(':') + 1));
+        return claimedAt < threshold.toEpochMilli();
+    }
+
+    private void setNx(RedisConnection connection, String key, byte[] value) {
+        connection.stringCommands().setNX(key.getBytes(StandardCharsets.UTF_8), value);
+    }
+
+    private String key(String code) {
+        return KEY_PREFIX + code;
+    }
+
+    public enum ClaimResult {
+        CLAIMED,
+        TAKEN,
+        UNKNOWN
+    }
+}
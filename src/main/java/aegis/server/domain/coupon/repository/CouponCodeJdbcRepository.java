@@ -0,0 +1,85 @@
+package aegis.server.domain.coupon.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쿠폰 코드 풀의 PostgreSQL 전용 쓰기 경로 </br>
+ * 카운터 구간 예약은 단일 행 UPDATE ... RETURNING으로, 코드 INSERT는 unnest 한 번으로 처리한다.
+ * 코드 유니크 제약(uk_coupon_code_code)을 ON CONFLICT 대상으로 사용하여, 순열 도입 전 무작위로 만든 코드와 겹친 코드만 건너뛴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponCodeJdbcRepository {
+
+    private static final long SEQUENCE_ID = 1L;
+
+    private static final String INIT_SEQUENCE_SQL =
+            """
+            INSERT INTO coupon_code_sequence (coupon_code_sequence_id, next_value) VALUES (?, 0)
+            ON CONFLICT (coupon_code_sequence_id) DO NOTHING
+            """;
+
+    private static final String RESERVE_SQL =
+            """
+            UPDATE coupon_code_sequence
+            SET next_value = next_value + ?
+            WHERE coupon_code_sequence_id = ? AND next_value + ? <= ?
+            RETURNING next_value - ?
+            """;
+
+    private static final String USED_COUNT_SQL =
+            "SELECT COALESCE((SELECT next_value FROM coupon_code_sequence WHERE coupon_code_sequence_id = ?), 0)";
+
+    private static final String INSERT_ALL_SQL =
+            """
+            INSERT INTO coupon_code (coupon_id, code, description, is_valid, created_at, updated_at)
+            SELECT ?, c.code, ?, true, ?, ?
+            FROM unnest(?::varchar[]) AS c(code)
+            ON CONFLICT (code) DO NOTHING
+            RETURNING code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카운터 [start, start + count) 구간을 예약한다. 행 잠금은 호출 트랜잭션이 끝날 때까지 유지된다.
+     *
+     * @return 예약한 구간의 시작값, 남은 카운터가 부족하면 빈 값
+     */
+    public Optional<Long> reserve(int count, long capacity) {
+        jdbcTemplate.update(INIT_SEQUENCE_SQL, SEQUENCE_ID);
+        List<Long> starts =
+                jdbcTemplate.queryForList(RESERVE_SQL, Long.class, count, SEQUENCE_ID, count, capacity, count);
+        return starts.stream().findFirst();
+    }
+
+    public long usedCount() {
+        return jdbcTemplate.queryForObject(USED_COUNT_SQL, Long.class, SEQUENCE_ID);
+    }
+
+    /**
+     * @return INSERT된 코드 (기존 코드와 겹쳐 INSERT되지 않은 코드는 포함되지 않음)
+     */
+    public List<String> insertAll(Long couponId, List<String> codes, String description, LocalDateTime now) {
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(INSERT_ALL_SQL);
+                    ps.setLong(1, couponId);
+                    ps.setString(2, description);
+                    ps.setTimestamp(3, Timestamp.valueOf(now));
+                    ps.setTimestamp(4, Timestamp.valueOf(now));
+                    ps.setArray(5, connection.createArrayOf("varchar", codes.toArray()));
+                    return ps;
+                },
+                (rs, rowNum) -> rs.getString("code"));
+    }
+}
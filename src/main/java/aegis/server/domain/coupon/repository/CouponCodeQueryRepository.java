@@ -1,11 +1,12 @@
 package aegis.server.domain.coupon.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.coupon.domain.CouponCode;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface CouponCodeQueryRepository {
 
-    Page<CouponCode> searchAdminCouponCodes(String keyword, Pageable pageable, String orderByClause);
+    KeysetPage<CouponCode> searchAdminCouponCodes(
+            String keyword, KeysetPageRequest pageRequest, KeysetSort<CouponCode> sort);
 }
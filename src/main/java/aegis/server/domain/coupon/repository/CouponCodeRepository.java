@@ -23,5 +23,8 @@ public interface CouponCodeRepository extends JpaRepository<CouponCode, Long>, C
     @Query("SELECT cc FROM CouponCode cc JOIN FETCH cc.coupon LEFT JOIN FETCH cc.issuedCoupon WHERE cc.id = :id")
     Optional<CouponCode> findByIdWithCouponAndIssuedCoupon(Long id);
 
-    boolean existsByCode(String code);
+    Optional<CouponCode> findByCode(String code);
+
+    @Query("SELECT new aegis.server.domain.coupon.repository.CouponCodeState(cc.code, cc.isValid) FROM CouponCode cc")
+    List<CouponCodeState> findAllStates();
 }
@@ -0,0 +1,3 @@
+package aegis.server.domain.coupon.repository;
+
+public record CouponCodeState(String code, Boolean isValid) {}
@@ -1,11 +1,11 @@
 package aegis.server.domain.coupon.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.coupon.domain.Coupon;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface CouponQueryRepository {
 
-    Page<Coupon> searchAdminCoupons(String keyword, Pageable pageable, String orderByClause);
+    KeysetPage<Coupon> searchAdminCoupons(String keyword, KeysetPageRequest pageRequest, KeysetSort<Coupon> sort);
 }
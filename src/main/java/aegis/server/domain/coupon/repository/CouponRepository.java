@@ -1,11 +1,20 @@
 package aegis.server.domain.coupon.repository;
 
 import java.math.BigDecimal;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 import aegis.server.domain.coupon.domain.Coupon;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponQueryRepository {
     boolean existsByCouponNameAndDiscountAmount(String couponName, BigDecimal discountAmount);
+
+    @Query("SELECT c FROM Coupon c WHERE c.id = :id")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Coupon> findByIdWithLock(Long id);
 }
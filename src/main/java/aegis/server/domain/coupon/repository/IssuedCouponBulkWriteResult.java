@@ -0,0 +1,6 @@
+package aegis.server.domain.coupon.repository;
+
+import java.util.List;
+
+public record IssuedCouponBulkWriteResult(
+        int requestedCount, int issuedCount, List<Long> alreadyIssuedMemberIds, List<Long> missingMemberIds) {}
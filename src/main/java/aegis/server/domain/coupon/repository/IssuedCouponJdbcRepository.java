@@ -0,0 +1,82 @@
+package aegis.server.domain.coupon.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쿠폰 일괄 발급의 PostgreSQL 전용 쓰기 경로 </br>
+ * IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로, 회원 존재 확인, 기존 발급 확인, INSERT를 INSERT ... SELECT 한 문으로 처리한다.
+ * 요청 회원별로 발급, 이미 발급됨, 회원 없음 중 하나로 분류된 결과만 돌려받고 발급된 엔티티는 다시 읽지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssuedCouponJdbcRepository {
+
+    private static final String ISSUE_ALL_SQL =
+            """
+            WITH requested AS (
+                SELECT DISTINCT r.member_id FROM unnest(?::bigint[]) AS r(member_id)
+            ), existing AS (
+                SELECT DISTINCT ic.member_id
+                FROM issued_coupon ic
+                JOIN requested r ON r.member_id = ic.member_id
+                WHERE ic.coupon_id = ?
+            ), inserted AS (
+                INSERT INTO issued_coupon (coupon_id, member_id, is_valid, created_at, updated_at)
+                SELECT ?, m.member_id, true, ?, ?
+                FROM member m
+                JOIN requested r ON r.member_id = m.member_id
+                WHERE NOT EXISTS (SELECT 1 FROM existing e WHERE e.member_id = m.member_id)
+                RETURNING member_id
+            )
+            SELECT r.member_id,
+                   CASE WHEN i.member_id IS NOT NULL THEN 'ISSUED'
+                        WHEN e.member_id IS NOT NULL THEN 'ALREADY_ISSUED'
+                        ELSE 'MEMBER_NOT_FOUND' END AS result
+            FROM requested r
+            LEFT JOIN inserted i ON i.member_id = r.member_id
+            LEFT JOIN existing e ON e.member_id = r.member_id
+            ORDER BY r.member_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쿠폰을 아직 받지 않은 회원에게만 발급한다. 동시 발급으로 인한 중복을 막으려면 호출 측에서 쿠폰 행을 잠가야 한다.
+     */
+    public IssuedCouponBulkWriteResult issueAll(Long couponId, Collection<Long> memberIds, LocalDateTime now) {
+        int[] issuedCount = {0};
+        List<Long> alreadyIssuedMemberIds = new ArrayList<>();
+        List<Long> missingMemberIds = new ArrayList<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(ISSUE_ALL_SQL);
+                    ps.setArray(1, connection.createArrayOf("bigint", memberIds.toArray()));
+                    ps.setLong(2, couponId);
+                    ps.setLong(3, couponId);
+                    ps.setTimestamp(4, Timestamp.valueOf(now));
+                    ps.setTimestamp(5, Timestamp.valueOf(now));
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    switch (rs.getString("result")) {
+                        case "ISSUED" -> issuedCount[0]++;
+                        case "ALREADY_ISSUED" -> alreadyIssuedMemberIds.add(rs.getLong("member_id"));
+                        default -> missingMemberIds.add(rs.getLong("member_id"));
+                    }
+                });
+
+        int requestedCount = issuedCount[0] + alreadyIssuedMemberIds.size() + missingMemberIds.size();
+        return new IssuedCouponBulkWriteResult(requestedCount, issuedCount[0], alreadyIssuedMemberIds, missingMemberIds);
+    }
+}
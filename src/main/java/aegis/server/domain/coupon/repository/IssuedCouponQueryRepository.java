@@ -1,12 +1,17 @@
 package aegis.server.domain.coupon.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.coupon.domain.IssuedCoupon;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface IssuedCouponQueryRepository {
 
-    Page<IssuedCoupon> searchAdminIssuedCoupons(
-            String keyword, Long couponId, Long memberId, Boolean isValid, Pageable pageable, String orderByClause);
+    KeysetPage<IssuedCoupon> searchAdminIssuedCoupons(
+            String keyword,
+            Long couponId,
+            Long memberId,
+            Boolean isValid,
+            KeysetPageRequest pageRequest,
+            KeysetSort<IssuedCoupon> sort);
 }
@@ -1,77 +1,62 @@
 package aegis.server.domain.coupon.repository;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import lombok.RequiredArgsConstructor;
+
 import aegis.server.domain.coupon.domain.IssuedCoupon;
+import aegis.server.global.paging.AdminQuery;
+import aegis.server.global.paging.AdminQuerySpec;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetPager;
+import aegis.server.global.paging.KeysetSort;
 
 @Repository
+@RequiredArgsConstructor
 public class IssuedCouponQueryRepositoryImpl implements IssuedCouponQueryRepository {
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    private static final AdminQuerySpec<IssuedCoupon> ADMIN_ISSUED_COUPON_QUERY = AdminQuerySpec.builder(
+                    "searchAdminIssuedCoupons",
+                    IssuedCoupon.class,
+                    "SELECT ic FROM IssuedCoupon ic "
+                            + "JOIN FETCH ic.coupon c "
+                            + "JOIN FETCH ic.member m "
+                            + "LEFT JOIN FETCH ic.payment p",
+                    "SELECT COUNT(ic) FROM IssuedCoupon ic "
+                            + "JOIN ic.coupon c "
+                            + "JOIN ic.member m "
+                            + "LEFT JOIN ic.payment p")
+            .filter(
+                    "keyword",
+                    "(LOWER(c.couponName) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR LOWER(m.email) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR LOWER(COALESCE(m.studentId, '')) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR STR(ic.id) LIKE CONCAT('%', :keyword, '%') "
+                            + "OR STR(c.id) LIKE CONCAT('%', :keyword, '%') "
+                            + "OR STR(m.id) LIKE CONCAT('%', :keyword, '%'))")
+            .filter("couponId", "c.id = :couponId")
+            .filter("memberId", "m.id = :memberId")
+            .filter("isValid", "ic.isValid = :isValid")
+            .build();
+
+    private final KeysetPager keysetPager;
 
     @Override
-    public Page<IssuedCoupon> searchAdminIssuedCoupons(
-            String keyword, Long couponId, Long memberId, Boolean isValid, Pageable pageable, String orderByClause) {
-        Map<String, Object> params = new LinkedHashMap<>();
-        List<String> conditions = new ArrayList<>();
-
-        if (keyword != null) {
-            conditions.add("(LOWER(c.couponName) LIKE LOWER(CONCAT('%', :keyword, '%')) "
-                    + "OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
-                    + "OR LOWER(m.email) LIKE LOWER(CONCAT('%', :keyword, '%')) "
-                    + "OR LOWER(COALESCE(m.studentId, '')) LIKE LOWER(CONCAT('%', :keyword, '%')) "
-                    + "OR STR(ic.id) LIKE CONCAT('%', :keyword, '%') "
-                    + "OR STR(c.id) LIKE CONCAT('%', :keyword, '%') "
-                    + "OR STR(m.id) LIKE CONCAT('%', :keyword, '%'))");
-            params.put("keyword", keyword);
-        }
-        if (couponId != null) {
-            conditions.add("c.id = :couponId");
-            params.put("couponId", couponId);
-        }
-        if (memberId != null) {
-            conditions.add("m.id = :memberId");
-            params.put("memberId", memberId);
-        }
-        if (isValid != null) {
-            conditions.add("ic.isValid = :isValid");
-            params.put("isValid", isValid);
-        }
-
-        String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
-
-        String selectJpql = "SELECT ic FROM IssuedCoupon ic " + "JOIN FETCH ic.coupon c " + "JOIN FETCH ic.member m "
-                + "LEFT JOIN FETCH ic.payment p" + whereClause + " ORDER BY " + orderByClause;
-
-        String countJpql = "SELECT COUNT(ic) FROM IssuedCoupon ic " + "JOIN ic.coupon c " + "JOIN ic.member m "
-                + "LEFT JOIN ic.payment p" + whereClause;
-
-        TypedQuery<IssuedCoupon> selectQuery = entityManager.createQuery(selectJpql, IssuedCoupon.class);
-        TypedQuery<Long> countQuery = entityManager.createQuery(countJpql, Long.class);
-
-        for (Map.Entry<String, Object> param : params.entrySet()) {
-            selectQuery.setParameter(param.getKey(), param.getValue());
-            countQuery.setParameter(param.getKey(), param.getValue());
-        }
-
-        selectQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
-        selectQuery.setMaxResults(pageable.getPageSize());
-
-        List<IssuedCoupon> content = selectQuery.getResultList();
-        Long total = countQuery.getSingleResult();
-        return new PageImpl<>(content, pageable, total);
+    public KeysetPage<IssuedCoupon> searchAdminIssuedCoupons(
+            String keyword,
+            Long couponId,
+            Long memberId,
+            Boolean isValid,
+            KeysetPageRequest pageRequest,
+            KeysetSort<IssuedCoupon> sort) {
+        AdminQuery<IssuedCoupon> query = ADMIN_ISSUED_COUPON_QUERY.query()
+                .where("keyword", keyword)
+                .where("couponId", couponId)
+                .where("memberId", memberId)
+                .where("isValid", isValid);
+
+        return keysetPager.fetch(query, sort, pageRequest);
     }
 }
@@ -1,31 +0,0 @@
-package aegis.server.domain.coupon.service;
-
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.UUID;
-
-public final class CodeGenerator {
-
-    public static String generateCouponCode(int codeLength) {
-        String uuid = UUID.randomUUID().toString();
-        String hashed = sha256(uuid);
-        return hashed.substring(0, codeLength).toUpperCase();
-    }
-
-    private static String sha256(String base) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(base.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException ex) {
-            throw new RuntimeException(ex);
-        }
-    }
-}
@@ -0,0 +1,85 @@
+package aegis.server.domain.coupon.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.coupon.repository.CouponCodeClaimBoard;
+import aegis.server.domain.coupon.repository.CouponCodeRepository;
+import aegis.server.domain.coupon.repository.CouponCodeState;
+
+/**
+ * Redis 쿠폰 코드 선점 상태를 DB 기준으로 맞춘다. </br>
+ * 사용 가능한 코드 중 Redis에 없는 코드는 AVAILABLE로 채우고, 저장되지 못한 채 오래된 선점과 잘못 남은 USED는 되돌린다.
+ * DB에서 사용된 코드가 Redis에서 AVAILABLE이나 CLAIMED로 남아 있으면 USED로 바꾼다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class CouponCodeClaimReconciler {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final CouponCodeRepository couponCodeRepository;
+    private final CouponCodeClaimBoard couponCodeClaimBoard;
+    private final Clock clock;
+    private final Duration claimTimeout;
+
+    public CouponCodeClaimReconciler(
+            CouponCodeRepository couponCodeRepository,
+            CouponCodeClaimBoard couponCodeClaimBoard,
+            Clock clock,
+            @Value("${coupon.code.claim.timeout-seconds}") long claimTimeoutSeconds) {
+        this.couponCodeRepository = couponCodeRepository;
+        this.couponCodeClaimBoard = couponCodeClaimBoard;
+        this.clock = clock;
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+    }
+
+    @Scheduled(cron = "${coupon.code.claim.reconcile-cron}")
+    public void reconcile() {
+        List<CouponCodeState> states = couponCodeRepository.findAllStates();
+        Instant staleBefore = clock.instant().minus(claimTimeout);
+        int fixed = 0;
+        for (int from = 0; from < states.size(); from += CHUNK_SIZE) {
+            List<CouponCodeState> chunk = states.subList(from, Math.min(from + CHUNK_SIZE, states.size()));
+            List<String> redisStates = couponCodeClaimBoard.findStates(
+                    chunk.stream().map(CouponCodeState::code).toList());
+            for (int i = 0; i < chunk.size(); i++) {
+                if (reconcile(chunk.get(i), redisStates.get(i), staleBefore)) {
+                    fixed++;
+                }
+            }
+        }
+        log.info("[CouponCodeClaimReconciler] 쿠폰 코드 선점 상태 재조정 완료: total={}, fixed={}", states.size(), fixed);
+    }
+
+    private boolean reconcile(CouponCodeState state, String redisState, Instant staleBefore) {
+        String code = state.code();
+        if (Boolean.TRUE.equals(state.isValid())) {
+            if (redisState == null) {
+                couponCodeClaimBoard.markAvailable(code);
+                return true;
+            }
+            if (CouponCodeClaimBoard.isUsed(redisState)
+                    || CouponCodeClaimBoard.isClaimedBefore(redisState, staleBefore)) {
+                return couponCodeClaimBoard.resetToAvailable(code, redisState);
+            }
+            return false;
+        }
+
+        if (redisState != null && !CouponCodeClaimBoard.isUsed(redisState)) {
+            couponCodeClaimBoard.markUsed(code);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package aegis.server.domain.coupon.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 32비트 카운터를 같은 범위의 다른 값으로 1:1 대응시키는 키 기반 Feistel 순열. </br>
+ * 카운터가 겹치지 않으면 코드도 겹치지 않으므로 DB에 중복 여부를 묻지 않고 코드를 만들 수 있다.
+ * 라운드 함수가 비밀 키의 HMAC이라 발급된 코드로부터 다른 코드를 추측할 수 없다.
+ * 코드는 기존 형식과 같은 대문자 16진수 8자리이다.
+ */
+@Component
+public class CouponCodePermutation {
+
+    public static final long CAPACITY = 1L << 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int ROUNDS = 4;
+    private static final int HALF_MASK = 0xFFFF;
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    private final SecretKeySpec key;
+
+    public CouponCodePermutation(@Value("${coupon.code.permutation-key}") String key) {
+        this.key = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String codeOf(long counter) {
+        return codesOf(counter, 1).getFirst();
+    }
+
+    /**
+     * 카운터 [start, start + count) 구간의 코드를 만든다.
+     */
+    public List<String> codesOf(long start, int count) {
+        if (start < 0 || count < 0 || start + count > CAPACITY) {
+            throw new IllegalArgumentException("쿠폰 코드 카운터 범위를 벗어났습니다: start=" + start + ", count=" + count);
+        }
+
+        Mac mac = newMac();
+        List<String> codes = new ArrayList<>(count);
+        for (long counter = start; counter < start + count; counter++) {
+            codes.add(HEX.toHexDigits(permute(mac, (int) counter)));
+        }
+        return codes;
+    }
+
+    private int permute(Mac mac, int value) {
+        int left = (value >>> 16) & HALF_MASK;
+        int right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ roundFunction(mac, round, right);
+            left = right;
+            right = next;
+        }
+        return (left << 16) | right;
+    }
+
+    private int roundFunction(Mac mac, int round, int half) {
+        mac.update((byte) round);
+        mac.update((byte) (half >>> 8));
+        mac.update((byte) half);
+        byte[] hash = mac.doFinal();
+        return ((hash[0] & 0xFF) << 8) | (hash[1] & 0xFF);
+    }
+
+    // Mac은 스레드 안전하지 않으므로 호출마다 만든다
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package aegis.server.domain.coupon.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.coupon.repository.CouponCodeJdbcRepository;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+import static aegis.server.domain.coupon.service.CouponCodePermutation.CAPACITY;
+
+/**
+ * 카운터 구간을 예약하고 {@link CouponCodePermutation}으로 변환해 쿠폰 코드를 만든다. </br>
+ * 예약한 카운터는 다시 쓰지 않으므로 중복 확인 조회 없이 일괄 INSERT할 수 있다.
+ * 호출 측 트랜잭션 안에서 사용해야 하며, 카운터 행 잠금은 트랜잭션이 끝날 때까지 유지된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCodePool {
+
+    private final CouponCodePermutation couponCodePermutation;
+    private final CouponCodeJdbcRepository couponCodeJdbcRepository;
+    private final Clock clock;
+
+    /**
+     * 순열 도입 전 무작위로 만든 코드와 겹친 코드는 건너뛰고, 요청한 개수가 채워질 때까지 다음 구간을 예약한다.
+     */
+    public List<String> issue(Long couponId, int count, String description) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<String> issued = new ArrayList<>(count);
+        while (issued.size() < count) {
+            int remaining = count - issued.size();
+            long start = couponCodeJdbcRepository
+                    .reserve(remaining, CAPACITY)
+                    .orElseThrow(() -> new CustomException(ErrorCode.COUPON_CODE_CANNOT_ISSUE_CODE));
+            List<String> codes = couponCodePermutation.codesOf(start, remaining);
+            issued.addAll(couponCodeJdbcRepository.insertAll(couponId, codes, description, now));
+        }
+        return issued;
+    }
+
+    public long usedCount() {
+        return couponCodeJdbcRepository.usedCount();
+    }
+
+    public long remainingCount() {
+        return CAPACITY - usedCount();
+    }
+}
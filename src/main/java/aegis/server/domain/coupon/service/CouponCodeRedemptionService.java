@@ -0,0 +1,87 @@
+package aegis.server.domain.coupon.service;
+
+import java.time.Clock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.coupon.dto.request.CouponCodeUseRequest;
+import aegis.server.domain.coupon.dto.response.CouponCodeResponse;
+import aegis.server.domain.coupon.repository.CouponCodeClaimBoard;
+import aegis.server.domain.coupon.repository.CouponCodeClaimBoard.ClaimResult;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.security.oidc.UserDetails;
+
+/**
+ * 쿠폰 코드 사용의 Redis 선점 경로. </br>
+ * Redis에서 코드를 먼저 선점하고, 선점에 진 요청은 DB 커넥션을 잡기 전에 바로 거절한다.
+ * 선점한 요청만 기존 DB 잠금 경로({@link CouponService#useCouponCode})로 발급 쿠폰을 저장하며,
+ * Redis가 모르는 코드이거나 Redis에 접근할 수 없으면 DB 잠금 경로로만 처리한다.
+ * 저장에 실패하면 DB 상태에 맞춰 선점을 되돌리고, 그 사이 어긋난 상태는 {@link CouponCodeClaimReconciler}가 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponCodeRedemptionService {
+
+    private final CouponService couponService;
+    private final CouponCodeClaimBoard couponCodeClaimBoard;
+    private final Clock clock;
+
+    public CouponCodeResponse redeem(UserDetails userDetails, CouponCodeUseRequest request) {
+        String code = request.code().strip();
+        Long memberId = userDetails.getMemberId();
+
+        ClaimResult claim = claim(code, memberId);
+        if (claim == ClaimResult.TAKEN) {
+            throw new CustomException(ErrorCode.COUPON_CODE_ALREADY_USED);
+        }
+        if (claim == ClaimResult.UNKNOWN) {
+            return couponService.useCouponCode(userDetails, request);
+        }
+
+        CouponCodeResponse response;
+        try {
+            response = couponService.useCouponCode(userDetails, request);
+        } catch (CustomException e) {
+            settleFailedClaim(code, memberId, e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            couponCodeClaimBoard.release(code, memberId);
+            throw e;
+        }
+
+        markUsed(code);
+        return response;
+    }
+
+    private ClaimResult claim(String code, Long memberId) {
+        try {
+            return couponCodeClaimBoard.claim(code, memberId, clock.instant());
+        } catch (DataAccessException e) {
+            log.warn("[CouponCodeRedemptionService] Redis 선점 실패, DB 잠금 경로로 처리합니다: {}", e.getMessage());
+            return ClaimResult.UNKNOWN;
+        }
+    }
+
+    // 발급 쿠폰은 이미 커밋되었으므로 Redis 반영에 실패해도 응답은 그대로 돌려주고, 선점 상태는 재조정에 맡긴다
+    private void markUsed(String code) {
+        try {
+            couponCodeClaimBoard.markUsed(code);
+        } catch (DataAccessException e) {
+            log.warn("[CouponCodeRedemptionService] Redis 사용 완료 반영 실패, 재조정에 맡깁니다: {}", e.getMessage());
+        }
+    }
+
+    private void settleFailedClaim(String code, Long memberId, ErrorCode errorCode) {
+        switch (errorCode) {
+            case COUPON_CODE_NOT_FOUND -> couponCodeClaimBoard.remove(code);
+            case COUPON_CODE_ALREADY_USED -> couponCodeClaimBoard.markUsed(code);
+            default -> couponCodeClaimBoard.release(code, memberId);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package aegis.server.domain.coupon.service;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,9 @@ import lombok.RequiredArgsConstructor;
 import aegis.server.domain.coupon.domain.Coupon;
 import aegis.server.domain.coupon.domain.CouponCode;
 import aegis.server.domain.coupon.domain.IssuedCoupon;
+import aegis.server.domain.coupon.domain.event.CouponCodeDeletedEvent;
+import aegis.server.domain.coupon.domain.event.CouponCodesCreatedEvent;
+import aegis.server.domain.coupon.dto.request.CouponCodeBulkCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponCodeCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponCodeUseRequest;
 import aegis.server.domain.coupon.dto.request.CouponCreateRequest;
@@ -27,29 +31,50 @@ import aegis.server.domain.coupon.dto.response.AdminCouponPageResponse;
 import aegis.server.domain.coupon.dto.response.AdminCouponResponse;
 import aegis.server.domain.coupon.dto.response.AdminIssuedCouponPageResponse;
 import aegis.server.domain.coupon.dto.response.AdminIssuedCouponResponse;
+import aegis.server.domain.coupon.dto.response.CouponBulkIssueResponse;
+import aegis.server.domain.coupon.dto.response.CouponCodeBulkCreateResponse;
+import aegis.server.domain.coupon.dto.response.CouponCodePoolResponse;
 import aegis.server.domain.coupon.dto.response.CouponCodeResponse;
 import aegis.server.domain.coupon.dto.response.CouponResponse;
 import aegis.server.domain.coupon.dto.response.IssuedCouponResponse;
 import aegis.server.domain.coupon.repository.CouponCodeRepository;
 import aegis.server.domain.coupon.repository.CouponRepository;
+import aegis.server.domain.coupon.repository.IssuedCouponBulkWriteResult;
+import aegis.server.domain.coupon.repository.IssuedCouponJdbcRepository;
 import aegis.server.domain.coupon.repository.IssuedCouponRepository;
 import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
+import aegis.server.global.paging.KeysetSortKeys;
 import aegis.server.global.security.oidc.UserDetails;
 
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CouponService {
 
     private static final int MAX_PAGE_SIZE = 100;
+    private static final KeysetSortKeys<Coupon> COUPON_SORT_KEYS = KeysetSortKeys.of("c.id", Coupon::getId);
+    private static final KeysetSortKeys<CouponCode> COUPON_CODE_SORT_KEYS =
+            KeysetSortKeys.of("cc.id", CouponCode::getId);
+    private static final KeysetSortKeys<IssuedCoupon> ISSUED_COUPON_SORT_KEYS =
+            KeysetSortKeys.of("ic.id", IssuedCoupon::getId);
 
     private final CouponRepository couponRepository;
     private final IssuedCouponRepository issuedCouponRepository;
+    private final IssuedCouponJdbcRepository issuedCouponJdbcRepository;
     private final CouponCodeRepository couponCodeRepository;
     private final MemberRepository memberRepository;
+    private final CouponCodePool couponCodePool;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
 
     public List<CouponResponse> findAllCoupons() {
         return couponRepository.findAll().stream()
@@ -65,13 +90,13 @@ public class CouponService {
                 .toList();
     }
 
-    public AdminCouponPageResponse getAdminCouponsPage(int page, int size, String keyword, String sort) {
+    public AdminCouponPageResponse getAdminCouponsPage(int page, int size, String cursor, String keyword, String sort) {
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(keyword);
-        String orderByClause = resolveCouponOrderBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
+        KeysetSort<Coupon> couponSort = resolveCouponSort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<Coupon> couponPage = couponRepository.searchAdminCoupons(normalizedKeyword, pageRequest, orderByClause);
+        KeysetPage<Coupon> couponPage = couponRepository.searchAdminCoupons(normalizedKeyword, pageRequest, couponSort);
         return AdminCouponPageResponse.from(couponPage);
     }
 
@@ -134,19 +159,22 @@ public class CouponService {
                 .toList();
     }
 
-    public AdminIssuedCouponPageResponse getAdminIssuedCouponsPage(int page, int size, String keyword, String sort) {
-        return getAdminIssuedCouponsPage(page, size, keyword, null, null, null, sort);
-    }
-
     public AdminIssuedCouponPageResponse getAdminIssuedCouponsPage(
-            int page, int size, String keyword, Long couponId, Long memberId, Boolean isValid, String sort) {
+            int page,
+            int size,
+            String cursor,
+            String keyword,
+            Long couponId,
+            Long memberId,
+            Boolean isValid,
+            String sort) {
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(keyword);
-        String orderByClause = resolveIssuedCouponOrderBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
+        KeysetSort<IssuedCoupon> issuedCouponSort = resolveIssuedCouponSort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<IssuedCoupon> issuedCouponPage = issuedCouponRepository.searchAdminIssuedCoupons(
-                normalizedKeyword, couponId, memberId, isValid, pageRequest, orderByClause);
+        KeysetPage<IssuedCoupon> issuedCouponPage = issuedCouponRepository.searchAdminIssuedCoupons(
+                normalizedKeyword, couponId, memberId, isValid, pageRequest, issuedCouponSort);
         return AdminIssuedCouponPageResponse.from(issuedCouponPage);
     }
 
@@ -182,6 +210,22 @@ public class CouponService {
         return issuedCoupons.stream().map(AdminIssuedCouponResponse::from).toList();
     }
 
+    /**
+     * 다수 회원에게 쿠폰을 한 번의 INSERT ... SELECT로 발급한다. </br>
+     * 이미 같은 쿠폰을 받은 회원과 존재하지 않는 회원은 건너뛰고 요약 건수와 함께 돌려준다.
+     * 쿠폰 행을 잠가 같은 쿠폰의 동시 일괄 발급이 중복 발급하지 않도록 한다.
+     */
+    @Transactional
+    public CouponBulkIssueResponse issueCouponInBulk(CouponIssueRequest request) {
+        Coupon coupon = couponRepository
+                .findByIdWithLock(request.couponId())
+                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+
+        IssuedCouponBulkWriteResult result =
+                issuedCouponJdbcRepository.issueAll(coupon.getId(), request.memberIds(), LocalDateTime.now(clock));
+        return CouponBulkIssueResponse.of(coupon.getId(), result);
+    }
+
     @Transactional
     public void deleteIssuedCoupon(Long issuedCouponId) {
         issuedCouponRepository
@@ -214,14 +258,15 @@ public class CouponService {
                 .toList();
     }
 
-    public AdminCouponCodePageResponse getAdminCouponCodesPage(int page, int size, String keyword, String sort) {
+    public AdminCouponCodePageResponse getAdminCouponCodesPage(
+            int page, int size, String cursor, String keyword, String sort) {
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(keyword);
-        String orderByClause = resolveCouponCodeOrderBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
+        KeysetSort<CouponCode> couponCodeSort = resolveCouponCodeSort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<CouponCode> couponCodePage =
-                couponCodeRepository.searchAdminCouponCodes(normalizedKeyword, pageRequest, orderByClause);
+        KeysetPage<CouponCode> couponCodePage =
+                couponCodeRepository.searchAdminCouponCodes(normalizedKeyword, pageRequest, couponCodeSort);
         return AdminCouponCodePageResponse.from(couponCodePage);
     }
 
@@ -237,6 +282,27 @@ public class CouponService {
         return AdminCouponCodeResponse.from(couponCode);
     }
 
+    /**
+     * 쿠폰 코드를 한 번에 여러 개 만든다. 코드는 중복 확인 조회 없이 코드 풀에서 꺼내 일괄 INSERT한다.
+     */
+    @Transactional
+    public CouponCodeBulkCreateResponse createCouponCodesInBulk(CouponCodeBulkCreateRequest request) {
+        Coupon coupon = couponRepository
+                .findById(request.couponId())
+                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+
+        List<String> codes =
+                couponCodePool.issue(coupon.getId(), request.count(), normalizeDescription(request.description()));
+        applicationEventPublisher.publishEvent(new CouponCodesCreatedEvent(codes));
+        return new CouponCodeBulkCreateResponse(coupon.getId(), codes.size(), codes, couponCodePool.remainingCount());
+    }
+
+    public CouponCodePoolResponse getCouponCodePool() {
+        long usedCount = couponCodePool.usedCount();
+        return new CouponCodePoolResponse(
+                CouponCodePermutation.CAPACITY, usedCount, CouponCodePermutation.CAPACITY - usedCount);
+    }
+
     @Transactional
     public CouponCodeResponse useCouponCode(UserDetails userDetails, CouponCodeUseRequest request) {
         Member member = memberRepository
@@ -265,6 +331,7 @@ public class CouponService {
                                 throw new CustomException(ErrorCode.COUPON_CODE_ALREADY_USED_CANNOT_DELETE);
                             }
                             couponCodeRepository.delete(couponCode);
+                            applicationEventPublisher.publishEvent(new CouponCodeDeletedEvent(couponCode.getCode()));
                         },
                         () -> {
                             throw new CustomException(ErrorCode.COUPON_CODE_NOT_FOUND);
@@ -303,11 +370,11 @@ public class CouponService {
                 .findById(request.couponId())
                 .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
 
-        String code = generateUniqueCode();
-        CouponCode couponCode = CouponCode.of(coupon, code, normalizeDescription(request.description()));
-
-        couponCodeRepository.save(couponCode);
-        return couponCode;
+        String code = couponCodePool
+                .issue(coupon.getId(), 1, normalizeDescription(request.description()))
+                .getFirst();
+        applicationEventPublisher.publishEvent(new CouponCodesCreatedEvent(List.of(code)));
+        return couponCodeRepository.findByCode(code).orElseThrow();
     }
 
     private String normalizeDescription(String description) {
@@ -318,19 +385,6 @@ public class CouponService {
         return normalized.isEmpty() ? null : normalized;
     }
 
-    private String generateUniqueCode() {
-        String code;
-        int maxAttempts = 100;
-        int attempts = 0;
-        do {
-            if (attempts++ >= maxAttempts) {
-                throw new CustomException(ErrorCode.COUPON_CODE_CANNOT_ISSUE_CODE);
-            }
-            code = CodeGenerator.generateCouponCode(8);
-        } while (couponCodeRepository.existsByCode(code));
-        return code;
-    }
-
     private String normalizeKeyword(String keyword) {
         if (keyword == null) {
             return null;
@@ -339,70 +393,95 @@ public class CouponService {
         return trimmedKeyword.isEmpty() ? null : trimmedKeyword;
     }
 
-    private String resolveCouponOrderBy(String sort) {
+    private KeysetSort<Coupon> resolveCouponSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "c.id ASC";
+            return COUPON_SORT_KEYS.id(ASC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "c.id ASC";
-            case "id,desc" -> "c.id DESC";
-            case "couponname,asc" -> "c.couponName ASC, c.id ASC";
-            case "couponname,desc" -> "c.couponName DESC, c.id DESC";
-            case "discountamount,asc" -> "c.discountAmount ASC, c.id ASC";
-            case "discountamount,desc" -> "c.discountAmount DESC, c.id DESC";
-            case "createdat,asc" -> "c.createdAt ASC, c.id ASC";
-            case "createdat,desc" -> "c.createdAt DESC, c.id DESC";
-            case "updatedat,asc" -> "c.updatedAt ASC, c.id ASC";
-            case "updatedat,desc" -> "c.updatedAt DESC, c.id DESC";
+            case "id,asc" -> COUPON_SORT_KEYS.id(ASC);
+            case "id,desc" -> COUPON_SORT_KEYS.id(DESC);
+            case "couponname,asc" -> COUPON_SORT_KEYS.by("c.couponName", String.class, Coupon::getCouponName, ASC);
+            case "couponname,desc" -> COUPON_SORT_KEYS.by("c.couponName", String.class, Coupon::getCouponName, DESC);
+            case "discountamount,asc" -> COUPON_SORT_KEYS.by(
+                    "c.discountAmount", BigDecimal.class, Coupon::getDiscountAmount, ASC);
+            case "discountamount,desc" -> COUPON_SORT_KEYS.by(
+                    "c.discountAmount", BigDecimal.class, Coupon::getDiscountAmount, DESC);
+            case "createdat,asc" -> COUPON_SORT_KEYS.by("c.createdAt", LocalDateTime.class, Coupon::getCreatedAt, ASC);
+            case "createdat,desc" -> COUPON_SORT_KEYS.by(
+                    "c.createdAt", LocalDateTime.class, Coupon::getCreatedAt, DESC);
+            case "updatedat,asc" -> COUPON_SORT_KEYS.by("c.updatedAt", LocalDateTime.class, Coupon::getUpdatedAt, ASC);
+            case "updatedat,desc" -> COUPON_SORT_KEYS.by(
+                    "c.updatedAt", LocalDateTime.class, Coupon::getUpdatedAt, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
 
-    private String resolveCouponCodeOrderBy(String sort) {
+    private KeysetSort<CouponCode> resolveCouponCodeSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "cc.id ASC";
+            return COUPON_CODE_SORT_KEYS.id(ASC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "cc.id ASC";
-            case "id,desc" -> "cc.id DESC";
-            case "couponid,asc" -> "c.id ASC, cc.id ASC";
-            case "couponid,desc" -> "c.id DESC, cc.id DESC";
-            case "code,asc" -> "cc.code ASC, cc.id ASC";
-            case "code,desc" -> "cc.code DESC, cc.id DESC";
-            case "usedat,asc" -> "cc.usedAt ASC, cc.id ASC";
-            case "usedat,desc" -> "cc.usedAt DESC, cc.id DESC";
-            case "isvalid,asc" -> "cc.isValid ASC, cc.id ASC";
-            case "isvalid,desc" -> "cc.isValid DESC, cc.id DESC";
-            case "createdat,asc" -> "cc.createdAt ASC, cc.id ASC";
-            case "createdat,desc" -> "cc.createdAt DESC, cc.id DESC";
+            case "id,asc" -> COUPON_CODE_SORT_KEYS.id(ASC);
+            case "id,desc" -> COUPON_CODE_SORT_KEYS.id(DESC);
+            case "couponid,asc" -> COUPON_CODE_SORT_KEYS.by(
+                    "c.id", Long.class, couponCode -> couponCode.getCoupon().getId(), ASC);
+            case "couponid,desc" -> COUPON_CODE_SORT_KEYS.by(
+                    "c.id", Long.class, couponCode -> couponCode.getCoupon().getId(), DESC);
+            case "code,asc" -> COUPON_CODE_SORT_KEYS.by("cc.code", String.class, CouponCode::getCode, ASC);
+            case "code,desc" -> COUPON_CODE_SORT_KEYS.by("cc.code", String.class, CouponCode::getCode, DESC);
+            case "usedat,asc" -> COUPON_CODE_SORT_KEYS.byNullable(
+                    "cc.usedAt", LocalDateTime.class, CouponCode::getUsedAt, ASC);
+            case "usedat,desc" -> COUPON_CODE_SORT_KEYS.byNullable(
+                    "cc.usedAt", LocalDateTime.class, CouponCode::getUsedAt, DESC);
+            case "isvalid,asc" -> COUPON_CODE_SORT_KEYS.by("cc.isValid", Boolean.class, CouponCode::getIsValid, ASC);
+            case "isvalid,desc" -> COUPON_CODE_SORT_KEYS.by(
+                    "cc.isValid", Boolean.class, CouponCode::getIsValid, DESC);
+            case "createdat,asc" -> COUPON_CODE_SORT_KEYS.by(
+                    "cc.createdAt", LocalDateTime.class, CouponCode::getCreatedAt, ASC);
+            case "createdat,desc" -> COUPON_CODE_SORT_KEYS.by(
+                    "cc.createdAt", LocalDateTime.class, CouponCode::getCreatedAt, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
 
-    private String resolveIssuedCouponOrderBy(String sort) {
+    private KeysetSort<IssuedCoupon> resolveIssuedCouponSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "ic.id ASC";
+            return ISSUED_COUPON_SORT_KEYS.id(ASC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "ic.id ASC";
-            case "id,desc" -> "ic.id DESC";
-            case "coupon,asc" -> "c.couponName ASC, ic.id ASC";
-            case "coupon,desc" -> "c.couponName DESC, ic.id DESC";
-            case "member,asc" -> "m.name ASC, ic.id ASC";
-            case "member,desc" -> "m.name DESC, ic.id DESC";
-            case "usedat,asc" -> "ic.usedAt ASC, ic.id ASC";
-            case "usedat,desc" -> "ic.usedAt DESC, ic.id DESC";
-            case "isvalid,asc" -> "ic.isValid ASC, ic.id ASC";
-            case "isvalid,desc" -> "ic.isValid DESC, ic.id DESC";
-            case "couponid,asc" -> "c.id ASC, ic.id ASC";
-            case "couponid,desc" -> "c.id DESC, ic.id DESC";
-            case "memberid,asc" -> "m.id ASC, ic.id ASC";
-            case "memberid,desc" -> "m.id DESC, ic.id DESC";
-            case "createdat,asc" -> "ic.createdAt ASC, ic.id ASC";
-            case "createdat,desc" -> "ic.createdAt DESC, ic.id DESC";
+            case "id,asc" -> ISSUED_COUPON_SORT_KEYS.id(ASC);
+            case "id,desc" -> ISSUED_COUPON_SORT_KEYS.id(DESC);
+            case "coupon,asc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "c.couponName", String.class, issuedCoupon -> issuedCoupon.getCoupon().getCouponName(), ASC);
+            case "coupon,desc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "c.couponName", String.class, issuedCoupon -> issuedCoupon.getCoupon().getCouponName(), DESC);
+            case "member,asc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "m.name", String.class, issuedCoupon -> issuedCoupon.getMember().getName(), ASC);
+            case "member,desc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "m.name", String.class, issuedCoupon -> issuedCoupon.getMember().getName(), DESC);
+            case "usedat,asc" -> ISSUED_COUPON_SORT_KEYS.byNullable(
+                    "ic.usedAt", LocalDateTime.class, IssuedCoupon::getUsedAt, ASC);
+            case "usedat,desc" -> ISSUED_COUPON_SORT_KEYS.byNullable(
+                    "ic.usedAt", LocalDateTime.class, IssuedCoupon::getUsedAt, DESC);
+            case "isvalid,asc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "ic.isValid", Boolean.class, IssuedCoupon::getIsValid, ASC);
+            case "isvalid,desc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "ic.isValid", Boolean.class, IssuedCoupon::getIsValid, DESC);
+            case "couponid,asc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "c.id", Long.class, issuedCoupon -> issuedCoupon.getCoupon().getId(), ASC);
+            case "couponid,desc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "c.id", Long.class, issuedCoupon -> issuedCoupon.getCoupon().getId(), DESC);
+            case "memberid,asc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "m.id", Long.class, issuedCoupon -> issuedCoupon.getMember().getId(), ASC);
+            case "memberid,desc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "m.id", Long.class, issuedCoupon -> issuedCoupon.getMember().getId(), DESC);
+            case "createdat,asc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "ic.createdAt", LocalDateTime.class, IssuedCoupon::getCreatedAt, ASC);
+            case "createdat,desc" -> ISSUED_COUPON_SORT_KEYS.by(
+                    "ic.createdAt", LocalDateTime.class, IssuedCoupon::getCreatedAt, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
@@ -0,0 +1,31 @@
+package aegis.server.domain.coupon.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.coupon.domain.event.CouponCodeDeletedEvent;
+import aegis.server.domain.coupon.domain.event.CouponCodesCreatedEvent;
+import aegis.server.domain.coupon.repository.CouponCodeClaimBoard;
+
+/**
+ * 커밋된 쿠폰 코드 생성/삭제를 Redis 선점 상태에 반영한다. 반영이 빠져도 해당 코드는 DB 잠금 경로로 처리되고 재조정 작업이 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCodeClaimBoardListener {
+
+    private final CouponCodeClaimBoard couponCodeClaimBoard;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCouponCodesCreatedEvent(CouponCodesCreatedEvent event) {
+        couponCodeClaimBoard.markAllAvailable(event.codes());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCouponCodeDeletedEvent(CouponCodeDeletedEvent event) {
+        couponCodeClaimBoard.remove(event.code());
+    }
+}
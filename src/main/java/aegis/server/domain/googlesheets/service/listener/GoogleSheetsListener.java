@@ -1,6 +1,7 @@
 package aegis.server.domain.googlesheets.service.listener;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Async;
@@ -17,6 +18,7 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.service.outbox.PaymentCompletedEventHandler;
 import aegis.server.domain.pointshop.domain.event.PointShopDrawnEvent;
 import aegis.server.domain.pointshop.dto.internal.PointShopDrawInfo;
 import aegis.server.global.exception.CustomException;
@@ -28,13 +30,13 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRES_NE
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class GoogleSheetsListener {
+public class GoogleSheetsListener implements PaymentCompletedEventHandler {
 
     private final GoogleSheetsService googleSheetsService;
     private final MemberRepository memberRepository;
 
-    @Async("googleSheetsTaskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 아웃박스 디스패처가 별도 스레드에서 호출하며, 실패하면 예외를 던져 재시도되도록 한다
+    @Override
     @Transactional(propagation = REQUIRES_NEW, readOnly = true)
     public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
         PaymentInfo paymentInfo = event.paymentInfo();
@@ -43,30 +45,25 @@ public class GoogleSheetsListener {
                 "[GoogleSheetsSyncListener][PaymentCompletedEvent] Google Sheets 회원 등록 처리 시작: paymentId={}",
                 paymentInfo.id());
 
-        try {
-            Member member = memberRepository
-                    .findById(paymentInfo.memberId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        Member member = memberRepository
+                .findById(paymentInfo.memberId())
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
+        try {
             googleSheetsService.addMemberRegistration(member, paymentInfo);
-
-            log.info(
-                    "[GoogleSheetsSyncListener][PaymentCompletedEvent] Google Sheets 회원 등록 정보 추가 완료: paymentId={}, memberId={}, name={}",
-                    paymentInfo.id(),
-                    paymentInfo.memberId(),
-                    member.getName());
         } catch (IOException e) {
             log.error(
                     "[GoogleSheetsSyncListener][PaymentCompletedEvent] Google Sheets 회원 등록 정보 추가 실패: paymentId={}, error={}",
                     paymentInfo.id(),
                     e.getMessage());
-        } catch (Exception e) {
-            log.error(
-                    "[GoogleSheetsSyncListener][PaymentCompletedEvent] 예상치 못한 오류 발생: paymentId={}, error={}",
-                    paymentInfo.id(),
-                    e.getMessage(),
-                    e);
+            throw new UncheckedIOException(e);
         }
+
+        log.info(
+                "[GoogleSheetsSyncListener][PaymentCompletedEvent] Google Sheets 회원 등록 정보 추가 완료: paymentId={}, memberId={}, name={}",
+                paymentInfo.id(),
+                paymentInfo.memberId(),
+                member.getName());
     }
 
     @Async("googleSheetsTaskExecutor")
@@ -4,7 +4,9 @@ import java.util.List;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,6 +26,7 @@ import aegis.server.domain.member.dto.response.AdminMemberRecordSemesterOptionRe
 import aegis.server.domain.member.dto.response.AdminMemberRecordTimelineResponse;
 import aegis.server.domain.member.dto.response.AdminMemberSemesterActivityDetailResponse;
 import aegis.server.domain.member.dto.response.MemberRecordBackfillResponse;
+import aegis.server.domain.member.service.MemberRecordBackfillService;
 import aegis.server.domain.member.service.MemberRecordService;
 
 @Tag(name = "Admin Member Record", description = "관리자 회원 기록 API")
@@ -34,6 +37,7 @@ import aegis.server.domain.member.service.MemberRecordService;
 public class AdminMemberRecordController {
 
     private final MemberRecordService memberRecordService;
+    private final MemberRecordBackfillService memberRecordBackfillService;
 
     @Operation(
             summary = "학기별 회원 기록 조회",
@@ -48,11 +52,12 @@ public class AdminMemberRecordController {
             @RequestParam YearSemester yearSemester,
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Role role,
             @RequestParam(required = false) String sort) {
-        AdminMemberRecordPageResponse response =
-                memberRecordService.getMemberRecordsByYearSemester(yearSemester, page, size, keyword, role, sort);
+        AdminMemberRecordPageResponse response = memberRecordService.getMemberRecordsByYearSemester(
+                yearSemester, page, size, cursor, keyword, role, sort);
         return ResponseEntity.ok(response);
     }
 
@@ -103,15 +108,48 @@ public class AdminMemberRecordController {
     }
 
     @Operation(
-            summary = "결제 완료 기반 회원 기록 백필",
-            description = "관리자가 결제 완료 데이터를 기준으로 회원 기록을 멱등적으로 백필합니다.",
+            summary = "여러 회원의 학기 활동 상세 조회",
+            description = "관리자가 명단 화면에서 여러 회원의 특정 학기 활동 상세를 한 번에 조회합니다. "
+                    + "존재하지 않는 회원은 결과에서 제외되며, 요청한 회원 순서대로 반환합니다.",
             responses = {
-                @ApiResponse(responseCode = "200", description = "회원 기록 백필 성공"),
+                @ApiResponse(responseCode = "200", description = "회원 학기 활동 상세 조회 성공"),
+                @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터", content = @Content),
+                @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content)
+            })
+    @GetMapping("/activities")
+    public ResponseEntity<List<AdminMemberSemesterActivityDetailResponse>> getMembersSemesterActivities(
+            @RequestParam @NotEmpty @Size(max = 100) List<@Positive Long> memberIds,
+            @RequestParam YearSemester yearSemester) {
+        List<AdminMemberSemesterActivityDetailResponse> response =
+                memberRecordService.getMemberSemesterActivityDetails(memberIds, yearSemester);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "결제 완료 기반 회원 기록 백필 시작",
+            description = "관리자가 결제 완료 데이터를 기준으로 회원 기록 백필 작업을 시작합니다. "
+                    + "이미 실행 중이면 실행 중인 작업을, 마지막 작업이 끝나지 않았으면 체크포인트부터 이어서 처리하는 작업을 반환합니다.",
+            responses = {
+                @ApiResponse(responseCode = "202", description = "회원 기록 백필 작업 시작"),
                 @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content)
             })
     @PostMapping("/records/backfill")
     public ResponseEntity<MemberRecordBackfillResponse> backfillMemberRecords() {
-        MemberRecordBackfillResponse response = memberRecordService.backfillFromCompletedPayments();
+        MemberRecordBackfillResponse response = memberRecordBackfillService.start();
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @Operation(
+            summary = "회원 기록 백필 진행 상황 조회",
+            description = "관리자가 회원 기록 백필 작업의 상태, 체크포인트, 처리 건수를 조회합니다.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "백필 작업 조회 성공"),
+                @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content),
+                @ApiResponse(responseCode = "404", description = "백필 작업을 찾을 수 없음", content = @Content)
+            })
+    @GetMapping("/records/backfill/{jobId}")
+    public ResponseEntity<MemberRecordBackfillResponse> getMemberRecordBackfill(@PathVariable @Positive Long jobId) {
+        MemberRecordBackfillResponse response = memberRecordBackfillService.getJob(jobId);
         return ResponseEntity.ok(response);
     }
 }
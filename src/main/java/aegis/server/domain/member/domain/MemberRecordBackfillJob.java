@@ -0,0 +1,99 @@
+package aegis.server.domain.member.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import aegis.server.domain.common.domain.BaseEntity;
+
+/**
+ * 결제 완료 기반 회원 기록 백필 작업의 진행 상황. </br>
+ * lastPaymentId까지의 결제는 모두 반영되었음을 뜻하므로, 중단된 작업은 그 다음 결제부터 이어서 처리한다. </br>
+ * 실행 중인 작업은 leaseOwner 인스턴스가 점유하며, heartbeatAt이 오래되면 다른 인스턴스가 넘겨받을 수 있다.
+ */
+@Entity
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberRecordBackfillJob extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_record_backfill_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MemberRecordBackfillJobStatus status;
+
+    @Column(nullable = false)
+    private long lastPaymentId;
+
+    private long totalCompletedPayments;
+
+    private long createdRecords;
+
+    private long skippedRecords;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private String leaseOwner;
+
+    private LocalDateTime heartbeatAt;
+
+    public static MemberRecordBackfillJob start(LocalDateTime now) {
+        return MemberRecordBackfillJob.builder()
+                .status(MemberRecordBackfillJobStatus.RUNNING)
+                .lastPaymentId(0L)
+                .startedAt(now)
+                .build();
+    }
+
+    public boolean isRunning() {
+        return status == MemberRecordBackfillJobStatus.RUNNING;
+    }
+
+    public boolean isCompleted() {
+        return status == MemberRecordBackfillJobStatus.COMPLETED;
+    }
+
+    public boolean isLeasedBy(String owner) {
+        return isRunning() && owner.equals(leaseOwner);
+    }
+
+    public void heartbeat(LocalDateTime now) {
+        this.heartbeatAt = now;
+    }
+
+    /**
+     * 한 묶음의 청크가 모두 반영된 뒤 호출한다.
+     */
+    public void advance(long lastPaymentId, long processedPayments, long createdRecords) {
+        this.lastPaymentId = lastPaymentId;
+        this.totalCompletedPayments += processedPayments;
+        this.createdRecords += createdRecords;
+        this.skippedRecords += processedPayments - createdRecords;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = MemberRecordBackfillJobStatus.COMPLETED;
+        this.finishedAt = now;
+    }
+
+    public void fail(String error, LocalDateTime now) {
+        this.status = MemberRecordBackfillJobStatus.FAILED;
+        this.lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.finishedAt = now;
+    }
+}
@@ -0,0 +1,7 @@
+package aegis.server.domain.member.domain;
+
+public enum MemberRecordBackfillJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
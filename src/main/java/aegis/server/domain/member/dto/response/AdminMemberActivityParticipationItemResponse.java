@@ -2,16 +2,12 @@ package aegis.server.domain.member.dto.response;
 
 import java.time.LocalDateTime;
 
-import aegis.server.domain.activity.domain.ActivityParticipation;
-
 public record AdminMemberActivityParticipationItemResponse(
         Long activityParticipationId, Long activityId, String activityName, LocalDateTime participatedAt) {
 
-    public static AdminMemberActivityParticipationItemResponse from(ActivityParticipation activityParticipation) {
+    public static AdminMemberActivityParticipationItemResponse of(
+            Long activityParticipationId, Long activityId, String activityName, LocalDateTime participatedAt) {
         return new AdminMemberActivityParticipationItemResponse(
-                activityParticipation.getId(),
-                activityParticipation.getActivity().getId(),
-                activityParticipation.getActivity().getName(),
-                activityParticipation.getCreatedAt());
+                activityParticipationId, activityId, activityName, participatedAt);
     }
 }
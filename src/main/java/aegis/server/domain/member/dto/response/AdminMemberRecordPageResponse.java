@@ -2,9 +2,8 @@ package aegis.server.domain.member.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.member.domain.MemberRecord;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminMemberRecordPageResponse(
         List<AdminMemberRecordItemResponse> content,
@@ -12,17 +11,19 @@ public record AdminMemberRecordPageResponse(
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext) {
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminMemberRecordPageResponse from(Page<MemberRecord> memberRecordPage) {
+    public static AdminMemberRecordPageResponse from(KeysetPage<MemberRecord> memberRecordPage) {
         return new AdminMemberRecordPageResponse(
-                memberRecordPage.getContent().stream()
+                memberRecordPage.content().stream()
                         .map(AdminMemberRecordItemResponse::from)
                         .toList(),
-                memberRecordPage.getNumber(),
-                memberRecordPage.getSize(),
-                memberRecordPage.getTotalElements(),
-                memberRecordPage.getTotalPages(),
-                memberRecordPage.hasNext());
+                memberRecordPage.page(),
+                memberRecordPage.size(),
+                memberRecordPage.totalElements(),
+                memberRecordPage.totalPages(),
+                memberRecordPage.hasNext(),
+                memberRecordPage.nextCursor());
     }
 }
@@ -1,9 +1,33 @@
 package aegis.server.domain.member.dto.response;
 
-public record MemberRecordBackfillResponse(long totalCompletedPayments, long createdRecords, long skippedRecords) {
+import java.time.LocalDateTime;
 
-    public static MemberRecordBackfillResponse of(
-            long totalCompletedPayments, long createdRecords, long skippedRecords) {
-        return new MemberRecordBackfillResponse(totalCompletedPayments, createdRecords, skippedRecords);
+import aegis.server.domain.member.domain.MemberRecordBackfillJob;
+import aegis.server.domain.member.domain.MemberRecordBackfillJobStatus;
+
+public record MemberRecordBackfillResponse(
+        Long jobId,
+        MemberRecordBackfillJobStatus status,
+        long lastPaymentId,
+        long totalCompletedPayments,
+        long createdRecords,
+        long skippedRecords,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        LocalDateTime heartbeatAt,
+        String lastError) {
+
+    public static MemberRecordBackfillResponse from(MemberRecordBackfillJob job) {
+        return new MemberRecordBackfillResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getLastPaymentId(),
+                job.getTotalCompletedPayments(),
+                job.getCreatedRecords(),
+                job.getSkippedRecords(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getHeartbeatAt(),
+                job.getLastError());
     }
 }
@@ -0,0 +1,99 @@
+package aegis.server.domain.member.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 기록 백필의 PostgreSQL 전용 쓰기 경로 </br>
+ * 결제 ID 구간의 결제 완료 건을 INSERT ... SELECT 한 문으로 회원 기록에 옮긴다.
+ * 이미 기록이 있는 (회원, 학기)는 ON CONFLICT DO NOTHING으로 건너뛰므로 같은 구간을 다시 실행해도 결과가 같다. </br>
+ * 여러 인스턴스가 같은 작업을 동시에 실행하지 않도록, 작업 점유는 조건부 UPDATE로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberRecordBackfillJdbcRepository {
+
+    private static final String FIND_COMPLETED_PAYMENT_IDS_SQL =
+            """
+            SELECT p.id
+            FROM payment p
+            WHERE p.status = 'COMPLETED' AND p.id > ?
+            ORDER BY p.id
+            LIMIT ?
+            """;
+
+    // 결제 완료 시각은 결제가 COMPLETED로 바뀐 시점의 updated_at을 사용한다
+    private static final String INSERT_FROM_COMPLETED_PAYMENTS_SQL =
+            """
+            INSERT INTO member_record (
+                member_id, year_semester, record_source,
+                snapshot_student_id, snapshot_name, snapshot_email, snapshot_phone_number,
+                snapshot_department, snapshot_grade, snapshot_role,
+                payment_id, payment_completed_at, created_at, updated_at)
+            SELECT p.member_id, p.year_semester, 'BACKFILL_PAYMENT',
+                   m.student_id, m.name, m.email, m.phone_number,
+                   m.department, m.grade, m.role,
+                   p.id, p.updated_at, ?, ?
+            FROM payment p
+            JOIN member m ON m.member_id = p.member_id
+            WHERE p.status = 'COMPLETED' AND p.id > ? AND p.id <= ?
+            ON CONFLICT (member_id, year_semester) DO NOTHING
+            """;
+
+    // 실패한 작업이거나, 실행 중이지만 점유자의 heartbeat가 끊긴 작업만 점유할 수 있다
+    private static final String CLAIM_JOB_SQL =
+            """
+            UPDATE member_record_backfill_job
+            SET status = 'RUNNING', lease_owner = ?, heartbeat_at = ?,
+                last_error = NULL, finished_at = NULL, updated_at = ?
+            WHERE member_record_backfill_job_id = ?
+              AND (status = 'FAILED'
+                   OR (status = 'RUNNING' AND (heartbeat_at IS NULL OR heartbeat_at < ?)))
+            """;
+
+    // 작업 생성을 직렬화하는 트랜잭션 범위 advisory lock
+    private static final String LOCK_JOB_CREATION_SQL =
+            "SELECT pg_advisory_xact_lock(hashtext('member_record_backfill_job'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 다른 인스턴스의 작업 생성을 막는다. 동시에 시작해도 작업이 두 개 만들어지지 않는다.
+     */
+    public void lockJobCreation() {
+        jdbcTemplate.query(LOCK_JOB_CREATION_SQL, rs -> {});
+    }
+
+    /**
+     * 작업을 점유한다. 다른 인스턴스가 heartbeat를 갱신하며 실행 중이면 점유하지 못한다.
+     *
+     * @return 점유에 성공했으면 true
+     */
+    public boolean claimJob(Long jobId, String owner, LocalDateTime now, LocalDateTime staleBefore) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int claimed =
+                jdbcTemplate.update(CLAIM_JOB_SQL, owner, timestamp, timestamp, jobId, Timestamp.valueOf(staleBefore));
+        return claimed == 1;
+    }
+
+    public List<Long> findCompletedPaymentIdsAfter(long paymentId, int limit) {
+        return jdbcTemplate.queryForList(FIND_COMPLETED_PAYMENT_IDS_SQL, Long.class, paymentId, limit);
+    }
+
+    /**
+     * (fromPaymentIdExclusive, toPaymentIdInclusive] 구간의 결제 완료 건으로 회원 기록을 만든다.
+     *
+     * @return 새로 만든 회원 기록 수
+     */
+    public int insertFromCompletedPayments(long fromPaymentIdExclusive, long toPaymentIdInclusive, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(
+                INSERT_FROM_COMPLETED_PAYMENTS_SQL, timestamp, timestamp, fromPaymentIdExclusive, toPaymentIdInclusive);
+    }
+}
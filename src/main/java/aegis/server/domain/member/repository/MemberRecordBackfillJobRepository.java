@@ -0,0 +1,21 @@
+package aegis.server.domain.member.repository;
+
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import aegis.server.domain.member.domain.MemberRecordBackfillJob;
+
+public interface MemberRecordBackfillJobRepository extends JpaRepository<MemberRecordBackfillJob, Long> {
+
+    Optional<MemberRecordBackfillJob> findFirstByOrderByIdDesc();
+
+    // 진행 상황 저장과 다른 인스턴스의 점유(claim)가 엇갈리지 않도록 행을 잠그고 점유자를 확인한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM MemberRecordBackfillJob j WHERE j.id = :id")
+    Optional<MemberRecordBackfillJob> findByIdWithLock(Long id);
+}
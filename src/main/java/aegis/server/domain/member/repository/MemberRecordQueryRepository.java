@@ -1,14 +1,18 @@
 package aegis.server.domain.member.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.common.domain.YearSemester;
 import aegis.server.domain.member.domain.MemberRecord;
 import aegis.server.domain.member.domain.Role;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface MemberRecordQueryRepository {
 
-    Page<MemberRecord> searchByYearSemesterForAdmin(
-            YearSemester yearSemester, String keyword, Role role, Pageable pageable);
+    KeysetPage<MemberRecord> searchByYearSemesterForAdmin(
+            YearSemester yearSemester,
+            String keyword,
+            Role role,
+            KeysetPageRequest pageRequest,
+            KeysetSort<MemberRecord> sort);
 }
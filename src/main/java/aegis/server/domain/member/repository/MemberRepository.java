@@ -1,5 +1,6 @@
 package aegis.server.domain.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,12 +25,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.id = :memberId")
     Optional<Member> findByIdWithLock(Long memberId);
 
+    // 조건식은 MemberSearchIndexInitializer의 trigram 인덱스 식과 같아야 한다
+    // 정확히 일치 > 앞부분 일치 > 부분 일치 순으로 정렬한다
     @Query("SELECT m FROM Member m "
             + "WHERE LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
             + "OR LOWER(COALESCE(m.studentId, '')) LIKE LOWER(CONCAT('%', :keyword, '%')) "
-            + "ORDER BY m.id ASC")
+            + "ORDER BY CASE "
+            + "WHEN LOWER(m.name) = LOWER(:keyword) OR LOWER(COALESCE(m.studentId, '')) = LOWER(:keyword) THEN 0 "
+            + "WHEN LOWER(m.name) LIKE LOWER(CONCAT(:keyword, '%')) "
+            + "OR LOWER(COALESCE(m.studentId, '')) LIKE LOWER(CONCAT(:keyword, '%')) THEN 1 "
+            + "ELSE 2 END, m.id ASC")
     List<Member> searchByStudentIdOrName(String keyword, Pageable pageable);
 
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
     // 결제완료자 ID 목록이 비어 있는 경우를 위한 단순 조회
     List<Member> findAllByRoleNot(Role role);
 }
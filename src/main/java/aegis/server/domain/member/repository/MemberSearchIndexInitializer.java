@@ -0,0 +1,84 @@
+package aegis.server.domain.member.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 키워드 검색용 pg_trgm GIN 인덱스 생성기. </br>
+ * 관리자 검색은 {@code LOWER(x) LIKE '%키워드%'} 형태라 B-tree 인덱스를 사용할 수 없으므로,
+ * 같은 식에 대한 trigram 인덱스를 만들어 3글자 이상 키워드가 순차 탐색 대신 인덱스로 처리되도록 한다.
+ * JPA 엔티티 매핑으로는 GIN 인덱스를 표현할 수 없어 애플리케이션 시작 시 테이블 쓰기를 막지 않고 멱등하게 생성하며,
+ * 확장 생성 권한이 없는 환경에서는 경고만 남기고 기존 LIKE 순차 탐색으로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSearchIndexInitializer {
+
+    // 인덱스 식은 검색 JPQL이 생성하는 식과 같아야 인덱스가 사용된다
+    static final List<TrigramIndex> TRIGRAM_INDEXES = List.of(
+            new TrigramIndex("idx_member_name_trgm", "member USING gin (lower(name) gin_trgm_ops)"),
+            new TrigramIndex(
+                    "idx_member_student_id_trgm", "member USING gin (lower(coalesce(student_id, '')) gin_trgm_ops)"),
+            new TrigramIndex("idx_member_email_trgm", "member USING gin (lower(email) gin_trgm_ops)"),
+            new TrigramIndex(
+                    "idx_member_record_snapshot_name_trgm",
+                    "member_record USING gin (lower(snapshot_name) gin_trgm_ops)"),
+            new TrigramIndex(
+                    "idx_member_record_snapshot_student_id_trgm",
+                    "member_record USING gin (lower(coalesce(snapshot_student_id, '')) gin_trgm_ops)"),
+            new TrigramIndex(
+                    "idx_member_record_snapshot_email_trgm",
+                    "member_record USING gin (lower(snapshot_email) gin_trgm_ops)"));
+
+    // 이전 CONCURRENTLY 생성이 중단되어 남은 INVALID 인덱스는 IF NOT EXISTS에 걸려 재생성되지 않으므로 먼저 지운다
+    private static final String INVALID_INDEX_SQL =
+            """
+            SELECT EXISTS (
+                SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE c.relname = ? AND NOT i.indisvalid
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${member.search.trigram-index-enabled}")
+    private boolean trigramIndexEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTrigramIndexes() {
+        if (!trigramIndexEnabled) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            TRIGRAM_INDEXES.forEach(this::createConcurrently);
+            log.info("[MemberSearchIndexInitializer] 회원 검색 trigram 인덱스 준비 완료: {}개", TRIGRAM_INDEXES.size());
+        } catch (DataAccessException e) {
+            log.warn("[MemberSearchIndexInitializer] 회원 검색 trigram 인덱스 생성 실패, LIKE 순차 탐색으로 동작합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 운영 중인 테이블에 쓰기 락을 잡지 않도록 CONCURRENTLY로 생성한다. </br>
+     * CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 자동 커밋 연결에서 문장마다 실행한다.
+     */
+    private void createConcurrently(TrigramIndex index) {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(INVALID_INDEX_SQL, Boolean.class, index.name()))) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.name() + " ON " + index.definition());
+    }
+
+    record TrigramIndex(String name, String definition) {}
+}
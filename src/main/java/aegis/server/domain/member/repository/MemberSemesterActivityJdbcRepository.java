@@ -0,0 +1,125 @@
+package aegis.server.domain.member.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.member.dto.response.AdminMemberActivityParticipationItemResponse;
+import aegis.server.domain.member.dto.response.AdminMemberStudyAttendanceItemResponse;
+import aegis.server.domain.member.dto.response.AdminMemberStudyParticipationItemResponse;
+import aegis.server.domain.study.domain.StudyRole;
+
+/**
+ * 관리자 회원 학기 활동 상세의 PostgreSQL 조회 경로 </br>
+ * 회원 존재 여부, 스터디 참여, 스터디 출석, 활동 참여를 UNION ALL 한 문으로 읽어 여러 회원도 한 번에 조회한다.
+ * 행마다 종류(kind)에 맞는 응답 항목을 만들어 넘기므로 엔티티를 만들지 않는다.
+ * 같은 회원, 같은 종류 안에서는 생성 시각과 ID의 내림차순으로 넘긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberSemesterActivityJdbcRepository {
+
+    private static final String SEMESTER_ACTIVITIES_SQL =
+            """
+            WITH requested AS (
+                SELECT DISTINCT r.member_id FROM unnest(?::bigint[]) AS r(member_id)
+            )
+            SELECT 'MEMBER' AS kind, m.member_id, NULL::bigint AS item_id, NULL::bigint AS target_id,
+                   NULL AS target_name, NULL AS study_role, NULL::bigint AS study_session_id,
+                   NULL::date AS session_date, NULL::timestamp AS occurred_at
+            FROM member m
+            JOIN requested r ON r.member_id = m.member_id
+            UNION ALL
+            SELECT 'STUDY_PARTICIPATION', sm.member_id, sm.study_member_id, s.study_id,
+                   s.title, sm.role, NULL, NULL, sm.created_at
+            FROM study_member sm
+            JOIN requested r ON r.member_id = sm.member_id
+            JOIN study s ON s.study_id = sm.study_id
+            WHERE s.year_semester = ?
+            UNION ALL
+            SELECT 'STUDY_ATTENDANCE', sa.member_id, sa.study_attendance_id, s.study_id,
+                   s.title, NULL, ss.study_session_id, ss.session_date, sa.created_at
+            FROM study_attendance sa
+            JOIN requested r ON r.member_id = sa.member_id
+            JOIN study_session ss ON ss.study_session_id = sa.study_session_id
+            JOIN study s ON s.study_id = ss.study_id
+            WHERE s.year_semester = ?
+            UNION ALL
+            SELECT 'ACTIVITY_PARTICIPATION', ap.member_id, ap.activity_participation_id, a.activity_id,
+                   a.name, NULL, NULL, NULL, ap.created_at
+            FROM activity_participation ap
+            JOIN requested r ON r.member_id = ap.member_id
+            JOIN activity a ON a.activity_id = ap.activity_id
+            WHERE a.year_semester = ?
+            ORDER BY member_id, kind, occurred_at DESC NULLS LAST, item_id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachSemesterActivity(
+            Collection<Long> memberIds, YearSemester yearSemester, SemesterActivityHandler handler) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(SEMESTER_ACTIVITIES_SQL);
+                    ps.setArray(1, connection.createArrayOf("bigint", memberIds.toArray()));
+                    ps.setString(2, yearSemester.name());
+                    ps.setString(3, yearSemester.name());
+                    ps.setString(4, yearSemester.name());
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> dispatch(rs, handler));
+    }
+
+    private void dispatch(ResultSet rs, SemesterActivityHandler handler) throws SQLException {
+        long memberId = rs.getLong("member_id");
+        switch (rs.getString("kind")) {
+            case "MEMBER" -> handler.member(memberId);
+            case "STUDY_PARTICIPATION" -> handler.studyParticipation(
+                    memberId,
+                    AdminMemberStudyParticipationItemResponse.of(
+                            rs.getLong("item_id"),
+                            rs.getLong("target_id"),
+                            rs.getString("target_name"),
+                            StudyRole.valueOf(rs.getString("study_role")),
+                            rs.getObject("occurred_at", LocalDateTime.class)));
+            case "STUDY_ATTENDANCE" -> handler.studyAttendance(
+                    memberId,
+                    AdminMemberStudyAttendanceItemResponse.of(
+                            rs.getLong("item_id"),
+                            rs.getLong("target_id"),
+                            rs.getString("target_name"),
+                            rs.getLong("study_session_id"),
+                            rs.getObject("session_date", LocalDate.class),
+                            rs.getObject("occurred_at", LocalDateTime.class)));
+            default -> handler.activityParticipation(
+                    memberId,
+                    AdminMemberActivityParticipationItemResponse.of(
+                            rs.getLong("item_id"),
+                            rs.getLong("target_id"),
+                            rs.getString("target_name"),
+                            rs.getObject("occurred_at", LocalDateTime.class)));
+        }
+    }
+
+    // member는 요청한 회원이 존재할 때 한 번 호출된다
+    public interface SemesterActivityHandler {
+
+        void member(long memberId);
+
+        void studyParticipation(long memberId, AdminMemberStudyParticipationItemResponse item);
+
+        void studyAttendance(long memberId, AdminMemberStudyAttendanceItemResponse item);
+
+        void activityParticipation(long memberId, AdminMemberActivityParticipationItemResponse item);
+    }
+}
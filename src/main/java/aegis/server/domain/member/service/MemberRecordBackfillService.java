@@ -0,0 +1,205 @@
+package aegis.server.domain.member.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.member.domain.MemberRecordBackfillJob;
+import aegis.server.domain.member.dto.response.MemberRecordBackfillResponse;
+import aegis.server.domain.member.repository.MemberRecordBackfillJdbcRepository;
+import aegis.server.domain.member.repository.MemberRecordBackfillJobRepository;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * 결제 완료 기반 회원 기록 백필 작업 </br>
+ * 체크포인트 다음의 결제 완료 건을 청크 단위 결제 ID 구간으로 나누어 병렬로 INSERT ... SELECT 하고,
+ * 한 묶음의 청크가 모두 끝나면 체크포인트(lastPaymentId)와 집계를 저장한다.
+ * 각 청크는 한 문으로 커밋되고 다시 실행해도 결과가 같으므로, 중단되거나 실패한 작업은 체크포인트부터 이어서 처리한다.
+ * 작업은 DB에서 조건부 UPDATE로 점유하고 묶음마다 heartbeat를 갱신하므로, 여러 인스턴스 중 하나만 실행한다.
+ * 점유한 인스턴스가 내려가 heartbeat가 lease 시간보다 오래되면 다른 인스턴스가 넘겨받아 이어서 처리한다.
+ */
+@Slf4j
+@Service
+public class MemberRecordBackfillService {
+
+    private final MemberRecordBackfillJobRepository memberRecordBackfillJobRepository;
+    private final MemberRecordBackfillJdbcRepository memberRecordBackfillJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int concurrency;
+    private final Duration leaseTimeout;
+    private final String owner = UUID.randomUUID().toString();
+
+    public MemberRecordBackfillService(
+            MemberRecordBackfillJobRepository memberRecordBackfillJobRepository,
+            MemberRecordBackfillJdbcRepository memberRecordBackfillJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("memberRecordBackfillTaskExecutor") Executor executor,
+            Clock clock,
+            @Value("${member.record.backfill.chunk-size}") int chunkSize,
+            @Value("${member.record.backfill.concurrency}") int concurrency,
+            @Value("${member.record.backfill.lease-timeout-seconds}") long leaseTimeoutSeconds) {
+        this.memberRecordBackfillJobRepository = memberRecordBackfillJobRepository;
+        this.memberRecordBackfillJdbcRepository = memberRecordBackfillJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.leaseTimeout = Duration.ofSeconds(leaseTimeoutSeconds);
+    }
+
+    /**
+     * 백필 작업을 시작한다. </br>
+     * 마지막 작업이 끝나지 않았으면 새로 만들지 않고 체크포인트부터 이어서 처리하며,
+     * 다른 인스턴스가 실행 중이면 점유하지 않고 그 작업을 그대로 돌려준다.
+     */
+    public MemberRecordBackfillResponse start() {
+        Long jobId = transactionTemplate.execute(status -> {
+            memberRecordBackfillJdbcRepository.lockJobCreation();
+            return memberRecordBackfillJobRepository
+                    .findFirstByOrderByIdDesc()
+                    .filter(latest -> !latest.isCompleted())
+                    .orElseGet(() -> memberRecordBackfillJobRepository.save(
+                            MemberRecordBackfillJob.start(LocalDateTime.now(clock))))
+                    .getId();
+        });
+
+        if (claim(jobId)) {
+            launch(jobId);
+        }
+        return getJob(jobId);
+    }
+
+    public MemberRecordBackfillResponse getJob(Long jobId) {
+        return memberRecordBackfillJobRepository
+                .findById(jobId)
+                .map(MemberRecordBackfillResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_RECORD_BACKFILL_JOB_NOT_FOUND));
+    }
+
+    // 실행 도중 서버가 내려가 heartbeat가 끊긴 작업은 시작 시와 주기적으로 확인하여 이어서 처리한다.
+    // 실패한 작업은 관리자가 다시 시작할 때 이어서 처리한다
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${member.record.backfill.lease-timeout-seconds}",
+            fixedDelayString = "${member.record.backfill.lease-timeout-seconds}",
+            timeUnit = TimeUnit.SECONDS)
+    public void resumeInterruptedJob() {
+        memberRecordBackfillJobRepository
+                .findFirstByOrderByIdDesc()
+                .filter(MemberRecordBackfillJob::isRunning)
+                .filter(job -> claim(job.getId()))
+                .ifPresent(job -> {
+                    log.info(
+                            "[MemberRecordBackfillService] 중단된 백필 작업 재개: jobId={}, lastPaymentId={}",
+                            job.getId(),
+                            job.getLastPaymentId());
+                    launch(job.getId());
+                });
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return memberRecordBackfillJdbcRepository.claimJob(jobId, owner, now, now.minus(leaseTimeout));
+    }
+
+    private void launch(Long jobId) {
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RuntimeException e) {
+            updateJob(jobId, job -> job.fail(String.valueOf(e.getMessage()), LocalDateTime.now(clock)));
+            throw e;
+        }
+    }
+
+    private void run(Long jobId) {
+        long lastPaymentId = memberRecordBackfillJobRepository
+                .findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_RECORD_BACKFILL_JOB_NOT_FOUND))
+                .getLastPaymentId();
+
+        try {
+            while (true) {
+                List<Long> paymentIds = memberRecordBackfillJdbcRepository.findCompletedPaymentIdsAfter(
+                        lastPaymentId, chunkSize * concurrency);
+                if (paymentIds.isEmpty()) {
+                    break;
+                }
+
+                int created = insertChunks(lastPaymentId, paymentIds);
+                lastPaymentId = paymentIds.getLast();
+                long checkpoint = lastPaymentId;
+                if (!updateJob(jobId, job -> job.advance(checkpoint, paymentIds.size(), created))) {
+                    log.warn("[MemberRecordBackfillService] 작업 점유를 잃어 중단합니다: jobId={}", jobId);
+                    return;
+                }
+            }
+            updateJob(jobId, job -> job.complete(LocalDateTime.now(clock)));
+            log.info("[MemberRecordBackfillService] 백필 완료: jobId={}, lastPaymentId={}", jobId, lastPaymentId);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("[MemberRecordBackfillService] 백필 실패: jobId={}, lastPaymentId={}", jobId, lastPaymentId, cause);
+            updateJob(jobId, job -> job.fail(String.valueOf(cause.getMessage()), LocalDateTime.now(clock)));
+        }
+    }
+
+    // 결제 ID 목록을 chunkSize씩 잘라 (이전 청크의 마지막 ID, 이번 청크의 마지막 ID] 구간으로 병렬 처리한다
+    private int insertChunks(long fromPaymentIdExclusive, List<Long> paymentIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        long from = fromPaymentIdExclusive;
+        for (int start = 0; start < paymentIds.size(); start += chunkSize) {
+            long chunkFrom = from;
+            long chunkTo = paymentIds.get(Math.min(start + chunkSize, paymentIds.size()) - 1);
+            chunks.add(CompletableFuture.supplyAsync(
+                    () -> memberRecordBackfillJdbcRepository.insertFromCompletedPayments(chunkFrom, chunkTo, now),
+                    executor));
+            from = chunkTo;
+        }
+        return chunks.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    /**
+     * 이 인스턴스가 점유한 작업이면 변경을 저장하고 heartbeat를 갱신한다.
+     *
+     * @return 점유를 잃어 저장하지 않았으면 false
+     */
+    private boolean updateJob(Long jobId, Consumer<MemberRecordBackfillJob> update) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            MemberRecordBackfillJob job = memberRecordBackfillJobRepository
+                    .findByIdWithLock(jobId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_RECORD_BACKFILL_JOB_NOT_FOUND));
+            if (!job.isLeasedBy(owner)) {
+                return false;
+            }
+            update.accept(job);
+            job.heartbeat(LocalDateTime.now(clock));
+            return true;
+        }));
+    }
+}
@@ -1,18 +1,19 @@
 package aegis.server.domain.member.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
-import aegis.server.domain.activity.repository.ActivityParticipationRepository;
 import aegis.server.domain.common.domain.YearSemester;
 import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.domain.MemberRecord;
@@ -25,47 +26,44 @@ import aegis.server.domain.member.dto.response.AdminMemberRecordTimelineResponse
 import aegis.server.domain.member.dto.response.AdminMemberSemesterActivityDetailResponse;
 import aegis.server.domain.member.dto.response.AdminMemberStudyAttendanceItemResponse;
 import aegis.server.domain.member.dto.response.AdminMemberStudyParticipationItemResponse;
-import aegis.server.domain.member.dto.response.MemberRecordBackfillResponse;
 import aegis.server.domain.member.repository.MemberRecordRepository;
 import aegis.server.domain.member.repository.MemberRepository;
-import aegis.server.domain.payment.domain.Payment;
-import aegis.server.domain.payment.domain.PaymentStatus;
-import aegis.server.domain.payment.repository.PaymentRepository;
-import aegis.server.domain.study.repository.StudyAttendanceRepository;
-import aegis.server.domain.study.repository.StudyMemberRepository;
+import aegis.server.domain.member.repository.MemberSemesterActivityJdbcRepository;
+import aegis.server.domain.member.repository.MemberSemesterActivityJdbcRepository.SemesterActivityHandler;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
+import aegis.server.global.paging.KeysetSortKeys;
 
 import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberRecordService {
 
-    private static final int BACKFILL_CHUNK_SIZE = 500;
     private static final int MAX_PAGE_SIZE = 100;
+    private static final KeysetSortKeys<MemberRecord> MEMBER_RECORD_SORT_KEYS =
+            KeysetSortKeys.of("mr.id", MemberRecord::getId);
 
     private final MemberRecordRepository memberRecordRepository;
     private final MemberRepository memberRepository;
-    private final PaymentRepository paymentRepository;
     private final MemberRecordCreator memberRecordCreator;
-    private final StudyMemberRepository studyMemberRepository;
-    private final StudyAttendanceRepository studyAttendanceRepository;
-    private final ActivityParticipationRepository activityParticipationRepository;
-
-    public AdminMemberRecordPageResponse getMemberRecordsByYearSemester(YearSemester yearSemester, int page, int size) {
-        return getMemberRecordsByYearSemester(yearSemester, page, size, null, null, null);
-    }
+    private final MemberSemesterActivityJdbcRepository memberSemesterActivityJdbcRepository;
 
     public AdminMemberRecordPageResponse getMemberRecordsByYearSemester(
-            YearSemester yearSemester, int page, int size, String keyword, Role role, String sort) {
+            YearSemester yearSemester, int page, int size, String cursor, String keyword, Role role, String sort) {
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(keyword);
-        Sort sortSpec = resolveSort(sort);
+        KeysetSort<MemberRecord> memberRecordSort = resolveSort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<MemberRecord> memberRecordPage = memberRecordRepository.searchByYearSemesterForAdmin(
-                yearSemester, normalizedKeyword, role, PageRequest.of(page, normalizedSize, sortSpec));
+        KeysetPage<MemberRecord> memberRecordPage = memberRecordRepository.searchByYearSemesterForAdmin(
+                yearSemester, normalizedKeyword, role, pageRequest, memberRecordSort);
         return AdminMemberRecordPageResponse.from(memberRecordPage);
     }
 
@@ -85,64 +83,32 @@ public class MemberRecordService {
 
     public AdminMemberSemesterActivityDetailResponse getMemberSemesterActivityDetail(
             Long memberId, YearSemester yearSemester) {
-        validateMemberExists(memberId);
-
-        List<AdminMemberStudyParticipationItemResponse> studyParticipations =
-                studyMemberRepository
-                        .findByMemberIdAndStudyYearSemesterOrderByCreatedAtDescIdDesc(memberId, yearSemester)
-                        .stream()
-                        .map(AdminMemberStudyParticipationItemResponse::from)
-                        .toList();
-
-        List<AdminMemberStudyAttendanceItemResponse> studyAttendances = studyAttendanceRepository
-                .findByMemberIdAndStudySessionStudyYearSemesterOrderByCreatedAtDescIdDesc(memberId, yearSemester)
-                .stream()
-                .map(AdminMemberStudyAttendanceItemResponse::from)
-                .toList();
-
-        List<AdminMemberActivityParticipationItemResponse> activityParticipations =
-                activityParticipationRepository
-                        .findByMemberIdAndActivityYearSemesterOrderByCreatedAtDescIdDesc(memberId, yearSemester)
-                        .stream()
-                        .map(AdminMemberActivityParticipationItemResponse::from)
-                        .toList();
-
-        return AdminMemberSemesterActivityDetailResponse.of(
-                memberId, yearSemester, studyParticipations, studyAttendances, activityParticipations);
-    }
-
-    @Transactional
-    public MemberRecordBackfillResponse backfillFromCompletedPayments() {
-        long totalCompletedPayments = 0L;
-        long createdRecords = 0L;
-        long skippedRecords = 0L;
-        long lastPaymentId = 0L;
-
-        while (true) {
-            List<Payment> completedPayments = paymentRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
-                    PaymentStatus.COMPLETED, lastPaymentId, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
-            if (completedPayments.isEmpty()) {
-                break;
-            }
-
-            for (Payment completedPayment : completedPayments) {
-                totalCompletedPayments++;
-                boolean created = createMemberRecordIfAbsent(
-                        completedPayment.getMember(),
-                        completedPayment.getYearSemester(),
-                        MemberRecordSource.BACKFILL_PAYMENT,
-                        completedPayment.getId(),
-                        completedPayment.getUpdatedAt());
-                if (created) {
-                    createdRecords++;
-                } else {
-                    skippedRecords++;
-                }
-                lastPaymentId = completedPayment.getId();
-            }
+        List<AdminMemberSemesterActivityDetailResponse> details =
+                getMemberSemesterActivityDetails(List.of(memberId), yearSemester);
+        if (details.isEmpty()) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
         }
+        return details.getFirst();
+    }
 
-        return MemberRecordBackfillResponse.of(totalCompletedPayments, createdRecords, skippedRecords);
+    /**
+     * 여러 회원의 학기 활동 상세를 한 번의 조회로 만든다. 존재하지 않는 회원은 결과에서 빠지고, 순서는 요청한 순서를 따른다.
+     */
+    public List<AdminMemberSemesterActivityDetailResponse> getMemberSemesterActivityDetails(
+            List<Long> memberIds, YearSemester yearSemester) {
+        SemesterActivityCollector collector = new SemesterActivityCollector();
+        memberSemesterActivityJdbcRepository.forEachSemesterActivity(memberIds, yearSemester, collector);
+
+        return memberIds.stream()
+                .distinct()
+                .filter(collector.existingMemberIds::contains)
+                .map(memberId -> AdminMemberSemesterActivityDetailResponse.of(
+                        memberId,
+                        yearSemester,
+                        collector.studyParticipations.getOrDefault(memberId, List.of()),
+                        collector.studyAttendances.getOrDefault(memberId, List.of()),
+                        collector.activityParticipations.getOrDefault(memberId, List.of())))
+                .toList();
     }
 
     @Transactional
@@ -186,17 +152,49 @@ public class MemberRecordService {
         return trimmedKeyword.isEmpty() ? null : trimmedKeyword;
     }
 
-    private Sort resolveSort(String sort) {
+    private KeysetSort<MemberRecord> resolveSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return Sort.by(Sort.Direction.ASC, "id");
+            return MEMBER_RECORD_SORT_KEYS.id(ASC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> Sort.by(Sort.Direction.ASC, "id");
-            case "id,desc" -> Sort.by(Sort.Direction.DESC, "id");
-            case "name,asc" -> Sort.by(Sort.Direction.ASC, "snapshotName").and(Sort.by(Sort.Direction.ASC, "id"));
-            case "name,desc" -> Sort.by(Sort.Direction.DESC, "snapshotName").and(Sort.by(Sort.Direction.DESC, "id"));
+            case "id,asc" -> MEMBER_RECORD_SORT_KEYS.id(ASC);
+            case "id,desc" -> MEMBER_RECORD_SORT_KEYS.id(DESC);
+            case "name,asc" -> MEMBER_RECORD_SORT_KEYS.by(
+                    "mr.snapshotName", String.class, MemberRecord::getSnapshotName, ASC);
+            case "name,desc" -> MEMBER_RECORD_SORT_KEYS.by(
+                    "mr.snapshotName", String.class, MemberRecord::getSnapshotName, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
+
+    // 조회 결과를 회원별 목록으로 모은다. 같은 회원, 같은 종류의 항목은 정렬된 순서로 넘어온다
+    private static class SemesterActivityCollector implements SemesterActivityHandler {
+
+        private final Set<Long> existingMemberIds = new HashSet<>();
+        private final Map<Long, List<AdminMemberStudyParticipationItemResponse>> studyParticipations = new HashMap<>();
+        private final Map<Long, List<AdminMemberStudyAttendanceItemResponse>> studyAttendances = new HashMap<>();
+        private final Map<Long, List<AdminMemberActivityParticipationItemResponse>> activityParticipations =
+                new HashMap<>();
+
+        @Override
+        public void member(long memberId) {
+            existingMemberIds.add(memberId);
+        }
+
+        @Override
+        public void studyParticipation(long memberId, AdminMemberStudyParticipationItemResponse item) {
+            studyParticipations.computeIfAbsent(memberId, key -> new ArrayList<>()).add(item);
+        }
+
+        @Override
+        public void studyAttendance(long memberId, AdminMemberStudyAttendanceItemResponse item) {
+            studyAttendances.computeIfAbsent(memberId, key -> new ArrayList<>()).add(item);
+        }
+
+        @Override
+        public void activityParticipation(long memberId, AdminMemberActivityParticipationItemResponse item) {
+            activityParticipations.computeIfAbsent(memberId, key -> new ArrayList<>()).add(item);
+        }
+    }
 }
@@ -1,10 +1,10 @@
 package aegis.server.domain.member.service.listener;
 
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,17 +13,20 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.service.outbox.PaymentCompletedEventHandler;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
 
+// 세션 갱신 등 다른 후속 처리기가 승격된 역할을 보도록 가장 먼저 실행
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MemberEventListener {
+public class MemberEventListener implements PaymentCompletedEventHandler {
 
     private final MemberRepository memberRepository;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
         PaymentInfo paymentInfo = event.paymentInfo();
@@ -3,8 +3,6 @@ package aegis.server.domain.member.service.listener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,15 +11,16 @@ import aegis.server.domain.member.domain.MemberRecordSource;
 import aegis.server.domain.member.service.MemberRecordService;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.service.outbox.PaymentCompletedEventHandler;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MemberRecordEventListener {
+public class MemberRecordEventListener implements PaymentCompletedEventHandler {
 
     private final MemberRecordService memberRecordService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
         PaymentInfo paymentInfo = event.paymentInfo();
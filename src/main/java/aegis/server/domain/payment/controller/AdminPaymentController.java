@@ -47,12 +47,13 @@ public class AdminPaymentController {
     public ResponseEntity<AdminPaymentPageResponse> getPayments(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) YearSemester yearSemester,
             @RequestParam(required = false) PaymentStatus status,
             @RequestParam(required = false) String memberKeyword,
             @RequestParam(required = false) String sort) {
         AdminPaymentPageResponse response =
-                adminPaymentService.getPayments(page, size, yearSemester, status, memberKeyword, sort);
+                adminPaymentService.getPayments(page, size, cursor, yearSemester, status, memberKeyword, sort);
         return ResponseEntity.ok(response);
     }
 
@@ -83,6 +84,7 @@ public class AdminPaymentController {
     public ResponseEntity<AdminTransactionPageResponse> getTransactions(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) YearSemester yearSemester,
             @RequestParam(required = false) TransactionType transactionType,
             @RequestParam(required = false) String depositorKeyword,
@@ -90,7 +92,7 @@ public class AdminPaymentController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(required = false) String sort) {
         AdminTransactionPageResponse response = adminPaymentService.getTransactions(
-                page, size, yearSemester, transactionType, depositorKeyword, from, to, sort);
+                page, size, cursor, yearSemester, transactionType, depositorKeyword, from, to, sort);
         return ResponseEntity.ok(response);
     }
 }
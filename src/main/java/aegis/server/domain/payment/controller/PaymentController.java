@@ -9,8 +9,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -75,4 +78,31 @@ public class PaymentController {
             @Parameter(hidden = true) @LoginUser UserDetails userDetails) {
         return ResponseEntity.ok(paymentService.checkPaymentStatus(userDetails));
     }
+
+    @Operation(
+            summary = "결제 완료 대기",
+            description = "결제가 완료되면 즉시, 완료되지 않으면 최대 대기 시간이 지난 뒤 현재 결제 상태를 반환합니다. "
+                    + "반복 조회 대신 응답을 받을 때마다 다시 요청하는 방식으로 사용합니다.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "결제 상태 조회 성공"),
+                @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content)
+            })
+    @GetMapping("/status/wait")
+    public DeferredResult<PaymentStatusResponse> waitPaymentStatus(
+            @Parameter(hidden = true) @LoginUser UserDetails userDetails) {
+        return paymentService.waitPaymentStatus(userDetails);
+    }
+
+    @Operation(
+            summary = "결제 상태 스트림",
+            description = "SSE(payment-status 이벤트)로 현재 결제 상태를 보낸 뒤, 결제가 완료되면 완료 상태를 보내고 스트림을 닫습니다. "
+                    + "스트림 시간이 끝나면 다시 연결합니다.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+                @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content)
+            })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPaymentStatus(@Parameter(hidden = true) @LoginUser UserDetails userDetails) {
+        return paymentService.streamPaymentStatus(userDetails);
+    }
 }
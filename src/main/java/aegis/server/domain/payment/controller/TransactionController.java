@@ -1,11 +1,14 @@
 package aegis.server.domain.payment.controller;
 
+import jakarta.validation.Valid;
+
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,6 +16,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 
+import aegis.server.domain.payment.dto.request.TransactionBatchRequest;
+import aegis.server.domain.payment.dto.response.TransactionBatchResponse;
 import aegis.server.domain.payment.service.TransactionService;
 
 @Tag(name = "Transaction (Internal)", description = "내부 거래 처리 API - 외부 시스템에서만 호출")
@@ -36,4 +41,20 @@ public class TransactionController {
     public void createTransaction(@RequestBody String request) {
         transactionService.createTransaction(request);
     }
+
+    @Hidden
+    @Operation(
+            summary = "거래 일괄 생성",
+            description = "외부 시스템에서 여러 거래 데이터를 한 번에 생성합니다. 파싱에 실패한 거래는 건너뛰고 응답에 위치를 반환합니다. (내부 API)",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "거래 일괄 생성 성공"),
+                @ApiResponse(responseCode = "400", description = "요청 형식 오류", content = @Content),
+                @ApiResponse(responseCode = "500", description = "데이터베이스 오류", content = @Content)
+            })
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResponse> createTransactions(
+            @Valid @RequestBody TransactionBatchRequest request) {
+        TransactionBatchResponse response = transactionService.createTransactions(request.transactionLogs());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,109 @@
+package aegis.server.domain.payment.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import aegis.server.domain.common.converter.StringListJsonConverter;
+import aegis.server.domain.common.domain.BaseEntity;
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.payment.dto.internal.PaymentInfo;
+
+/**
+ * 결제 완료 후속 처리를 위한 아웃박스. </br>
+ * 결제 완료와 같은 트랜잭션에서 기록되며, 처리기별 성공 여부를 남겨 재시도 시 성공한 처리기는 다시 실행하지 않는다.
+ */
+@Entity
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {@Index(name = "idx_payment_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")})
+public class PaymentOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long paymentId;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    private YearSemester yearSemester;
+
+    @Column(precision = 10, scale = 0)
+    private BigDecimal finalPrice;
+
+    private LocalDateTime paymentCreatedAt;
+
+    private LocalDateTime paymentUpdatedAt;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentOutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "text")
+    @Convert(converter = StringListJsonConverter.class)
+    @Builder.Default
+    private List<String> completedHandlers = new ArrayList<>();
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime dispatchedAt;
+
+    public static PaymentOutbox of(PaymentInfo paymentInfo, LocalDateTime now) {
+        return PaymentOutbox.builder()
+                .paymentId(paymentInfo.id())
+                .memberId(paymentInfo.memberId())
+                .yearSemester(paymentInfo.yearSemester())
+                .finalPrice(paymentInfo.finalPrice())
+                .paymentCreatedAt(paymentInfo.createdAt())
+                .paymentUpdatedAt(paymentInfo.updatedAt())
+                .status(PaymentOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    public boolean isHandled(String handlerName) {
+        return completedHandlers.contains(handlerName);
+    }
+
+    public void markHandled(String handlerName) {
+        // 변경 감지를 위해 새 리스트로 교체
+        List<String> handled = new ArrayList<>(completedHandlers);
+        handled.add(handlerName);
+        this.completedHandlers = handled;
+    }
+
+    public void markDispatched(LocalDateTime now) {
+        this.status = PaymentOutboxStatus.DISPATCHED;
+        this.attempts++;
+        this.lastError = null;
+        this.dispatchedAt = now;
+    }
+
+    /**
+     * 실패 횟수를 올리고 다음 시도 시각을 정한다. 최대 시도 횟수에 도달하면 더 이상 재시도하지 않는다.
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (attempts >= maxAttempts) {
+            this.status = PaymentOutboxStatus.FAILED;
+        }
+    }
+}
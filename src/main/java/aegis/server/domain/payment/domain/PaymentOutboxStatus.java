@@ -0,0 +1,7 @@
+package aegis.server.domain.payment.domain;
+
+public enum PaymentOutboxStatus {
+    PENDING,
+    DISPATCHED,
+    FAILED
+}
@@ -0,0 +1,3 @@
+package aegis.server.domain.payment.domain.event;
+
+public record PaymentOutboxRecordedEvent(Long outboxId) {}
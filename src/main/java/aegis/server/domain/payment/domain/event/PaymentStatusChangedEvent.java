@@ -0,0 +1,5 @@
+package aegis.server.domain.payment.domain.event;
+
+import aegis.server.domain.common.domain.YearSemester;
+
+public record PaymentStatusChangedEvent(Long memberId, YearSemester yearSemester) {}
@@ -0,0 +1,7 @@
+package aegis.server.domain.payment.domain.event;
+
+import java.util.List;
+
+import aegis.server.domain.payment.dto.internal.TransactionInfo;
+
+public record TransactionBatchCreatedEvent(List<TransactionInfo> transactionInfos) {}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import aegis.server.domain.common.domain.YearSemester;
 import aegis.server.domain.payment.domain.Payment;
+import aegis.server.domain.payment.domain.PaymentOutbox;
 
 public record PaymentInfo(
         Long id,
@@ -22,4 +23,14 @@ public record PaymentInfo(
                 payment.getCreatedAt(),
                 payment.getUpdatedAt());
     }
+
+    public static PaymentInfo from(PaymentOutbox outbox) {
+        return new PaymentInfo(
+                outbox.getPaymentId(),
+                outbox.getMemberId(),
+                outbox.getYearSemester(),
+                outbox.getFinalPrice(),
+                outbox.getPaymentCreatedAt(),
+                outbox.getPaymentUpdatedAt());
+    }
 }
@@ -0,0 +1,5 @@
+package aegis.server.domain.payment.dto.internal;
+
+import java.math.BigDecimal;
+
+public record PendingPaymentEntry(Long memberId, String memberName, BigDecimal finalPrice) {}
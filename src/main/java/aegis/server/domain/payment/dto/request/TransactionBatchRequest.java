@@ -0,0 +1,9 @@
+package aegis.server.domain.payment.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record TransactionBatchRequest(@NotEmpty @Size(max = 1000) List<@NotBlank String> transactionLogs) {}
@@ -2,9 +2,8 @@ package aegis.server.domain.payment.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.payment.domain.Payment;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminPaymentPageResponse(
         List<AdminPaymentItemResponse> content,
@@ -12,17 +11,19 @@ public record AdminPaymentPageResponse(
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext) {
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminPaymentPageResponse from(Page<Payment> paymentPage) {
+    public static AdminPaymentPageResponse from(KeysetPage<Payment> paymentPage) {
         return new AdminPaymentPageResponse(
-                paymentPage.getContent().stream()
+                paymentPage.content().stream()
                         .map(AdminPaymentItemResponse::from)
                         .toList(),
-                paymentPage.getNumber(),
-                paymentPage.getSize(),
-                paymentPage.getTotalElements(),
-                paymentPage.getTotalPages(),
-                paymentPage.hasNext());
+                paymentPage.page(),
+                paymentPage.size(),
+                paymentPage.totalElements(),
+                paymentPage.totalPages(),
+                paymentPage.hasNext(),
+                paymentPage.nextCursor());
     }
 }
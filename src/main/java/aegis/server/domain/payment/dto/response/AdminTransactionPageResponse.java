@@ -2,9 +2,8 @@ package aegis.server.domain.payment.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.payment.domain.Transaction;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminTransactionPageResponse(
         List<AdminTransactionItemResponse> content,
@@ -12,17 +11,19 @@ public record AdminTransactionPageResponse(
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext) {
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminTransactionPageResponse from(Page<Transaction> transactionPage) {
+    public static AdminTransactionPageResponse from(KeysetPage<Transaction> transactionPage) {
         return new AdminTransactionPageResponse(
-                transactionPage.getContent().stream()
+                transactionPage.content().stream()
                         .map(AdminTransactionItemResponse::from)
                         .toList(),
-                transactionPage.getNumber(),
-                transactionPage.getSize(),
-                transactionPage.getTotalElements(),
-                transactionPage.getTotalPages(),
-                transactionPage.hasNext());
+                transactionPage.page(),
+                transactionPage.size(),
+                transactionPage.totalElements(),
+                transactionPage.totalPages(),
+                transactionPage.hasNext(),
+                transactionPage.nextCursor());
     }
 }
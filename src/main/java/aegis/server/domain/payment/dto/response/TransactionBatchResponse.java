@@ -0,0 +1,6 @@
+package aegis.server.domain.payment.dto.response;
+
+import java.util.List;
+
+public record TransactionBatchResponse(
+        int receivedCount, int savedCount, int depositCount, List<Integer> failedIndexes) {}
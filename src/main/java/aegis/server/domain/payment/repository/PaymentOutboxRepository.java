@@ -0,0 +1,33 @@
+package aegis.server.domain.payment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import aegis.server.domain.payment.domain.PaymentOutbox;
+import aegis.server.domain.payment.domain.PaymentOutboxStatus;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    @Query("SELECT o.id FROM PaymentOutbox o "
+            + "WHERE o.status = :status AND o.nextAttemptAt <= :now "
+            + "ORDER BY o.nextAttemptAt ASC, o.id ASC")
+    List<Long> findDueIds(PaymentOutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    // 다른 워커가 처리 중인 행은 기다리지 않고 건너뛴다 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM PaymentOutbox o WHERE o.id = :id")
+    Optional<PaymentOutbox> findByIdForDispatch(Long id);
+
+    long countByStatus(PaymentOutboxStatus status);
+}
@@ -1,18 +1,18 @@
 package aegis.server.domain.payment.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.common.domain.YearSemester;
 import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.domain.PaymentStatus;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface PaymentQueryRepository {
 
-    Page<Payment> searchAdminPayments(
+    KeysetPage<Payment> searchAdminPayments(
             YearSemester yearSemester,
             PaymentStatus status,
             String memberKeyword,
-            Pageable pageable,
-            String orderByClause);
+            KeysetPageRequest pageRequest,
+            KeysetSort<Payment> sort);
 }
@@ -1,13 +1,12 @@
 package aegis.server.domain.payment.repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.LockModeType;
 
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +15,7 @@ import aegis.server.domain.common.domain.YearSemester;
 import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.domain.PaymentStatus;
+import aegis.server.domain.payment.dto.internal.PendingPaymentEntry;
 
 import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
 
@@ -76,6 +76,36 @@ public interface PaymentRepository extends JpaRepository<Payment, Long>, Payment
                 memberName, finalPrice, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING);
     }
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.member m "
+            + "WHERE m.name IN :memberNames AND p.yearSemester = :yearSemester AND p.status = :status "
+            + "ORDER BY p.id ASC")
+    List<Payment> findAllByMemberNameInAndYearSemesterAndStatusWithLock(
+            Collection<String> memberNames, YearSemester yearSemester, PaymentStatus status);
+
+    default List<Payment> findAllPendingPaymentsForCurrentSemesterWithLock(Collection<String> memberNames) {
+        return findAllByMemberNameInAndYearSemesterAndStatusWithLock(
+                memberNames, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING);
+    }
+
+    @Query("SELECT new aegis.server.domain.payment.dto.internal.PendingPaymentEntry(m.id, m.name, p.finalPrice) "
+            + "FROM Payment p JOIN p.member m WHERE p.yearSemester = :yearSemester AND p.status = :status")
+    List<PendingPaymentEntry> findAllEntriesByYearSemesterAndStatus(YearSemester yearSemester, PaymentStatus status);
+
+    default List<PendingPaymentEntry> findAllPendingPaymentEntriesForCurrentSemester() {
+        return findAllEntriesByYearSemesterAndStatus(CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING);
+    }
+
+    @Query("SELECT new aegis.server.domain.payment.dto.internal.PendingPaymentEntry(m.id, m.name, p.finalPrice) "
+            + "FROM Payment p JOIN p.member m "
+            + "WHERE m.id = :memberId AND p.yearSemester = :yearSemester AND p.status = :status")
+    Optional<PendingPaymentEntry> findEntryByMemberIdAndYearSemesterAndStatus(
+            Long memberId, YearSemester yearSemester, PaymentStatus status);
+
+    default Optional<PendingPaymentEntry> findPendingPaymentEntryForCurrentSemester(Long memberId) {
+        return findEntryByMemberIdAndYearSemesterAndStatus(memberId, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING);
+    }
+
     @Query("SELECT COUNT(p) FROM Payment p WHERE p.yearSemester = :yearSemester AND p.status = :status")
     long countByYearSemesterAndStatus(YearSemester yearSemester, PaymentStatus status);
 
@@ -83,11 +113,10 @@ public interface PaymentRepository extends JpaRepository<Payment, Long>, Payment
         return countByYearSemesterAndStatus(CURRENT_YEAR_SEMESTER, PaymentStatus.COMPLETED);
     }
 
-    List<Payment> findAllByStatusAndYearSemester(PaymentStatus paymentStatus, YearSemester currentYearSemester);
+    @Query("SELECT DISTINCT p.member.id FROM Payment p WHERE p.yearSemester = :yearSemester AND p.status = :status")
+    List<Long> findMemberIdsByYearSemesterAndStatus(YearSemester yearSemester, PaymentStatus status);
 
-    @EntityGraph(attributePaths = "member")
-    List<Payment> findByStatusAndIdGreaterThanOrderByIdAsc(
-            PaymentStatus paymentStatus, Long paymentId, Pageable pageable);
+    List<Payment> findAllByStatusAndYearSemester(PaymentStatus paymentStatus, YearSemester currentYearSemester);
 
     @Query(
             "SELECT p FROM Payment p JOIN FETCH p.member WHERE p.member.id = :memberId ORDER BY p.yearSemester DESC, p.createdAt DESC")
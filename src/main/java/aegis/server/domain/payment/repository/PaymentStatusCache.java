@@ -0,0 +1,57 @@
+package aegis.server.domain.payment.repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.payment.dto.response.PaymentCheckStatus;
+import aegis.server.domain.payment.dto.response.PaymentStatusResponse;
+
+/**
+ * 회원별 결제 상태를 Redis에 캐시한다. 값은 "상태:최종금액" 형식이다. </br>
+ * 조회 시에는 없을 때만 채우고(SET NX), 결제가 바뀐 뒤에는 DB에서 다시 읽은 값으로 덮어쓴다.
+ * 덮어쓰기 이전에 읽은 오래된 값이 뒤늦게 채워지지 않으므로, 어긋나더라도 TTL 안에서만 어긋난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentStatusCache {
+
+    private static final String KEY_PREFIX = "payment:status:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<PaymentStatusResponse> find(Long memberId, YearSemester yearSemester) {
+        String value = stringRedisTemplate.opsForValue().get(key(memberId, yearSemester));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        int separator = value.indexOf(':');
+        return Optional.of(new PaymentStatusResponse(
+                PaymentCheckStatus.valueOf(value.substring(0, separator)),
+                new BigDecimal(value.substring(separator + 1))));
+    }
+
+    public void putIfAbsent(Long memberId, YearSemester yearSemester, PaymentStatusResponse status) {
+        stringRedisTemplate.opsForValue().setIfAbsent(key(memberId, yearSemester), value(status), TTL);
+    }
+
+    public void put(Long memberId, YearSemester yearSemester, PaymentStatusResponse status) {
+        stringRedisTemplate.opsForValue().set(key(memberId, yearSemester), value(status), TTL);
+    }
+
+    private String key(Long memberId, YearSemester yearSemester) {
+        return KEY_PREFIX + yearSemester.name() + ":" + memberId;
+    }
+
+    private String value(PaymentStatusResponse status) {
+        return status.status().name() + ":" + status.finalPrice().toPlainString();
+    }
+}
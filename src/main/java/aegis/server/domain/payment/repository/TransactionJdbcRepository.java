@@ -0,0 +1,97 @@
+package aegis.server.domain.payment.repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.payment.domain.Transaction;
+import aegis.server.domain.payment.dto.internal.TransactionInfo;
+
+/**
+ * 거래 내역의 PostgreSQL 전용 일괄 쓰기 경로 </br>
+ * ID를 시퀀스에서 먼저 할당받은 뒤 unnest 한 번으로 INSERT하여, 건수와 무관하게 두 번의 왕복으로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('transaction', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_ALL_SQL =
+            """
+            INSERT INTO transaction
+                (id, year_semester, transaction_time, depositor_name, transaction_type,
+                 amount, balance, created_at, updated_at)
+            SELECT t.id, t.year_semester, t.transaction_time, t.depositor_name, t.transaction_type,
+                   t.amount, t.balance, ?, ?
+            FROM unnest(?::bigint[], ?::varchar[], ?::timestamp[], ?::varchar[], ?::varchar[], ?::numeric[], ?::numeric[])
+                AS t(id, year_semester, transaction_time, depositor_name, transaction_type, amount, balance)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서대로 ID가 채워진 거래 정보
+     */
+    public List<TransactionInfo> insertAll(List<Transaction> transactions, LocalDateTime now) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, transactions.size());
+        List<TransactionInfo> infos = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            infos.add(new TransactionInfo(
+                    ids.get(i),
+                    transaction.getTransactionTime(),
+                    transaction.getDepositorName(),
+                    transaction.getTransactionType(),
+                    transaction.getAmount(),
+                    transaction.getBalance()));
+        }
+
+        jdbcTemplate.update(connection -> {
+            int size = transactions.size();
+            Long[] idArray = new Long[size];
+            String[] yearSemesters = new String[size];
+            Timestamp[] transactionTimes = new Timestamp[size];
+            String[] depositorNames = new String[size];
+            String[] transactionTypes = new String[size];
+            BigDecimal[] amounts = new BigDecimal[size];
+            BigDecimal[] balances = new BigDecimal[size];
+            for (int i = 0; i < size; i++) {
+                Transaction transaction = transactions.get(i);
+                idArray[i] = ids.get(i);
+                yearSemesters[i] = transaction.getYearSemester().name();
+                transactionTimes[i] = Timestamp.valueOf(transaction.getTransactionTime());
+                depositorNames[i] = transaction.getDepositorName();
+                transactionTypes[i] = transaction.getTransactionType().name();
+                amounts[i] = transaction.getAmount();
+                balances[i] = transaction.getBalance();
+            }
+
+            PreparedStatement ps = connection.prepareStatement(INSERT_ALL_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setTimestamp(2, Timestamp.valueOf(now));
+            ps.setArray(3, connection.createArrayOf("bigint", idArray));
+            ps.setArray(4, connection.createArrayOf("varchar", yearSemesters));
+            ps.setArray(5, connection.createArrayOf("timestamp", transactionTimes));
+            ps.setArray(6, connection.createArrayOf("varchar", depositorNames));
+            ps.setArray(7, connection.createArrayOf("varchar", transactionTypes));
+            ps.setArray(8, connection.createArrayOf("numeric", amounts));
+            ps.setArray(9, connection.createArrayOf("numeric", balances));
+            return ps;
+        });
+        return infos;
+    }
+}
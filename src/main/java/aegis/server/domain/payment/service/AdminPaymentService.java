@@ -1,11 +1,10 @@
 package aegis.server.domain.payment.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +25,13 @@ import aegis.server.domain.payment.repository.PaymentRepository;
 import aegis.server.domain.payment.repository.TransactionRepository;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
+import aegis.server.global.paging.KeysetSortKeys;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Slf4j
 @Service
@@ -34,26 +40,36 @@ import aegis.server.global.exception.ErrorCode;
 public class AdminPaymentService {
 
     private static final int MAX_PAGE_SIZE = 100;
+    private static final KeysetSortKeys<Payment> PAYMENT_SORT_KEYS = KeysetSortKeys.of("p.id", Payment::getId);
+    private static final KeysetSortKeys<Transaction> TRANSACTION_SORT_KEYS =
+            KeysetSortKeys.of("t.id", Transaction::getId);
 
     private final PaymentRepository paymentRepository;
     private final TransactionRepository transactionRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public AdminPaymentPageResponse getPayments(
-            int page, int size, YearSemester yearSemester, PaymentStatus status, String memberKeyword, String sort) {
+            int page,
+            int size,
+            String cursor,
+            YearSemester yearSemester,
+            PaymentStatus status,
+            String memberKeyword,
+            String sort) {
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(memberKeyword);
-        String orderByClause = resolvePaymentOrderBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
+        KeysetSort<Payment> paymentSort = resolvePaymentSort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<Payment> paymentPage = paymentRepository.searchAdminPayments(
-                yearSemester, status, normalizedKeyword, pageRequest, orderByClause);
+        KeysetPage<Payment> paymentPage = paymentRepository.searchAdminPayments(
+                yearSemester, status, normalizedKeyword, pageRequest, paymentSort);
         return AdminPaymentPageResponse.from(paymentPage);
     }
 
     public AdminTransactionPageResponse getTransactions(
             int page,
             int size,
+            String cursor,
             YearSemester yearSemester,
             TransactionType transactionType,
             String depositorKeyword,
@@ -66,13 +82,19 @@ public class AdminPaymentService {
 
         int normalizedSize = Math.min(size, MAX_PAGE_SIZE);
         String normalizedKeyword = normalizeKeyword(depositorKeyword);
-        String orderByClause = resolveTransactionOrderBy(sort);
+        KeysetSort<Transaction> transactionSort = resolveTransactionSort(sort);
         LocalDateTime fromDateTime = from == null ? null : from.atStartOfDay();
         LocalDateTime toDateTime = to == null ? null : to.plusDays(1).atStartOfDay();
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
-
-        Page<Transaction> transactionPage = transactionRepository.searchAdminTransactions(
-                yearSemester, transactionType, normalizedKeyword, fromDateTime, toDateTime, pageRequest, orderByClause);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
+
+        KeysetPage<Transaction> transactionPage = transactionRepository.searchAdminTransactions(
+                yearSemester,
+                transactionType,
+                normalizedKeyword,
+                fromDateTime,
+                toDateTime,
+                pageRequest,
+                transactionSort);
         return AdminTransactionPageResponse.from(transactionPage);
     }
 
@@ -110,42 +132,54 @@ public class AdminPaymentService {
         return trimmedKeyword.isEmpty() ? null : trimmedKeyword;
     }
 
-    private String resolvePaymentOrderBy(String sort) {
+    private KeysetSort<Payment> resolvePaymentSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "p.id DESC";
+            return PAYMENT_SORT_KEYS.id(DESC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "p.id ASC";
-            case "id,desc" -> "p.id DESC";
-            case "createdat,asc" -> "p.createdAt ASC, p.id ASC";
-            case "createdat,desc" -> "p.createdAt DESC, p.id DESC";
-            case "finalprice,asc" -> "p.finalPrice ASC, p.id ASC";
-            case "finalprice,desc" -> "p.finalPrice DESC, p.id DESC";
-            case "status,asc" -> "p.status ASC, p.id ASC";
-            case "status,desc" -> "p.status DESC, p.id DESC";
-            case "membername,asc" -> "m.name ASC, p.id ASC";
-            case "membername,desc" -> "m.name DESC, p.id DESC";
+            case "id,asc" -> PAYMENT_SORT_KEYS.id(ASC);
+            case "id,desc" -> PAYMENT_SORT_KEYS.id(DESC);
+            case "createdat,asc" -> PAYMENT_SORT_KEYS.by(
+                    "p.createdAt", LocalDateTime.class, Payment::getCreatedAt, ASC);
+            case "createdat,desc" -> PAYMENT_SORT_KEYS.by(
+                    "p.createdAt", LocalDateTime.class, Payment::getCreatedAt, DESC);
+            case "finalprice,asc" -> PAYMENT_SORT_KEYS.by(
+                    "p.finalPrice", BigDecimal.class, Payment::getFinalPrice, ASC);
+            case "finalprice,desc" -> PAYMENT_SORT_KEYS.by(
+                    "p.finalPrice", BigDecimal.class, Payment::getFinalPrice, DESC);
+            case "status,asc" -> PAYMENT_SORT_KEYS.by("p.status", PaymentStatus.class, Payment::getStatus, ASC);
+            case "status,desc" -> PAYMENT_SORT_KEYS.by("p.status", PaymentStatus.class, Payment::getStatus, DESC);
+            case "membername,asc" -> PAYMENT_SORT_KEYS.by(
+                    "m.name", String.class, payment -> payment.getMember().getName(), ASC);
+            case "membername,desc" -> PAYMENT_SORT_KEYS.by(
+                    "m.name", String.class, payment -> payment.getMember().getName(), DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
 
-    private String resolveTransactionOrderBy(String sort) {
+    private KeysetSort<Transaction> resolveTransactionSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "t.transactionTime DESC, t.id DESC";
+            return TRANSACTION_SORT_KEYS.by(
+                    "t.transactionTime", LocalDateTime.class, Transaction::getTransactionTime, DESC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "t.id ASC";
-            case "id,desc" -> "t.id DESC";
-            case "transactiontime,asc" -> "t.transactionTime ASC, t.id ASC";
-            case "transactiontime,desc" -> "t.transactionTime DESC, t.id DESC";
-            case "amount,asc" -> "t.amount ASC, t.id ASC";
-            case "amount,desc" -> "t.amount DESC, t.id DESC";
-            case "balance,asc" -> "t.balance ASC, t.id ASC";
-            case "balance,desc" -> "t.balance DESC, t.id DESC";
-            case "depositorname,asc" -> "t.depositorName ASC, t.id ASC";
-            case "depositorname,desc" -> "t.depositorName DESC, t.id DESC";
+            case "id,asc" -> TRANSACTION_SORT_KEYS.id(ASC);
+            case "id,desc" -> TRANSACTION_SORT_KEYS.id(DESC);
+            case "transactiontime,asc" -> TRANSACTION_SORT_KEYS.by(
+                    "t.transactionTime", LocalDateTime.class, Transaction::getTransactionTime, ASC);
+            case "transactiontime,desc" -> TRANSACTION_SORT_KEYS.by(
+                    "t.transactionTime", LocalDateTime.class, Transaction::getTransactionTime, DESC);
+            case "amount,asc" -> TRANSACTION_SORT_KEYS.by("t.amount", BigDecimal.class, Transaction::getAmount, ASC);
+            case "amount,desc" -> TRANSACTION_SORT_KEYS.by("t.amount", BigDecimal.class, Transaction::getAmount, DESC);
+            case "balance,asc" -> TRANSACTION_SORT_KEYS.by("t.balance", BigDecimal.class, Transaction::getBalance, ASC);
+            case "balance,desc" -> TRANSACTION_SORT_KEYS.by(
+                    "t.balance", BigDecimal.class, Transaction::getBalance, DESC);
+            case "depositorname,asc" -> TRANSACTION_SORT_KEYS.by(
+                    "t.depositorName", String.class, Transaction::getDepositorName, ASC);
+            case "depositorname,desc" -> TRANSACTION_SORT_KEYS.by(
+                    "t.depositorName", String.class, Transaction::getDepositorName, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
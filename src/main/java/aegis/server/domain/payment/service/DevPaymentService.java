@@ -17,6 +17,7 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.domain.event.PaymentStatusChangedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
 import aegis.server.domain.payment.dto.request.DevPaymentCreateRequest;
 import aegis.server.domain.payment.dto.request.DevPaymentUpdateRequest;
@@ -63,6 +64,8 @@ public class DevPaymentService {
             paymentRepository.saveAndFlush(payment);
             applicationEventPublisher.publishEvent(new PaymentCompletedEvent(PaymentInfo.from(payment)));
         }
+        applicationEventPublisher.publishEvent(
+                new PaymentStatusChangedEvent(payment.getMember().getId(), payment.getYearSemester()));
 
         return DevPaymentResponse.from(payment);
     }
@@ -80,6 +83,7 @@ public class DevPaymentService {
         List<IssuedCoupon> issuedCoupons =
                 getUsableCouponsWithLock(userDetails.getMemberId(), request.issuedCouponIds());
 
+        YearSemester previousYearSemester = payment.getYearSemester();
         payment.updateForDev(request.status(), request.yearSemester());
         applyCoupons(payment, issuedCoupons);
 
@@ -88,6 +92,10 @@ public class DevPaymentService {
             paymentRepository.saveAndFlush(payment);
             applicationEventPublisher.publishEvent(new PaymentCompletedEvent(PaymentInfo.from(payment)));
         }
+        applicationEventPublisher.publishEvent(
+                new PaymentStatusChangedEvent(payment.getMember().getId(), previousYearSemester));
+        applicationEventPublisher.publishEvent(
+                new PaymentStatusChangedEvent(payment.getMember().getId(), payment.getYearSemester()));
 
         return DevPaymentResponse.from(payment);
     }
@@ -106,6 +114,8 @@ public class DevPaymentService {
         issuedCouponRepository.findAllByPaymentId(paymentId).forEach(IssuedCoupon::detachFromPayment);
 
         paymentRepository.delete(payment);
+        applicationEventPublisher.publishEvent(
+                new PaymentStatusChangedEvent(payment.getMember().getId(), payment.getYearSemester()));
     }
 
     private void validateNoPaymentInYearSemester(Long memberId, YearSemester yearSemester) {
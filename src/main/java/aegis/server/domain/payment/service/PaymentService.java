@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +18,7 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.domain.event.PaymentStatusChangedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
 import aegis.server.domain.payment.dto.request.PaymentRequest;
 import aegis.server.domain.payment.dto.response.PaymentResponse;
@@ -33,6 +36,7 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final IssuedCouponRepository issuedCouponRepository;
     private final MemberRepository memberRepository;
+    private final PaymentStatusService paymentStatusService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Value("${email-restriction.admin-email}")
@@ -43,10 +47,25 @@ public class PaymentService {
             return PaymentStatusResponse.completed();
         }
 
-        return paymentRepository
-                .findByMemberIdInCurrentYearSemester(userDetails.getMemberId())
-                .map(PaymentStatusResponse::from)
-                .orElseGet(PaymentStatusResponse::notCreated);
+        return paymentStatusService.getStatus(userDetails.getMemberId());
+    }
+
+    public DeferredResult<PaymentStatusResponse> waitPaymentStatus(UserDetails userDetails) {
+        if (userDetails.getEmail().equals(adminEmail)) {
+            DeferredResult<PaymentStatusResponse> result = new DeferredResult<>();
+            result.setResult(PaymentStatusResponse.completed());
+            return result;
+        }
+
+        return paymentStatusService.waitForCompletion(userDetails.getMemberId());
+    }
+
+    public SseEmitter streamPaymentStatus(UserDetails userDetails) {
+        if (userDetails.getEmail().equals(adminEmail)) {
+            return paymentStatusService.streamOf(PaymentStatusResponse.completed());
+        }
+
+        return paymentStatusService.stream(userDetails.getMemberId());
     }
 
     @Transactional
@@ -68,6 +87,8 @@ public class PaymentService {
             paymentRepository.saveAndFlush(payment);
             applicationEventPublisher.publishEvent(new PaymentCompletedEvent(PaymentInfo.from(payment)));
         }
+        applicationEventPublisher.publishEvent(
+                new PaymentStatusChangedEvent(payment.getMember().getId(), payment.getYearSemester()));
 
         return PaymentResponse.from(payment);
     }
@@ -86,6 +107,8 @@ public class PaymentService {
             paymentRepository.saveAndFlush(payment);
             applicationEventPublisher.publishEvent(new PaymentCompletedEvent(PaymentInfo.from(payment)));
         }
+        applicationEventPublisher.publishEvent(
+                new PaymentStatusChangedEvent(payment.getMember().getId(), payment.getYearSemester()));
 
         return PaymentResponse.from(payment);
     }
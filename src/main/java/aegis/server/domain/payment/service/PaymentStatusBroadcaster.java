@@ -0,0 +1,72 @@
+package aegis.server.domain.payment.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.payment.dto.response.PaymentCheckStatus;
+import aegis.server.domain.payment.dto.response.PaymentStatusResponse;
+
+/**
+ * 결제 완료를 이 인스턴스의 구독자에게 바로 전달하고, Redis pub/sub으로 다른 인스턴스에도 알린다. </br>
+ * 메시지는 "발행 인스턴스|회원 ID|상태|최종금액" 형식이며, 자신이 발행한 메시지는 이미 전달했으므로 무시한다.
+ */
+@Slf4j
+@Component
+public class PaymentStatusBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "payment:status:completed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PaymentStatusSubscriptions paymentStatusSubscriptions;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public PaymentStatusBroadcaster(
+            StringRedisTemplate stringRedisTemplate,
+            PaymentStatusSubscriptions paymentStatusSubscriptions,
+            @Value("${payment.status.broadcast.enabled}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.paymentStatusSubscriptions = paymentStatusSubscriptions;
+        this.enabled = enabled;
+    }
+
+    public void broadcast(Long memberId, PaymentStatusResponse status) {
+        paymentStatusSubscriptions.deliver(memberId, status);
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String message = String.join(
+                    "|", instanceId, memberId.toString(), status.status().name(), status.finalPrice().toPlainString());
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("[PaymentStatusBroadcaster] 결제 완료 알림 발행 실패: memberId={}", memberId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (fields.length != 4 || fields[0].equals(instanceId)) {
+            return;
+        }
+
+        try {
+            paymentStatusSubscriptions.deliver(
+                    Long.valueOf(fields[1]),
+                    new PaymentStatusResponse(PaymentCheckStatus.valueOf(fields[2]), new BigDecimal(fields[3])));
+        } catch (IllegalArgumentException e) {
+            log.warn("[PaymentStatusBroadcaster] 잘못된 결제 완료 알림 무시: message={}", String.join("|", fields));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package aegis.server.domain.payment.service;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.payment.dto.response.PaymentCheckStatus;
+import aegis.server.domain.payment.dto.response.PaymentStatusResponse;
+import aegis.server.domain.payment.repository.PaymentRepository;
+import aegis.server.domain.payment.repository.PaymentStatusCache;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+
+/**
+ * 현재 학기 결제 상태 조회. </br>
+ * 가입 화면의 반복 조회가 DB까지 내려가지 않도록 Redis 캐시를 먼저 보고, 캐시를 쓸 수 없으면 DB에서 바로 읽는다.
+ * 결제 완료를 기다리는 요청(long-poll, SSE)은 {@link PaymentStatusSubscriptions}에 구독해 두었다가,
+ * 어느 인스턴스에서든 결제가 완료되면 {@link PaymentStatusBroadcaster}를 통해 즉시 응답받는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PaymentStatusService {
+
+    private static final String STREAM_EVENT_NAME = "payment-status";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentStatusCache paymentStatusCache;
+    private final PaymentStatusSubscriptions paymentStatusSubscriptions;
+    private final PaymentStatusBroadcaster paymentStatusBroadcaster;
+    private final long longPollTimeoutMs;
+    private final long streamTimeoutMs;
+
+    public PaymentStatusService(
+            PaymentRepository paymentRepository,
+            PaymentStatusCache paymentStatusCache,
+            PaymentStatusSubscriptions paymentStatusSubscriptions,
+            PaymentStatusBroadcaster paymentStatusBroadcaster,
+            @Value("${payment.status.long-poll-timeout-ms}") long longPollTimeoutMs,
+            @Value("${payment.status.stream-timeout-ms}") long streamTimeoutMs) {
+        this.paymentRepository = paymentRepository;
+        this.paymentStatusCache = paymentStatusCache;
+        this.paymentStatusSubscriptions = paymentStatusSubscriptions;
+        this.paymentStatusBroadcaster = paymentStatusBroadcaster;
+        this.longPollTimeoutMs = longPollTimeoutMs;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    public PaymentStatusResponse getStatus(Long memberId) {
+        Optional<PaymentStatusResponse> cached = findCached(memberId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        PaymentStatusResponse status = load(memberId);
+        try {
+            paymentStatusCache.putIfAbsent(memberId, CURRENT_YEAR_SEMESTER, status);
+        } catch (RuntimeException e) {
+            log.warn("[PaymentStatusService] 결제 상태 캐시 저장 실패: memberId={}", memberId, e);
+        }
+        return status;
+    }
+
+    /**
+     * 결제가 바뀐 트랜잭션이 커밋된 뒤 호출되어 캐시를 DB 값으로 덮어쓰고, 완료되었다면 기다리는 요청에 알린다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void refresh(Long memberId) {
+        PaymentStatusResponse status = load(memberId);
+        try {
+            paymentStatusCache.put(memberId, CURRENT_YEAR_SEMESTER, status);
+        } catch (RuntimeException e) {
+            log.warn("[PaymentStatusService] 결제 상태 캐시 갱신 실패: memberId={}", memberId, e);
+        }
+
+        if (status.status() == PaymentCheckStatus.COMPLETED) {
+            paymentStatusBroadcaster.broadcast(memberId, status);
+        }
+    }
+
+    /**
+     * 결제가 이미 완료되었으면 바로, 아니면 완료되거나 대기 시간이 끝날 때 현재 결제 상태로 응답한다.
+     */
+    public DeferredResult<PaymentStatusResponse> waitForCompletion(Long memberId) {
+        DeferredResult<PaymentStatusResponse> result = new DeferredResult<>(longPollTimeoutMs);
+
+        // 현재 상태를 읽기 전에 구독해야 그 사이에 완료된 결제를 놓치지 않는다
+        Runnable unsubscribe = paymentStatusSubscriptions.subscribe(memberId, result::setResult);
+        result.onCompletion(unsubscribe);
+        result.onTimeout(() -> result.setResult(getStatus(memberId)));
+
+        PaymentStatusResponse current = getStatus(memberId);
+        if (current.status() == PaymentCheckStatus.COMPLETED) {
+            result.setResult(current);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 결제 상태를 보낸 뒤, 결제가 완료되면 완료 상태를 보내고 스트림을 닫는다.
+     * 스트림 시간이 끝나면 클라이언트(EventSource)가 다시 연결한다.
+     */
+    public SseEmitter stream(Long memberId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        Runnable unsubscribe = paymentStatusSubscriptions.subscribe(memberId, status -> sendLast(emitter, status));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        PaymentStatusResponse current = getStatus(memberId);
+        if (current.status() == PaymentCheckStatus.COMPLETED) {
+            sendLast(emitter, current);
+        } else {
+            send(emitter, current);
+        }
+        return emitter;
+    }
+
+    public SseEmitter streamOf(PaymentStatusResponse status) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        sendLast(emitter, status);
+        return emitter;
+    }
+
+    private void sendLast(SseEmitter emitter, PaymentStatusResponse status) {
+        if (send(emitter, status)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, PaymentStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(STREAM_EVENT_NAME).data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 닫힌 스트림
+            return false;
+        }
+    }
+
+    private Optional<PaymentStatusResponse> findCached(Long memberId) {
+        try {
+            return paymentStatusCache.find(memberId, CURRENT_YEAR_SEMESTER);
+        } catch (RuntimeException e) {
+            log.warn("[PaymentStatusService] 결제 상태 캐시 조회 실패, DB에서 조회: memberId={}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    private PaymentStatusResponse load(Long memberId) {
+        return paymentRepository
+                .findByMemberIdInCurrentYearSemester(memberId)
+                .map(PaymentStatusResponse::from)
+                .orElseGet(PaymentStatusResponse::notCreated);
+    }
+}
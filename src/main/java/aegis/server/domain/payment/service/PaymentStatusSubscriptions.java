@@ -0,0 +1,38 @@
+package aegis.server.domain.payment.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import aegis.server.domain.payment.dto.response.PaymentStatusResponse;
+
+/**
+ * 이 인스턴스에서 결제 완료를 기다리는 구독자(long-poll, SSE) 목록. </br>
+ * 결제 완료는 한 번만 일어나므로 전달한 구독자는 목록에서 제거한다.
+ */
+@Component
+public class PaymentStatusSubscriptions {
+
+    private final Map<Long, Set<Consumer<PaymentStatusResponse>>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * @return 구독 해제 동작
+     */
+    public Runnable subscribe(Long memberId, Consumer<PaymentStatusResponse> subscriber) {
+        subscribers.computeIfAbsent(memberId, ignored -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return () -> subscribers.computeIfPresent(memberId, (ignored, memberSubscribers) -> {
+            memberSubscribers.remove(subscriber);
+            return memberSubscribers.isEmpty() ? null : memberSubscribers;
+        });
+    }
+
+    public void deliver(Long memberId, PaymentStatusResponse status) {
+        Set<Consumer<PaymentStatusResponse>> memberSubscribers = subscribers.remove(memberId);
+        if (memberSubscribers != null) {
+            memberSubscribers.forEach(subscriber -> subscriber.accept(status));
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package aegis.server.domain.payment.service;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,8 +14,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import aegis.server.domain.payment.domain.Transaction;
 import aegis.server.domain.payment.domain.TransactionType;
+import aegis.server.domain.payment.domain.event.TransactionBatchCreatedEvent;
 import aegis.server.domain.payment.domain.event.TransactionCreatedEvent;
 import aegis.server.domain.payment.dto.internal.TransactionInfo;
+import aegis.server.domain.payment.dto.response.TransactionBatchResponse;
+import aegis.server.domain.payment.repository.TransactionJdbcRepository;
 import aegis.server.domain.payment.repository.TransactionRepository;
 import aegis.server.domain.payment.service.parser.TransactionParser;
 
@@ -22,7 +30,9 @@ public class TransactionService {
 
     private final TransactionParser transactionParser;
     private final TransactionRepository transactionRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
 
     @Transactional
     public void createTransaction(String transactionLog) {
@@ -36,6 +46,55 @@ public class TransactionService {
         }
     }
 
+    /**
+     * 여러 거래 내역을 한 번에 저장한다. </br>
+     * 파싱은 병렬로 수행하고, 파싱에 실패한 거래는 건너뛴 뒤 응답의 failedIndexes로 알린다.
+     * 입금 거래는 커밋 후 한 번에 결제와 대조된다.
+     */
+    @Transactional
+    public TransactionBatchResponse createTransactions(List<String> transactionLogs) {
+        List<Transaction> parsed = transactionLogs.parallelStream()
+                .map(this::parseOrNull)
+                .toList();
+
+        List<Transaction> transactions = new ArrayList<>(parsed.size());
+        List<Integer> failedIndexes = new ArrayList<>();
+        for (int i = 0; i < parsed.size(); i++) {
+            if (parsed.get(i) == null) {
+                failedIndexes.add(i);
+            } else {
+                transactions.add(parsed.get(i));
+            }
+        }
+
+        List<TransactionInfo> saved = transactionJdbcRepository.insertAll(transactions, LocalDateTime.now(clock));
+        List<TransactionInfo> deposits = saved.stream()
+                .filter(info -> info.transactionType() == TransactionType.DEPOSIT)
+                .toList();
+
+        log.info(
+                "[TransactionService] 거래 정보 일괄 저장 완료: received={}, saved={}, deposits={}, failedIndexes={}",
+                transactionLogs.size(),
+                saved.size(),
+                deposits.size(),
+                failedIndexes);
+
+        if (!deposits.isEmpty()) {
+            applicationEventPublisher.publishEvent(new TransactionBatchCreatedEvent(deposits));
+        }
+
+        return new TransactionBatchResponse(transactionLogs.size(), saved.size(), deposits.size(), failedIndexes);
+    }
+
+    private Transaction parseOrNull(String transactionLog) {
+        try {
+            return transactionParser.parse(transactionLog);
+        } catch (RuntimeException e) {
+            log.warn("[TransactionService] 거래 로그 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private void logTransactionInfo(Transaction transaction) {
         log.info(
                 "[TransactionService] 거래 정보 저장 완료: transactionId={}, type={}, name={}, amount={}",
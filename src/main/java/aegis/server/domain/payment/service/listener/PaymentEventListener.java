@@ -1,6 +1,13 @@
 package aegis.server.domain.payment.service.listener;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -17,10 +24,13 @@ import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.domain.event.MismatchEvent;
 import aegis.server.domain.payment.domain.event.NameConflictEvent;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.domain.event.TransactionBatchCreatedEvent;
 import aegis.server.domain.payment.domain.event.TransactionCreatedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.dto.internal.PendingPaymentEntry;
 import aegis.server.domain.payment.dto.internal.TransactionInfo;
 import aegis.server.domain.payment.repository.PaymentRepository;
+import aegis.server.domain.payment.service.matching.PendingPaymentIndex;
 
 @Slf4j
 @Component
@@ -28,6 +38,7 @@ import aegis.server.domain.payment.repository.PaymentRepository;
 public class PaymentEventListener {
 
     private final PaymentRepository paymentRepository;
+    private final PendingPaymentIndex pendingPaymentIndex;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -38,12 +49,55 @@ public class PaymentEventListener {
                     .findPendingPaymentForCurrentSemesterWithLock(
                             event.transactionInfo().depositorName(),
                             event.transactionInfo().amount())
-                    .ifPresentOrElse(this::processPayment, () -> handleMismatch(event.transactionInfo()));
+                    .ifPresentOrElse(this::processPayment, () -> handleUnmatched(event.transactionInfo()));
         } catch (IncorrectResultSizeDataAccessException e) {
             handleNameConflict(event.transactionInfo());
         }
     }
 
+    /**
+     * 일괄 저장된 입금들을 한 번의 조회로 대조한다. </br>
+     * 입금자명 목록에 해당하는 대기 중 결제를 모두 잠근 뒤 (입금자명, 금액)별로 묶고, 입금 순서대로 단건 처리와 같은 규칙을 적용한다.
+     * 후보가 없으면 유사 이름 매칭을 시도한 뒤 MISMATCH, 둘 이상이면 NAME_CONFLICT, 하나면 결제 완료 처리 후 후보에서 제외한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleTransactionBatchCreatedEvent(TransactionBatchCreatedEvent event) {
+        Set<String> depositorNames = event.transactionInfos().stream()
+                .map(TransactionInfo::depositorName)
+                .collect(Collectors.toSet());
+        Map<DepositKey, List<Payment>> pendingPayments =
+                paymentRepository.findAllPendingPaymentsForCurrentSemesterWithLock(depositorNames).stream()
+                        .collect(Collectors.groupingBy(
+                                payment -> DepositKey.of(payment.getMember().getName(), payment.getFinalPrice()),
+                                HashMap::new,
+                                Collectors.toCollection(ArrayList::new)));
+
+        for (TransactionInfo transactionInfo : event.transactionInfos()) {
+            DepositKey key = DepositKey.of(transactionInfo.depositorName(), transactionInfo.amount());
+            List<Payment> candidates = pendingPayments.getOrDefault(key, List.of());
+            if (candidates.isEmpty()) {
+                findSimilarPendingPayment(transactionInfo)
+                        .ifPresentOrElse(
+                                payment -> {
+                                    logSimilarMatch(transactionInfo, payment);
+                                    processPayment(payment);
+                                    excludeCandidate(pendingPayments, payment);
+                                },
+                                () -> handleMismatch(transactionInfo));
+            } else if (candidates.size() > 1) {
+                List<Long> memberIds = candidates.stream()
+                        .map(payment -> payment.getMember().getId())
+                        .toList();
+                logNameConflict(transactionInfo, memberIds);
+                applicationEventPublisher.publishEvent(new NameConflictEvent(transactionInfo, memberIds));
+            } else {
+                processPayment(candidates.getFirst());
+                pendingPayments.remove(key);
+            }
+        }
+    }
+
     private void processPayment(Payment payment) {
         logCompleted(payment);
         payment.completePayment();
@@ -51,6 +105,52 @@ public class PaymentEventListener {
         applicationEventPublisher.publishEvent(new PaymentCompletedEvent(PaymentInfo.from(payment)));
     }
 
+    private void handleUnmatched(TransactionInfo transactionInfo) {
+        findSimilarPendingPayment(transactionInfo)
+                .ifPresentOrElse(
+                        payment -> {
+                            logSimilarMatch(transactionInfo, payment);
+                            processPayment(payment);
+                        },
+                        () -> handleMismatch(transactionInfo));
+    }
+
+    /**
+     * 정확히 일치하는 결제가 없을 때 오타나 잘린 입금자명으로 유일한 대기 중 결제를 찾는다. </br>
+     * 인덱스는 인스턴스마다 메모리에 있는 사본이라 다른 인스턴스에서 생긴 결제가 늦게 반영되고 금액별로만 나뉘어 있다.
+     * 그래서 후보를 잠근 뒤, 같은 트랜잭션에서 금액과 관계없이 DB의 대기 중 결제 전체로 유일성을 다시 확인한다.
+     */
+    private Optional<Payment> findSimilarPendingPayment(TransactionInfo transactionInfo) {
+        return pendingPaymentIndex
+                .findUnambiguousMatch(transactionInfo.depositorName(), transactionInfo.amount())
+                .flatMap(paymentRepository::findByMemberIdAndCurrentYearSemesterAndStatusIsPendingWithLock)
+                .filter(payment -> isOnlySimilarPendingPayment(transactionInfo, payment));
+    }
+
+    // 입금자명과 비슷한 이름의 대기 중 결제가 정확히 하나이고, 그것이 이 결제이며 금액도 같아야 한다
+    private boolean isOnlySimilarPendingPayment(TransactionInfo transactionInfo, Payment payment) {
+        List<PendingPaymentEntry> similarEntries =
+                paymentRepository.findAllPendingPaymentEntriesForCurrentSemester().stream()
+                        .filter(entry -> PendingPaymentIndex.isSimilar(
+                                transactionInfo.depositorName(), entry.memberName()))
+                        .toList();
+        if (similarEntries.size() != 1) {
+            return false;
+        }
+
+        PendingPaymentEntry entry = similarEntries.getFirst();
+        return entry.memberId().equals(payment.getMember().getId())
+                && entry.finalPrice().compareTo(transactionInfo.amount()) == 0;
+    }
+
+    private void excludeCandidate(Map<DepositKey, List<Payment>> pendingPayments, Payment payment) {
+        DepositKey key = DepositKey.of(payment.getMember().getName(), payment.getFinalPrice());
+        pendingPayments.computeIfPresent(key, (k, candidates) -> {
+            candidates.remove(payment);
+            return candidates.isEmpty() ? null : candidates;
+        });
+    }
+
     private void handleMismatch(TransactionInfo transactionInfo) {
         logMismatch(transactionInfo);
         applicationEventPublisher.publishEvent(new MismatchEvent(transactionInfo));
@@ -75,6 +175,14 @@ public class PaymentEventListener {
                 payment.getMember().getName());
     }
 
+    private void logSimilarMatch(TransactionInfo transactionInfo, Payment payment) {
+        log.info(
+                "[PaymentEventListener][TransactionCreatedEvent] 유사 입금자명 매칭: transactionId={}, depositorName={}, memberName={}",
+                transactionInfo.id(),
+                transactionInfo.depositorName(),
+                payment.getMember().getName());
+    }
+
     private void logMismatch(TransactionInfo transactionInfo) {
         log.warn(
                 "[PaymentEventListener][TransactionCreatedEvent] 매칭되는 주문 없음: transactionId={}, depositorName={}, amount={}",
@@ -91,4 +199,12 @@ public class PaymentEventListener {
                 transactionInfo.amount(),
                 memberIds);
     }
+
+    // DB의 numeric 스케일과 파싱된 금액의 스케일이 달라도 같은 키가 되도록 정규화한다
+    private record DepositKey(String depositorName, BigDecimal amount) {
+
+        static DepositKey of(String depositorName, BigDecimal amount) {
+            return new DepositKey(depositorName, amount.stripTrailingZeros());
+        }
+    }
 }
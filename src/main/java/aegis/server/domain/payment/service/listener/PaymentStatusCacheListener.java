@@ -0,0 +1,40 @@
+package aegis.server.domain.payment.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.domain.event.PaymentStatusChangedEvent;
+import aegis.server.domain.payment.service.PaymentStatusService;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+
+/**
+ * 결제 상태 캐시 갱신. 결제 완료를 기다리는 요청에 바로 응답해야 하므로 아웃박스를 거치지 않고 커밋 직후 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentStatusCacheListener {
+
+    private final PaymentStatusService paymentStatusService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
+        refreshIfCurrent(event.paymentInfo().memberId(), event.paymentInfo().yearSemester());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentStatusChangedEvent(PaymentStatusChangedEvent event) {
+        refreshIfCurrent(event.memberId(), event.yearSemester());
+    }
+
+    private void refreshIfCurrent(Long memberId, YearSemester yearSemester) {
+        if (yearSemester == CURRENT_YEAR_SEMESTER) {
+            paymentStatusService.refresh(memberId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package aegis.server.domain.payment.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.domain.event.PaymentStatusChangedEvent;
+import aegis.server.domain.payment.service.matching.PendingPaymentIndex;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+
+/**
+ * 입금자명 매칭 인덱스 증분 갱신. 다음 입금 대조 전에 반영되어야 하므로 아웃박스를 거치지 않고 커밋 직후 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingPaymentIndexListener {
+
+    private final PendingPaymentIndex pendingPaymentIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
+        pendingPaymentIndex.remove(event.paymentInfo().memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentStatusChangedEvent(PaymentStatusChangedEvent event) {
+        if (event.yearSemester() == CURRENT_YEAR_SEMESTER) {
+            pendingPaymentIndex.refresh(event.memberId());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package aegis.server.domain.payment.service.matching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-트리. </br>
+ * 각 노드의 자식은 부모와의 거리로 구분되므로, 삼각 부등식에 따라 [d - maxDistance, d + maxDistance] 거리의 자식만 내려가며 찾는다.
+ * 값 제거는 노드를 남겨 두고 값만 지우므로, 제거가 쌓이면 새로 만들어 정리한다.
+ */
+class BkTree<V> {
+
+    private Node<V> root;
+
+    void add(String key, V value) {
+        if (root == null) {
+            root = new Node<>(key);
+            root.values.add(value);
+            return;
+        }
+
+        Node<V> node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.values.add(value);
+                return;
+            }
+            Node<V> child = node.children.get(distance);
+            if (child == null) {
+                Node<V> created = new Node<>(key);
+                created.values.add(value);
+                node.children.put(distance, created);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    void remove(String key, V value) {
+        Node<V> node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.values.remove(value);
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    List<Match<V>> search(String query, int maxDistance) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<V> node = stack.pop();
+            int distance = distance(query, node.key);
+            if (distance <= maxDistance && !node.values.isEmpty()) {
+                matches.add(new Match<>(node.key, distance, List.copyOf(node.values)));
+            }
+            for (Map.Entry<Integer, Node<V>> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    record Match<V>(String key, int distance, List<V> values) {}
+
+    private static final class Node<V> {
+
+        private final String key;
+        private final Set<V> values = new LinkedHashSet<>();
+        private final Map<Integer, Node<V>> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package aegis.server.domain.payment.service.matching;
+
+/**
+ * 이름 비교를 위해 한글 음절을 초성, 중성, 종성 자모로 분해한다. </br>
+ * "홍길둥"과 "홍길동"처럼 한 음절 안의 오타가 음절 단위로는 한 글자 전체의 차이지만, 자모 단위로는 한 글자의 차이가 된다.
+ * 공백은 제거하고 영문은 소문자로 바꾼다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 첫 글자는 종성 없음
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulJamo() {}
+
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(CHOSEONG.charAt(index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                builder.append(JUNGSEONG.charAt(index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT));
+                int jongseong = index % JONGSEONG_COUNT;
+                if (jongseong != 0) {
+                    builder.append(JONGSEONG.charAt(jongseong));
+                }
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+}
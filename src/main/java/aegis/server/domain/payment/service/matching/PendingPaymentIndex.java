@@ -0,0 +1,127 @@
+package aegis.server.domain.payment.service.matching;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.payment.dto.internal.PendingPaymentEntry;
+import aegis.server.domain.payment.repository.PaymentRepository;
+
+/**
+ * 현재 학기 대기 중 결제의 입금자명 유사 매칭 인덱스. </br>
+ * 금액별로 자모 분해한 이름의 BK-트리(오타)와 정렬 맵(은행에서 잘린 이름의 앞부분 일치)을 유지한다.
+ * 후보 회원이 정확히 한 명일 때만 매칭 결과를 돌려주며, 호출 측은 잠금을 잡은 결제로 다시 검증해야 한다.
+ * 인스턴스마다 메모리에 두는 인덱스이므로 결제 이벤트로 증분 갱신하고, 주기적으로 DB에서 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPaymentIndex {
+
+    // 자모 기준 최소 길이. 한 음절짜리 앞부분 일치는 후보가 너무 많다
+    private static final int MIN_PREFIX_LENGTH = 4;
+    private static final int LONG_NAME_LENGTH = 8;
+
+    private final PaymentRepository paymentRepository;
+
+    private final Map<BigDecimal, Bucket> buckets = new HashMap<>();
+    private final Map<Long, IndexedEntry> entries = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${payment.matching.rebuild-interval-ms}")
+    public void rebuild() {
+        List<PendingPaymentEntry> pendingEntries = paymentRepository.findAllPendingPaymentEntriesForCurrentSemester();
+        synchronized (this) {
+            buckets.clear();
+            entries.clear();
+            pendingEntries.forEach(this::add);
+        }
+        log.debug("[PendingPaymentIndex] 입금자명 매칭 인덱스 재구성: size={}", pendingEntries.size());
+    }
+
+    public void refresh(Long memberId) {
+        Optional<PendingPaymentEntry> entry = paymentRepository.findPendingPaymentEntryForCurrentSemester(memberId);
+        synchronized (this) {
+            removeEntry(memberId);
+            entry.ifPresent(this::add);
+        }
+    }
+
+    public synchronized void remove(Long memberId) {
+        removeEntry(memberId);
+    }
+
+    public synchronized Optional<Long> findUnambiguousMatch(String depositorName, BigDecimal amount) {
+        Bucket bucket = buckets.get(amount.stripTrailingZeros());
+        String query = HangulJamo.decompose(depositorName);
+        if (bucket == null || query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        bucket.tree.search(query, maxDistance(query)).forEach(match -> candidates.addAll(match.values()));
+        if (query.length() >= MIN_PREFIX_LENGTH) {
+            bucket.names.subMap(query, true, query + Character.MAX_VALUE, false).values().forEach(candidates::addAll);
+        }
+        return candidates.size() == 1 ? Optional.of(candidates.iterator().next()) : Optional.empty();
+    }
+
+    /**
+     * 인덱스와 같은 기준으로 입금자명이 회원 이름과 비슷한지 판단한다.
+     */
+    public static boolean isSimilar(String depositorName, String memberName) {
+        String query = HangulJamo.decompose(depositorName);
+        String name = HangulJamo.decompose(memberName);
+        if (query.isEmpty()) {
+            return false;
+        }
+        return BkTree.distance(query, name) <= maxDistance(query)
+                || (query.length() >= MIN_PREFIX_LENGTH && name.startsWith(query));
+    }
+
+    private static int maxDistance(String jamo) {
+        return jamo.length() < LONG_NAME_LENGTH ? 1 : 2;
+    }
+
+    private void add(PendingPaymentEntry entry) {
+        String name = HangulJamo.decompose(entry.memberName());
+        BigDecimal amount = entry.finalPrice().stripTrailingZeros();
+        Bucket bucket = buckets.computeIfAbsent(amount, key -> new Bucket());
+        bucket.tree.add(name, entry.memberId());
+        bucket.names.computeIfAbsent(name, key -> new HashSet<>()).add(entry.memberId());
+        entries.put(entry.memberId(), new IndexedEntry(name, amount));
+    }
+
+    private void removeEntry(Long memberId) {
+        IndexedEntry entry = entries.remove(memberId);
+        if (entry == null) {
+            return;
+        }
+
+        Bucket bucket = buckets.get(entry.amount());
+        bucket.tree.remove(entry.name(), memberId);
+        Set<Long> memberIds = bucket.names.get(entry.name());
+        memberIds.remove(memberId);
+        if (memberIds.isEmpty()) {
+            bucket.names.remove(entry.name());
+        }
+    }
+
+    private record IndexedEntry(String name, BigDecimal amount) {}
+
+    private static final class Bucket {
+
+        private final BkTree<Long> tree = new BkTree<>();
+        private final TreeMap<String, Set<Long>> names = new TreeMap<>();
+    }
+}
@@ -0,0 +1,19 @@
+package aegis.server.domain.payment.service.outbox;
+
+import org.springframework.util.ClassUtils;
+
+import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+
+/**
+ * 결제 완료 후속 처리기. {@link PaymentOutboxProcessor}가 아웃박스를 처리하며 호출한다. </br>
+ * 처리기 이름은 아웃박스에 성공 기록으로 저장되므로 바뀌지 않아야 한다.
+ * 재시도될 수 있으므로 같은 결제에 대해 여러 번 호출되어도 결과가 같아야 하며, 실패는 예외로 알린다.
+ */
+public interface PaymentCompletedEventHandler {
+
+    void handlePaymentCompletedEvent(PaymentCompletedEvent event);
+
+    default String handlerName() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+}
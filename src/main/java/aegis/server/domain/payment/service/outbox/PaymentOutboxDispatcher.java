@@ -0,0 +1,87 @@
+package aegis.server.domain.payment.service.outbox;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.payment.domain.PaymentOutboxStatus;
+import aegis.server.domain.payment.domain.event.PaymentOutboxRecordedEvent;
+import aegis.server.domain.payment.repository.PaymentOutboxRepository;
+
+/**
+ * 아웃박스를 동시성이 제한된 실행기로 처리한다. </br>
+ * 기록된 아웃박스는 커밋 직후 바로 처리를 시도하고, 실행기가 가득 찼거나 실패해 재시도가 필요한 건은 주기적인 폴링이 다시 넘긴다.
+ * 이미 실행기에 넘긴 아웃박스는 중복으로 넘기지 않는다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxDispatcher {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentOutboxProcessor paymentOutboxProcessor;
+    private final Executor executor;
+    private final Clock clock;
+    private final int batchSize;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PaymentOutboxDispatcher(
+            PaymentOutboxRepository paymentOutboxRepository,
+            PaymentOutboxProcessor paymentOutboxProcessor,
+            @Qualifier("paymentOutboxTaskExecutor") Executor executor,
+            Clock clock,
+            @Value("${payment.outbox.batch-size}") int batchSize) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.paymentOutboxProcessor = paymentOutboxProcessor;
+        this.executor = executor;
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentOutboxRecordedEvent(PaymentOutboxRecordedEvent event) {
+        submit(event.outboxId());
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms}")
+    public void dispatchDue() {
+        List<Long> dueIds = paymentOutboxRepository.findDueIds(
+                PaymentOutboxStatus.PENDING, LocalDateTime.now(clock), PageRequest.of(0, batchSize));
+        dueIds.forEach(this::submit);
+    }
+
+    private void submit(Long outboxId) {
+        if (!inFlight.add(outboxId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    paymentOutboxProcessor.process(outboxId);
+                } catch (RuntimeException e) {
+                    log.error("[PaymentOutboxDispatcher] 아웃박스 처리 실패: outboxId={}", outboxId, e);
+                } finally {
+                    inFlight.remove(outboxId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다음 폴링 주기에 다시 넘긴다
+            inFlight.remove(outboxId);
+            log.debug("[PaymentOutboxDispatcher] 실행기가 가득 차 다음 주기로 미룸: outboxId={}", outboxId);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package aegis.server.domain.payment.service.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.payment.domain.PaymentOutbox;
+import aegis.server.domain.payment.domain.PaymentOutboxStatus;
+import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.repository.PaymentOutboxRepository;
+
+/**
+ * 아웃박스 한 건을 처리한다. </br>
+ * 행을 SKIP LOCKED로 잡으므로 같은 아웃박스를 여러 워커가 동시에 처리하지 않는다.
+ * 각 처리기는 자신의 트랜잭션에서 실행되며, 성공한 처리기는 기록해 두고 실패한 처리기부터 지수 백오프로 재시도한다. </br>
+ * 처리기 간 순서 의존(역할 승격 후 세션 갱신 등)이 있으므로, 처리기가 실패하면 뒤의 처리기는 실행하지 않고 재시도로 넘긴다.
+ */
+@Slf4j
+@Service
+public class PaymentOutboxProcessor {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final List<PaymentCompletedEventHandler> handlers;
+    private final Clock clock;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public PaymentOutboxProcessor(
+            PaymentOutboxRepository paymentOutboxRepository,
+            List<PaymentCompletedEventHandler> handlers,
+            Clock clock,
+            @Value("${payment.outbox.retry.max-attempts}") int maxAttempts,
+            @Value("${payment.outbox.retry.initial-backoff-ms}") long initialBackoffMs,
+            @Value("${payment.outbox.retry.max-backoff-ms}") long maxBackoffMs) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.handlers = handlers;
+        this.clock = clock;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+    }
+
+    // 커밋 직후 호출될 수 있으므로 항상 새 트랜잭션에서 처리
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void process(Long outboxId) {
+        PaymentOutbox outbox = paymentOutboxRepository.findByIdForDispatch(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != PaymentOutboxStatus.PENDING) {
+            return;
+        }
+
+        PaymentCompletedEvent event = new PaymentCompletedEvent(PaymentInfo.from(outbox));
+        String lastError = null;
+        for (PaymentCompletedEventHandler handler : handlers) {
+            String handlerName = handler.handlerName();
+            if (outbox.isHandled(handlerName)) {
+                continue;
+            }
+
+            try {
+                handler.handlePaymentCompletedEvent(event);
+                outbox.markHandled(handlerName);
+            } catch (RuntimeException e) {
+                lastError = handlerName + ": " + e.getMessage();
+                log.warn(
+                        "[PaymentOutboxProcessor] 결제 완료 후속 처리 실패: outboxId={}, paymentId={}, handler={}",
+                        outbox.getId(),
+                        outbox.getPaymentId(),
+                        handlerName,
+                        e);
+                break;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (lastError == null) {
+            outbox.markDispatched(now);
+            return;
+        }
+
+        outbox.markFailed(lastError, now.plus(backoff(outbox.getAttempts() + 1)), maxAttempts);
+        if (outbox.getStatus() == PaymentOutboxStatus.FAILED) {
+            log.error(
+                    "[PaymentOutboxProcessor] 최대 재시도 횟수 초과로 후속 처리 중단: outboxId={}, paymentId={}, attempts={}, error={}",
+                    outbox.getId(),
+                    outbox.getPaymentId(),
+                    outbox.getAttempts(),
+                    lastError);
+        }
+    }
+
+    // attempt번째 실패 후 대기 시간: initialBackoff * 2^(attempt-1), 최대 maxBackoff
+    private Duration backoff(int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
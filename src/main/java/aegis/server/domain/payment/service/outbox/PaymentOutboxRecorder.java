@@ -0,0 +1,39 @@
+package aegis.server.domain.payment.service.outbox;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.payment.domain.PaymentOutbox;
+import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.domain.event.PaymentOutboxRecordedEvent;
+import aegis.server.domain.payment.repository.PaymentOutboxRepository;
+
+/**
+ * 결제 완료 이벤트를 결제 완료와 같은 트랜잭션에서 아웃박스에 기록한다. </br>
+ * 결제 완료가 롤백되면 아웃박스도 함께 롤백되고, 커밋되면 서버가 내려가더라도 후속 처리가 유실되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRecorder {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
+        PaymentOutbox outbox =
+                paymentOutboxRepository.save(PaymentOutbox.of(event.paymentInfo(), LocalDateTime.now(clock)));
+
+        applicationEventPublisher.publishEvent(new PaymentOutboxRecordedEvent(outbox.getId()));
+    }
+}
@@ -0,0 +1,8 @@
+package aegis.server.domain.payment.service.parser;
+
+import java.util.List;
+
+/**
+ * 은행 하나의 거래 내역 파서와, 그 은행 문자의 첫 줄이 시작하는 머리말 목록
+ */
+public record BankParser(String bank, List<String> signatures, TransactionParser parser) {}
@@ -0,0 +1,210 @@
+package aegis.server.domain.payment.service.parser;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.payment.domain.Transaction;
+import aegis.server.domain.payment.domain.TransactionType;
+
+/**
+ * {@link IbkTransactionParser}와 같은 형식을 정규식, split, 날짜 포매터 없이 한 번의 순회로 파싱한다. </br>
+ * 금액과 시각은 문자를 직접 읽어 숫자로 변환하므로 중간 문자열을 만들지 않으며, 새로 만드는 문자열은 입금자명 하나뿐이다.
+ * 날짜 보정 규칙(존재하지 않는 일자는 그 달의 마지막 날, 24:00은 다음 날 0시)은 기존 파서의 SMART 해석과 같다.
+ */
+@RequiredArgsConstructor
+public class IbkSinglePassTransactionParser implements TransactionParser {
+
+    private static final String TYPE_AMOUNT_NAME_ERROR = "거래유형, 거래금액, 이름을 추출할 수 없습니다";
+    private static final String TIME_BALANCE_ERROR = "거래시간, 잔액을 추출할 수 없습니다";
+    private static final int MAX_AMOUNT_DIGITS = 18;
+
+    private final Clock clock;
+
+    @Override
+    public Transaction parse(String transactionLog) {
+        Scanner scanner = new Scanner(transactionLog);
+
+        // 1. 첫번째 줄: [입금|출금] 금액원 이름
+        scanner.limitToLine();
+        TransactionType transactionType = scanner.readTransactionType();
+        scanner.skipWhitespace();
+        long amount = scanner.readAmount(TYPE_AMOUNT_NAME_ERROR);
+        scanner.expect('원', TYPE_AMOUNT_NAME_ERROR);
+        scanner.skipWhitespace();
+        String name = scanner.readRestOfLine();
+
+        // 2. 두번째 줄(계좌번호)은 건너뛰고 세번째 줄: MM/dd HH:mm / 잔액 금액원
+        if (!scanner.nextLine() || !scanner.nextLine()) {
+            throw new IllegalArgumentException(TIME_BALANCE_ERROR);
+        }
+        scanner.limitToLine();
+        int month = scanner.readTwoDigits();
+        scanner.expect('/', TIME_BALANCE_ERROR);
+        int day = scanner.readTwoDigits();
+        if (!scanner.skipWhitespace()) {
+            throw new IllegalArgumentException(TIME_BALANCE_ERROR);
+        }
+        int hour = scanner.readTwoDigits();
+        scanner.expect(':', TIME_BALANCE_ERROR);
+        int minute = scanner.readTwoDigits();
+        scanner.skipWhitespace();
+        scanner.expect('/', TIME_BALANCE_ERROR);
+        scanner.skipWhitespace();
+        scanner.expect('잔', TIME_BALANCE_ERROR);
+        scanner.expect('액', TIME_BALANCE_ERROR);
+        scanner.skipWhitespace();
+        long balance = scanner.readAmount(TIME_BALANCE_ERROR);
+        scanner.expect('원', TIME_BALANCE_ERROR);
+        if (!scanner.atLineEnd()) {
+            throw new IllegalArgumentException(TIME_BALANCE_ERROR);
+        }
+
+        LocalDateTime currentTime = LocalDateTime.now(clock);
+        LocalDateTime parsedTime = toDateTime(currentTime.getYear(), month, day, hour, minute);
+
+        // IBK의 경우 거래 내역에 년도 정보가 없으므로 파싱된 시각이 현재 시각보다 미래라면 작년으로 간주
+        LocalDateTime transactionTime = parsedTime.isAfter(currentTime) ? parsedTime.minusYears(1) : parsedTime;
+
+        return Transaction.of(
+                transactionTime, name, transactionType, BigDecimal.valueOf(amount), BigDecimal.valueOf(balance));
+    }
+
+    private LocalDateTime toDateTime(int year, int month, int day, int hour, int minute) {
+        boolean invalidDate = month < 1 || month > 12 || day < 1 || day > 31;
+        boolean invalidTime = minute > 59 || hour > 24 || (hour == 24 && minute != 0);
+        if (invalidDate || invalidTime) {
+            throw new IllegalArgumentException(TIME_BALANCE_ERROR);
+        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDateTime startOfDay = yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth())).atStartOfDay();
+        return hour == 24 ? startOfDay.plusDays(1) : startOfDay.withHour(hour).withMinute(minute);
+    }
+
+    private static final class Scanner {
+
+        private final String log;
+        private int position;
+        private int lineEnd;
+
+        private Scanner(String log) {
+            this.log = log;
+        }
+
+        void limitToLine() {
+            int newline = log.indexOf('\n', position);
+            lineEnd = newline < 0 ? log.length() : newline;
+        }
+
+        boolean nextLine() {
+            int newline = log.indexOf('\n', position);
+            if (newline < 0) {
+                return false;
+            }
+            position = newline + 1;
+            return true;
+        }
+
+        boolean atLineEnd() {
+            return position == lineEnd;
+        }
+
+        TransactionType readTransactionType() {
+            expect('[', TYPE_AMOUNT_NAME_ERROR);
+            TransactionType transactionType;
+            if (log.startsWith("입금", position)) {
+                transactionType = TransactionType.DEPOSIT;
+            } else if (log.startsWith("출금", position)) {
+                transactionType = TransactionType.WITHDRAWAL;
+            } else {
+                throw new IllegalArgumentException(TYPE_AMOUNT_NAME_ERROR);
+            }
+            position += 2;
+            expect(']', TYPE_AMOUNT_NAME_ERROR);
+            return transactionType;
+        }
+
+        /**
+         * 숫자와 쉼표로 이루어진 금액을 읽는다.
+         */
+        long readAmount(String errorMessage) {
+            long value = 0;
+            int digits = 0;
+            int start = position;
+            while (position < lineEnd) {
+                char c = log.charAt(position);
+                if (c >= '0' && c <= '9') {
+                    if (++digits > MAX_AMOUNT_DIGITS) {
+                        throw new IllegalArgumentException(errorMessage);
+                    }
+                    value = value * 10 + (c - '0');
+                } else if (c != ',') {
+                    break;
+                }
+                position++;
+            }
+            if (digits == 0 || position == start) {
+                throw new IllegalArgumentException(errorMessage);
+            }
+            return value;
+        }
+
+        int readTwoDigits() {
+            if (position + 2 > lineEnd) {
+                throw new IllegalArgumentException(TIME_BALANCE_ERROR);
+            }
+            char tens = log.charAt(position);
+            char ones = log.charAt(position + 1);
+            if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+                throw new IllegalArgumentException(TIME_BALANCE_ERROR);
+            }
+            position += 2;
+            return (tens - '0') * 10 + (ones - '0');
+        }
+
+        String readRestOfLine() {
+            if (position == lineEnd) {
+                throw new IllegalArgumentException(TYPE_AMOUNT_NAME_ERROR);
+            }
+            for (int i = position; i < lineEnd; i++) {
+                if (isLineTerminator(log.charAt(i))) {
+                    throw new IllegalArgumentException(TYPE_AMOUNT_NAME_ERROR);
+                }
+            }
+            String rest = log.substring(position, lineEnd);
+            position = lineEnd;
+            return rest;
+        }
+
+        void expect(char expected, String errorMessage) {
+            if (position >= lineEnd || log.charAt(position) != expected) {
+                throw new IllegalArgumentException(errorMessage);
+            }
+            position++;
+        }
+
+        /**
+         * @return 공백을 하나 이상 건너뛰었는지 여부
+         */
+        boolean skipWhitespace() {
+            int start = position;
+            while (position < lineEnd && isWhitespace(log.charAt(position))) {
+                position++;
+            }
+            return position > start;
+        }
+
+        // 정규식 \s와 같은 문자 집합
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\r' || c == '\f' || c == '\u000B';
+        }
+
+        // 정규식 .이 매칭하지 않는 줄 종결 문자
+        private static boolean isLineTerminator(char c) {
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package aegis.server.domain.payment.service.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import aegis.server.domain.payment.domain.Transaction;
+
+/**
+ * 여러 은행의 거래 내역 파서를 등록해 두고, 첫 줄의 머리말로 은행을 판별하여 해당 파서에 위임한다. </br>
+ * 생성 시 모든 머리말로 트라이를 만들어 두므로 판별 비용은 등록된 은행 수와 무관하게 가장 긴 머리말 길이에 비례한다.
+ * 여러 머리말이 겹치면 가장 길게 일치하는 머리말의 은행을 선택한다.
+ * 파싱 시간과 실패는 은행별로, 판별하지 못한 문자는 별도로 기록한다.
+ */
+public class TransactionParserRegistry implements TransactionParser {
+
+    static final String PARSE_METRIC_NAME = "payment.transaction.parse";
+    static final String UNKNOWN_FORMAT_METRIC_NAME = "payment.transaction.parse.unknown";
+
+    private final TrieNode root = new TrieNode();
+    private final Counter unknownFormatCounter;
+
+    public TransactionParserRegistry(List<BankParser> bankParsers, MeterRegistry meterRegistry) {
+        if (bankParsers.isEmpty()) {
+            throw new IllegalStateException("등록된 은행 파서가 없습니다");
+        }
+        for (BankParser bankParser : bankParsers) {
+            Route route = new Route(
+                    bankParser.bank(),
+                    bankParser.parser(),
+                    parseTimer(meterRegistry, bankParser.bank(), "success"),
+                    parseTimer(meterRegistry, bankParser.bank(), "failure"));
+            for (String signature : bankParser.signatures()) {
+                register(signature, route);
+            }
+        }
+        this.unknownFormatCounter = meterRegistry.counter(UNKNOWN_FORMAT_METRIC_NAME);
+    }
+
+    @Override
+    public Transaction parse(String transactionLog) {
+        Route route = detect(transactionLog);
+        if (route == null) {
+            unknownFormatCounter.increment();
+            throw new IllegalArgumentException("지원하지 않는 거래 내역 형식입니다");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Transaction transaction = route.parser().parse(transactionLog);
+            route.successTimer().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return transaction;
+        } catch (RuntimeException e) {
+            route.failureTimer().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * 첫 줄을 트라이에 따라 내려가며 가장 길게 일치한 머리말의 은행을 찾는다.
+     */
+    String detectBank(String transactionLog) {
+        Route route = detect(transactionLog);
+        return route == null ? null : route.bank();
+    }
+
+    private Route detect(String transactionLog) {
+        Route matched = null;
+        TrieNode node = root;
+        for (int i = 0; i < transactionLog.length(); i++) {
+            char c = transactionLog.charAt(i);
+            if (c == '\n') {
+                break;
+            }
+            node = node.child(c);
+            if (node == null) {
+                break;
+            }
+            if (node.route != null) {
+                matched = node.route;
+            }
+        }
+        return matched;
+    }
+
+    private void register(String signature, Route route) {
+        if (signature.isEmpty() || signature.indexOf('\n') >= 0) {
+            throw new IllegalStateException("머리말은 비어 있지 않은 한 줄이어야 합니다: " + route.bank());
+        }
+        TrieNode node = root;
+        for (int i = 0; i < signature.length(); i++) {
+            node = node.childOrCreate(signature.charAt(i));
+        }
+        if (node.route != null && !node.route.bank().equals(route.bank())) {
+            throw new IllegalStateException(
+                    "머리말이 중복됩니다: " + signature + " (" + node.route.bank() + ", " + route.bank() + ")");
+        }
+        node.route = route;
+    }
+
+    private Timer parseTimer(MeterRegistry meterRegistry, String bank, String result) {
+        return Timer.builder(PARSE_METRIC_NAME).tag("bank", bank).tag("result", result).register(meterRegistry);
+    }
+
+    private record Route(String bank, TransactionParser parser, Timer successTimer, Timer failureTimer) {}
+
+    // 자식은 문자 순으로 정렬된 배열에 두어 이진 탐색하고, 문자를 박싱하지 않는다
+    private static final class TrieNode {
+
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private Route route;
+
+        private TrieNode child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        private TrieNode childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            TrieNode created = new TrieNode();
+            char[] newKeys = new char[keys.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = created;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+    }
+}
@@ -52,13 +52,14 @@ public class AdminPointController {
     public ResponseEntity<AdminPointLedgerPageResponse> getLedger(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String memberKeyword,
             @RequestParam(required = false) PointTransactionType transactionType,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(required = false) String sort) {
         AdminPointLedgerPageResponse response =
-                adminPointService.getLedger(page, size, memberKeyword, transactionType, from, to, sort);
+                adminPointService.getLedger(page, size, cursor, memberKeyword, transactionType, from, to, sort);
         return ResponseEntity.ok(response);
     }
 
@@ -6,13 +6,19 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 
+import aegis.server.domain.point.dto.response.PointHistoryPageResponse;
 import aegis.server.domain.point.dto.response.PointRankingListResponse;
 import aegis.server.domain.point.dto.response.PointSummaryResponse;
 import aegis.server.domain.point.service.PointService;
@@ -20,6 +26,7 @@ import aegis.server.global.security.annotation.LoginUser;
 import aegis.server.global.security.oidc.UserDetails;
 
 @Tag(name = "Point", description = "포인트 관리 API")
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/points")
@@ -29,7 +36,7 @@ public class PointController {
 
     @Operation(
             summary = "포인트 요약 조회",
-            description = "로그인한 사용자의 포인트 요약 정보를 조회합니다.",
+            description = "로그인한 사용자의 포인트 잔액과 최근 거래 내역을 조회합니다. 이후 내역은 nextCursor로 거래 내역 조회 API를 호출합니다.",
             responses = {
                 @ApiResponse(responseCode = "200", description = "포인트 요약 조회 성공"),
                 @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
@@ -42,6 +49,24 @@ public class PointController {
         return ResponseEntity.ok(pointSummary);
     }
 
+    @Operation(
+            summary = "포인트 거래 내역 조회",
+            description = "로그인한 사용자의 포인트 거래 내역을 최신순으로 조회합니다. cursor를 생략하면 첫 페이지를, 지정하면 해당 거래 ID 이전의 내역을 조회합니다.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "포인트 거래 내역 조회 성공"),
+                @ApiResponse(responseCode = "400", description = "잘못된 조회 조건", content = @Content),
+                @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+                @ApiResponse(responseCode = "404", description = "사용자 정보를 찾을 수 없음", content = @Content)
+            })
+    @GetMapping("/history")
+    public ResponseEntity<PointHistoryPageResponse> getPointHistory(
+            @Parameter(hidden = true) @LoginUser UserDetails userDetails,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size) {
+        PointHistoryPageResponse pointHistory = pointService.getPointHistory(userDetails, cursor, size);
+        return ResponseEntity.ok(pointHistory);
+    }
+
     @Operation(
             summary = "포인트 랭킹 조회",
             description =
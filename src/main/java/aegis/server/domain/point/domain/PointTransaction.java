@@ -15,6 +15,11 @@ import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
 @Table(
         uniqueConstraints = {
             @UniqueConstraint(name = "uk_point_transaction_idempotency_key", columnNames = "idempotency_key")
+        },
+        indexes = {
+            @Index(
+                    name = "idx_point_transaction_account_id_desc",
+                    columnList = "point_account_id, point_transaction_id DESC")
         })
 @Getter
 @Builder(access = AccessLevel.PRIVATE)
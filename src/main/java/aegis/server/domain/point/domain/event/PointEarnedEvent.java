@@ -0,0 +1,5 @@
+package aegis.server.domain.point.domain.event;
+
+import java.math.BigDecimal;
+
+public record PointEarnedEvent(Long memberId, BigDecimal amount) {}
@@ -2,9 +2,8 @@ package aegis.server.domain.point.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
 import aegis.server.domain.point.domain.PointTransaction;
+import aegis.server.global.paging.KeysetPage;
 
 public record AdminPointLedgerPageResponse(
         List<AdminPointLedgerItemResponse> content,
@@ -12,17 +11,19 @@ public record AdminPointLedgerPageResponse(
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext) {
+        boolean hasNext,
+        String nextCursor) {
 
-    public static AdminPointLedgerPageResponse from(Page<PointTransaction> ledgerPage) {
+    public static AdminPointLedgerPageResponse from(KeysetPage<PointTransaction> ledgerPage) {
         return new AdminPointLedgerPageResponse(
-                ledgerPage.getContent().stream()
+                ledgerPage.content().stream()
                         .map(AdminPointLedgerItemResponse::from)
                         .toList(),
-                ledgerPage.getNumber(),
-                ledgerPage.getSize(),
-                ledgerPage.getTotalElements(),
-                ledgerPage.getTotalPages(),
-                ledgerPage.hasNext());
+                ledgerPage.page(),
+                ledgerPage.size(),
+                ledgerPage.totalElements(),
+                ledgerPage.totalPages(),
+                ledgerPage.hasNext(),
+                ledgerPage.nextCursor());
     }
 }
@@ -0,0 +1,19 @@
+package aegis.server.domain.point.dto.response;
+
+import java.util.List;
+
+import aegis.server.domain.point.domain.PointTransaction;
+
+public record PointHistoryPageResponse(List<PointTransactionResponse> history, Long nextCursor) {
+
+    /**
+     * @param transactions size + 1개까지 조회한 결과. size보다 많으면 다음 페이지가 있는 것으로 보고 마지막 행은 버린다.
+     */
+    public static PointHistoryPageResponse of(List<PointTransaction> transactions, int size) {
+        boolean hasNext = transactions.size() > size;
+        List<PointTransaction> page = hasNext ? transactions.subList(0, size) : transactions;
+        return new PointHistoryPageResponse(
+                page.stream().map(PointTransactionResponse::from).toList(),
+                hasNext ? page.getLast().getId() : null);
+    }
+}
@@ -6,10 +6,8 @@ import java.util.List;
 import aegis.server.domain.point.domain.PointAccount;
 import aegis.server.domain.point.domain.PointTransaction;
 
-public record PointSummaryResponse(BigDecimal balance, List<PointTransactionResponse> history) {
-    public static PointSummaryResponse from(PointAccount account, List<PointTransaction> transactions) {
-        return new PointSummaryResponse(
-                account.getBalance(),
-                transactions.stream().map(PointTransactionResponse::from).toList());
+public record PointSummaryResponse(BigDecimal balance, List<PointTransactionResponse> history, Long nextCursor) {
+    public static PointSummaryResponse from(PointAccount account, PointHistoryPageResponse recentHistory) {
+        return new PointSummaryResponse(account.getBalance(), recentHistory.history(), recentHistory.nextCursor());
     }
 }
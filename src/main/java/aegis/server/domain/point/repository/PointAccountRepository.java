@@ -1,12 +1,11 @@
 package aegis.server.domain.point.repository;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.LockModeType;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -27,18 +26,13 @@ public interface PointAccountRepository extends JpaRepository<PointAccount, Long
     @Query("SELECT pa FROM PointAccount pa WHERE pa.id = :id")
     Optional<PointAccount> findByIdWithLock(Long id);
 
-    @Query("SELECT pa FROM PointAccount pa JOIN FETCH pa.member "
+    // 여러 계좌를 잠글 때는 데드락 방지를 위해 항상 ID 오름차순으로 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pa FROM PointAccount pa WHERE pa.id IN :ids ORDER BY pa.id ASC")
+    List<PointAccount> findAllByIdInWithLock(Collection<Long> ids);
+
+    @Query("SELECT pa.id AS memberId, pa.totalEarned AS totalEarned FROM PointAccount pa "
             + "WHERE pa.member.role <> :excludedRole "
-            + "AND EXISTS (SELECT 1 FROM Payment p WHERE p.member = pa.member AND p.yearSemester = :yearSemester AND p.status = :status) "
-            + "ORDER BY pa.totalEarned DESC")
-    List<PointAccount> findTopByEligibleExcludingRole(
-            YearSemester yearSemester, PaymentStatus status, Role excludedRole, Pageable pageable);
-
-    @Query(
-            "SELECT COUNT(pa) FROM PointAccount pa "
-                    + "WHERE pa.totalEarned > :totalEarnedThreshold "
-                    + "AND pa.member.role <> :excludedRole "
-                    + "AND EXISTS (SELECT 1 FROM Payment p WHERE p.member = pa.member AND p.yearSemester = :yearSemester AND p.status = :status)")
-    long countEligibleWithTotalEarnedGreaterThanExcludingRole(
-            YearSemester yearSemester, PaymentStatus status, Role excludedRole, BigDecimal totalEarnedThreshold);
+            + "AND EXISTS (SELECT 1 FROM Payment p WHERE p.member = pa.member AND p.yearSemester = :yearSemester AND p.status = :status)")
+    List<PointRankingRow> findAllEligibleForRanking(YearSemester yearSemester, PaymentStatus status, Role excludedRole);
 }
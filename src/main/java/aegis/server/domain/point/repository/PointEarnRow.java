@@ -0,0 +1,7 @@
+package aegis.server.domain.point.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PointEarnRow(
+        Long pointAccountId, BigDecimal amount, String reason, String idempotencyKey, LocalDateTime createdAt) {}
@@ -0,0 +1,14 @@
+package aegis.server.domain.point.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 적립 INSERT 결과 </br>
+ * 멱등키 충돌로 INSERT되지 않았으면 transactionId가 null이며, balance는 계좌의 현재 잔액이다.
+ */
+public record PointEarnWriteResult(Long transactionId, BigDecimal balance) {
+
+    public boolean applied() {
+        return transactionId != null;
+    }
+}
@@ -0,0 +1,178 @@
+package aegis.server.domain.point.repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.point.domain.PointTransactionType;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+
+/**
+ * 포인트 원장의 PostgreSQL 전용 쓰기 경로 </br>
+ * 멱등키 유니크 제약(uk_point_transaction_idempotency_key)을 ON CONFLICT 대상으로 사용하여,
+ * 락 + 선조회 없이 INSERT 성공 여부로 중복을 판단한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+
+    private static final String EARN_SQL =
+            """
+            WITH inserted AS (
+                INSERT INTO point_transaction
+                    (point_account_id, year_semester, transaction_type, amount, reason, idempotency_key, created_at, updated_at)
+                SELECT pa.point_account_id, ?, ?, ?, ?, ?, ?, ?
+                FROM point_account pa
+                WHERE pa.point_account_id = ?
+                ON CONFLICT (idempotency_key) DO NOTHING
+                RETURNING point_transaction_id, point_account_id, amount
+            ), updated AS (
+                UPDATE point_account pa
+                SET balance = pa.balance + i.amount,
+                    total_earned = pa.total_earned + i.amount,
+                    updated_at = ?
+                FROM inserted i
+                WHERE pa.point_account_id = i.point_account_id
+                RETURNING pa.balance
+            )
+            SELECT (SELECT point_transaction_id FROM inserted) AS point_transaction_id,
+                   COALESCE((SELECT balance FROM updated), pa.balance) AS balance
+            FROM point_account pa
+            WHERE pa.point_account_id = ?
+            """;
+
+    private static final String INSERT_EARNS_SQL =
+            """
+            INSERT INTO point_transaction
+                (point_account_id, year_semester, transaction_type, amount, reason, idempotency_key, created_at, updated_at)
+            SELECT e.point_account_id, ?, ?, e.amount, e.reason, e.idempotency_key, e.created_at, e.created_at
+            FROM unnest(?::bigint[], ?::numeric[], ?::varchar[], ?::varchar[], ?::timestamp[])
+                AS e(point_account_id, amount, reason, idempotency_key, created_at)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            RETURNING point_transaction_id, idempotency_key
+            """;
+
+    private static final String EARN_ALL_SQL =
+            """
+            WITH inserted AS (
+                INSERT INTO point_transaction
+                    (point_account_id, year_semester, transaction_type, amount, reason, idempotency_key, created_at, updated_at)
+                SELECT e.point_account_id, ?, ?, e.amount, e.reason, e.idempotency_key, e.created_at, e.created_at
+                FROM unnest(?::bigint[], ?::numeric[], ?::varchar[], ?::varchar[], ?::timestamp[])
+                    AS e(point_account_id, amount, reason, idempotency_key, created_at)
+                ON CONFLICT (idempotency_key) DO NOTHING
+                RETURNING point_account_id, amount
+            ), totals AS (
+                SELECT point_account_id, SUM(amount) AS amount FROM inserted GROUP BY point_account_id
+            )
+            UPDATE point_account pa
+            SET balance = pa.balance + t.amount,
+                total_earned = pa.total_earned + t.amount,
+                updated_at = ?
+            FROM totals t
+            WHERE pa.point_account_id = t.point_account_id
+            RETURNING pa.point_account_id, t.amount
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 적립 내역 INSERT와 잔액 UPDATE를 한 번의 왕복으로 처리한다. 계좌가 없으면 빈 값을 반환한다.
+     */
+    public Optional<PointEarnWriteResult> earn(PointEarnRow row, LocalDateTime now) {
+        List<PointEarnWriteResult> results = jdbcTemplate.query(
+                EARN_SQL,
+                (rs, rowNum) -> new PointEarnWriteResult(
+                        rs.getObject("point_transaction_id", Long.class), rs.getBigDecimal("balance")),
+                CURRENT_YEAR_SEMESTER.name(),
+                PointTransactionType.EARN.name(),
+                row.amount(),
+                row.reason(),
+                row.idempotencyKey(),
+                Timestamp.valueOf(row.createdAt()),
+                Timestamp.valueOf(row.createdAt()),
+                row.pointAccountId(),
+                Timestamp.valueOf(now),
+                row.pointAccountId());
+        return results.stream().findFirst();
+    }
+
+    /**
+     * 여러 계좌의 적립분을 한 번에 반영한다. 멱등키 충돌로 INSERT되지 않은 행은 잔액 합산에서 제외된다.
+     *
+     * @return 잔액이 갱신된 계좌별 실제 적립 합계
+     */
+    public Map<Long, BigDecimal> earnAll(List<PointEarnRow> rows, LocalDateTime now) {
+        Map<Long, BigDecimal> applied = new HashMap<>();
+        if (rows.isEmpty()) {
+            return applied;
+        }
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = prepareUnnestRows(connection, EARN_ALL_SQL, rows);
+                    ps.setTimestamp(8, Timestamp.valueOf(now));
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> applied.put(rs.getLong("point_account_id"), rs.getBigDecimal("amount")));
+        return applied;
+    }
+
+    /**
+     * 적립 내역만 한 번에 INSERT한다. 잔액 반영은 호출 측에서 잠근 계좌 엔티티로 처리한다.
+     *
+     * @return INSERT된 행의 멱등키별 거래 ID (멱등키 충돌로 INSERT되지 않은 행은 포함되지 않음)
+     */
+    public Map<String, Long> insertEarns(List<PointEarnRow> rows) {
+        Map<String, Long> inserted = new HashMap<>();
+        if (rows.isEmpty()) {
+            return inserted;
+        }
+        jdbcTemplate.query(
+                connection -> prepareUnnestRows(connection, INSERT_EARNS_SQL, rows),
+                (RowCallbackHandler)
+                        rs -> inserted.put(rs.getString("idempotency_key"), rs.getLong("point_transaction_id")));
+        return inserted;
+    }
+
+    private PreparedStatement prepareUnnestRows(Connection connection, String sql, List<PointEarnRow> rows)
+            throws SQLException {
+        int size = rows.size();
+        Long[] accountIds = new Long[size];
+        BigDecimal[] amounts = new BigDecimal[size];
+        String[] reasons = new String[size];
+        String[] idempotencyKeys = new String[size];
+        Timestamp[] createdAts = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            PointEarnRow row = rows.get(i);
+            accountIds[i] = row.pointAccountId();
+            amounts[i] = row.amount();
+            reasons[i] = row.reason();
+            idempotencyKeys[i] = row.idempotencyKey();
+            createdAts[i] = Timestamp.valueOf(row.createdAt());
+        }
+
+        PreparedStatement ps = connection.prepareStatement(sql);
+        ps.setString(1, CURRENT_YEAR_SEMESTER.name());
+        ps.setString(2, PointTransactionType.EARN.name());
+        ps.setArray(3, connection.createArrayOf("bigint", accountIds));
+        ps.setArray(4, connection.createArrayOf("numeric", amounts));
+        ps.setArray(5, connection.createArrayOf("varchar", reasons));
+        ps.setArray(6, connection.createArrayOf("varchar", idempotencyKeys));
+        ps.setArray(7, connection.createArrayOf("timestamp", createdAts));
+        return ps;
+    }
+}
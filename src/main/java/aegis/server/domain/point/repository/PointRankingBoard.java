@@ -0,0 +1,245 @@
+package aegis.server.domain.point.repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+
+/**
+ * 학기별 포인트 랭킹을 Redis Sorted Set으로 관리한다. </br>
+ * member는 회원 ID, score는 누적 적립 포인트(totalEarned)이며, 랭킹 대상(결제 완료, STAFF 제외)인 회원만 들어 있다.
+ * 누적 적립 포인트는 학기 중에 줄지 않으므로 점수는 증분이 아닌 DB 값으로 쓰되 더 큰 값만 반영하며,
+ * 그래서 재구성 중에 들어온 갱신을 재구성 키에도 함께 써도 DB 스냅샷과 이중으로 더해지지 않는다. </br>
+ * 회원 수 집계를 위해 결제 완료 회원 ID(STAFF 포함)를 별도 Set으로 함께 관리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointRankingBoard {
+
+    private static final String KEY_PREFIX = "point:ranking:";
+    private static final String SYNCED_SUFFIX = ":synced";
+    private static final String MEMBERS_SUFFIX = ":members";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String REBUILDING_SUFFIX = ":rebuilding";
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(5);
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    // ARGV[1]=회원 ID, ARGV[2]=누적 적립 포인트, ARGV[3]=1이면 이미 랭킹 대상인 회원만 갱신
+    // 재구성 중(KEYS[2] 존재)이면 재구성 키(KEYS[3])에도 같은 값을 쓴다
+    private static final RedisScript<Long> RAISE_SCORE = new DefaultRedisScript<>(
+            """
+            local function raise(key)
+                local current = redis.call('ZSCORE', key, ARGV[1])
+                if (not current) or tonumber(current) < tonumber(ARGV[2]) then
+                    redis.call('ZADD', key, ARGV[2], ARGV[1])
+                end
+            end
+            if ARGV[3] == '1' and not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+            raise(KEYS[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                raise(KEYS[3])
+            end
+            return 1
+            """,
+            Long.class);
+
+    // 재구성 중(KEYS[2] 존재)이면 재구성 회원 키(KEYS[3])에도 추가한다
+    private static final RedisScript<Long> ADD_MEMBER = new DefaultRedisScript<>(
+            """
+            redis.call('SADD', KEYS[1], ARGV[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('SADD', KEYS[3], ARGV[1])
+            end
+            return 1
+            """,
+            Long.class);
+
+    // ARGV는 (회원 ID, 누적 적립 포인트) 쌍의 나열. 재구성 중에 먼저 들어온 갱신보다 작은 값으로 덮어쓰지 않는다
+    private static final RedisScript<Long> RAISE_ALL = new DefaultRedisScript<>(
+            """
+            for i = 1, #ARGV, 2 do
+                local current = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if (not current) or tonumber(current) < tonumber(ARGV[i + 1]) then
+                    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                end
+            end
+            return 1
+            """,
+            Long.class);
+
+    // 재구성 키로 교체하고 재구성 표시를 지운다. 그 사이에 갱신이 끼어들지 않도록 한 번에 처리한다
+    private static final RedisScript<Long> SWAP_REBUILD = new DefaultRedisScript<>(
+            """
+            for i = 1, 3, 2 do
+                if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+                    redis.call('RENAME', KEYS[i + 1], KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            redis.call('DEL', KEYS[5])
+            redis.call('SET', KEYS[6], '1')
+            return 1
+            """,
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean isSynced(YearSemester yearSemester) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(syncedKey(yearSemester)));
+    }
+
+    /**
+     * 현재 학기 결제 완료 회원 수(STAFF 포함)
+     */
+    public long countMembers(YearSemester yearSemester) {
+        Long count = stringRedisTemplate.opsForSet().size(membersKey(yearSemester));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 결제 완료 회원을 회원 수 집계에 더한다. 같은 회원을 여러 번 더해도 한 명으로 센다.
+     */
+    public void addMember(YearSemester yearSemester, Long memberId) {
+        stringRedisTemplate.execute(
+                ADD_MEMBER,
+                List.of(membersKey(yearSemester), rebuildingKey(yearSemester), rebuildKey(membersKey(yearSemester))),
+                memberId.toString());
+    }
+
+    /**
+     * 이미 랭킹 대상인 회원의 점수를 갱신한다.
+     */
+    public void update(YearSemester yearSemester, Long memberId, BigDecimal totalEarned) {
+        raise(yearSemester, memberId, totalEarned, true);
+    }
+
+    /**
+     * 회원을 랭킹 대상으로 등록한다.
+     */
+    public void put(YearSemester yearSemester, Long memberId, BigDecimal totalEarned) {
+        raise(yearSemester, memberId, totalEarned, false);
+    }
+
+    /**
+     * 점수 내림차순 상위 limit명. 동점자는 회원 ID 역순(ZREVRANGE 기본 정렬)으로 나온다.
+     */
+    public List<PointRankingEntry> findTop(YearSemester yearSemester, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key(yearSemester), 0, limit - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(tuple -> new PointRankingEntry(Long.valueOf(tuple.getValue()), toPoint(tuple.getScore())))
+                .toList();
+    }
+
+    /**
+     * 주어진 점수보다 엄격히 높은 점수를 가진 회원 수. 동점자를 같은 등수로 보기 위해 ZREVRANK 대신 사용한다.
+     */
+    public long countHigherThan(YearSemester yearSemester, BigDecimal totalEarned) {
+        Long count = stringRedisTemplate
+                .opsForZSet()
+                .count(key(yearSemester), Math.nextUp(totalEarned.doubleValue()), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 재구성을 시작한다. DB 스냅샷을 읽기 전에 호출해야 하며, 이후의 갱신은 재구성 키에도 함께 쓰인다. </br>
+     * 다른 재구성이 진행 중이면 false를 반환한다. 재구성이 비정상 종료되어도 표시는 일정 시간 후 만료된다.
+     */
+    public boolean beginRebuild(YearSemester yearSemester) {
+        if (!Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(rebuildingKey(yearSemester), "1", REBUILD_TIMEOUT))) {
+            return false;
+        }
+        stringRedisTemplate.delete(List.of(rebuildKey(key(yearSemester)), rebuildKey(membersKey(yearSemester))));
+        return true;
+    }
+
+    /**
+     * DB 스냅샷을 재구성 키에 쓴 뒤 랭킹 키와 교체하여, 재구성 중에도 조회가 빈 랭킹을 보지 않도록 한다.
+     *
+     * @param entries 랭킹 대상 회원의 누적 적립 포인트
+     * @param memberIds 결제 완료 회원 ID(STAFF 포함)
+     */
+    public void completeRebuild(YearSemester yearSemester, List<PointRankingEntry> entries, List<Long> memberIds) {
+        String rebuildKey = rebuildKey(key(yearSemester));
+        String rebuildMembersKey = rebuildKey(membersKey(yearSemester));
+        for (int from = 0; from < entries.size(); from += REBUILD_BATCH_SIZE) {
+            List<PointRankingEntry> batch = entries.subList(from, Math.min(from + REBUILD_BATCH_SIZE, entries.size()));
+            String[] args = new String[batch.size() * 2];
+            for (int i = 0; i < batch.size(); i++) {
+                args[i * 2] = batch.get(i).memberId().toString();
+                args[i * 2 + 1] = batch.get(i).totalEarned().toPlainString();
+            }
+            stringRedisTemplate.execute(RAISE_ALL, List.of(rebuildKey), (Object[]) args);
+        }
+        for (int from = 0; from < memberIds.size(); from += REBUILD_BATCH_SIZE) {
+            String[] members = memberIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, memberIds.size())).stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new);
+            stringRedisTemplate.opsForSet().add(rebuildMembersKey, members);
+        }
+        stringRedisTemplate.execute(
+                SWAP_REBUILD,
+                List.of(
+                        key(yearSemester),
+                        rebuildKey,
+                        membersKey(yearSemester),
+                        rebuildMembersKey,
+                        rebuildingKey(yearSemester),
+                        syncedKey(yearSemester)));
+    }
+
+    public void abortRebuild(YearSemester yearSemester) {
+        stringRedisTemplate.delete(List.of(
+                rebuildKey(key(yearSemester)), rebuildKey(membersKey(yearSemester)), rebuildingKey(yearSemester)));
+    }
+
+    private void raise(YearSemester yearSemester, Long memberId, BigDecimal totalEarned, boolean onlyIfRanked) {
+        stringRedisTemplate.execute(
+                RAISE_SCORE,
+                List.of(key(yearSemester), rebuildingKey(yearSemester), rebuildKey(key(yearSemester))),
+                memberId.toString(),
+                totalEarned.toPlainString(),
+                onlyIfRanked ? "1" : "0");
+    }
+
+    private String key(YearSemester yearSemester) {
+        return KEY_PREFIX + yearSemester.getValue();
+    }
+
+    private String syncedKey(YearSemester yearSemester) {
+        return key(yearSemester) + SYNCED_SUFFIX;
+    }
+
+    private String membersKey(YearSemester yearSemester) {
+        return key(yearSemester) + MEMBERS_SUFFIX;
+    }
+
+    private String rebuildKey(String key) {
+        return key + REBUILD_SUFFIX;
+    }
+
+    private String rebuildingKey(YearSemester yearSemester) {
+        return key(yearSemester) + REBUILDING_SUFFIX;
+    }
+
+    private BigDecimal toPoint(Double score) {
+        return BigDecimal.valueOf(score.longValue());
+    }
+}
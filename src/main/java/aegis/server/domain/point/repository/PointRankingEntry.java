@@ -0,0 +1,5 @@
+package aegis.server.domain.point.repository;
+
+import java.math.BigDecimal;
+
+public record PointRankingEntry(Long memberId, BigDecimal totalEarned) {}
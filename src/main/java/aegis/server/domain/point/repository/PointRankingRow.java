@@ -0,0 +1,9 @@
+package aegis.server.domain.point.repository;
+
+import java.math.BigDecimal;
+
+public interface PointRankingRow {
+    Long getMemberId();
+
+    BigDecimal getTotalEarned();
+}
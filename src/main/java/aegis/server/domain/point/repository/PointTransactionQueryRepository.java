@@ -2,19 +2,19 @@ package aegis.server.domain.point.repository;
 
 import java.time.LocalDateTime;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import aegis.server.domain.point.domain.PointTransaction;
 import aegis.server.domain.point.domain.PointTransactionType;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
 
 public interface PointTransactionQueryRepository {
 
-    Page<PointTransaction> findAdminLedger(
+    KeysetPage<PointTransaction> findAdminLedger(
             String memberKeyword,
             PointTransactionType transactionType,
             LocalDateTime fromDateTime,
             LocalDateTime toDateTime,
-            Pageable pageable,
-            String orderByClause);
+            KeysetPageRequest pageRequest,
+            KeysetSort<PointTransaction> sort);
 }
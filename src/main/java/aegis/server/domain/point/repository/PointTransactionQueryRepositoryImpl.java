@@ -1,85 +1,58 @@
 package aegis.server.domain.point.repository;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import lombok.RequiredArgsConstructor;
+
 import aegis.server.domain.point.domain.PointTransaction;
 import aegis.server.domain.point.domain.PointTransactionType;
+import aegis.server.global.paging.AdminQuery;
+import aegis.server.global.paging.AdminQuerySpec;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetPager;
+import aegis.server.global.paging.KeysetSort;
 
 @Repository
+@RequiredArgsConstructor
 public class PointTransactionQueryRepositoryImpl implements PointTransactionQueryRepository {
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    private static final AdminQuerySpec<PointTransaction> ADMIN_POINT_TRANSACTION_QUERY = AdminQuerySpec.builder(
+                    "findAdminLedger",
+                    PointTransaction.class,
+                    "SELECT pt FROM PointTransaction pt "
+                            + "JOIN FETCH pt.pointAccount pa "
+                            + "JOIN FETCH pa.member m",
+                    "SELECT COUNT(pt) FROM PointTransaction pt "
+                            + "JOIN pt.pointAccount pa "
+                            + "JOIN pa.member m")
+            .filter(
+                    "memberKeyword",
+                    "(LOWER(m.name) LIKE LOWER(CONCAT('%', :memberKeyword, '%')) "
+                            + "OR LOWER(COALESCE(m.studentId, '')) LIKE LOWER(CONCAT('%', :memberKeyword, '%')))")
+            .filter("transactionType", "pt.transactionType = :transactionType")
+            .filter("fromDateTime", "pt.createdAt >= :fromDateTime")
+            .filter("toDateTime", "pt.createdAt < :toDateTime")
+            .build();
+
+    private final KeysetPager keysetPager;
 
     @Override
-    public Page<PointTransaction> findAdminLedger(
+    public KeysetPage<PointTransaction> findAdminLedger(
             String memberKeyword,
             PointTransactionType transactionType,
             LocalDateTime fromDateTime,
             LocalDateTime toDateTime,
-            Pageable pageable,
-            String orderByClause) {
-        Map<String, Object> params = new LinkedHashMap<>();
-        List<String> conditions = new ArrayList<>();
-
-        if (memberKeyword != null) {
-            conditions.add("(LOWER(m.name) LIKE LOWER(CONCAT('%', :memberKeyword, '%')) "
-                    + "OR LOWER(COALESCE(m.studentId, '')) LIKE LOWER(CONCAT('%', :memberKeyword, '%')))");
-            params.put("memberKeyword", memberKeyword);
-        }
-        if (transactionType != null) {
-            conditions.add("pt.transactionType = :transactionType");
-            params.put("transactionType", transactionType);
-        }
-        if (fromDateTime != null) {
-            conditions.add("pt.createdAt >= :fromDateTime");
-            params.put("fromDateTime", fromDateTime);
-        }
-        if (toDateTime != null) {
-            conditions.add("pt.createdAt < :toDateTime");
-            params.put("toDateTime", toDateTime);
-        }
-
-        String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
-
-        String selectJpql = "SELECT pt FROM PointTransaction pt "
-                + "JOIN FETCH pt.pointAccount pa "
-                + "JOIN FETCH pa.member m"
-                + whereClause
-                + " ORDER BY "
-                + orderByClause;
-
-        String countJpql = "SELECT COUNT(pt) FROM PointTransaction pt "
-                + "JOIN pt.pointAccount pa "
-                + "JOIN pa.member m"
-                + whereClause;
-
-        TypedQuery<PointTransaction> selectQuery = entityManager.createQuery(selectJpql, PointTransaction.class);
-        TypedQuery<Long> countQuery = entityManager.createQuery(countJpql, Long.class);
-
-        for (Map.Entry<String, Object> param : params.entrySet()) {
-            selectQuery.setParameter(param.getKey(), param.getValue());
-            countQuery.setParameter(param.getKey(), param.getValue());
-        }
-
-        selectQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
-        selectQuery.setMaxResults(pageable.getPageSize());
-
-        List<PointTransaction> content = selectQuery.getResultList();
-        Long total = countQuery.getSingleResult();
-        return new PageImpl<>(content, pageable, total);
+            KeysetPageRequest pageRequest,
+            KeysetSort<PointTransaction> sort) {
+        AdminQuery<PointTransaction> query = ADMIN_POINT_TRANSACTION_QUERY.query()
+                .where("memberKeyword", memberKeyword)
+                .where("transactionType", transactionType)
+                .where("fromDateTime", fromDateTime)
+                .where("toDateTime", toDateTime);
+
+        return keysetPager.fetch(query, sort, pageRequest);
     }
 }
@@ -1,5 +1,6 @@
 package aegis.server.domain.point.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -17,5 +18,14 @@ public interface PointTransactionRepository
     @Query("SELECT pt FROM PointTransaction pt WHERE pt.pointAccount.id = :pointAccountId ORDER BY pt.id DESC")
     List<PointTransaction> findRecentByPointAccountId(Long pointAccountId, Pageable pageable);
 
+    // 커서 기반 페이지네이션: (point_account_id, point_transaction_id DESC) 인덱스를 그대로 탐색한다
+    @Query("SELECT pt FROM PointTransaction pt "
+            + "WHERE pt.pointAccount.id = :pointAccountId AND pt.id < :cursor "
+            + "ORDER BY pt.id DESC")
+    List<PointTransaction> findByPointAccountIdAndIdLessThan(Long pointAccountId, Long cursor, Pageable pageable);
+
     boolean existsByIdempotencyKey(String idempotencyKey);
+
+    @Query("SELECT pt.idempotencyKey FROM PointTransaction pt WHERE pt.idempotencyKey IN :idempotencyKeys")
+    List<String> findExistingIdempotencyKeys(Collection<String> idempotencyKeys);
 }
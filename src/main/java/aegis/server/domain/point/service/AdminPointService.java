@@ -3,12 +3,14 @@ package aegis.server.domain.point.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,13 @@ import aegis.server.domain.point.repository.PointAccountRepository;
 import aegis.server.domain.point.repository.PointTransactionRepository;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.paging.KeysetPage;
+import aegis.server.global.paging.KeysetPageRequest;
+import aegis.server.global.paging.KeysetSort;
+import aegis.server.global.paging.KeysetSortKeys;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +48,8 @@ import aegis.server.global.exception.ErrorCode;
 public class AdminPointService {
 
     private static final int MEMBER_RECENT_HISTORY_SIZE = 50;
+    private static final KeysetSortKeys<PointTransaction> LEDGER_SORT_KEYS =
+            KeysetSortKeys.of("pt.id", PointTransaction::getId);
 
     private final PointTransactionRepository pointTransactionRepository;
     private final PointAccountRepository pointAccountRepository;
@@ -48,6 +59,7 @@ public class AdminPointService {
     public AdminPointLedgerPageResponse getLedger(
             int page,
             int size,
+            String cursor,
             String memberKeyword,
             PointTransactionType transactionType,
             LocalDate from,
@@ -60,11 +72,11 @@ public class AdminPointService {
         LocalDateTime fromDateTime = from == null ? null : from.atStartOfDay();
         LocalDateTime toDateTime = to == null ? null : to.plusDays(1).atStartOfDay();
         String normalizedKeyword = normalizeKeyword(memberKeyword);
-        String orderByClause = resolveLedgerOrderBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, normalizedSize);
+        KeysetSort<PointTransaction> ledgerSort = resolveLedgerSort(sort);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(page, normalizedSize, cursor);
 
-        Page<PointTransaction> ledgerPage = pointTransactionRepository.findAdminLedger(
-                normalizedKeyword, transactionType, fromDateTime, toDateTime, pageRequest, orderByClause);
+        KeysetPage<PointTransaction> ledgerPage = pointTransactionRepository.findAdminLedger(
+                normalizedKeyword, transactionType, fromDateTime, toDateTime, pageRequest, ledgerSort);
         return AdminPointLedgerPageResponse.from(ledgerPage);
     }
 
@@ -101,35 +113,41 @@ public class AdminPointService {
         return AdminPointGrantResultResponse.of(result, request.memberId());
     }
 
-    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Transactional
     public AdminPointBatchGrantResultResponse grantBatch(AdminPointBatchGrantRequest request) {
         String reason = request.reason().trim();
-        List<AdminPointBatchGrantMemberResultResponse> results = request.memberIds().stream()
-                .map(memberId -> grantBatchSingle(request.requestId(), memberId, request.amount(), reason))
+        BigDecimal amount = BigDecimal.valueOf(request.amount());
+        Set<Long> existingMemberIds = new HashSet<>(memberRepository.findExistingIds(request.memberIds()));
+
+        List<PointEarnCommand> commands = request.memberIds().stream()
+                .filter(existingMemberIds::contains)
+                .map(memberId -> new PointEarnCommand(
+                        memberId, amount, reason, IdempotencyKeys.forAdminBatchGrant(request.requestId(), memberId)))
                 .toList();
+        Iterator<PointEarnResult> earnResults = pointLedger.earnBatch(commands).iterator();
+
+        // 존재하지 않는 회원은 실패로, 나머지는 원장 처리 결과로 요청 순서를 유지하여 합친다
+        List<AdminPointBatchGrantMemberResultResponse> results = new ArrayList<>(request.memberIds().size());
+        for (Long memberId : request.memberIds()) {
+            if (existingMemberIds.contains(memberId)) {
+                results.add(toBatchGrantMemberResult(earnResults.next()));
+            } else {
+                results.add(
+                        AdminPointBatchGrantMemberResultResponse.failure(memberId, ErrorCode.MEMBER_NOT_FOUND.name()));
+            }
+        }
         return AdminPointBatchGrantResultResponse.of(results);
     }
 
-    private AdminPointBatchGrantMemberResultResponse grantBatchSingle(
-            String requestId, Long memberId, Long amount, String reason) {
-        if (!memberRepository.existsById(memberId)) {
-            return AdminPointBatchGrantMemberResultResponse.failure(memberId, ErrorCode.MEMBER_NOT_FOUND.name());
+    private AdminPointBatchGrantMemberResultResponse toBatchGrantMemberResult(PointEarnResult result) {
+        if (result.isFailed()) {
+            return AdminPointBatchGrantMemberResultResponse.failure(result.memberId(), result.error().name());
         }
-
-        try {
-            String idempotencyKey = IdempotencyKeys.forAdminBatchGrant(requestId, memberId);
-            PointActionResult result = pointLedger.earn(memberId, BigDecimal.valueOf(amount), reason, idempotencyKey);
-            if (result.applied()) {
-                return AdminPointBatchGrantMemberResultResponse.success(
-                        memberId, result.transactionId(), result.accountBalance());
-            }
-            return AdminPointBatchGrantMemberResultResponse.duplicate(memberId, result.accountBalance());
-        } catch (CustomException e) {
-            return AdminPointBatchGrantMemberResultResponse.failure(
-                    memberId, e.getErrorCode().name());
-        } catch (IllegalArgumentException e) {
-            return AdminPointBatchGrantMemberResultResponse.failure(memberId, ErrorCode.BAD_REQUEST.name());
+        if (!result.applied()) {
+            return AdminPointBatchGrantMemberResultResponse.duplicate(result.memberId(), result.balance());
         }
+        return AdminPointBatchGrantMemberResultResponse.success(
+                result.memberId(), result.transactionId(), result.balance());
     }
 
     private void validateMemberExists(Long memberId) {
@@ -149,23 +167,31 @@ public class AdminPointService {
         return trimmed;
     }
 
-    private String resolveLedgerOrderBy(String sort) {
+    private KeysetSort<PointTransaction> resolveLedgerSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "pt.id DESC";
+            return LEDGER_SORT_KEYS.id(DESC);
         }
 
         return switch (sort.trim().toLowerCase()) {
-            case "id,asc" -> "pt.id ASC";
-            case "id,desc" -> "pt.id DESC";
-            case "createdat,asc" -> "pt.createdAt ASC, pt.id ASC";
-            case "createdat,desc" -> "pt.createdAt DESC, pt.id DESC";
-            case "amount,asc" -> "pt.amount ASC, pt.id ASC";
-            case "amount,desc" -> "pt.amount DESC, pt.id DESC";
-            case "membername,asc" -> "m.name ASC, pt.id ASC";
-            case "membername,desc" -> "m.name DESC, pt.id DESC";
-            case "transactiontype,asc" -> "pt.transactionType ASC, pt.id ASC";
-            case "transactiontype,desc" -> "pt.transactionType DESC, pt.id DESC";
+            case "id,asc" -> LEDGER_SORT_KEYS.id(ASC);
+            case "id,desc" -> LEDGER_SORT_KEYS.id(DESC);
+            case "createdat,asc" -> LEDGER_SORT_KEYS.by(
+                    "pt.createdAt", LocalDateTime.class, PointTransaction::getCreatedAt, ASC);
+            case "createdat,desc" -> LEDGER_SORT_KEYS.by(
+                    "pt.createdAt", LocalDateTime.class, PointTransaction::getCreatedAt, DESC);
+            case "amount,asc" -> LEDGER_SORT_KEYS.by("pt.amount", BigDecimal.class, PointTransaction::getAmount, ASC);
+            case "amount,desc" -> LEDGER_SORT_KEYS.by("pt.amount", BigDecimal.class, PointTransaction::getAmount, DESC);
+            case "membername,asc" -> LEDGER_SORT_KEYS.by("m.name", String.class, this::memberNameOf, ASC);
+            case "membername,desc" -> LEDGER_SORT_KEYS.by("m.name", String.class, this::memberNameOf, DESC);
+            case "transactiontype,asc" -> LEDGER_SORT_KEYS.by(
+                    "pt.transactionType", PointTransactionType.class, PointTransaction::getTransactionType, ASC);
+            case "transactiontype,desc" -> LEDGER_SORT_KEYS.by(
+                    "pt.transactionType", PointTransactionType.class, PointTransaction::getTransactionType, DESC);
             default -> throw new CustomException(ErrorCode.BAD_REQUEST);
         };
     }
+
+    private String memberNameOf(PointTransaction pointTransaction) {
+        return pointTransaction.getPointAccount().getMember().getName();
+    }
 }
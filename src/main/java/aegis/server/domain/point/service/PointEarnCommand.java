@@ -0,0 +1,5 @@
+package aegis.server.domain.point.service;
+
+import java.math.BigDecimal;
+
+public record PointEarnCommand(Long memberId, BigDecimal amount, String reason, String idempotencyKey) {}
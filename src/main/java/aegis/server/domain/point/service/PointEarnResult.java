@@ -0,0 +1,29 @@
+package aegis.server.domain.point.service;
+
+import java.math.BigDecimal;
+
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * 일괄 적립의 회원별 처리 결과 </br>
+ * 반영되지 않은 중복 요청은 applied가 false이고, 처리하지 못한 요청은 error에 사유가 담긴다.
+ * WRITE_BEHIND 모드에서는 적립 내역이 아직 DB에 반영되지 않았으므로 transactionId가 null이다.
+ */
+public record PointEarnResult(Long memberId, Long transactionId, BigDecimal balance, boolean applied, ErrorCode error) {
+
+    public static PointEarnResult applied(Long memberId, Long transactionId, BigDecimal balance) {
+        return new PointEarnResult(memberId, transactionId, balance, true, null);
+    }
+
+    public static PointEarnResult duplicate(Long memberId, BigDecimal balance) {
+        return new PointEarnResult(memberId, null, balance, false, null);
+    }
+
+    public static PointEarnResult failed(Long memberId, ErrorCode error) {
+        return new PointEarnResult(memberId, null, null, false, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
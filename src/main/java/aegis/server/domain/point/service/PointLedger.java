@@ -1,7 +1,19 @@
 package aegis.server.domain.point.service;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +22,14 @@ import lombok.RequiredArgsConstructor;
 import aegis.server.domain.point.domain.PointAccount;
 import aegis.server.domain.point.domain.PointTransaction;
 import aegis.server.domain.point.domain.PointTransactionType;
+import aegis.server.domain.point.domain.event.PointEarnedEvent;
 import aegis.server.domain.point.dto.response.PointActionResult;
 import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointEarnRow;
+import aegis.server.domain.point.repository.PointEarnWriteResult;
+import aegis.server.domain.point.repository.PointLedgerJdbcRepository;
 import aegis.server.domain.point.repository.PointTransactionRepository;
+import aegis.server.domain.point.service.writebehind.PointWriteBehindLedger;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
 
@@ -23,9 +40,154 @@ public class PointLedger {
 
     private final PointAccountRepository pointAccountRepository;
     private final PointTransactionRepository pointTransactionRepository;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final PointWriteBehindLedger pointWriteBehindLedger;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+
+    @Value("${point.ledger.mode}")
+    private PointLedgerMode mode;
 
     @Transactional
     public PointActionResult earn(Long memberId, BigDecimal amount, String reason, String idempotencyKey) {
+        return switch (mode) {
+            case LOCKING -> earnWithLock(memberId, amount, reason, idempotencyKey);
+            case INSERT_FIRST -> earnInsertFirst(memberId, amount, reason, idempotencyKey);
+            case WRITE_BEHIND -> pointWriteBehindLedger.earn(memberId, amount, reason, idempotencyKey);
+        };
+    }
+
+    /**
+     * 여러 회원에게 한 번에 적립한다. 결과는 요청 순서와 동일한 순서로 반환된다. </br>
+     * 단건 적립과 같은 처리 방식을 따르며, 같은 요청 안에서 멱등키가 반복되면 처음 것만 반영하고 나머지는 중복으로 처리한다.
+     * 금액이 0 이하이거나 계좌가 없는 회원은 실패로 기록하고 나머지 회원은 계속 처리한다.
+     */
+    @Transactional
+    public List<PointEarnResult> earnBatch(List<PointEarnCommand> commands) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+
+        return switch (mode) {
+            case LOCKING -> earnBatchWithLock(commands);
+            case INSERT_FIRST -> earnEach(
+                    commands,
+                    command -> earnInsertFirst(
+                            command.memberId(), command.amount(), command.reason(), command.idempotencyKey()));
+            case WRITE_BEHIND -> earnEach(
+                    commands,
+                    command -> pointWriteBehindLedger.earn(
+                            command.memberId(), command.amount(), command.reason(), command.idempotencyKey()));
+        };
+    }
+
+    @Transactional
+    public PointActionResult spend(Long memberId, BigDecimal amount, String reason) {
+        // 1) 계좌 비관적 락
+        PointAccount account = pointAccountRepository
+                .findByIdWithLock(memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POINT_ACCOUNT_NOT_FOUND));
+
+        // 2) 반영 대기 중인 적립분이 있으면 정확한 잔액을 위해 같은 트랜잭션에서 먼저 반영
+        if (mode == PointLedgerMode.WRITE_BEHIND) {
+            pointWriteBehindLedger.applyPending(account);
+        }
+
+        // 3) 차감 및 트랜잭션 기록
+        account.deduct(amount);
+        PointTransaction tx = PointTransaction.create(account, PointTransactionType.SPEND, amount, reason);
+        pointTransactionRepository.save(tx);
+        return PointActionResult.of(tx.getId(), account.getBalance(), true);
+    }
+
+    /**
+     * 계좌는 ID 오름차순으로 한 번에 잠그고, 멱등키는 IN 조회 한 번으로 걸러낸 뒤, 적립 내역을 한 번에 INSERT한다.
+     */
+    private List<PointEarnResult> earnBatchWithLock(List<PointEarnCommand> commands) {
+        // 1) 계좌 비관적 락 (ID 오름차순)
+        List<Long> accountIds = commands.stream()
+                .map(PointEarnCommand::memberId)
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Long, PointAccount> accounts = pointAccountRepository.findAllByIdInWithLock(accountIds).stream()
+                .collect(Collectors.toMap(PointAccount::getId, Function.identity()));
+
+        // 2) 멱등키 선조회 (IN 한 번)
+        Set<String> existingKeys = new HashSet<>(pointTransactionRepository.findExistingIdempotencyKeys(
+                commands.stream().map(PointEarnCommand::idempotencyKey).toList()));
+
+        // 3) 적립 내역 일괄 INSERT
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+        Set<String> pendingKeys = new HashSet<>();
+        List<PointEarnRow> rows = new ArrayList<>();
+        for (PointEarnCommand command : commands) {
+            if (accounts.containsKey(command.memberId())
+                    && command.amount().signum() > 0
+                    && !existingKeys.contains(command.idempotencyKey())
+                    && pendingKeys.add(command.idempotencyKey())) {
+                rows.add(new PointEarnRow(
+                        command.memberId(), command.amount(), command.reason(), command.idempotencyKey(), now));
+            }
+        }
+        Map<String, Long> insertedIds = pointLedgerJdbcRepository.insertEarns(rows);
+
+        // 4) 요청 순서대로 잔액 반영 및 결과 생성
+        List<PointEarnResult> results = new ArrayList<>(commands.size());
+        for (PointEarnCommand command : commands) {
+            PointAccount account = accounts.get(command.memberId());
+            if (account == null) {
+                results.add(PointEarnResult.failed(command.memberId(), ErrorCode.POINT_ACCOUNT_NOT_FOUND));
+                continue;
+            }
+            if (command.amount().signum() <= 0) {
+                results.add(PointEarnResult.failed(command.memberId(), ErrorCode.POINT_ACTION_AMOUNT_NOT_POSITIVE));
+                continue;
+            }
+
+            // remove: 같은 멱등키가 요청 안에서 반복되면 두 번째부터는 중복으로 처리됨
+            Long transactionId = insertedIds.remove(command.idempotencyKey());
+            if (transactionId == null) {
+                results.add(PointEarnResult.duplicate(command.memberId(), account.getBalance()));
+                continue;
+            }
+
+            account.add(command.amount());
+            applicationEventPublisher.publishEvent(new PointEarnedEvent(command.memberId(), command.amount()));
+            results.add(PointEarnResult.applied(command.memberId(), transactionId, account.getBalance()));
+        }
+        return results;
+    }
+
+    /**
+     * 락을 잡지 않는 처리 방식은 단건 적립을 회원마다 호출한다. 멱등키 중복은 각 방식의 단건 처리에서 걸러진다.
+     */
+    private List<PointEarnResult> earnEach(
+            List<PointEarnCommand> commands, Function<PointEarnCommand, PointActionResult> earn) {
+        List<PointEarnResult> results = new ArrayList<>(commands.size());
+        for (PointEarnCommand command : commands) {
+            if (command.amount().signum() <= 0) {
+                results.add(PointEarnResult.failed(command.memberId(), ErrorCode.POINT_ACTION_AMOUNT_NOT_POSITIVE));
+                continue;
+            }
+
+            PointActionResult result;
+            try {
+                result = earn.apply(command);
+            } catch (CustomException e) {
+                results.add(PointEarnResult.failed(command.memberId(), e.getErrorCode()));
+                continue;
+            }
+            if (!result.applied()) {
+                results.add(PointEarnResult.duplicate(command.memberId(), result.accountBalance()));
+                continue;
+            }
+            results.add(PointEarnResult.applied(command.memberId(), result.transactionId(), result.accountBalance()));
+        }
+        return results;
+    }
+
+    private PointActionResult earnWithLock(Long memberId, BigDecimal amount, String reason, String idempotencyKey) {
         // 1) 계좌 비관적 락
         PointAccount account = pointAccountRepository
                 .findByIdWithLock(memberId)
@@ -41,20 +203,23 @@ public class PointLedger {
         PointTransaction tx =
                 PointTransaction.create(account, PointTransactionType.EARN, amount, reason, idempotencyKey);
         pointTransactionRepository.save(tx);
+        applicationEventPublisher.publishEvent(new PointEarnedEvent(memberId, amount));
         return PointActionResult.of(tx.getId(), account.getBalance(), true);
     }
 
-    @Transactional
-    public PointActionResult spend(Long memberId, BigDecimal amount, String reason) {
-        // 1) 계좌 비관적 락
-        PointAccount account = pointAccountRepository
-                .findByIdWithLock(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POINT_ACCOUNT_NOT_FOUND));
+    private PointActionResult earnInsertFirst(Long memberId, BigDecimal amount, String reason, String idempotencyKey) {
+        if (amount.signum() <= 0) {
+            throw new CustomException(ErrorCode.POINT_ACTION_AMOUNT_NOT_POSITIVE);
+        }
 
-        // 2) 차감 및 트랜잭션 기록
-        account.deduct(amount);
-        PointTransaction tx = PointTransaction.create(account, PointTransactionType.SPEND, amount, reason);
-        pointTransactionRepository.save(tx);
-        return PointActionResult.of(tx.getId(), account.getBalance(), true);
+        // 적립 INSERT(멱등키 충돌 시 무시) + 잔액 UPDATE를 한 번에 처리
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+        PointEarnWriteResult result = pointLedgerJdbcRepository
+                .earn(new PointEarnRow(memberId, amount, reason, idempotencyKey, now), now)
+                .orElseThrow(() -> new CustomException(ErrorCode.POINT_ACCOUNT_NOT_FOUND));
+        if (result.applied()) {
+            applicationEventPublisher.publishEvent(new PointEarnedEvent(memberId, amount));
+        }
+        return PointActionResult.of(result.transactionId(), result.balance(), result.applied());
     }
 }
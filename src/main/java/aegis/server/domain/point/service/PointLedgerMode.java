@@ -0,0 +1,13 @@
+package aegis.server.domain.point.service;
+
+/**
+ * 포인트 적립 처리 방식 </br>
+ * - LOCKING: 계좌 비관적 락 + 멱등키 선조회 후 즉시 반영 (기본값) </br>
+ * - INSERT_FIRST: 락과 선조회 없이 INSERT ... ON CONFLICT DO NOTHING + 잔액 UPDATE를 한 문장으로 즉시 반영 </br>
+ * - WRITE_BEHIND: 커밋 이후 메모리 버퍼에 적립분을 모아 두었다가 주기적으로 일괄 반영
+ */
+public enum PointLedgerMode {
+    LOCKING,
+    INSERT_FIRST,
+    WRITE_BEHIND
+}
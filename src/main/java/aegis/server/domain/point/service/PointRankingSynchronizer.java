@@ -0,0 +1,71 @@
+package aegis.server.domain.point.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.member.domain.Role;
+import aegis.server.domain.payment.domain.PaymentStatus;
+import aegis.server.domain.payment.repository.PaymentRepository;
+import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointRankingBoard;
+import aegis.server.domain.point.repository.PointRankingEntry;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+
+/**
+ * 랭킹 Sorted Set을 DB 기준으로 재구성한다. </br>
+ * 평소에는 적립/결제 이벤트로 증분 갱신되고, 이벤트 유실이나 STAFF 지정처럼 이벤트가 없는 변경은 주기적인 재구성으로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointRankingSynchronizer {
+
+    private final PointAccountRepository pointAccountRepository;
+    private final PaymentRepository paymentRepository;
+    private final PointRankingBoard pointRankingBoard;
+
+    public void ensureSynced() {
+        if (!pointRankingBoard.isSynced(CURRENT_YEAR_SEMESTER)) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${point.ranking.reconcile-cron}")
+    public void reconcile() {
+        if (rebuild()) {
+            log.info("[PointRankingSynchronizer] 포인트 랭킹 재구성 완료: yearSemester={}", CURRENT_YEAR_SEMESTER);
+        }
+    }
+
+    // 재구성 표시 이후에 읽은 스냅샷이어야 그 사이의 갱신이 재구성 키에 함께 쓰여 유실되지 않는다
+    private boolean rebuild() {
+        if (!pointRankingBoard.beginRebuild(CURRENT_YEAR_SEMESTER)) {
+            log.info("[PointRankingSynchronizer] 다른 재구성이 진행 중이어서 건너뜁니다: yearSemester={}", CURRENT_YEAR_SEMESTER);
+            return false;
+        }
+
+        try {
+            List<PointRankingEntry> entries =
+                    pointAccountRepository
+                            .findAllEligibleForRanking(CURRENT_YEAR_SEMESTER, PaymentStatus.COMPLETED, Role.STAFF)
+                            .stream()
+                            .map(row -> new PointRankingEntry(row.getMemberId(), row.getTotalEarned()))
+                            .toList();
+            List<Long> memberIds = paymentRepository.findMemberIdsByYearSemesterAndStatus(
+                    CURRENT_YEAR_SEMESTER, PaymentStatus.COMPLETED);
+            pointRankingBoard.completeRebuild(CURRENT_YEAR_SEMESTER, entries, memberIds);
+            return true;
+        } catch (RuntimeException e) {
+            pointRankingBoard.abortRebuild(CURRENT_YEAR_SEMESTER);
+            throw e;
+        }
+    }
+}
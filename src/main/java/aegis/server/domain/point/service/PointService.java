@@ -3,6 +3,9 @@ package aegis.server.domain.point.service;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -10,15 +13,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.domain.Role;
-import aegis.server.domain.payment.domain.PaymentStatus;
-import aegis.server.domain.payment.repository.PaymentRepository;
+import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.point.domain.PointAccount;
 import aegis.server.domain.point.domain.PointTransaction;
+import aegis.server.domain.point.dto.response.PointHistoryPageResponse;
 import aegis.server.domain.point.dto.response.PointRankingListResponse;
 import aegis.server.domain.point.dto.response.PointRankingResponse;
 import aegis.server.domain.point.dto.response.PointSummaryResponse;
 import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointRankingBoard;
+import aegis.server.domain.point.repository.PointRankingEntry;
 import aegis.server.domain.point.repository.PointTransactionRepository;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
@@ -31,29 +37,49 @@ import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
 @Transactional(readOnly = true)
 public class PointService {
 
+    private static final int SUMMARY_HISTORY_SIZE = 10;
+
     private final PointAccountRepository pointAccountRepository;
     private final PointTransactionRepository pointTransactionRepository;
-    private final PaymentRepository paymentRepository;
+    private final MemberRepository memberRepository;
+    private final PointRankingBoard pointRankingBoard;
+    private final PointRankingSynchronizer pointRankingSynchronizer;
 
     public PointSummaryResponse getPointSummary(UserDetails userDetails) {
         PointAccount pointAccount = pointAccountRepository
                 .findById(userDetails.getMemberId())
                 .orElseThrow(() -> new CustomException(ErrorCode.POINT_ACCOUNT_NOT_FOUND));
 
-        List<PointTransaction> pointTransactions =
-                pointTransactionRepository.findAllByPointAccountId(userDetails.getMemberId());
+        // 잔액은 계좌에 저장된 값을 사용하고, 내역은 최근 일부만 내려준 뒤 나머지는 커서로 조회하게 한다
+        PointHistoryPageResponse recentHistory = findHistoryPage(pointAccount.getId(), null, SUMMARY_HISTORY_SIZE);
+
+        return PointSummaryResponse.from(pointAccount, recentHistory);
+    }
+
+    public PointHistoryPageResponse getPointHistory(UserDetails userDetails, Long cursor, int size) {
+        PointAccount pointAccount = pointAccountRepository
+                .findById(userDetails.getMemberId())
+                .orElseThrow(() -> new CustomException(ErrorCode.POINT_ACCOUNT_NOT_FOUND));
+
+        return findHistoryPage(pointAccount.getId(), cursor, size);
+    }
 
-        return PointSummaryResponse.from(pointAccount, pointTransactions);
+    private PointHistoryPageResponse findHistoryPage(Long pointAccountId, Long cursor, int size) {
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건 더 조회
+        List<PointTransaction> transactions = pointTransactionRepository.findByPointAccountIdAndIdLessThan(
+                pointAccountId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size + 1));
+        return PointHistoryPageResponse.of(transactions, size);
     }
 
     public PointRankingListResponse getPointRanking(UserDetails userDetails) {
-        // 현재 학기 회원 수 조회
-        long memberCount = paymentRepository.countCompletedPaymentsInCurrentYearSemester();
+        pointRankingSynchronizer.ensureSynced();
 
-        // 상위 10명 조회 (결제 완료자만)
-        List<PointAccount> top10Accounts = pointAccountRepository.findTopByEligibleExcludingRole(
-                CURRENT_YEAR_SEMESTER, PaymentStatus.COMPLETED, Role.STAFF, PageRequest.of(0, 10));
-        List<PointRankingResponse> top10Rankings = convertToRankingResponses(top10Accounts);
+        // 현재 학기 회원 수 조회 (결제 완료자, STAFF 포함)
+        long memberCount = pointRankingBoard.countMembers(CURRENT_YEAR_SEMESTER);
+
+        // 상위 10명 조회 (랭킹 Sorted Set에는 결제 완료자만 들어 있음)
+        List<PointRankingEntry> top10Entries = pointRankingBoard.findTop(CURRENT_YEAR_SEMESTER, 10);
+        List<PointRankingResponse> top10Rankings = convertToRankingResponses(top10Entries);
 
         // 현재 사용자 랭킹 계산 (결제 완료자 기준)
         PointRankingResponse currentUserRanking = getCurrentUserRanking(userDetails.getMemberId());
@@ -72,8 +98,7 @@ public class PointService {
         }
 
         BigDecimal userTotalEarned = currentUserAccount.getTotalEarned();
-        long higherCount = pointAccountRepository.countEligibleWithTotalEarnedGreaterThanExcludingRole(
-                CURRENT_YEAR_SEMESTER, PaymentStatus.COMPLETED, Role.STAFF, userTotalEarned);
+        long higherCount = pointRankingBoard.countHigherThan(CURRENT_YEAR_SEMESTER, userTotalEarned);
         Long rank = higherCount + 1;
 
         return PointRankingResponse.of(
@@ -83,29 +108,33 @@ public class PointService {
                 currentUserAccount.getMember().getProfileIcon());
     }
 
-    private List<PointRankingResponse> convertToRankingResponses(List<PointAccount> accounts) {
-        if (accounts.isEmpty()) {
+    private List<PointRankingResponse> convertToRankingResponses(List<PointRankingEntry> entries) {
+        if (entries.isEmpty()) {
             return List.of();
         }
 
+        Map<Long, Member> members =
+                memberRepository.findAllById(entries.stream().map(PointRankingEntry::memberId).toList()).stream()
+                        .collect(Collectors.toMap(Member::getId, Function.identity()));
+
         List<PointRankingResponse> responses = new ArrayList<>();
         long rank = 1;
         BigDecimal previousTotalEarned = null;
 
-        for (int i = 0; i < accounts.size(); i++) {
-            PointAccount account = accounts.get(i);
-            BigDecimal totalEarned = account.getTotalEarned();
+        for (PointRankingEntry entry : entries) {
+            BigDecimal totalEarned = entry.totalEarned();
+            Member member = members.get(entry.memberId());
+            // 재구성 전까지 랭킹에 남아 있는 탈퇴 회원은 건너뜀
+            if (member == null) {
+                continue;
+            }
 
-            // 동점자 처리: 이전 점수와 다르면 현재 인덱스 + 1을 등수로 설정
+            // 동점자 처리: 이전 점수와 다르면 현재 순번을 등수로 설정
             if (previousTotalEarned != null && totalEarned.compareTo(previousTotalEarned) < 0) {
-                rank = i + 1;
+                rank = responses.size() + 1;
             }
 
-            responses.add(PointRankingResponse.of(
-                    rank,
-                    account.getMember().getName(),
-                    totalEarned,
-                    account.getMember().getProfileIcon()));
+            responses.add(PointRankingResponse.of(rank, member.getName(), totalEarned, member.getProfileIcon()));
 
             previousTotalEarned = totalEarned;
         }
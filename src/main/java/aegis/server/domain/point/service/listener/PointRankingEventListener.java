@@ -0,0 +1,67 @@
+package aegis.server.domain.point.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.member.domain.Role;
+import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
+import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.service.outbox.PaymentCompletedEventHandler;
+import aegis.server.domain.point.domain.event.PointEarnedEvent;
+import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointRankingBoard;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+
+/**
+ * 랭킹 Sorted Set 증분 갱신 </br>
+ * 적립 반영에 실패하면 원 트랜잭션은 이미 커밋되었으므로 로그만 남기고, 주기적인 재구성으로 맞춘다. </br>
+ * 결제 완료 시 랭킹 대상 등록에 실패하면 예외를 그대로 던져 아웃박스 재시도에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointRankingEventListener implements PaymentCompletedEventHandler {
+
+    private final PointAccountRepository pointAccountRepository;
+    private final PointRankingBoard pointRankingBoard;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePointEarnedEvent(PointEarnedEvent event) {
+        try {
+            // 적립 금액을 더하지 않고 커밋된 누적 적립 포인트를 쓰므로, 재구성 스냅샷과 겹쳐도 이중으로 더해지지 않는다
+            pointAccountRepository
+                    .findById(event.memberId())
+                    .ifPresent(account -> pointRankingBoard.update(
+                            CURRENT_YEAR_SEMESTER, account.getId(), account.getTotalEarned()));
+        } catch (RuntimeException e) {
+            log.warn(
+                    "[PointRankingEventListener] 랭킹 점수 반영 실패: memberId={}, amount={}",
+                    event.memberId(),
+                    event.amount(),
+                    e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
+        PaymentInfo paymentInfo = event.paymentInfo();
+        if (paymentInfo.yearSemester() != CURRENT_YEAR_SEMESTER) {
+            return;
+        }
+
+        pointRankingBoard.addMember(CURRENT_YEAR_SEMESTER, paymentInfo.memberId());
+        pointAccountRepository
+                .findByMemberId(paymentInfo.memberId())
+                .filter(account -> account.getMember().getRole() != Role.STAFF)
+                .ifPresent(account ->
+                        pointRankingBoard.put(CURRENT_YEAR_SEMESTER, account.getId(), account.getTotalEarned()));
+    }
+}
@@ -0,0 +1,126 @@
+package aegis.server.domain.point.service.writebehind;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import aegis.server.domain.point.repository.PointEarnRow;
+
+/**
+ * 계좌별 미반영 적립분을 모아 두는 메모리 버퍼 </br>
+ * 계좌 ID 기준으로 락을 분할(striping)하여 서로 다른 계좌의 적립은 경합하지 않는다. </br>
+ * 멱등키는 적립 요청 시점에 선점하여 DB 반영이 끝날 때까지 유지하므로,
+ * 동시에 들어온 같은 멱등키의 적립은 하나만 받아들여진다.
+ */
+@Component
+public class PointEarnBuffer {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+    private final Map<Long, List<PointEarnRow>> pendingByAccount = new ConcurrentHashMap<>();
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public PointEarnBuffer() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 멱등키를 선점한다. 이미 선점되어 있으면 false를 반환한다.
+     */
+    public boolean reserve(String idempotencyKey) {
+        return pendingKeys.add(idempotencyKey);
+    }
+
+    /**
+     * 선점한 멱등키를 적립분 없이 해제한다. 적립이 버려졌을 때(중복, 호출 트랜잭션 롤백) 호출한다.
+     */
+    public void unreserve(String idempotencyKey) {
+        pendingKeys.remove(idempotencyKey);
+    }
+
+    /**
+     * 멱등키를 선점한 적립분을 버퍼에 쌓는다.
+     */
+    public void append(PointEarnRow earn) {
+        ReentrantLock lock = stripeOf(earn.pointAccountId());
+        lock.lock();
+        try {
+            pendingByAccount
+                    .computeIfAbsent(earn.pointAccountId(), id -> new ArrayList<>())
+                    .add(earn);
+            size.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BigDecimal pendingAmount(Long pointAccountId) {
+        ReentrantLock lock = stripeOf(pointAccountId);
+        lock.lock();
+        try {
+            List<PointEarnRow> earns = pendingByAccount.get(pointAccountId);
+            if (earns == null) {
+                return BigDecimal.ZERO;
+            }
+            return earns.stream().map(PointEarnRow::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public List<PointEarnRow> drain(Long pointAccountId) {
+        ReentrantLock lock = stripeOf(pointAccountId);
+        lock.lock();
+        try {
+            List<PointEarnRow> earns = pendingByAccount.remove(pointAccountId);
+            if (earns == null) {
+                return List.of();
+            }
+            size.addAndGet(-earns.size());
+            return earns;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<PointEarnRow> drainAll() {
+        List<PointEarnRow> drained = new ArrayList<>();
+        for (Long pointAccountId : List.copyOf(pendingByAccount.keySet())) {
+            drained.addAll(drain(pointAccountId));
+        }
+        return drained;
+    }
+
+    /**
+     * DB 반영이 끝난 적립분의 멱등키를 해제한다. 이후 중복 여부는 DB의 유니크 제약으로 판단한다.
+     */
+    public void release(List<PointEarnRow> earns) {
+        earns.forEach(earn -> pendingKeys.remove(earn.idempotencyKey()));
+    }
+
+    /**
+     * DB 반영에 실패한 적립분을 버퍼에 되돌린다. 멱등키는 drain 이후에도 유지되므로 다시 등록하지 않는다.
+     */
+    public void restore(List<PointEarnRow> earns) {
+        earns.forEach(this::append);
+    }
+
+    private ReentrantLock stripeOf(Long pointAccountId) {
+        return stripes[Math.floorMod(pointAccountId.hashCode(), STRIPE_COUNT)];
+    }
+}
@@ -0,0 +1,126 @@
+package aegis.server.domain.point.service.writebehind;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.point.domain.event.PointEarnedEvent;
+import aegis.server.domain.point.repository.PointEarnRow;
+import aegis.server.domain.point.repository.PointLedgerJdbcRepository;
+
+/**
+ * 버퍼에 모인 적립분을 DB에 반영한다. </br>
+ * 적립 내역 INSERT와 계좌별 잔액 UPDATE는 {@link PointLedgerJdbcRepository#earnAll}의 단일 SQL 문으로 처리된다.
+ */
+@Slf4j
+@Component
+public class PointEarnFlusher {
+
+    private final PointEarnBuffer pointEarnBuffer;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Executor executor;
+    private final Clock clock;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PointEarnFlusher(
+            PointEarnBuffer pointEarnBuffer,
+            PointLedgerJdbcRepository pointLedgerJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Qualifier("pointEarnFlushTaskExecutor") Executor executor,
+            Clock clock) {
+        this.pointEarnBuffer = pointEarnBuffer;
+        this.pointLedgerJdbcRepository = pointLedgerJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+            initialDelayString = "${point.ledger.write-behind.flush-interval-ms}",
+            fixedDelayString = "${point.ledger.write-behind.flush-interval-ms}")
+    public void flushAll() {
+        flushLock.lock();
+        try {
+            writeQuietly(pointEarnBuffer.drainAll());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼 크기가 임계치를 넘었을 때 호출한다. </br>
+     * 요청 스레드에서 DB 작업을 하지 않도록 반영 전용 실행기에 넘기며, 이미 대기 중인 반영이 있으면 버려진다.
+     */
+    public void requestFlush() {
+        executor.execute(this::flushAllIfIdle);
+    }
+
+    private void flushAllIfIdle() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            writeQuietly(pointEarnBuffer.drainAll());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushAll();
+    }
+
+    private void writeQuietly(List<PointEarnRow> earns) {
+        try {
+            write(earns);
+        } catch (RuntimeException e) {
+            // 실패한 적립분은 버퍼로 되돌렸으므로 다음 주기에 재시도된다
+        }
+    }
+
+    private void write(List<PointEarnRow> earns) {
+        if (earns.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+            Map<Long, BigDecimal> applied = transactionTemplate.execute(status -> {
+                Map<Long, BigDecimal> amounts = pointLedgerJdbcRepository.earnAll(earns, now);
+                amounts.forEach((accountId, amount) ->
+                        applicationEventPublisher.publishEvent(new PointEarnedEvent(accountId, amount)));
+                return amounts;
+            });
+            pointEarnBuffer.release(earns);
+            log.info(
+                    "[PointEarnFlusher] 적립 일괄 반영: requested={}, updatedAccounts={}", earns.size(), applied.size());
+        } catch (RuntimeException e) {
+            pointEarnBuffer.restore(earns);
+            log.error("[PointEarnFlusher] 적립 일괄 반영 실패, 다음 주기에 재시도: requested={}", earns.size(), e);
+            throw e;
+        }
+    }
+}
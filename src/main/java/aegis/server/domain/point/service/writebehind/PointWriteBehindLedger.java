@@ -0,0 +1,173 @@
+package aegis.server.domain.point.service.writebehind;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.point.domain.PointAccount;
+import aegis.server.domain.point.domain.event.PointEarnedEvent;
+import aegis.server.domain.point.dto.response.PointActionResult;
+import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointEarnRow;
+import aegis.server.domain.point.repository.PointLedgerJdbcRepository;
+import aegis.server.domain.point.repository.PointTransactionRepository;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * WRITE_BEHIND 모드의 적립 처리 </br>
+ * 계좌 락 없이 멱등키를 선점한 뒤, 호출 트랜잭션이 커밋되면 적립분을 버퍼에 쌓는다. 롤백되면 멱등키를 해제한다. </br>
+ * 반환되는 결과의 transactionId는 아직 DB에 반영되지 않았으므로 항상 null이며,
+ * 잔액은 DB 잔액에 반영 대기 중인 적립분을 더한 값이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointWriteBehindLedger {
+
+    private final PointAccountRepository pointAccountRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final PointEarnBuffer pointEarnBuffer;
+    private final PointEarnFlusher pointEarnFlusher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+
+    @Value("${point.ledger.write-behind.flush-threshold}")
+    private int flushThreshold;
+
+    public PointActionResult earn(Long memberId, BigDecimal amount, String reason, String idempotencyKey) {
+        if (amount.signum() <= 0) {
+            throw new CustomException(ErrorCode.POINT_ACTION_AMOUNT_NOT_POSITIVE);
+        }
+
+        PointAccount account = pointAccountRepository
+                .findById(memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POINT_ACCOUNT_NOT_FOUND));
+        BigDecimal pendingBalance = account.getBalance().add(pointEarnBuffer.pendingAmount(account.getId()));
+
+        // 반영 대기 중(다른 요청이 선점)이거나 이미 반영된 멱등키는 중복 처리
+        if (!pointEarnBuffer.reserve(idempotencyKey)) {
+            return PointActionResult.of(null, pendingBalance, false);
+        }
+        if (isAlreadyWritten(idempotencyKey)) {
+            pointEarnBuffer.unreserve(idempotencyKey);
+            return PointActionResult.of(null, pendingBalance, false);
+        }
+
+        PointEarnRow earn = new PointEarnRow(
+                account.getId(),
+                amount,
+                reason,
+                idempotencyKey,
+                LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 호출 트랜잭션(출석 저장 등)이 롤백되면 적립도 버려져야 하므로 커밋 이후에만 버퍼에 쌓는다
+            currentTransactionEarns().pending.add(earn);
+        } else {
+            append(earn);
+        }
+        return PointActionResult.of(null, pendingBalance.add(amount), true);
+    }
+
+    /**
+     * 차감 직전, 잠근 계좌에 반영 대기 중인 적립분을 호출 트랜잭션 안에서 반영한다. </br>
+     * 버퍼에 쌓인 적립분과 같은 트랜잭션에서 앞서 요청한 적립분을 모두 포함하며, 호출 트랜잭션이 롤백되면 버퍼로 되돌린다.
+     */
+    public void applyPending(PointAccount account) {
+        TransactionEarns transactionEarns = currentTransactionEarns();
+        List<PointEarnRow> drained = pointEarnBuffer.drain(account.getId());
+        transactionEarns.drained.addAll(drained);
+
+        List<PointEarnRow> earns = new ArrayList<>(drained);
+        earns.addAll(transactionEarns.takePending(account.getId()));
+        if (earns.isEmpty()) {
+            return;
+        }
+
+        // 멱등키 충돌로 INSERT되지 않은 적립분은 잔액에 더하지 않는다
+        Map<String, Long> inserted = pointLedgerJdbcRepository.insertEarns(earns);
+        BigDecimal amount = earns.stream()
+                .filter(earn -> inserted.containsKey(earn.idempotencyKey()))
+                .map(PointEarnRow::amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (amount.signum() > 0) {
+            account.add(amount);
+            applicationEventPublisher.publishEvent(new PointEarnedEvent(account.getId(), amount));
+        }
+    }
+
+    private boolean isAlreadyWritten(String idempotencyKey) {
+        try {
+            return pointTransactionRepository.existsByIdempotencyKey(idempotencyKey);
+        } catch (RuntimeException e) {
+            pointEarnBuffer.unreserve(idempotencyKey);
+            throw e;
+        }
+    }
+
+    private TransactionEarns currentTransactionEarns() {
+        // 동기화 목록은 트랜잭션별로 관리되므로(REQUIRES_NEW 시 보류), 바깥 트랜잭션의 적립분과 섞이지 않는다
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionEarns transactionEarns) {
+                return transactionEarns;
+            }
+        }
+        TransactionEarns transactionEarns = new TransactionEarns();
+        TransactionSynchronizationManager.registerSynchronization(transactionEarns);
+        return transactionEarns;
+    }
+
+    private void append(PointEarnRow earn) {
+        pointEarnBuffer.append(earn);
+        if (pointEarnBuffer.size() >= flushThreshold) {
+            pointEarnFlusher.requestFlush();
+        }
+    }
+
+    /**
+     * 한 트랜잭션 안에서 발생한 적립분 </br>
+     * pending: 커밋 후 버퍼에 쌓을 적립분 </br>
+     * written: 차감 시 이 트랜잭션에서 직접 반영한 적립분 </br>
+     * drained: 차감 시 버퍼에서 꺼내 이 트랜잭션에서 직접 반영한 적립분
+     */
+    private class TransactionEarns implements TransactionSynchronization {
+
+        private final List<PointEarnRow> pending = new ArrayList<>();
+        private final List<PointEarnRow> written = new ArrayList<>();
+        private final List<PointEarnRow> drained = new ArrayList<>();
+
+        private List<PointEarnRow> takePending(Long pointAccountId) {
+            List<PointEarnRow> taken = pending.stream()
+                    .filter(earn -> earn.pointAccountId().equals(pointAccountId))
+                    .toList();
+            pending.removeAll(taken);
+            written.addAll(taken);
+            return taken;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                pending.forEach(PointWriteBehindLedger.this::append);
+                pointEarnBuffer.release(written);
+                pointEarnBuffer.release(drained);
+                return;
+            }
+            pending.forEach(earn -> pointEarnBuffer.unreserve(earn.idempotencyKey()));
+            written.forEach(earn -> pointEarnBuffer.unreserve(earn.idempotencyKey()));
+            pointEarnBuffer.restore(drained);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package aegis.server.domain.study.controller;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.study.service.StudyAdminService;
+import aegis.server.domain.study.service.attendance.AttendanceExportFormat;
+import aegis.server.domain.study.service.attendance.AttendanceMatrix;
+import aegis.server.domain.study.service.attendance.AttendanceMatrixWriter;
+
+@Tag(name = "Admin Study", description = "관리자 스터디 API")
+@RestController
+@RequestMapping("/admin/studies")
+@RequiredArgsConstructor
+public class AdminStudyController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final StudyAdminService studyAdminService;
+
+    @Operation(
+            summary = "학기별 스터디 출석 현황 조회",
+            description = "관리자가 특정 학기 모든 스터디의 출석 매트릭스를 조회합니다. "
+                    + "format=CSV이면 (스터디, 참여자)별 한 행의 CSV 파일로 내려받습니다.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "출석 현황 조회 성공"),
+                @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터", content = @Content),
+                @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content)
+            })
+    @GetMapping("/attendance")
+    public ResponseEntity<StreamingResponseBody> getAttendanceMatrices(
+            @RequestParam YearSemester yearSemester,
+            @RequestParam(defaultValue = "JSON") AttendanceExportFormat format) {
+        List<AttendanceMatrix> matrices = studyAdminService.findAttendanceMatrices(yearSemester);
+        if (format == AttendanceExportFormat.CSV) {
+            return ResponseEntity.ok()
+                    .contentType(TEXT_CSV)
+                    .header(
+                            HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment()
+                                    .filename("attendance-" + yearSemester.getValue() + ".csv")
+                                    .build()
+                                    .toString())
+                    .body(out -> AttendanceMatrixWriter.writeCsv(matrices, out));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> AttendanceMatrixWriter.writeJson(matrices, out));
+    }
+}
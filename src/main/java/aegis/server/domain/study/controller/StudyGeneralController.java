@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +22,8 @@ import aegis.server.domain.study.dto.request.StudyEnrollRequest;
 import aegis.server.domain.study.dto.response.GeneralStudyDetail;
 import aegis.server.domain.study.dto.response.GeneralStudyRolesIdsResponse;
 import aegis.server.domain.study.dto.response.GeneralStudySummary;
+import aegis.server.domain.study.service.StudyCatalogCache;
+import aegis.server.domain.study.service.StudyEnrollmentAdmission;
 import aegis.server.domain.study.service.StudyGeneralService;
 import aegis.server.global.security.annotation.LoginUser;
 import aegis.server.global.security.oidc.UserDetails;
@@ -31,15 +34,19 @@ import aegis.server.global.security.oidc.UserDetails;
 public class StudyGeneralController {
 
     private final StudyGeneralService studyGeneralService;
+    private final StudyEnrollmentAdmission studyEnrollmentAdmission;
+    private final StudyCatalogCache studyCatalogCache;
 
     @Operation(
             summary = "스터디 목록 조회",
             description = "모든 스터디의 목록을 조회합니다.",
-            responses = {@ApiResponse(responseCode = "200", description = "스터디 목록 조회 성공")})
+            responses = {
+                @ApiResponse(responseCode = "200", description = "스터디 목록 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
+            })
     @GetMapping("/studies")
     public ResponseEntity<List<GeneralStudySummary>> findAllStudies() {
-        List<GeneralStudySummary> response = studyGeneralService.findAllStudies();
-        return ResponseEntity.ok(response);
+        return withETag(studyCatalogCache.getSummaries());
     }
 
     @Operation(
@@ -47,12 +54,12 @@ public class StudyGeneralController {
             description = "스터디의 상세 정보를 조회합니다.",
             responses = {
                 @ApiResponse(responseCode = "200", description = "스터디 상세 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content),
                 @ApiResponse(responseCode = "404", description = "스터디를 찾을 수 없음", content = @Content)
             })
     @GetMapping("/studies/{studyId}")
     public ResponseEntity<GeneralStudyDetail> getStudyDetail(@PathVariable Long studyId) {
-        GeneralStudyDetail response = studyGeneralService.getStudyDetail(studyId);
-        return ResponseEntity.ok(response);
+        return withETag(studyCatalogCache.getDetail(studyId));
     }
 
     @Operation(
@@ -86,7 +93,7 @@ public class StudyGeneralController {
             @Parameter(hidden = true) @LoginUser UserDetails userDetails,
             @PathVariable Long studyId,
             @RequestBody StudyEnrollRequest request) {
-        studyGeneralService.enrollInStudy(studyId, request, userDetails);
+        studyEnrollmentAdmission.enroll(studyId, request, userDetails);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
@@ -103,4 +110,16 @@ public class StudyGeneralController {
         GeneralStudyRolesIdsResponse response = studyGeneralService.getMyStudyRoles(userDetails);
         return ResponseEntity.ok(response);
     }
+
+    // GET 응답에 ETag가 있으면 If-None-Match가 일치할 때 본문을 직렬화하지 않고 304로 응답한다
+    // Cache-Control을 직접 지정해야 Spring Security의 no-store 기본값이 붙지 않아 브라우저가 재검증 요청을 보낸다
+    private static <T> ResponseEntity<T> withETag(StudyCatalogCache.Versioned<T> versioned) {
+        if (versioned.eTag() == null) {
+            return ResponseEntity.ok(versioned.value());
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(versioned.eTag())
+                .body(versioned.value());
+    }
 }
@@ -7,11 +7,16 @@ import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +28,9 @@ import aegis.server.domain.study.dto.response.InstructorStudyApplicationReason;
 import aegis.server.domain.study.dto.response.InstructorStudyApplicationSummary;
 import aegis.server.domain.study.dto.response.InstructorStudyMemberResponse;
 import aegis.server.domain.study.service.StudyInstructorService;
+import aegis.server.domain.study.service.attendance.AttendanceExportFormat;
+import aegis.server.domain.study.service.attendance.AttendanceMatrix;
+import aegis.server.domain.study.service.attendance.AttendanceMatrixWriter;
 import aegis.server.global.security.annotation.LoginUser;
 import aegis.server.global.security.oidc.UserDetails;
 
@@ -31,6 +39,8 @@ import aegis.server.global.security.oidc.UserDetails;
 @RequiredArgsConstructor
 public class StudyInstructorController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
     private final StudyInstructorService studyInstructorService;
 
     @Operation(
@@ -151,16 +161,35 @@ public class StudyInstructorController {
 
     @Operation(
             summary = "회차별 출석 현황 조회",
-            description = "스터디장 또는 관리자가 이름 기준 행, 회차 기준 열의 매트릭스를 조회합니다.",
+            description =
+                    "스터디장 또는 관리자가 이름 기준 행, 회차 기준 열의 매트릭스를 조회합니다. format=CSV이면 CSV 파일로 내려받습니다.",
             responses = {
-                @ApiResponse(responseCode = "200", description = "출석 현황 조회 성공"),
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "출석 현황 조회 성공",
+                        content = @Content(schema = @Schema(implementation = AttendanceMatrixResponse.class))),
                 @ApiResponse(responseCode = "403", description = "스터디장/관리자 권한 아님", content = @Content),
                 @ApiResponse(responseCode = "404", description = "스터디를 찾을 수 없음", content = @Content)
             })
     @GetMapping("/studies/{studyId}/attendance-instructor")
-    public ResponseEntity<AttendanceMatrixResponse> getAttendanceMatrix(
-            @PathVariable Long studyId, @Parameter(hidden = true) @LoginUser UserDetails userDetails) {
-        AttendanceMatrixResponse response = studyInstructorService.findAttendanceMatrix(studyId, userDetails);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<StreamingResponseBody> getAttendanceMatrix(
+            @PathVariable Long studyId,
+            @RequestParam(defaultValue = "JSON") AttendanceExportFormat format,
+            @Parameter(hidden = true) @LoginUser UserDetails userDetails) {
+        AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(studyId, userDetails);
+        if (format == AttendanceExportFormat.CSV) {
+            return ResponseEntity.ok()
+                    .contentType(TEXT_CSV)
+                    .header(
+                            HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment()
+                                    .filename("attendance-" + studyId + ".csv")
+                                    .build()
+                                    .toString())
+                    .body(out -> AttendanceMatrixWriter.writeCsv(matrix, out));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> AttendanceMatrixWriter.writeJson(matrix, out));
     }
 }
@@ -35,7 +35,8 @@ public class StudyParticipantController {
                 @ApiResponse(responseCode = "400", description = "잘못된 출석 코드", content = @Content),
                 @ApiResponse(responseCode = "403", description = "스터디원이 아님", content = @Content),
                 @ApiResponse(responseCode = "404", description = "오늘 세션 없음", content = @Content),
-                @ApiResponse(responseCode = "409", description = "이미 출석 완료", content = @Content)
+                @ApiResponse(responseCode = "409", description = "이미 출석 완료", content = @Content),
+                @ApiResponse(responseCode = "429", description = "출석 코드 시도 횟수 초과", content = @Content)
             })
     @PostMapping("/studies/{studyId}/attendance")
     public ResponseEntity<AttendanceMarkResponse> markAttendance(
@@ -115,4 +115,8 @@ public class Study extends BaseEntity {
         }
         this.currentParticipants++;
     }
+
+    public void recountCurrentParticipants(int currentParticipants) {
+        this.currentParticipants = currentParticipants;
+    }
 }
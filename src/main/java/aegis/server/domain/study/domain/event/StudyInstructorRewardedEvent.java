@@ -0,0 +1,5 @@
+package aegis.server.domain.study.domain.event;
+
+import java.time.LocalDate;
+
+public record StudyInstructorRewardedEvent(Long studyId, LocalDate sessionDate) {}
@@ -0,0 +1,3 @@
+package aegis.server.domain.study.domain.event;
+
+public record StudySeatsChangedEvent(Long studyId) {}
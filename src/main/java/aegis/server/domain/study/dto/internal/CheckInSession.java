@@ -0,0 +1,4 @@
+package aegis.server.domain.study.dto.internal;
+
+public record CheckInSession(
+        Long studyId, Long sessionId, String code, String studyTitle, Long instructorId, boolean instructorRewarded) {}
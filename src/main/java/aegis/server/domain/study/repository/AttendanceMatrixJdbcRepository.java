@@ -0,0 +1,134 @@
+package aegis.server.domain.study.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.study.domain.StudyRole;
+
+/**
+ * 출석 행렬을 채우기 위한 PostgreSQL 조회 경로 </br>
+ * 회차와 참여자(행렬의 머리글)는 목록으로 읽고, 행렬 칸이 되는 출석 기록은 RowCallbackHandler로 한 행씩 넘겨
+ * 프로젝션 객체를 만들지 않는다. 한 스터디 또는 한 학기의 모든 스터디를 같은 쿼리로 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceMatrixJdbcRepository {
+
+    private static final String STUDIES_SQL =
+            """
+            SELECT s.study_id, s.title
+            FROM study s
+            WHERE %s
+            ORDER BY s.study_id
+            """;
+
+    private static final String SESSIONS_SQL =
+            """
+            SELECT ss.study_id, ss.study_session_id, ss.session_date
+            FROM study_session ss
+            JOIN study s ON s.study_id = ss.study_id
+            WHERE %s
+            ORDER BY ss.study_id, ss.session_date, ss.study_session_id
+            """;
+
+    private static final String PARTICIPANTS_SQL =
+            """
+            SELECT sm.study_id, m.member_id, m.name
+            FROM study_member sm
+            JOIN study s ON s.study_id = sm.study_id
+            JOIN member m ON m.member_id = sm.member_id
+            WHERE %s AND sm.role = ?
+            ORDER BY sm.study_id, m.name, m.member_id
+            """;
+
+    private static final String ATTENDANCES_SQL =
+            """
+            SELECT ss.study_id, sa.member_id, sa.study_session_id
+            FROM study_attendance sa
+            JOIN study_session ss ON ss.study_session_id = sa.study_session_id
+            JOIN study s ON s.study_id = ss.study_id
+            WHERE %s
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<StudyRow> findStudies(Scope scope) {
+        return jdbcTemplate.query(
+                STUDIES_SQL.formatted(scope.filter()),
+                (rs, rowNum) -> new StudyRow(rs.getLong("study_id"), rs.getString("title")),
+                scope.param());
+    }
+
+    public List<SessionRow> findSessions(Scope scope) {
+        return jdbcTemplate.query(
+                SESSIONS_SQL.formatted(scope.filter()),
+                (rs, rowNum) -> new SessionRow(
+                        rs.getLong("study_id"),
+                        rs.getLong("study_session_id"),
+                        rs.getObject("session_date", LocalDate.class)),
+                scope.param());
+    }
+
+    public List<ParticipantRow> findParticipants(Scope scope) {
+        return jdbcTemplate.query(
+                PARTICIPANTS_SQL.formatted(scope.filter()),
+                (rs, rowNum) ->
+                        new ParticipantRow(rs.getLong("study_id"), rs.getLong("member_id"), rs.getString("name")),
+                scope.param(),
+                StudyRole.PARTICIPANT.name());
+    }
+
+    public void forEachAttendance(Scope scope, AttendanceHandler handler) {
+        jdbcTemplate.query(
+                ATTENDANCES_SQL.formatted(scope.filter()),
+                rs -> {
+                    handler.accept(rs.getLong("study_id"), rs.getLong("member_id"), rs.getLong("study_session_id"));
+                },
+                scope.param());
+    }
+
+    // 조회 대상 스터디 조건. SQL 조각을 외부에서 만들 수 없도록 팩토리 메서드로만 생성한다
+    public static final class Scope {
+
+        private final String filter;
+        private final Object param;
+
+        private Scope(String filter, Object param) {
+            this.filter = filter;
+            this.param = param;
+        }
+
+        public static Scope study(Long studyId) {
+            return new Scope("s.study_id = ?", studyId);
+        }
+
+        public static Scope yearSemester(YearSemester yearSemester) {
+            return new Scope("s.year_semester = ?", yearSemester.name());
+        }
+
+        private String filter() {
+            return filter;
+        }
+
+        private Object param() {
+            return param;
+        }
+    }
+
+    public record StudyRow(long studyId, String title) {}
+
+    public record SessionRow(long studyId, long sessionId, LocalDate sessionDate) {}
+
+    public record ParticipantRow(long studyId, long memberId, String name) {}
+
+    @FunctionalInterface
+    public interface AttendanceHandler {
+        void accept(long studyId, long memberId, long sessionId);
+    }
+}
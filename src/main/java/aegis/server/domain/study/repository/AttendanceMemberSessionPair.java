@@ -1,7 +0,0 @@
-package aegis.server.domain.study.repository;
-
-public interface AttendanceMemberSessionPair {
-    Long getMemberId();
-
-    Long getSessionId();
-}
@@ -0,0 +1,41 @@
+package aegis.server.domain.study.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출석 기록의 PostgreSQL 전용 쓰기 경로 </br>
+ * 회차-회원 유니크 제약(uk_study_attendance_session_member)을 ON CONFLICT 대상으로 사용하여,
+ * 선조회 없이 INSERT 한 번으로 중복 출석을 판단하고 제약 위반 예외와 로그도 남기지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyAttendanceJdbcRepository {
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO study_attendance (study_session_id, member_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (study_session_id, member_id) DO NOTHING
+            RETURNING study_attendance_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 새로 저장한 출석 ID, 이미 출석한 경우 empty
+     */
+    public Optional<Long> insertIfAbsent(Long sessionId, Long memberId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate
+                .queryForList(INSERT_SQL, Long.class, sessionId, memberId, timestamp, timestamp)
+                .stream()
+                .findFirst();
+    }
+}
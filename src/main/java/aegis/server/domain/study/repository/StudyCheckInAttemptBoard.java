@@ -0,0 +1,76 @@
+package aegis.server.domain.study.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출석 코드 검증 실패를 회원별, 회차별 슬라이딩 윈도우로 기록한다. </br>
+ * 실패 시각(ms)을 점수로 하는 Sorted Set에 쌓고, 조회할 때 윈도우를 벗어난 기록을 먼저 지운 뒤 남은 개수를 센다.
+ * 키는 윈도우 길이만큼만 유지되므로 따로 정리할 필요가 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyCheckInAttemptBoard {
+
+    private static final String MEMBER_KEY_PREFIX = "study:checkin:fail:member:";
+    private static final String SESSION_KEY_PREFIX = "study:checkin:fail:session:";
+
+    private static final RedisScript<Long> COUNT = new DefaultRedisScript<>(
+            """
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            return redis.call('ZCARD', KEYS[1])
+            """,
+            Long.class);
+
+    private static final RedisScript<Long> RECORD = new DefaultRedisScript<>(
+            """
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """,
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long countMemberFailures(Long studyId, LocalDate date, Long memberId, long nowMillis, long windowMillis) {
+        return countFailures(memberKey(studyId, date, memberId), nowMillis, windowMillis);
+    }
+
+    public long countSessionFailures(Long studyId, LocalDate date, long nowMillis, long windowMillis) {
+        return countFailures(sessionKey(studyId, date), nowMillis, windowMillis);
+    }
+
+    public void recordFailure(Long studyId, LocalDate date, Long memberId, long nowMillis, long windowMillis) {
+        // 같은 밀리초의 실패가 하나로 합쳐지지 않도록 원소에 난수를 붙인다
+        String entry = nowMillis + ":" + memberId + ":" + ThreadLocalRandom.current().nextLong();
+        stringRedisTemplate.execute(
+                RECORD,
+                List.of(memberKey(studyId, date, memberId), sessionKey(studyId, date)),
+                String.valueOf(nowMillis),
+                String.valueOf(windowMillis),
+                entry);
+    }
+
+    private long countFailures(String key, long nowMillis, long windowMillis) {
+        Long count = stringRedisTemplate.execute(COUNT, List.of(key), String.valueOf(nowMillis - windowMillis));
+        return count == null ? 0 : count;
+    }
+
+    private String memberKey(Long studyId, LocalDate date, Long memberId) {
+        return MEMBER_KEY_PREFIX + studyId + ":" + date + ":" + memberId;
+    }
+
+    private String sessionKey(Long studyId, LocalDate date) {
+        return SESSION_KEY_PREFIX + studyId + ":" + date;
+    }
+}
@@ -0,0 +1,138 @@
+package aegis.server.domain.study.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.study.dto.internal.CheckInSession;
+
+/**
+ * 출석 체크인에 필요한 오늘 회차 정보와 참여자 명단을 Redis에 캐싱한다. </br>
+ * 회차는 스터디와 날짜별 Hash(sessionId, code, studyTitle, instructorId, instructorRewarded)로, 명단은 스터디별 Set으로 둔다.
+ * 출석 코드는 회차가 만들어진 뒤 바뀌지 않으므로 회차 캐시를 무효화할 일은 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyCheckInBoard {
+
+    private static final String SESSION_KEY_PREFIX = "study:checkin:";
+    private static final String ROSTER_KEY_PREFIX = "study:roster:";
+    // 참여자가 없는 스터디도 "명단을 읽었음"을 표시하기 위한 자리표시 원소 (회원 ID는 양수)
+    private static final String ROSTER_SENTINEL = "0";
+
+    private static final String SESSION_ID = "sessionId";
+    private static final String CODE = "code";
+    private static final String STUDY_TITLE = "studyTitle";
+    private static final String INSTRUCTOR_ID = "instructorId";
+    private static final String INSTRUCTOR_REWARDED = "instructorRewarded";
+
+    // 명단이 없으면 -1, 있으면 SISMEMBER 결과
+    private static final RedisScript<Long> IS_ROSTER_MEMBER = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return redis.call('SISMEMBER', KEYS[1], ARGV[1])
+            """,
+            Long.class);
+
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            return redis.call('SADD', KEYS[1], ARGV[1])
+            """,
+            Long.class);
+
+    // 만료된 회차 Hash를 일부 필드만으로 되살리지 않도록 키가 있을 때만 쓴다
+    private static final RedisScript<Long> MARK_INSTRUCTOR_REWARDED = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'instructorRewarded', '1')
+            return 1
+            """,
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<CheckInSession> findSession(Long studyId, LocalDate date) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(sessionKey(studyId, date));
+        if (fields.isEmpty() || !fields.containsKey(CODE)) {
+            return Optional.empty();
+        }
+        return Optional.of(new CheckInSession(
+                studyId,
+                Long.parseLong((String) fields.get(SESSION_ID)),
+                (String) fields.get(CODE),
+                (String) fields.get(STUDY_TITLE),
+                Long.parseLong((String) fields.get(INSTRUCTOR_ID)),
+                fields.containsKey(INSTRUCTOR_REWARDED)));
+    }
+
+    public void saveSession(LocalDate date, CheckInSession session, Duration ttl) {
+        String key = sessionKey(session.studyId(), date);
+        stringRedisTemplate
+                .opsForHash()
+                .putAll(
+                        key,
+                        Map.of(
+                                SESSION_ID, String.valueOf(session.sessionId()),
+                                CODE, session.code(),
+                                STUDY_TITLE, session.studyTitle(),
+                                INSTRUCTOR_ID, String.valueOf(session.instructorId())));
+        stringRedisTemplate.expire(key, ttl);
+    }
+
+    public void markInstructorRewarded(Long studyId, LocalDate date) {
+        stringRedisTemplate.execute(MARK_INSTRUCTOR_REWARDED, List.of(sessionKey(studyId, date)));
+    }
+
+    /**
+     * @return 명단에 있으면 true, 없으면 false, 명단이 캐싱되어 있지 않으면 empty
+     */
+    public Optional<Boolean> isRosterMember(Long studyId, Long memberId) {
+        Long result =
+                stringRedisTemplate.execute(IS_ROSTER_MEMBER, List.of(rosterKey(studyId)), String.valueOf(memberId));
+        if (result == null || result < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(result == 1);
+    }
+
+    public void saveRoster(Long studyId, Collection<Long> memberIds, Duration ttl) {
+        String key = rosterKey(studyId);
+        String[] members = new String[memberIds.size() + 1];
+        members[0] = ROSTER_SENTINEL;
+        int i = 1;
+        for (Long memberId : memberIds) {
+            members[i++] = String.valueOf(memberId);
+        }
+        stringRedisTemplate.opsForSet().add(key, members);
+        stringRedisTemplate.expire(key, ttl);
+    }
+
+    public void addRosterMember(Long studyId, Long memberId) {
+        stringRedisTemplate.execute(ADD_IF_PRESENT, List.of(rosterKey(studyId)), String.valueOf(memberId));
+    }
+
+    private String sessionKey(Long studyId, LocalDate date) {
+        return SESSION_KEY_PREFIX + studyId + ":" + date;
+    }
+
+    private String rosterKey(Long studyId) {
+        return ROSTER_KEY_PREFIX + studyId;
+    }
+}
@@ -3,7 +3,6 @@ package aegis.server.domain.study.repository;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -25,6 +24,8 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
 
     boolean existsByStudyAndMember(Study study, Member member);
 
+    long countByStudyAndRole(Study study, StudyRole role);
+
     @Query("""
         SELECT sm
         FROM StudyMember sm
@@ -38,6 +39,9 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
     @Query("SELECT sm FROM StudyMember sm WHERE sm.study.id = :studyId AND sm.role = :role")
     Optional<StudyMember> findFirstByStudyIdAndRole(Long studyId, StudyRole role);
 
+    @Query("SELECT sm.member.id FROM StudyMember sm WHERE sm.study.id = :studyId AND sm.role = :role")
+    List<Long> findMemberIdsByStudyIdAndRole(Long studyId, StudyRole role);
+
     @Query("""
         SELECT s.id
         FROM StudyMember sm
@@ -47,8 +51,4 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
           AND s.yearSemester = :yearSemester
         """)
     List<Long> findStudyIdsByMemberIdAndRoleAndYearSemester(Long memberId, StudyRole role, YearSemester yearSemester);
-
-    @EntityGraph(attributePaths = "study")
-    List<StudyMember> findByMemberIdAndStudyYearSemesterOrderByCreatedAtDescIdDesc(
-            Long memberId, YearSemester yearSemester);
 }
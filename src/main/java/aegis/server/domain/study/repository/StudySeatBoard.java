@@ -0,0 +1,87 @@
+package aegis.server.domain.study.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 선착순 스터디의 좌석 카운터를 Redis Hash(capacity, taken)로 관리한다. </br>
+ * 좌석 확보는 Lua 스크립트 한 번으로 원자적으로 이루어지므로, 정원이 찬 뒤의 요청은 스터디 행 잠금을 기다리지 않고 바로 거절된다.
+ * 카운터는 입장 제어용일 뿐이며 정원의 기준은 여전히 DB의 currentParticipants이다.
+ * 키가 없으면 모르는 스터디로 보고 DB 잠금 경로로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudySeatBoard {
+
+    private static final String KEY_PREFIX = "study:seats:";
+    private static final String CAPACITY = "capacity";
+    private static final String TAKEN = "taken";
+
+    // capacity가 0이면 무제한
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            """
+            local capacity = redis.call('HGET', KEYS[1], 'capacity')
+            if not capacity then
+                return -1
+            end
+            capacity = tonumber(capacity)
+            local taken = tonumber(redis.call('HGET', KEYS[1], 'taken') or '0')
+            if capacity ~= 0 and taken >= capacity then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'taken', 1)
+            return 1
+            """,
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            """
+            local taken = tonumber(redis.call('HGET', KEYS[1], 'taken') or '0')
+            if taken > 0 then
+                redis.call('HINCRBY', KEYS[1], 'taken', -1)
+            end
+            return taken
+            """,
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public SeatResult acquire(Long studyId) {
+        Long result = stringRedisTemplate.execute(ACQUIRE, List.of(key(studyId)));
+        if (result == null || result < 0) {
+            return SeatResult.UNKNOWN;
+        }
+        return result == 1 ? SeatResult.ACQUIRED : SeatResult.FULL;
+    }
+
+    public void release(Long studyId) {
+        stringRedisTemplate.execute(RELEASE, List.of(key(studyId)));
+    }
+
+    public void sync(Long studyId, int capacity, int taken) {
+        stringRedisTemplate
+                .opsForHash()
+                .putAll(key(studyId), Map.of(CAPACITY, String.valueOf(capacity), TAKEN, String.valueOf(taken)));
+    }
+
+    public void remove(Long studyId) {
+        stringRedisTemplate.delete(key(studyId));
+    }
+
+    private String key(Long studyId) {
+        return KEY_PREFIX + studyId;
+    }
+
+    public enum SeatResult {
+        ACQUIRED,
+        FULL,
+        UNKNOWN
+    }
+}
@@ -0,0 +1,24 @@
+package aegis.server.domain.study.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.study.service.attendance.AttendanceMatrix;
+import aegis.server.domain.study.service.attendance.AttendanceMatrixLoader;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyAdminService {
+
+    private final AttendanceMatrixLoader attendanceMatrixLoader;
+
+    public List<AttendanceMatrix> findAttendanceMatrices(YearSemester yearSemester) {
+        return attendanceMatrixLoader.loadAll(yearSemester);
+    }
+}
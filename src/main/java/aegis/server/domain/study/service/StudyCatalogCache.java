@@ -0,0 +1,138 @@
+package aegis.server.domain.study.service;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.study.dto.response.GeneralStudyDetail;
+import aegis.server.domain.study.dto.response.GeneralStudySummary;
+
+/**
+ * 현재 학기 스터디 목록과 상세 정보를 인스턴스 메모리에 캐싱한다. </br>
+ * 캐시의 유효성은 Redis에 둔 카탈로그 버전 하나로 판단하며, 스터디 생성/수정이나 참가자 수 변경이 커밋되면 버전을 올려 모든 인스턴스의 캐시를 무효화한다.
+ * 버전은 그대로 ETag가 되므로 같은 버전을 가진 재요청은 DB 조회와 본문 직렬화 없이 304로 응답할 수 있다.
+ * 버전 키가 사라지면 현재 시각(ms)으로 다시 시작하여, 이전에 내려준 ETag와 겹치지 않게 한다.
+ * 버전을 올리지 못하면 다음 조회에서 다시 시도하며, 그때까지 이 인스턴스는 캐시 없이 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyCatalogCache {
+
+    private static final String VERSION_KEY = "study:catalog:version";
+
+    private static final RedisScript<Long> CURRENT_VERSION = new DefaultRedisScript<>(
+            """
+            redis.call('SET', KEYS[1], ARGV[1], 'NX')
+            return tonumber(redis.call('GET', KEYS[1]))
+            """,
+            Long.class);
+
+    private static final RedisScript<Long> NEXT_VERSION = new DefaultRedisScript<>(
+            """
+            redis.call('SET', KEYS[1], ARGV[1], 'NX')
+            return redis.call('INCR', KEYS[1])
+            """,
+            Long.class);
+
+    private final StudyGeneralService studyGeneralService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Clock clock;
+
+    private volatile Versioned<List<GeneralStudySummary>> summaries;
+    private final Map<Long, Versioned<GeneralStudyDetail>> details = new ConcurrentHashMap<>();
+    private final AtomicBoolean versionBumpPending = new AtomicBoolean();
+
+    public Versioned<List<GeneralStudySummary>> getSummaries() {
+        Long version = currentVersion();
+        if (version == null) {
+            return Versioned.uncached(studyGeneralService.findAllStudies());
+        }
+
+        Versioned<List<GeneralStudySummary>> cached = summaries;
+        if (cached != null && version.equals(cached.version())) {
+            return cached;
+        }
+        // 조회 전에 읽은 버전으로 저장하므로, 조회 중에 무효화되어도 다음 요청에서 다시 조회된다
+        Versioned<List<GeneralStudySummary>> loaded = new Versioned<>(version, studyGeneralService.findAllStudies());
+        summaries = loaded;
+        return loaded;
+    }
+
+    public Versioned<GeneralStudyDetail> getDetail(Long studyId) {
+        Long version = currentVersion();
+        if (version == null) {
+            return Versioned.uncached(studyGeneralService.getStudyDetail(studyId));
+        }
+
+        Versioned<GeneralStudyDetail> cached = details.get(studyId);
+        if (cached != null && version.equals(cached.version())) {
+            return cached;
+        }
+        Versioned<GeneralStudyDetail> loaded = new Versioned<>(version, studyGeneralService.getStudyDetail(studyId));
+        details.put(studyId, loaded);
+        return loaded;
+    }
+
+    public void invalidate() {
+        summaries = null;
+        details.clear();
+        versionBumpPending.set(true);
+        bumpVersion();
+    }
+
+    private Long currentVersion() {
+        // 이전 무효화의 버전 증가가 실패했다면 다른 인스턴스의 캐시가 남아 있으므로 먼저 다시 시도한다
+        if (versionBumpPending.get() && !bumpVersion()) {
+            return null;
+        }
+        try {
+            return stringRedisTemplate.execute(CURRENT_VERSION, List.of(VERSION_KEY), String.valueOf(clock.millis()));
+        } catch (DataAccessException e) {
+            log.warn("[StudyCatalogCache] 카탈로그 버전 조회 실패, 캐시 없이 조회합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean bumpVersion() {
+        if (!versionBumpPending.getAndSet(false)) {
+            return true;
+        }
+        try {
+            Long version = stringRedisTemplate.execute(
+                    NEXT_VERSION, List.of(VERSION_KEY), String.valueOf(clock.millis()));
+            log.info("[StudyCatalogCache] 스터디 카탈로그 캐시 무효화: version={}", version);
+            return true;
+        } catch (DataAccessException e) {
+            versionBumpPending.set(true);
+            log.warn("[StudyCatalogCache] 카탈로그 버전 증가 실패, 다음 조회에서 다시 시도합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @param version 캐시하지 않은 값이면 null
+     */
+    public record Versioned<T>(Long version, T value) {
+
+        static <T> Versioned<T> uncached(T value) {
+            return new Versioned<>(null, value);
+        }
+
+        public String eTag() {
+            return version == null ? null : "\"catalog-" + version + "\"";
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package aegis.server.domain.study.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.study.domain.StudyRole;
+import aegis.server.domain.study.domain.StudySession;
+import aegis.server.domain.study.dto.internal.CheckInSession;
+import aegis.server.domain.study.repository.StudyCheckInBoard;
+import aegis.server.domain.study.repository.StudyMemberRepository;
+import aegis.server.domain.study.repository.StudySessionRepository;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * 출석 체크인용 회차/명단 캐시 (cache-aside) </br>
+ * 캐시에 없으면 DB에서 읽어 채우고, Redis에 접근할 수 없으면 DB 결과만 사용한다.
+ * 명단은 "있음"만 믿는다. 캐싱 뒤 가입한 참여자가 거절되지 않도록, 명단에 없으면 DB로 다시 확인한 뒤 명단에 더한다.
+ */
+@Slf4j
+@Component
+public class StudyCheckInCache {
+
+    private final StudyCheckInBoard studyCheckInBoard;
+    private final StudySessionRepository studySessionRepository;
+    private final StudyMemberRepository studyMemberRepository;
+    private final Duration ttl;
+
+    public StudyCheckInCache(
+            StudyCheckInBoard studyCheckInBoard,
+            StudySessionRepository studySessionRepository,
+            StudyMemberRepository studyMemberRepository,
+            @Value("${study.attendance.check-in.cache-ttl-seconds}") long ttlSeconds) {
+        this.studyCheckInBoard = studyCheckInBoard;
+        this.studySessionRepository = studySessionRepository;
+        this.studyMemberRepository = studyMemberRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public CheckInSession getSession(Long studyId, LocalDate date) {
+        Optional<CheckInSession> cached = read(() -> studyCheckInBoard.findSession(studyId, date));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 아직 발급되지 않은 회차는 곧 발급될 수 있으므로 캐싱하지 않는다
+        StudySession session = studySessionRepository
+                .findByStudyIdAndSessionDate(studyId, date)
+                .orElseThrow(() -> new CustomException(ErrorCode.STUDY_SESSION_NOT_FOUND));
+        Long instructorId = studyMemberRepository
+                .findFirstByStudyIdAndRole(studyId, StudyRole.INSTRUCTOR)
+                .orElseThrow(() -> new CustomException(ErrorCode.STUDY_INSTRUCTOR_NOT_FOUND))
+                .getMember()
+                .getId();
+
+        CheckInSession loaded = new CheckInSession(
+                studyId,
+                session.getId(),
+                session.getAttendanceCode(),
+                session.getStudy().getTitle(),
+                instructorId,
+                false);
+        write(() -> studyCheckInBoard.saveSession(date, loaded, ttl));
+        return loaded;
+    }
+
+    public boolean isParticipant(Long studyId, Long memberId) {
+        Optional<Boolean> cached = read(() -> studyCheckInBoard.isRosterMember(studyId, memberId));
+        if (cached.isPresent() && cached.get()) {
+            return true;
+        }
+
+        if (cached.isEmpty()) {
+            List<Long> participantIds =
+                    studyMemberRepository.findMemberIdsByStudyIdAndRole(studyId, StudyRole.PARTICIPANT);
+            write(() -> studyCheckInBoard.saveRoster(studyId, participantIds, ttl));
+            return participantIds.contains(memberId);
+        }
+
+        boolean participant =
+                studyMemberRepository.existsByStudyIdAndMemberIdAndRole(studyId, memberId, StudyRole.PARTICIPANT);
+        if (participant) {
+            write(() -> studyCheckInBoard.addRosterMember(studyId, memberId));
+        }
+        return participant;
+    }
+
+    public void markInstructorRewarded(Long studyId, LocalDate date) {
+        write(() -> studyCheckInBoard.markInstructorRewarded(studyId, date));
+    }
+
+    private <T> Optional<T> read(Supplier<Optional<T>> reader) {
+        try {
+            return reader.get();
+        } catch (DataAccessException e) {
+            log.warn("[StudyCheckInCache] Redis 조회 실패, DB에서 읽습니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(Runnable writer) {
+        try {
+            writer.run();
+        } catch (DataAccessException e) {
+            log.warn("[StudyCheckInCache] Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package aegis.server.domain.study.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.study.repository.StudyCheckInAttemptBoard;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * 출석 코드 무차별 대입 방지 </br>
+ * 코드는 1-9 네 자리(6,561가지)뿐이므로, 윈도우 안의 검증 실패가 회원별 또는 회차별 한도에 닿으면 거절한다.
+ * 회차별 한도는 여러 계정을 돌려 가며 시도하는 경우를 막으며, 틀린 코드에만 적용해 올바른 코드는 항상 통과시킨다.
+ * Redis에 접근할 수 없으면 제한 없이 통과시킨다. 검증 결과는 result 태그로 나누어 기록한다.
+ */
+@Slf4j
+@Component
+public class StudyCheckInGuard {
+
+    static final String METRIC_NAME = "study.attendance.check-in";
+
+    private final StudyCheckInAttemptBoard studyCheckInAttemptBoard;
+    private final Clock clock;
+    private final long windowMillis;
+    private final int memberLimit;
+    private final int sessionLimit;
+
+    private final Counter acceptedCounter;
+    private final Counter invalidCodeCounter;
+    private final Counter memberLimitedCounter;
+    private final Counter sessionLimitedCounter;
+
+    public StudyCheckInGuard(
+            StudyCheckInAttemptBoard studyCheckInAttemptBoard,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${study.attendance.check-in.failure-window-seconds}") long windowSeconds,
+            @Value("${study.attendance.check-in.member-failure-limit}") int memberLimit,
+            @Value("${study.attendance.check-in.session-failure-limit}") int sessionLimit) {
+        this.studyCheckInAttemptBoard = studyCheckInAttemptBoard;
+        this.clock = clock;
+        this.windowMillis = Duration.ofSeconds(windowSeconds).toMillis();
+        this.memberLimit = memberLimit;
+        this.sessionLimit = sessionLimit;
+        this.acceptedCounter = meterRegistry.counter(METRIC_NAME, "result", "accepted");
+        this.invalidCodeCounter = meterRegistry.counter(METRIC_NAME, "result", "invalid_code");
+        this.memberLimitedCounter = meterRegistry.counter(METRIC_NAME, "result", "member_limited");
+        this.sessionLimitedCounter = meterRegistry.counter(METRIC_NAME, "result", "session_limited");
+    }
+
+    /**
+     * 회원별 한도는 코드 검증 전에 확인해, 한도에 닿은 회원은 DB를 읽기 전에 거절한다.
+     */
+    public void checkMemberAllowed(Long studyId, LocalDate date, Long memberId) {
+        try {
+            long failures = studyCheckInAttemptBoard.countMemberFailures(
+                    studyId, date, memberId, clock.instant().toEpochMilli(), windowMillis);
+            if (failures < memberLimit) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[StudyCheckInGuard] Redis 조회 실패, 시도 제한 없이 진행합니다: {}", e.getMessage());
+            return;
+        }
+        memberLimitedCounter.increment();
+        reject(studyId, date, memberId, "member_limited");
+    }
+
+    /**
+     * 회차별 한도는 틀린 코드에만 적용한다. </br>
+     * 다른 계정들의 대입 시도로 회차 한도가 찼더라도 올바른 코드를 입력한 참여자는 출석할 수 있어야 하기 때문이다.
+     * 호출 측은 이번 실패를 먼저 기록해야 한다. 그래야 회차 한도로 거절된 시도도 회원별 한도에 포함된다.
+     */
+    public void checkSessionAllowed(Long studyId, LocalDate date, Long memberId) {
+        try {
+            long failures = studyCheckInAttemptBoard.countSessionFailures(
+                    studyId, date, clock.instant().toEpochMilli(), windowMillis);
+            if (failures < sessionLimit) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[StudyCheckInGuard] Redis 조회 실패, 시도 제한 없이 진행합니다: {}", e.getMessage());
+            return;
+        }
+        sessionLimitedCounter.increment();
+        reject(studyId, date, memberId, "session_limited");
+    }
+
+    public void recordFailure(Long studyId, LocalDate date, Long memberId) {
+        invalidCodeCounter.increment();
+        try {
+            studyCheckInAttemptBoard.recordFailure(
+                    studyId, date, memberId, clock.instant().toEpochMilli(), windowMillis);
+        } catch (DataAccessException e) {
+            log.warn("[StudyCheckInGuard] Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public void recordSuccess() {
+        acceptedCounter.increment();
+    }
+
+    private void reject(Long studyId, LocalDate date, Long memberId, String result) {
+        log.warn(
+                "[StudyCheckInGuard] 출석 코드 시도 제한: studyId={}, sessionDate={}, memberId={}, result={}",
+                studyId,
+                date,
+                memberId,
+                result);
+        throw new CustomException(ErrorCode.STUDY_ATTENDANCE_TOO_MANY_ATTEMPTS);
+    }
+}
@@ -0,0 +1,56 @@
+package aegis.server.domain.study.service;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.study.dto.request.StudyEnrollRequest;
+import aegis.server.domain.study.repository.StudySeatBoard;
+import aegis.server.domain.study.repository.StudySeatBoard.SeatResult;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.security.oidc.UserDetails;
+
+/**
+ * 선착순 스터디 가입의 입장 제어. </br>
+ * Redis 좌석 카운터에서 좌석을 먼저 확보하고, 정원이 찬 뒤의 요청은 DB 커넥션을 잡기 전에 바로 거절한다.
+ * 좌석을 확보한 요청만 기존 잠금 경로({@link StudyGeneralService#enrollInStudy})로 StudyMember를 저장하며, 실패하면 좌석을 돌려준다.
+ * 카운터가 없는 스터디(신청제 스터디 포함)나 Redis에 접근할 수 없을 때는 잠금 경로로만 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyEnrollmentAdmission {
+
+    private final StudyGeneralService studyGeneralService;
+    private final StudySeatBoard studySeatBoard;
+
+    public void enroll(Long studyId, StudyEnrollRequest request, UserDetails userDetails) {
+        SeatResult seat = acquire(studyId);
+        if (seat == SeatResult.FULL) {
+            throw new CustomException(ErrorCode.STUDY_FULL);
+        }
+        if (seat == SeatResult.UNKNOWN) {
+            studyGeneralService.enrollInStudy(studyId, request, userDetails);
+            return;
+        }
+
+        try {
+            studyGeneralService.enrollInStudy(studyId, request, userDetails);
+        } catch (RuntimeException e) {
+            studySeatBoard.release(studyId);
+            throw e;
+        }
+    }
+
+    private SeatResult acquire(Long studyId) {
+        try {
+            return studySeatBoard.acquire(studyId);
+        } catch (DataAccessException e) {
+            log.warn("[StudyEnrollmentAdmission] Redis 좌석 확보 실패, 잠금 경로로 처리합니다: {}", e.getMessage());
+            return SeatResult.UNKNOWN;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package aegis.server.domain.study.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,8 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.domain.Role;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.study.domain.*;
+import aegis.server.domain.study.domain.event.StudyCatalogChangedEvent;
+import aegis.server.domain.study.domain.event.StudySeatsChangedEvent;
 import aegis.server.domain.study.dto.request.StudyCreateUpdateRequest;
 import aegis.server.domain.study.dto.request.StudyEnrollRequest;
 import aegis.server.domain.study.dto.response.GeneralStudyDetail;
@@ -36,6 +39,7 @@ public class StudyGeneralService {
     private final StudyMemberRepository studyMemberRepository;
     private final MemberRepository memberRepository;
     private final StudyApplicationRepository studyApplicationRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public List<GeneralStudySummary> findAllStudies() {
         return studyRepository.findStudySummariesByCurrentYearSemester();
@@ -83,6 +87,8 @@ public class StudyGeneralService {
 
         // 스터디 생성한 사람을 스터디장으로 등록
         studyMemberRepository.save(StudyMember.create(study, member, StudyRole.INSTRUCTOR));
+        applicationEventPublisher.publishEvent(new StudySeatsChangedEvent(study.getId()));
+        applicationEventPublisher.publishEvent(new StudyCatalogChangedEvent(study.getId()));
 
         return getStudyDetail(study.getId());
     }
@@ -124,6 +130,7 @@ public class StudyGeneralService {
 
         StudyMember studyMember = StudyMember.create(study, member, StudyRole.PARTICIPANT);
         studyMemberRepository.save(studyMember);
+        applicationEventPublisher.publishEvent(new StudyCatalogChangedEvent(study.getId()));
     }
 
     private void processApplication(Study study, Member member, String applicationReason) {
@@ -3,8 +3,9 @@ package aegis.server.domain.study.service;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,18 +13,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import aegis.server.domain.common.idempotency.IdempotencyKeys;
-import aegis.server.domain.member.domain.Member;
-import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.point.service.PointLedger;
-import aegis.server.domain.study.domain.StudyAttendance;
-import aegis.server.domain.study.domain.StudyMember;
-import aegis.server.domain.study.domain.StudyRole;
-import aegis.server.domain.study.domain.StudySession;
+import aegis.server.domain.study.domain.event.StudyInstructorRewardedEvent;
+import aegis.server.domain.study.dto.internal.CheckInSession;
 import aegis.server.domain.study.dto.request.AttendanceMarkRequest;
 import aegis.server.domain.study.dto.response.AttendanceMarkResponse;
-import aegis.server.domain.study.repository.StudyAttendanceRepository;
-import aegis.server.domain.study.repository.StudyMemberRepository;
-import aegis.server.domain.study.repository.StudySessionRepository;
+import aegis.server.domain.study.repository.StudyAttendanceJdbcRepository;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
 import aegis.server.global.security.oidc.UserDetails;
@@ -34,100 +29,84 @@ import aegis.server.global.security.oidc.UserDetails;
 @Transactional(readOnly = true)
 public class StudyParticipantService {
 
-    private final MemberRepository memberRepository;
-    private final StudyMemberRepository studyMemberRepository;
-    private final StudySessionRepository studySessionRepository;
-    private final StudyAttendanceRepository studyAttendanceRepository;
+    private final StudyCheckInGuard studyCheckInGuard;
+    private final StudyCheckInCache studyCheckInCache;
+    private final StudyAttendanceJdbcRepository studyAttendanceJdbcRepository;
     private final PointLedger pointLedger;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
     @Transactional
     public AttendanceMarkResponse markAttendance(Long studyId, AttendanceMarkRequest request, UserDetails userDetails) {
         Long memberId = userDetails.getMemberId();
-        Member member =
-                memberRepository.findById(memberId).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-        // 참여자 권한 검증
-        validateIsStudyParticipantByStudyId(studyId, memberId);
-
-        // 오늘 세션 조회
         LocalDate today = LocalDate.now(clock);
-        StudySession session = studySessionRepository
-                .findByStudyIdAndSessionDate(studyId, today)
-                .orElseThrow(() -> new CustomException(ErrorCode.STUDY_SESSION_NOT_FOUND));
 
-        // 코드 검증
-        if (!session.getAttendanceCode().equals(request.code())) {
-            throw new CustomException(ErrorCode.STUDY_ATTENDANCE_CODE_INVALID);
-        }
+        // 시도 제한: 회원별 실패가 한도에 닿았으면 DB를 읽기 전에 거절
+        studyCheckInGuard.checkMemberAllowed(studyId, today, memberId);
 
-        // 출석 여부 사전 검증: 동시성 이슈까지는 막아주진 못함
-        if (studyAttendanceRepository.existsByStudySessionIdAndMemberId(session.getId(), memberId)) {
-            throw new CustomException(ErrorCode.STUDY_ATTENDANCE_ALREADY_MARKED);
+        // 참여자 권한 검증: 캐싱된 명단으로 확인
+        if (!studyCheckInCache.isParticipant(studyId, memberId)) {
+            throw new CustomException(ErrorCode.STUDY_MEMBER_NOT_PARTICIPANT);
         }
 
-        // 출석 저장: DB의 unique 제약조건에 의해 동시성 이슈까지도 막아줌
-        try {
-            StudyAttendance saved = studyAttendanceRepository.save(StudyAttendance.create(session, member));
-            log.info(
-                    "[StudyParticipantService] 출석 완료: studyId={}, sessionId={}, attendanceId={}, memberId={}, memberName={}",
-                    studyId,
-                    session.getId(),
-                    saved.getId(),
-                    member.getId(),
-                    member.getName());
-
-            // 포인트 보상: 참가자 + 스터디장
-            rewardParticipant(session, memberId);
-            rewardInstructor(session);
-
-            return AttendanceMarkResponse.from(saved.getId(), session.getId());
-        } catch (DataIntegrityViolationException e) {
-            // save 단에서 unique 제약조건에 걸리면 catch 절과는 무관하게
-            // SQL Error: 0, SQLState: 23505 / ERROR: duplicate key value violates unique constraint 예외가 발생한다
-            // 근본적으로 해결하려면 Upsert 쿼리가 필요하지만 JPA에서는 Native Query로 직접 작성해야 하므로 일단은 이렇게 처리한다
-            // 따라서 총 3개의 로그가 남게된다
-            // - SqlExceptionHelper     : SQL Error: 0, SQLState: 23505
-            // - SqlExceptionHelper     : ERROR: duplicate key value violates unique constraint
-            // - GlobalExceptionHandler : CustomException: STUDY_ATTENDANCE_ALREADY_MARKED
-            throw new CustomException(ErrorCode.STUDY_ATTENDANCE_ALREADY_MARKED);
+        // 오늘 세션 조회: 캐싱된 회차 정보 사용
+        CheckInSession session = studyCheckInCache.getSession(studyId, today);
+
+        // 코드 검증: 회차별 한도는 캐싱된 코드와 다를 때만 적용해 올바른 코드는 항상 통과시킨다
+        // 회차 한도로 거절되더라도 회원별 한도가 계속 적용되도록 실패를 먼저 기록한다
+        if (!session.code().equals(request.code())) {
+            studyCheckInGuard.recordFailure(studyId, today, memberId);
+            studyCheckInGuard.checkSessionAllowed(studyId, today, memberId);
+            throw new CustomException(ErrorCode.STUDY_ATTENDANCE_CODE_INVALID);
         }
-    }
 
-    private void validateIsStudyParticipantByStudyId(Long studyId, Long memberId) {
-        if (!studyMemberRepository.existsByStudyIdAndMemberIdAndRole(studyId, memberId, StudyRole.PARTICIPANT)) {
-            throw new CustomException(ErrorCode.STUDY_MEMBER_NOT_PARTICIPANT);
+        // 출석 저장: 유니크 제약에 걸리면 ON CONFLICT DO NOTHING으로 저장되지 않으므로 동시 요청도 한 번만 저장된다
+        Long attendanceId = studyAttendanceJdbcRepository
+                .insertIfAbsent(session.sessionId(), memberId, LocalDateTime.now(clock))
+                .orElseThrow(() -> new CustomException(ErrorCode.STUDY_ATTENDANCE_ALREADY_MARKED));
+        studyCheckInGuard.recordSuccess();
+        log.info(
+                "[StudyParticipantService] 출석 완료: studyId={}, sessionId={}, attendanceId={}, memberId={}, memberName={}",
+                studyId,
+                session.sessionId(),
+                attendanceId,
+                memberId,
+                userDetails.getName());
+
+        // 포인트 보상: 참가자 + 스터디장(회차당 1회 지급이 커밋된 뒤로는 건너뜀)
+        rewardParticipant(session, memberId);
+        if (!session.instructorRewarded()) {
+            rewardInstructor(session, today);
         }
+
+        return AttendanceMarkResponse.from(attendanceId, session.sessionId());
     }
 
-    private void rewardParticipant(StudySession session, Long participantId) {
-        String idempotencyKey = IdempotencyKeys.forStudyAttendance(session.getId(), participantId);
-        String reason = String.format("%s 스터디 출석", session.getStudy().getTitle());
+    private void rewardParticipant(CheckInSession session, Long participantId) {
+        String idempotencyKey = IdempotencyKeys.forStudyAttendance(session.sessionId(), participantId);
+        String reason = String.format("%s 스터디 출석", session.studyTitle());
         pointLedger.earn(participantId, BigDecimal.valueOf(10), reason, idempotencyKey);
 
         log.info(
                 "[StudyParticipantService] 스터디원 포인트 지급: studyId={}, sessionId={}, participantId={}, amount={}",
-                session.getStudy().getId(),
-                session.getId(),
+                session.studyId(),
+                session.sessionId(),
                 participantId,
                 BigDecimal.valueOf(10));
     }
 
-    private void rewardInstructor(StudySession session) {
-        StudyMember instructor = studyMemberRepository
-                .findFirstByStudyIdAndRole(session.getStudy().getId(), StudyRole.INSTRUCTOR)
-                .orElseThrow(() -> new CustomException(ErrorCode.STUDY_INSTRUCTOR_NOT_FOUND));
-        Member instructorMember = instructor.getMember();
-
-        String idempotencyKey = IdempotencyKeys.forStudyInstructor(session.getId(), instructorMember.getId());
-        String reason = String.format("%s 스터디 진행", session.getStudy().getTitle());
-        pointLedger.earn(instructorMember.getId(), BigDecimal.valueOf(30), reason, idempotencyKey);
+    // 멱등키가 회차당 하나이므로 동시에 여러 번 호출되어도 원장에는 한 건만 남는다
+    private void rewardInstructor(CheckInSession session, LocalDate sessionDate) {
+        String idempotencyKey = IdempotencyKeys.forStudyInstructor(session.sessionId(), session.instructorId());
+        String reason = String.format("%s 스터디 진행", session.studyTitle());
+        pointLedger.earn(session.instructorId(), BigDecimal.valueOf(30), reason, idempotencyKey);
+        applicationEventPublisher.publishEvent(new StudyInstructorRewardedEvent(session.studyId(), sessionDate));
 
         log.info(
                 "[StudyParticipantService] 스터디장 포인트 지급: studyId={}, sessionId={}, instructorId={}, amount={}",
-                session.getStudy().getId(),
-                session.getId(),
-                instructorMember.getId(),
+                session.studyId(),
+                session.sessionId(),
+                session.instructorId(),
                 BigDecimal.valueOf(30));
     }
 }
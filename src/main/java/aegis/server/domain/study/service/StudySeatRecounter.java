@@ -0,0 +1,94 @@
+package aegis.server.domain.study.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import aegis.server.domain.study.domain.Study;
+import aegis.server.domain.study.domain.StudyRecruitmentMethod;
+import aegis.server.domain.study.domain.StudyRole;
+import aegis.server.domain.study.domain.event.StudyCatalogChangedEvent;
+import aegis.server.domain.study.repository.StudyMemberRepository;
+import aegis.server.domain.study.repository.StudyRepository;
+import aegis.server.domain.study.repository.StudySeatBoard;
+
+/**
+ * 스터디 참가자 수를 StudyMember 기준으로 다시 세어 Study.currentParticipants와 Redis 좌석 카운터를 맞춘다. </br>
+ * 스터디 행을 잠근 뒤 세므로 진행 중인 가입과 엇갈리지 않는다. 스터디마다 별도 트랜잭션으로 처리하여 잠금을 짧게 유지한다.
+ * 좌석 카운터는 선착순 스터디에만 두고, 다른 모집 방식으로 바뀐 스터디의 카운터는 지운다.
+ */
+@Slf4j
+@Service
+public class StudySeatRecounter {
+
+    private final StudyRepository studyRepository;
+    private final StudyMemberRepository studyMemberRepository;
+    private final StudySeatBoard studySeatBoard;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudySeatRecounter(
+            StudyRepository studyRepository,
+            StudyMemberRepository studyMemberRepository,
+            StudySeatBoard studySeatBoard,
+            ApplicationEventPublisher applicationEventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.studyRepository = studyRepository;
+        this.studyMemberRepository = studyMemberRepository;
+        this.studySeatBoard = studySeatBoard;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "${study.seats.recount-cron}")
+    public void recountAll() {
+        int corrected = 0;
+        for (Long studyId : studyRepository.findStudyIdsByCurrentYearSemester()) {
+            if (recount(studyId)) {
+                corrected++;
+            }
+        }
+        log.info("[StudySeatRecounter] 스터디 참가자 수 재계산 완료: corrected={}", corrected);
+    }
+
+    /**
+     * @return DB의 참가자 수를 고쳤으면 true
+     */
+    public boolean recount(Long studyId) {
+        Boolean corrected = transactionTemplate.execute(status -> studyRepository
+                .findByIdWithLock(studyId)
+                .map(this::recount)
+                .orElseGet(() -> {
+                    studySeatBoard.remove(studyId);
+                    return false;
+                }));
+        return Boolean.TRUE.equals(corrected);
+    }
+
+    private boolean recount(Study study) {
+        int participants = (int) studyMemberRepository.countByStudyAndRole(study, StudyRole.PARTICIPANT);
+        boolean corrected = study.getCurrentParticipants() != participants;
+        if (corrected) {
+            log.warn(
+                    "[StudySeatRecounter] 참가자 수 불일치 보정: studyId={}, currentParticipants={}, actual={}",
+                    study.getId(),
+                    study.getCurrentParticipants(),
+                    participants);
+            study.recountCurrentParticipants(participants);
+            applicationEventPublisher.publishEvent(new StudyCatalogChangedEvent(study.getId()));
+        }
+
+        if (study.getRecruitmentMethod() == StudyRecruitmentMethod.FCFS) {
+            studySeatBoard.sync(study.getId(), study.getMaxParticipants(), participants);
+        } else {
+            studySeatBoard.remove(study.getId());
+        }
+        return corrected;
+    }
+}
@@ -0,0 +1,6 @@
+package aegis.server.domain.study.service.attendance;
+
+public enum AttendanceExportFormat {
+    JSON,
+    CSV
+}
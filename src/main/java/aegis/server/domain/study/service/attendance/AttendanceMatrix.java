@@ -0,0 +1,103 @@
+package aegis.server.domain.study.service.attendance;
+
+import java.time.LocalDate;
+
+/**
+ * 한 스터디의 출석 행렬 (행: 참여자, 열: 회차) </br>
+ * 각 행은 회차 수만큼의 비트를 가진 long[] 비트셋이며, 전체 행을 하나의 long[]에 이어 붙여 보관한다.
+ * 회원/회차 ID는 {@link LongIndex}로 행/열 위치를 찾으므로 채우는 동안 박싱이 일어나지 않는다.
+ */
+public final class AttendanceMatrix {
+
+    private final long studyId;
+    private final String studyTitle;
+
+    private final long[] sessionIds;
+    private final LocalDate[] sessionDates;
+    private final long[] memberIds;
+    private final String[] memberNames;
+
+    private final LongIndex sessionIndex;
+    private final LongIndex memberIndex;
+
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    public AttendanceMatrix(
+            long studyId,
+            String studyTitle,
+            long[] sessionIds,
+            LocalDate[] sessionDates,
+            long[] memberIds,
+            String[] memberNames) {
+        this.studyId = studyId;
+        this.studyTitle = studyTitle;
+        this.sessionIds = sessionIds;
+        this.sessionDates = sessionDates;
+        this.memberIds = memberIds;
+        this.memberNames = memberNames;
+        this.sessionIndex = new LongIndex(sessionIds);
+        this.memberIndex = new LongIndex(memberIds);
+        this.wordsPerRow = (sessionIds.length + Long.SIZE - 1) / Long.SIZE;
+        this.bits = new long[wordsPerRow * memberIds.length];
+    }
+
+    /**
+     * 출석을 표시한다. 참여자가 아닌 회원이나 다른 스터디의 회차는 무시한다.
+     *
+     * @return 표시했으면 true
+     */
+    public boolean mark(long memberId, long sessionId) {
+        int row = memberIndex.indexOf(memberId);
+        int col = sessionIndex.indexOf(sessionId);
+        if (row < 0 || col < 0) {
+            return false;
+        }
+        bits[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+        return true;
+    }
+
+    public boolean isAttended(int row, int col) {
+        return (bits[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    public int attendedCount(int row) {
+        int count = 0;
+        for (int w = row * wordsPerRow, end = w + wordsPerRow; w < end; w++) {
+            count += Long.bitCount(bits[w]);
+        }
+        return count;
+    }
+
+    public long studyId() {
+        return studyId;
+    }
+
+    public String studyTitle() {
+        return studyTitle;
+    }
+
+    public int sessionCount() {
+        return sessionIds.length;
+    }
+
+    public long sessionId(int col) {
+        return sessionIds[col];
+    }
+
+    public LocalDate sessionDate(int col) {
+        return sessionDates[col];
+    }
+
+    public int memberCount() {
+        return memberIds.length;
+    }
+
+    public long memberId(int row) {
+        return memberIds[row];
+    }
+
+    public String memberName(int row) {
+        return memberNames[row];
+    }
+}
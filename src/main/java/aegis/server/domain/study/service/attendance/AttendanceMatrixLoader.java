@@ -0,0 +1,101 @@
+package aegis.server.domain.study.service.attendance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.common.domain.YearSemester;
+import aegis.server.domain.study.repository.AttendanceMatrixJdbcRepository;
+import aegis.server.domain.study.repository.AttendanceMatrixJdbcRepository.ParticipantRow;
+import aegis.server.domain.study.repository.AttendanceMatrixJdbcRepository.Scope;
+import aegis.server.domain.study.repository.AttendanceMatrixJdbcRepository.SessionRow;
+import aegis.server.domain.study.repository.AttendanceMatrixJdbcRepository.StudyRow;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * 스터디 단위 또는 학기 단위로 {@link AttendanceMatrix}를 만든다. </br>
+ * 머리글(회차, 참여자)로 행렬을 먼저 만든 뒤, 출석 기록을 한 행씩 받아 스터디 ID로 행렬을 찾아 비트를 켠다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceMatrixLoader {
+
+    private final AttendanceMatrixJdbcRepository attendanceMatrixJdbcRepository;
+
+    public AttendanceMatrix load(Long studyId) {
+        List<AttendanceMatrix> matrices = load(Scope.study(studyId));
+        if (matrices.isEmpty()) {
+            throw new CustomException(ErrorCode.STUDY_NOT_FOUND);
+        }
+        return matrices.getFirst();
+    }
+
+    public List<AttendanceMatrix> loadAll(YearSemester yearSemester) {
+        return load(Scope.yearSemester(yearSemester));
+    }
+
+    private List<AttendanceMatrix> load(Scope scope) {
+        List<StudyRow> studies = attendanceMatrixJdbcRepository.findStudies(scope);
+        List<SessionRow> sessions = attendanceMatrixJdbcRepository.findSessions(scope);
+        List<ParticipantRow> participants = attendanceMatrixJdbcRepository.findParticipants(scope);
+
+        // 세 목록 모두 study_id 오름차순이므로 한 번씩만 훑으며 스터디별로 나눈다
+        List<AttendanceMatrix> matrices = new ArrayList<>(studies.size());
+        long[] studyIds = new long[studies.size()];
+        int sessionCursor = 0;
+        int participantCursor = 0;
+        for (int i = 0; i < studies.size(); i++) {
+            StudyRow study = studies.get(i);
+            studyIds[i] = study.studyId();
+
+            int sessionEnd = sessionCursor;
+            while (sessionEnd < sessions.size() && sessions.get(sessionEnd).studyId() == study.studyId()) {
+                sessionEnd++;
+            }
+            int participantEnd = participantCursor;
+            while (participantEnd < participants.size()
+                    && participants.get(participantEnd).studyId() == study.studyId()) {
+                participantEnd++;
+            }
+
+            matrices.add(createMatrix(
+                    study,
+                    sessions.subList(sessionCursor, sessionEnd),
+                    participants.subList(participantCursor, participantEnd)));
+            sessionCursor = sessionEnd;
+            participantCursor = participantEnd;
+        }
+
+        LongIndex studyIndex = new LongIndex(studyIds);
+        attendanceMatrixJdbcRepository.forEachAttendance(scope, (studyId, memberId, sessionId) -> {
+            int position = studyIndex.indexOf(studyId);
+            if (position >= 0) {
+                matrices.get(position).mark(memberId, sessionId);
+            }
+        });
+        return matrices;
+    }
+
+    private AttendanceMatrix createMatrix(StudyRow study, List<SessionRow> sessions, List<ParticipantRow> participants) {
+        long[] sessionIds = new long[sessions.size()];
+        LocalDate[] sessionDates = new LocalDate[sessions.size()];
+        for (int i = 0; i < sessions.size(); i++) {
+            sessionIds[i] = sessions.get(i).sessionId();
+            sessionDates[i] = sessions.get(i).sessionDate();
+        }
+
+        long[] memberIds = new long[participants.size()];
+        String[] memberNames = new String[participants.size()];
+        for (int i = 0; i < participants.size(); i++) {
+            memberIds[i] = participants.get(i).memberId();
+            memberNames[i] = participants.get(i).name();
+        }
+
+        return new AttendanceMatrix(study.studyId(), study.title(), sessionIds, sessionDates, memberIds, memberNames);
+    }
+}
@@ -0,0 +1,161 @@
+package aegis.server.domain.study.service.attendance;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * {@link AttendanceMatrix}를 응답 스트림에 바로 쓴다. </br>
+ * JSON은 스트리밍 생성기로 칸마다 boolean 토큰을 써서 List&lt;Boolean&gt; 응답 객체를 만들지 않으며,
+ * 단일 스터디 JSON의 모양은 기존 AttendanceMatrixResponse와 같다.
+ * CSV는 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙이고, 출석은 O/X로 쓴다.
+ */
+public final class AttendanceMatrixWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private AttendanceMatrixWriter() {}
+
+    public static void writeJson(AttendanceMatrix matrix, OutputStream out) {
+        try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(out)) {
+            generator.writeStartObject();
+            writeJsonBody(matrix, generator);
+            generator.writeEndObject();
+        }
+    }
+
+    public static void writeJson(List<AttendanceMatrix> matrices, OutputStream out) {
+        try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(out)) {
+            generator.writeStartArray();
+            for (AttendanceMatrix matrix : matrices) {
+                generator.writeStartObject();
+                generator.writeName("studyId");
+                generator.writeNumber(matrix.studyId());
+                generator.writeName("title");
+                generator.writeString(matrix.studyTitle());
+                writeJsonBody(matrix, generator);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * 머리글 행은 "이름, 회원 ID, 회차 날짜..., 출석 수"이며, 참여자마다 한 행을 쓴다.
+     */
+    public static void writeCsv(AttendanceMatrix matrix, OutputStream out) throws IOException {
+        Writer writer = csvWriter(out);
+        writer.write("이름,회원 ID");
+        for (int col = 0; col < matrix.sessionCount(); col++) {
+            writer.write(',');
+            writer.write(matrix.sessionDate(col).toString());
+        }
+        writer.write(",출석 수\r\n");
+
+        for (int row = 0; row < matrix.memberCount(); row++) {
+            writeCsvField(writer, matrix.memberName(row));
+            writer.write(',');
+            writer.write(Long.toString(matrix.memberId(row)));
+            for (int col = 0; col < matrix.sessionCount(); col++) {
+                writer.write(matrix.isAttended(row, col) ? ",O" : ",X");
+            }
+            writer.write(',');
+            writer.write(Integer.toString(matrix.attendedCount(row)));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * 스터디마다 회차 수가 달라 회차별 열을 맞출 수 없으므로, (스터디, 참여자)마다 한 행으로 출석 수와 회차별 출석(O/X 문자열)을 쓴다.
+     */
+    public static void writeCsv(List<AttendanceMatrix> matrices, OutputStream out) throws IOException {
+        Writer writer = csvWriter(out);
+        writer.write("스터디 ID,스터디명,회원 ID,이름,출석 수,회차 수,회차별 출석\r\n");
+        StringBuilder pattern = new StringBuilder();
+        for (AttendanceMatrix matrix : matrices) {
+            for (int row = 0; row < matrix.memberCount(); row++) {
+                pattern.setLength(0);
+                for (int col = 0; col < matrix.sessionCount(); col++) {
+                    pattern.append(matrix.isAttended(row, col) ? 'O' : 'X');
+                }
+                writer.write(Long.toString(matrix.studyId()));
+                writer.write(',');
+                writeCsvField(writer, matrix.studyTitle());
+                writer.write(',');
+                writer.write(Long.toString(matrix.memberId(row)));
+                writer.write(',');
+                writeCsvField(writer, matrix.memberName(row));
+                writer.write(',');
+                writer.write(Integer.toString(matrix.attendedCount(row)));
+                writer.write(',');
+                writer.write(Integer.toString(matrix.sessionCount()));
+                writer.write(',');
+                writer.append(pattern);
+                writer.write("\r\n");
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeJsonBody(AttendanceMatrix matrix, JsonGenerator generator) {
+        generator.writeName("sessions");
+        generator.writeStartArray();
+        for (int col = 0; col < matrix.sessionCount(); col++) {
+            generator.writeStartObject();
+            generator.writeName("sessionId");
+            generator.writeNumber(matrix.sessionId(col));
+            generator.writeName("date");
+            generator.writeString(matrix.sessionDate(col).toString());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeName("members");
+        generator.writeStartArray();
+        for (int row = 0; row < matrix.memberCount(); row++) {
+            generator.writeStartObject();
+            generator.writeName("memberId");
+            generator.writeNumber(matrix.memberId(row));
+            generator.writeName("name");
+            generator.writeString(matrix.memberName(row));
+            generator.writeName("attendance");
+            generator.writeStartArray();
+            for (int col = 0; col < matrix.sessionCount(); col++) {
+                generator.writeBoolean(matrix.isAttended(row, col));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static Writer csvWriter(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(UTF8_BOM);
+        return writer;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 들어 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 '를 붙인다
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        String escaped = value;
+        if (!escaped.isEmpty() && "=+-@".indexOf(escaped.charAt(0)) >= 0) {
+            escaped = "'" + escaped;
+        }
+        if (escaped.indexOf(',') >= 0
+                || escaped.indexOf('"') >= 0
+                || escaped.indexOf('\n') >= 0
+                || escaped.indexOf('\r') >= 0) {
+            escaped = '"' + escaped.replace("\"", "\"\"") + '"';
+        }
+        writer.write(escaped);
+    }
+}
@@ -0,0 +1,37 @@
+package aegis.server.domain.study.service.attendance;
+
+import java.util.Arrays;
+
+/**
+ * long 키 -> 위치(int) 조회용 읽기 전용 인덱스 </br>
+ * 키를 정렬해 두고 이진 탐색하므로 Map&lt;Long, Integer&gt;와 달리 키와 값을 박싱하지 않는다.
+ */
+final class LongIndex {
+
+    private final long[] sortedKeys;
+    private final int[] positions;
+
+    LongIndex(long[] keys) {
+        int n = keys.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        this.sortedKeys = new long[n];
+        this.positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedKeys[i] = keys[order[i]];
+            positions[i] = order[i];
+        }
+    }
+
+    /**
+     * @return 키의 위치, 없으면 -1
+     */
+    int indexOf(long key) {
+        int found = Arrays.binarySearch(sortedKeys, key);
+        return found < 0 ? -1 : positions[found];
+    }
+}
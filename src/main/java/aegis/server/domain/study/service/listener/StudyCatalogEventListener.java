@@ -0,0 +1,22 @@
+package aegis.server.domain.study.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.study.domain.event.StudyCatalogChangedEvent;
+import aegis.server.domain.study.service.StudyCatalogCache;
+
+@Component
+@RequiredArgsConstructor
+public class StudyCatalogEventListener {
+
+    private final StudyCatalogCache studyCatalogCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStudyCatalogChangedEvent(StudyCatalogChangedEvent event) {
+        studyCatalogCache.invalidate();
+    }
+}
@@ -0,0 +1,23 @@
+package aegis.server.domain.study.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.study.domain.event.StudyInstructorRewardedEvent;
+import aegis.server.domain.study.service.StudyCheckInCache;
+
+@Component
+@RequiredArgsConstructor
+public class StudyCheckInEventListener {
+
+    private final StudyCheckInCache studyCheckInCache;
+
+    // 보상이 커밋된 뒤에만 표시해야, 롤백된 요청 때문에 스터디장 보상이 빠지지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStudyInstructorRewardedEvent(StudyInstructorRewardedEvent event) {
+        studyCheckInCache.markInstructorRewarded(event.studyId(), event.sessionDate());
+    }
+}
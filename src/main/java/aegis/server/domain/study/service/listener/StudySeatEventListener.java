@@ -0,0 +1,22 @@
+package aegis.server.domain.study.service.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import aegis.server.domain.study.domain.event.StudySeatsChangedEvent;
+import aegis.server.domain.study.service.StudySeatRecounter;
+
+@Component
+@RequiredArgsConstructor
+public class StudySeatEventListener {
+
+    private final StudySeatRecounter studySeatRecounter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStudySeatsChangedEvent(StudySeatsChangedEvent event) {
+        studySeatRecounter.recount(event.studyId());
+    }
+}
@@ -3,8 +3,10 @@ package aegis.server.global.config;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -23,4 +25,56 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 결제 완료 아웃박스 처리기. 가득 차면 거절하고 다음 폴링 주기에 다시 넘긴다
+    @Bean(name = "paymentOutboxTaskExecutor")
+    public Executor paymentOutboxTaskExecutor(
+            @Value("${payment.outbox.async-dispatch}") boolean asyncDispatch,
+            @Value("${payment.outbox.concurrency}") int concurrency) {
+        if (!asyncDispatch) {
+            return new SyncTaskExecutor();
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("PaymentOutbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 회원 기록 백필. 작업을 진행하는 스레드 하나와 청크를 병렬로 처리하는 스레드 concurrency개
+    @Bean(name = "memberRecordBackfillTaskExecutor")
+    public Executor memberRecordBackfillTaskExecutor(
+            @Value("${member.record.backfill.async}") boolean async,
+            @Value("${member.record.backfill.concurrency}") int concurrency) {
+        if (!async) {
+            return new SyncTaskExecutor();
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency + 1);
+        executor.setMaxPoolSize(concurrency + 1);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("MemberRecordBackfill-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 포인트 적립 버퍼 반영. 한 번에 하나씩만 반영하면 충분하므로 대기 중인 요청이 있으면 새 요청은 버린다
+    @Bean(name = "pointEarnFlushTaskExecutor")
+    public Executor pointEarnFlushTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("PointEarnFlush-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,25 +1,51 @@
 package aegis.server.global.config;
 
 import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import aegis.server.domain.payment.service.parser.BankParser;
+import aegis.server.domain.payment.service.parser.IbkSinglePassTransactionParser;
 import aegis.server.domain.payment.service.parser.IbkTransactionParser;
 import aegis.server.domain.payment.service.parser.TransactionParser;
+import aegis.server.domain.payment.service.parser.TransactionParserRegistry;
 
 @Configuration
 public class BankConfig {
 
-    @Value("${payment.bank-type}")
-    private String bankType;
+    private static final List<String> IBK_SIGNATURES = List.of("[입금]", "[출금]");
+
+    @Value("${payment.banks}")
+    private String[] banks;
+
+    @Value("${payment.ibk-parser:single-pass}")
+    private String ibkParser;
 
     @Bean
-    public TransactionParser transactionParser(Clock clock) {
-        return switch (bankType) {
-            case "ibk" -> new IbkTransactionParser(clock);
-            default -> throw new IllegalStateException("지원하지 않는 은행입니다: " + bankType);
+    public TransactionParser transactionParser(Clock clock, MeterRegistry meterRegistry) {
+        List<BankParser> bankParsers =
+                Arrays.stream(banks).map(String::trim).map(bank -> bankParser(bank, clock)).toList();
+        return new TransactionParserRegistry(bankParsers, meterRegistry);
+    }
+
+    private BankParser bankParser(String bank, Clock clock) {
+        return switch (bank) {
+            case "ibk" -> new BankParser(bank, IBK_SIGNATURES, ibkTransactionParser(clock));
+            default -> throw new IllegalStateException("지원하지 않는 은행입니다: " + bank);
+        };
+    }
+
+    private TransactionParser ibkTransactionParser(Clock clock) {
+        return switch (ibkParser) {
+            case "single-pass" -> new IbkSinglePassTransactionParser(clock);
+            case "regex" -> new IbkTransactionParser(clock);
+            default -> throw new IllegalStateException("지원하지 않는 IBK 파서입니다: " + ibkParser);
         };
     }
 }
@@ -0,0 +1,25 @@
+package aegis.server.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import aegis.server.domain.payment.service.PaymentStatusBroadcaster;
+
+@Configuration
+@ConditionalOnProperty(name = "payment.status.broadcast.enabled", havingValue = "true")
+public class PaymentStatusBroadcastConfig {
+
+    // 다른 인스턴스에서 완료된 결제를 이 인스턴스의 구독자에게 전달
+    @Bean
+    public RedisMessageListenerContainer paymentStatusListenerContainer(
+            RedisConnectionFactory connectionFactory, PaymentStatusBroadcaster paymentStatusBroadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(paymentStatusBroadcaster, new ChannelTopic(PaymentStatusBroadcaster.CHANNEL));
+        return container;
+    }
+}
@@ -32,7 +32,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(transactionTrackInterceptor).addPathPatterns("/internal/transaction");
+        registry.addInterceptor(transactionTrackInterceptor)
+                .addPathPatterns("/internal/transaction", "/internal/transaction/batch");
         registry.addInterceptor(signupGuardInterceptor).addPathPatterns("/members/**", "/survey/**", "/payments/**");
         registry.addInterceptor(studyCreationGuardInterceptor).addPathPatterns("/studies");
         registry.addInterceptor(studyEnrollWindowInterceptor).addPathPatterns("/studies/*/enrollment");
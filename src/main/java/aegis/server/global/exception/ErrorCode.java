@@ -21,6 +21,7 @@ public enum ErrorCode {
 
     // Member & Student
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    MEMBER_RECORD_BACKFILL_JOB_NOT_FOUND(HttpStatus.NOT_FOUND),
     STUDENT_NOT_FOUND(HttpStatus.NOT_FOUND),
 
     // Survey
@@ -91,7 +92,8 @@ public enum ErrorCode {
     STUDY_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND),
     STUDY_MEMBER_NOT_PARTICIPANT(HttpStatus.FORBIDDEN),
     STUDY_ATTENDANCE_ALREADY_MARKED(HttpStatus.CONFLICT),
-    STUDY_ATTENDANCE_CODE_INVALID(HttpStatus.BAD_REQUEST);
+    STUDY_ATTENDANCE_CODE_INVALID(HttpStatus.BAD_REQUEST),
+    STUDY_ATTENDANCE_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS);
 
     private final HttpStatus httpStatus;
 }
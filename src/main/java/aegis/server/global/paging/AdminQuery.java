@@ -0,0 +1,39 @@
+package aegis.server.global.paging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link AdminQuerySpec}에 한 요청의 필터 값을 바인딩한 것. 값이 null인 필터는 조건에서 빠진다.
+ */
+public final class AdminQuery<T> {
+
+    private final AdminQuerySpec<T> spec;
+    private final Map<String, Object> params = new LinkedHashMap<>();
+    private long filterMask;
+
+    AdminQuery(AdminQuerySpec<T> spec) {
+        this.spec = spec;
+    }
+
+    public AdminQuery<T> where(String param, Object value) {
+        if (value == null) {
+            return this;
+        }
+        filterMask |= 1L << spec.filterIndex(param);
+        params.put(param, value);
+        return this;
+    }
+
+    AdminQuerySpec<T> spec() {
+        return spec;
+    }
+
+    Map<String, Object> params() {
+        return params;
+    }
+
+    long filterMask() {
+        return filterMask;
+    }
+}
@@ -0,0 +1,58 @@
+package aegis.server.global.paging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 목록 조회 JPQL 문자열 캐시. </br>
+ * (쿼리, 필터 비트마스크, 정렬, 쿼리 형태)마다 조립된 JPQL을 한 번만 만들어 재사용한다.
+ * Hibernate의 쿼리 해석 캐시는 JPQL 문자열을 키로 사용하므로, 같은 조합에 항상 같은 문자열을 넘기면 HQL 파싱은 조합당 한 번만 일어난다.
+ * 조합의 수는 선언된 필터와 정렬 키로 제한되므로 별도의 만료 정책은 두지 않는다.
+ * 실제 플랜 캐시 적중 여부는 {@link AdminQueryPlanCacheMetrics}로 확인한다.
+ */
+@Component
+public class AdminQueryPlanCache {
+
+    private final Map<PlanKey, String> plans = new ConcurrentHashMap<>();
+
+    String selectJpql(AdminQuery<?> query, KeysetSort<?> sort, KeysetCursor cursor) {
+        PlanShape shape = cursor == null
+                ? PlanShape.SELECT
+                : sort.bindsValue(cursor) ? PlanShape.SEEK : PlanShape.SEEK_WITHOUT_VALUE;
+        PlanKey key = new PlanKey(query.spec().name(), query.filterMask(), sort.orderByClause(), shape);
+
+        return plans.computeIfAbsent(key, ignored -> {
+            AdminQuerySpec<?> spec = query.spec();
+            List<String> conditions = spec.conditionsOf(query.filterMask());
+            if (cursor != null) {
+                conditions.add(sort.seekCondition(cursor));
+            }
+            return spec.selectJpql() + whereClause(conditions) + " ORDER BY " + sort.orderByClause();
+        });
+    }
+
+    String countJpql(AdminQuery<?> query) {
+        PlanKey key = new PlanKey(query.spec().name(), query.filterMask(), null, PlanShape.COUNT);
+
+        return plans.computeIfAbsent(key, ignored -> {
+            AdminQuerySpec<?> spec = query.spec();
+            return spec.countJpql() + whereClause(spec.conditionsOf(query.filterMask()));
+        });
+    }
+
+    private String whereClause(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private enum PlanShape {
+        SELECT,
+        SEEK,
+        SEEK_WITHOUT_VALUE,
+        COUNT
+    }
+
+    private record PlanKey(String queryName, long filterMask, String sortKey, PlanShape shape) {}
+}
@@ -0,0 +1,36 @@
+package aegis.server.global.paging;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate 쿼리 플랜 캐시의 hit/miss 건수를 메트릭으로 노출한다. </br>
+ * {@link AdminQueryPlanCache}가 같은 필터와 정렬 조합에 항상 같은 JPQL을 넘기는지, 즉 반복 요청이 HQL 파싱 없이 처리되는지 확인하는 용도다.
+ * 건수는 Hibernate 통계가 켜져 있어야 집계되므로, 설정으로 켠 경우에만 통계를 켜고 메트릭을 등록한다.
+ */
+@Component
+@ConditionalOnProperty(name = "paging.plan-cache-metrics-enabled", havingValue = "true")
+public class AdminQueryPlanCacheMetrics {
+
+    static final String METRIC_NAME = "hibernate.query.plan.cache";
+
+    public AdminQueryPlanCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        FunctionCounter.builder(METRIC_NAME, statistics, Statistics::getQueryPlanCacheHitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME, statistics, Statistics::getQueryPlanCacheMissCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+}
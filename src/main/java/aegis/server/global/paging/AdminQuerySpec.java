@@ -0,0 +1,117 @@
+package aegis.server.global.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 목록 조회 JPQL의 고정된 뼈대. </br>
+ * 조회/COUNT JPQL과 선택적 필터 조건을 한 번만 선언해 두고, 요청마다 {@link #query()}로 실제 값을 바인딩한다.
+ * 필터는 선언 순서대로 비트 위치를 가지므로, 같은 필터 조합은 항상 같은 JPQL 문자열로 조립된다.
+ */
+public final class AdminQuerySpec<T> {
+
+    private static final int MAX_FILTERS = Long.SIZE;
+
+    private final String name;
+    private final Class<T> resultType;
+    private final String selectJpql;
+    private final String countJpql;
+    private final List<String> filterParams;
+    private final List<String> filterConditions;
+
+    private AdminQuerySpec(
+            String name,
+            Class<T> resultType,
+            String selectJpql,
+            String countJpql,
+            List<String> filterParams,
+            List<String> filterConditions) {
+        this.name = name;
+        this.resultType = resultType;
+        this.selectJpql = selectJpql;
+        this.countJpql = countJpql;
+        this.filterParams = List.copyOf(filterParams);
+        this.filterConditions = List.copyOf(filterConditions);
+    }
+
+    /**
+     * @param name 쿼리 플랜 캐시 키와 오류 메시지에 사용할 이름
+     * @param selectJpql WHERE/ORDER BY를 제외한 조회 JPQL
+     * @param countJpql WHERE를 제외한 COUNT JPQL
+     */
+    public static <T> Builder<T> builder(String name, Class<T> resultType, String selectJpql, String countJpql) {
+        return new Builder<>(name, resultType, selectJpql, countJpql);
+    }
+
+    public AdminQuery<T> query() {
+        return new AdminQuery<>(this);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    Class<T> resultType() {
+        return resultType;
+    }
+
+    String selectJpql() {
+        return selectJpql;
+    }
+
+    String countJpql() {
+        return countJpql;
+    }
+
+    int filterIndex(String param) {
+        int index = filterParams.indexOf(param);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown filter '" + param + "' for query " + name);
+        }
+        return index;
+    }
+
+    List<String> conditionsOf(long filterMask) {
+        List<String> conditions = new ArrayList<>(Long.bitCount(filterMask));
+        for (int i = 0; i < filterConditions.size(); i++) {
+            if ((filterMask & (1L << i)) != 0) {
+                conditions.add(filterConditions.get(i));
+            }
+        }
+        return conditions;
+    }
+
+    public static final class Builder<T> {
+
+        private final String name;
+        private final Class<T> resultType;
+        private final String selectJpql;
+        private final String countJpql;
+        private final List<String> filterParams = new ArrayList<>();
+        private final List<String> filterConditions = new ArrayList<>();
+
+        private Builder(String name, Class<T> resultType, String selectJpql, String countJpql) {
+            this.name = name;
+            this.resultType = resultType;
+            this.selectJpql = selectJpql;
+            this.countJpql = countJpql;
+        }
+
+        /**
+         * @param param 조건에서 사용하는 바인딩 파라미터 이름
+         * @param condition 값이 주어졌을 때 AND로 추가될 조건
+         */
+        public Builder<T> filter(String param, String condition) {
+            if (filterParams.size() == MAX_FILTERS || filterParams.contains(param)) {
+                throw new IllegalStateException("Invalid filter '" + param + "' for query " + name);
+            }
+            filterParams.add(param);
+            filterConditions.add(condition);
+            return this;
+        }
+
+        public AdminQuerySpec<T> build() {
+            return new AdminQuerySpec<>(name, resultType, selectJpql, countJpql, filterParams, filterConditions);
+        }
+    }
+}
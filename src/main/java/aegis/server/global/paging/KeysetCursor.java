@@ -0,0 +1,3 @@
+package aegis.server.global.paging;
+
+public record KeysetCursor(Object value, Long id) {}
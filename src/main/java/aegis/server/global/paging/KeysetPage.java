@@ -0,0 +1,21 @@
+package aegis.server.global.paging;
+
+import java.util.List;
+
+/**
+ * 커서 기반 조회에서 totalElements/totalPages는 필터별로 캐시된 추정값이다.
+ */
+public record KeysetPage<T>(
+        List<T> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages,
+        boolean hasNext,
+        String nextCursor) {
+
+    static <T> KeysetPage<T> of(List<T> content, int page, int size, long totalElements, String nextCursor) {
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+        return new KeysetPage<>(content, page, size, totalElements, totalPages, nextCursor != null, nextCursor);
+    }
+}
@@ -0,0 +1,19 @@
+package aegis.server.global.paging;
+
+/**
+ * cursor가 null이면 기존 page 번호 기반 조회, 빈 문자열이면 커서 기반 첫 페이지, 그 외에는 해당 커서 다음 페이지를 조회한다.
+ */
+public record KeysetPageRequest(int page, int size, String cursor) {
+
+    public static KeysetPageRequest of(int page, int size, String cursor) {
+        return new KeysetPageRequest(page, size, cursor);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    public boolean isFirstKeysetPage() {
+        return cursor != null && cursor.isBlank();
+    }
+}
@@ -0,0 +1,112 @@
+package aegis.server.global.paging;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 목록 조회용 JPQL 실행기. </br>
+ * page 번호 기반 조회는 기존과 같이 OFFSET과 정확한 COUNT를 사용하고,
+ * 커서 기반 조회는 정렬 키로 seek한 뒤 size + 1건만 읽어 다음 페이지 여부를 판단한다.
+ * 커서 기반 조회의 전체 건수는 필터별로 짧게 캐시하여 매 요청마다 COUNT를 실행하지 않는다.
+ * 실행할 JPQL 문자열은 {@link AdminQueryPlanCache}에서 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPager {
+
+    private static final int MAX_CACHED_COUNTS = 1_000;
+
+    private final Clock clock;
+    private final AdminQueryPlanCache queryPlanCache;
+    private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${paging.count-cache-ttl-seconds}")
+    private long countCacheTtlSeconds;
+
+    public <T> KeysetPage<T> fetch(AdminQuery<T> query, KeysetSort<T> sort, KeysetPageRequest pageRequest) {
+        Class<T> resultType = query.spec().resultType();
+
+        if (!pageRequest.isKeyset()) {
+            TypedQuery<T> selectQuery =
+                    entityManager.createQuery(queryPlanCache.selectJpql(query, sort, null), resultType);
+            bind(selectQuery, query.params());
+            selectQuery.setFirstResult(pageRequest.page() * pageRequest.size());
+            selectQuery.setMaxResults(pageRequest.size());
+            List<T> content = selectQuery.getResultList();
+
+            long total = count(queryPlanCache.countJpql(query), query.params());
+            boolean hasNext = (long) (pageRequest.page() + 1) * pageRequest.size() < total;
+            String nextCursor = hasNext && !content.isEmpty() ? sort.encodeCursor(content.getLast()) : null;
+            return KeysetPage.of(content, pageRequest.page(), pageRequest.size(), total, nextCursor);
+        }
+
+        KeysetCursor cursor = pageRequest.isFirstKeysetPage() ? null : sort.decodeCursor(pageRequest.cursor());
+
+        TypedQuery<T> selectQuery =
+                entityManager.createQuery(queryPlanCache.selectJpql(query, sort, cursor), resultType);
+        bind(selectQuery, query.params());
+        if (cursor != null) {
+            selectQuery.setParameter(KeysetSort.CURSOR_ID_PARAM, cursor.id());
+            if (sort.bindsValue(cursor)) {
+                selectQuery.setParameter(KeysetSort.CURSOR_VALUE_PARAM, cursor.value());
+            }
+        }
+        selectQuery.setMaxResults(pageRequest.size() + 1);
+        List<T> rows = selectQuery.getResultList();
+
+        boolean hasNext = rows.size() > pageRequest.size();
+        List<T> content = hasNext ? rows.subList(0, pageRequest.size()) : rows;
+        String nextCursor = hasNext ? sort.encodeCursor(content.getLast()) : null;
+        long total = cachedCount(queryPlanCache.countJpql(query), query.params());
+        return KeysetPage.of(content, 0, pageRequest.size(), total, nextCursor);
+    }
+
+    private long cachedCount(String countJpql, Map<String, Object> params) {
+        String cacheKey = countJpql + params;
+        Instant now = clock.instant();
+
+        CachedCount cached = countCache.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.count();
+        }
+
+        long count = count(countJpql, params);
+        if (countCache.size() >= MAX_CACHED_COUNTS) {
+            countCache.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (countCache.size() >= MAX_CACHED_COUNTS) {
+                countCache.clear();
+            }
+        }
+        countCache.put(cacheKey, new CachedCount(count, now.plusSeconds(countCacheTtlSeconds)));
+        return count;
+    }
+
+    private long count(String countJpql, Map<String, Object> params) {
+        TypedQuery<Long> countQuery = entityManager.createQuery(countJpql, Long.class);
+        bind(countQuery, params);
+        return countQuery.getSingleResult();
+    }
+
+    private void bind(TypedQuery<?> query, Map<String, Object> params) {
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            query.setParameter(param.getKey(), param.getValue());
+        }
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {}
+}
@@ -0,0 +1,151 @@
+package aegis.server.global.paging;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+
+/**
+ * 관리자 목록 조회의 정렬 조건. ORDER BY 절과 함께, 같은 정렬로 다음 페이지를 이어서 읽기 위한 seek 조건과 커서를 만든다. </br>
+ * 정렬 컬럼 뒤에는 항상 ID를 붙여 전체 순서가 유일하도록 한다. 인스턴스는 {@link KeysetSortKeys}로 만든다.
+ */
+public final class KeysetSort<T> {
+
+    static final String CURSOR_VALUE_PARAM = "cursorValue";
+    static final String CURSOR_ID_PARAM = "cursorId";
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String NULL_VALUE = "\u0000";
+
+    private final String expression; // null이면 ID 단독 정렬
+    private final Class<?> valueType;
+    private final Function<T, ?> valueExtractor;
+    private final boolean nullable;
+    private final String idExpression;
+    private final Function<T, Long> idExtractor;
+    private final boolean ascending;
+    private final String orderByClause;
+
+    KeysetSort(
+            String expression,
+            Class<?> valueType,
+            Function<T, ?> valueExtractor,
+            boolean nullable,
+            String idExpression,
+            Function<T, Long> idExtractor,
+            Sort.Direction direction) {
+        this.expression = expression;
+        this.valueType = valueType;
+        this.valueExtractor = valueExtractor;
+        this.nullable = nullable;
+        this.idExpression = idExpression;
+        this.idExtractor = idExtractor;
+        this.ascending = direction.isAscending();
+        this.orderByClause = expression == null
+                ? idExpression + " " + direction.name()
+                : expression + " " + direction.name() + ", " + idExpression + " " + direction.name();
+    }
+
+    public String orderByClause() {
+        return orderByClause;
+    }
+
+    public String encodeCursor(T last) {
+        String raw = key() + SEPARATOR + idExtractor.apply(last);
+        if (expression != null) {
+            Object value = valueExtractor.apply(last);
+            raw += SEPARATOR + (value == null ? NULL_VALUE : encodeValue(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다른 정렬로 발급된 커서이거나 형식이 잘못되었으면 BAD_REQUEST
+     */
+    public KeysetCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            if (parts.length != (expression == null ? 2 : 3) || !parts[0].equals(key())) {
+                throw new CustomException(ErrorCode.BAD_REQUEST);
+            }
+            Long id = Long.valueOf(parts[1]);
+            Object value = expression == null || parts[2].equals(NULL_VALUE) ? null : decodeValue(parts[2]);
+            return new KeysetCursor(value, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * 커서 위치 이후의 행만 남기는 조건. PostgreSQL 기본 정렬에서 NULL은 오름차순일 때 마지막, 내림차순일 때 처음에 온다.
+     */
+    String seekCondition(KeysetCursor cursor) {
+        String operator = ascending ? ">" : "<";
+        String idCondition = idExpression + " " + operator + " :" + CURSOR_ID_PARAM;
+        if (expression == null) {
+            return idCondition;
+        }
+
+        if (cursor.value() == null) {
+            String nullTail = "(" + expression + " IS NULL AND " + idCondition + ")";
+            return ascending ? nullTail : "(" + nullTail + " OR " + expression + " IS NOT NULL)";
+        }
+
+        String seek = "(" + expression + " " + operator + " :" + CURSOR_VALUE_PARAM + " OR (" + expression + " = :"
+                + CURSOR_VALUE_PARAM + " AND " + idCondition + "))";
+        return nullable && ascending ? "(" + seek + " OR " + expression + " IS NULL)" : seek;
+    }
+
+    boolean bindsValue(KeysetCursor cursor) {
+        return expression != null && cursor.value() != null;
+    }
+
+    // 다른 정렬로 발급된 커서를 구분하기 위한 정렬 식별값. 쿼리 구조가 드러나지 않도록 ORDER BY 절 대신 해시를 쓴다
+    private String key() {
+        return Integer.toHexString(orderByClause.hashCode());
+    }
+
+    private String encodeValue(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object decodeValue(String value) {
+        if (valueType == String.class) {
+            return value;
+        }
+        if (valueType == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (valueType == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (valueType == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+        if (valueType == Boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (valueType == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (valueType.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) valueType, value);
+        }
+        throw new IllegalStateException("Unsupported keyset value type: " + valueType);
+    }
+}
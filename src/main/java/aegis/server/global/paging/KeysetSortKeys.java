@@ -0,0 +1,37 @@
+package aegis.server.global.paging;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 한 엔티티 목록에 대한 {@link KeysetSort} 생성기. ID 컬럼은 공통이므로 한 번만 지정한다.
+ */
+public final class KeysetSortKeys<T> {
+
+    private final String idExpression;
+    private final Function<T, Long> idExtractor;
+
+    private KeysetSortKeys(String idExpression, Function<T, Long> idExtractor) {
+        this.idExpression = idExpression;
+        this.idExtractor = idExtractor;
+    }
+
+    public static <T> KeysetSortKeys<T> of(String idExpression, Function<T, Long> idExtractor) {
+        return new KeysetSortKeys<>(idExpression, idExtractor);
+    }
+
+    public KeysetSort<T> id(Sort.Direction direction) {
+        return new KeysetSort<>(null, null, null, false, idExpression, idExtractor, direction);
+    }
+
+    public <V> KeysetSort<T> by(
+            String expression, Class<V> valueType, Function<T, V> valueExtractor, Sort.Direction direction) {
+        return new KeysetSort<>(expression, valueType, valueExtractor, false, idExpression, idExtractor, direction);
+    }
+
+    public <V> KeysetSort<T> byNullable(
+            String expression, Class<V> valueType, Function<T, V> valueExtractor, Sort.Direction direction) {
+        return new KeysetSort<>(expression, valueType, valueExtractor, true, idExpression, idExtractor, direction);
+    }
+}
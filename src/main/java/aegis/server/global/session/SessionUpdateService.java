@@ -13,8 +13,6 @@ import org.springframework.session.Session;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +21,7 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.payment.domain.event.PaymentCompletedEvent;
 import aegis.server.domain.payment.dto.internal.PaymentInfo;
+import aegis.server.domain.payment.service.outbox.PaymentCompletedEventHandler;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
 import aegis.server.global.security.oidc.CustomOidcUser;
@@ -32,7 +31,7 @@ import aegis.server.global.security.oidc.UserDetails;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SessionUpdateService {
+public class SessionUpdateService implements PaymentCompletedEventHandler {
 
     @SuppressWarnings("rawtypes")
     private final FindByIndexNameSessionRepository sessionRepository;
@@ -90,7 +89,7 @@ public class SessionUpdateService {
         }
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handlePaymentCompletedEvent(PaymentCompletedEvent event) {
         PaymentInfo paymentInfo = event.paymentInfo();
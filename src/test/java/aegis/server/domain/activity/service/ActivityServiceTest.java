@@ -102,7 +102,7 @@ class ActivityServiceTest extends IntegrationTest {
             createActivity(ACTIVITY_NAME_2, POINT_20);
 
             // when
-            AdminActivityPageResponse response = activityService.searchActivitiesForAdmin(0, 1, null, null);
+            AdminActivityPageResponse response = activityService.searchActivitiesForAdmin(0, 1, null, null, null);
 
             // then
             assertEquals(2, response.totalElements());
@@ -118,8 +118,8 @@ class ActivityServiceTest extends IntegrationTest {
             createActivity("운영 회의", BigDecimal.valueOf(30));
 
             // when
-            AdminActivityPageResponse byName = activityService.searchActivitiesForAdmin(0, 50, "오리엔", "id,asc");
-            AdminActivityPageResponse byAmount = activityService.searchActivitiesForAdmin(0, 50, "30", "id,asc");
+            AdminActivityPageResponse byName = activityService.searchActivitiesForAdmin(0, 50, null, "오리엔", "id,asc");
+            AdminActivityPageResponse byAmount = activityService.searchActivitiesForAdmin(0, 50, null, "30", "id,asc");
 
             // then
             assertEquals(1, byName.totalElements());
@@ -133,7 +133,7 @@ class ActivityServiceTest extends IntegrationTest {
             // when
             CustomException exception = assertThrows(
                     CustomException.class,
-                    () -> activityService.searchActivitiesForAdmin(0, 50, null, "unsupported,asc"));
+                    () -> activityService.searchActivitiesForAdmin(0, 50, null, null, "unsupported,asc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
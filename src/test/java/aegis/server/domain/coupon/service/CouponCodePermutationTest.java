@@ -0,0 +1,51 @@
+package aegis.server.domain.coupon.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponCodePermutationTest {
+
+    private final CouponCodePermutation permutation = new CouponCodePermutation("test-key");
+
+    @Test
+    void 연속한_카운터도_서로_다른_8자리_대문자_16진수_코드가_된다() {
+        List<String> codes = permutation.codesOf(0, 200_000);
+
+        Set<String> distinct = new HashSet<>(codes);
+        assertThat(distinct).hasSize(200_000);
+        assertThat(codes).allMatch(code -> code.matches("[0-9A-F]{8}"));
+    }
+
+    @Test
+    void 같은_키와_카운터는_같은_코드를_만든다() {
+        CouponCodePermutation other = new CouponCodePermutation("test-key");
+
+        assertThat(other.codesOf(1_000, 10)).isEqualTo(permutation.codesOf(1_000, 10));
+        assertThat(permutation.codeOf(1_005)).isEqualTo(permutation.codesOf(1_000, 10).get(5));
+    }
+
+    @Test
+    void 키가_다르면_다른_코드를_만든다() {
+        CouponCodePermutation other = new CouponCodePermutation("other-key");
+
+        assertThat(other.codesOf(0, 10)).isNotEqualTo(permutation.codesOf(0, 10));
+    }
+
+    @Test
+    void 코드_공간의_마지막_카운터까지_만들_수_있다() {
+        assertThat(permutation.codeOf(CouponCodePermutation.CAPACITY - 1)).matches("[0-9A-F]{8}");
+    }
+
+    @Test
+    void 코드_공간을_벗어난_카운터는_거부한다() {
+        assertThatThrownBy(() -> permutation.codeOf(CouponCodePermutation.CAPACITY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> permutation.codesOf(-1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
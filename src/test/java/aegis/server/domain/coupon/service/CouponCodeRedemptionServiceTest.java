@@ -0,0 +1,195 @@
+package aegis.server.domain.coupon.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.coupon.domain.Coupon;
+import aegis.server.domain.coupon.domain.CouponCode;
+import aegis.server.domain.coupon.dto.request.CouponCodeCreateRequest;
+import aegis.server.domain.coupon.dto.request.CouponCodeUseRequest;
+import aegis.server.domain.coupon.dto.response.CouponCodeResponse;
+import aegis.server.domain.coupon.repository.CouponCodeClaimBoard;
+import aegis.server.domain.coupon.repository.CouponCodeClaimBoard.ClaimResult;
+import aegis.server.domain.coupon.repository.CouponCodeRepository;
+import aegis.server.domain.coupon.repository.CouponRepository;
+import aegis.server.domain.member.domain.Member;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+import aegis.server.global.security.oidc.UserDetails;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+
+class CouponCodeRedemptionServiceTest extends IntegrationTestWithoutTransactional {
+
+    @Autowired
+    CouponCodeRedemptionService couponCodeRedemptionService;
+
+    @Autowired
+    CouponCodeClaimReconciler couponCodeClaimReconciler;
+
+    @MockitoSpyBean
+    CouponCodeClaimBoard couponCodeClaimBoard;
+
+    @Autowired
+    CouponService couponService;
+
+    @Autowired
+    CouponCodeRepository couponCodeRepository;
+
+    @Autowired
+    CouponRepository couponRepository;
+
+    @Nested
+    class 쿠폰코드_선점_사용 {
+
+        @Test
+        void 선점한_요청은_발급_쿠폰을_저장하고_코드를_USED로_바꾼다() {
+            // given
+            Member member = createMember();
+            String code = createCouponCode();
+
+            // when
+            CouponCodeResponse response =
+                    couponCodeRedemptionService.redeem(createUserDetails(member), new CouponCodeUseRequest(code));
+
+            // then
+            assertFalse(response.isValid());
+            CouponCode couponCode = couponCodeRepository.findByCode(code).get();
+            assertFalse(couponCode.getIsValid());
+            assertTrue(CouponCodeClaimBoard.isUsed(stateOf(code)));
+        }
+
+        @Test
+        void 선점에_진_요청은_DB를_거치지_않고_거절한다() {
+            // given
+            Member winner = createMember();
+            Member loser = createMember();
+            String code = createCouponCode();
+            assertEquals(ClaimResult.CLAIMED, couponCodeClaimBoard.claim(code, winner.getId(), Instant.now()));
+
+            // when-then
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> couponCodeRedemptionService.redeem(
+                            createUserDetails(loser), new CouponCodeUseRequest(code)));
+            assertEquals(ErrorCode.COUPON_CODE_ALREADY_USED, exception.getErrorCode());
+            assertTrue(couponCodeRepository.findByCode(code).get().getIsValid());
+        }
+
+        @Test
+        void 저장에_실패하면_선점을_되돌린다() {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            memberRepository.delete(member);
+            String code = createCouponCode();
+
+            // when-then
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> couponCodeRedemptionService.redeem(userDetails, new CouponCodeUseRequest(code)));
+            assertEquals(ErrorCode.MEMBER_NOT_FOUND, exception.getErrorCode());
+            assertTrue(CouponCodeClaimBoard.isAvailable(stateOf(code)));
+        }
+
+        @Test
+        void 저장_후_USED_반영에_실패해도_발급_결과를_반환하고_재조정이_맞춘다() {
+            // given
+            Member member = createMember();
+            String code = createCouponCode();
+            doThrow(new RedisConnectionFailureException("일시적인 오류"))
+                    .doCallRealMethod()
+                    .when(couponCodeClaimBoard)
+                    .markUsed(code);
+
+            // when
+            CouponCodeResponse response =
+                    couponCodeRedemptionService.redeem(createUserDetails(member), new CouponCodeUseRequest(code));
+
+            // then
+            assertFalse(response.isValid());
+            assertFalse(couponCodeRepository.findByCode(code).get().getIsValid());
+            assertFalse(CouponCodeClaimBoard.isAvailable(stateOf(code)));
+
+            // when
+            couponCodeClaimReconciler.reconcile();
+
+            // then
+            assertTrue(CouponCodeClaimBoard.isUsed(stateOf(code)));
+        }
+
+        @Test
+        void Redis가_모르는_코드는_DB_잠금_경로로_사용한다() {
+            // given
+            Member member = createMember();
+            String code = createCouponCode();
+            couponCodeClaimBoard.remove(code);
+
+            // when
+            couponCodeRedemptionService.redeem(createUserDetails(member), new CouponCodeUseRequest(code));
+
+            // then
+            assertFalse(couponCodeRepository.findByCode(code).get().getIsValid());
+        }
+    }
+
+    @Nested
+    class 선점_상태_재조정 {
+
+        @Test
+        void 오래된_선점과_빠진_코드는_AVAILABLE로_되돌린다() {
+            // given
+            Member member = createMember();
+            String staleCode = createCouponCode();
+            String missingCode = createCouponCode();
+            couponCodeClaimBoard.claim(staleCode, member.getId(), Instant.now().minus(Duration.ofHours(1)));
+            couponCodeClaimBoard.remove(missingCode);
+
+            // when
+            couponCodeClaimReconciler.reconcile();
+
+            // then
+            assertTrue(CouponCodeClaimBoard.isAvailable(stateOf(staleCode)));
+            assertTrue(CouponCodeClaimBoard.isAvailable(stateOf(missingCode)));
+        }
+
+        @Test
+        void 최근_선점은_그대로_두고_DB에서_사용된_코드는_USED로_바꾼다() {
+            // given
+            Member member = createMember();
+            String claimedCode = createCouponCode();
+            String usedCode = createCouponCode();
+            couponCodeClaimBoard.claim(claimedCode, member.getId(), Instant.now());
+            couponService.useCouponCode(createUserDetails(member), new CouponCodeUseRequest(usedCode));
+
+            // when
+            couponCodeClaimReconciler.reconcile();
+
+            // then
+            assertFalse(CouponCodeClaimBoard.isAvailable(stateOf(claimedCode)));
+            assertTrue(CouponCodeClaimBoard.isUsed(stateOf(usedCode)));
+        }
+    }
+
+    private String createCouponCode() {
+        Coupon coupon = couponRepository.save(Coupon.create("선점테스트쿠폰" + System.nanoTime(), BigDecimal.valueOf(5000L)));
+        return couponService
+                .createCouponCode(new CouponCodeCreateRequest(coupon.getId(), null))
+                .code();
+    }
+
+    private String stateOf(String code) {
+        return couponCodeClaimBoard.findStates(List.of(code)).getFirst();
+    }
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,8 +52,21 @@ class CouponCodeUseConcurrencyTest extends IntegrationTestWithoutTransactional {
     @Autowired
     MemberRepository memberRepository;
 
+    @Autowired
+    CouponCodeRedemptionService couponCodeRedemptionService;
+
     @Test
     void 동시에_같은_쿠폰코드를_사용해도_한_번만_사용된다() throws InterruptedException {
+        assertUsedOnlyOnce(couponService::useCouponCode);
+    }
+
+    @Test
+    void Redis_선점_경로로_동시에_사용해도_한_번만_사용된다() throws InterruptedException {
+        assertUsedOnlyOnce(couponCodeRedemptionService::redeem);
+    }
+
+    private void assertUsedOnlyOnce(BiConsumer<UserDetails, CouponCodeUseRequest> useCouponCode)
+            throws InterruptedException {
         // 테스트 변수 설정
         int userCount = 1000; // 동시 사용자 수
 
@@ -85,7 +99,7 @@ class CouponCodeUseConcurrencyTest extends IntegrationTestWithoutTransactional {
                                 Member member = members.get(i);
                                 UserDetails userDetails = createUserDetails(member);
 
-                                couponService.useCouponCode(userDetails, new CouponCodeUseRequest(couponCode));
+                                useCouponCode.accept(userDetails, new CouponCodeUseRequest(couponCode));
                                 successCount.incrementAndGet();
 
                             } catch (CustomException e) {
@@ -2,6 +2,7 @@ package aegis.server.domain.coupon.service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import aegis.server.domain.coupon.domain.Coupon;
 import aegis.server.domain.coupon.domain.CouponCode;
 import aegis.server.domain.coupon.domain.IssuedCoupon;
+import aegis.server.domain.coupon.dto.request.CouponCodeBulkCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponCodeCreateRequest;
 import aegis.server.domain.coupon.dto.request.CouponCodeUseRequest;
 import aegis.server.domain.coupon.dto.request.CouponCreateRequest;
@@ -20,6 +22,9 @@ import aegis.server.domain.coupon.dto.response.AdminCouponCodePageResponse;
 import aegis.server.domain.coupon.dto.response.AdminCouponPageResponse;
 import aegis.server.domain.coupon.dto.response.AdminCouponResponse;
 import aegis.server.domain.coupon.dto.response.AdminIssuedCouponPageResponse;
+import aegis.server.domain.coupon.dto.response.CouponBulkIssueResponse;
+import aegis.server.domain.coupon.dto.response.CouponCodeBulkCreateResponse;
+import aegis.server.domain.coupon.dto.response.CouponCodePoolResponse;
 import aegis.server.domain.coupon.dto.response.CouponCodeResponse;
 import aegis.server.domain.coupon.dto.response.CouponResponse;
 import aegis.server.domain.coupon.dto.response.IssuedCouponResponse;
@@ -53,6 +58,9 @@ class CouponServiceTest extends IntegrationTest {
     @Autowired
     PaymentRepository paymentRepository;
 
+    @Autowired
+    CouponCodePermutation couponCodePermutation;
+
     private static final String COUPON_NAME = "쿠폰명";
 
     @Nested
@@ -93,7 +101,7 @@ class CouponServiceTest extends IntegrationTest {
             createCoupon("나쿠폰");
 
             // when
-            AdminCouponPageResponse response = couponService.getAdminCouponsPage(0, 1, null, null);
+            AdminCouponPageResponse response = couponService.getAdminCouponsPage(0, 1, null, null, null);
 
             // then
             assertEquals(2, response.totalElements());
@@ -109,7 +117,7 @@ class CouponServiceTest extends IntegrationTest {
             createCoupon("운영진 전용 쿠폰");
 
             // when
-            AdminCouponPageResponse response = couponService.getAdminCouponsPage(0, 50, "환영", "id,asc");
+            AdminCouponPageResponse response = couponService.getAdminCouponsPage(0, 50, null, "환영", "id,asc");
 
             // then
             assertEquals(1, response.totalElements());
@@ -120,7 +128,7 @@ class CouponServiceTest extends IntegrationTest {
         void 지원하지_않는_sort는_실패한다() {
             // when
             CustomException exception = assertThrows(
-                    CustomException.class, () -> couponService.getAdminCouponsPage(0, 50, null, "unknown,asc"));
+                    CustomException.class, () -> couponService.getAdminCouponsPage(0, 50, null, null, "unknown,asc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
@@ -139,7 +147,7 @@ class CouponServiceTest extends IntegrationTest {
             couponCodeRepository.save(other);
 
             // when
-            AdminCouponCodePageResponse response = couponService.getAdminCouponCodesPage(0, 50, "ot", null);
+            AdminCouponCodePageResponse response = couponService.getAdminCouponCodesPage(0, 50, null, "ot", null);
 
             // then
             assertEquals(1, response.totalElements());
@@ -150,7 +158,7 @@ class CouponServiceTest extends IntegrationTest {
         void 지원하지_않는_sort는_실패한다() {
             // when
             CustomException exception = assertThrows(
-                    CustomException.class, () -> couponService.getAdminCouponCodesPage(0, 50, null, "nope,desc"));
+                    CustomException.class, () -> couponService.getAdminCouponCodesPage(0, 50, null, null, "nope,desc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
@@ -175,7 +183,8 @@ class CouponServiceTest extends IntegrationTest {
             createIssuedCoupon(coupon, memberB);
 
             // when
-            AdminIssuedCouponPageResponse response = couponService.getAdminIssuedCouponsPage(0, 50, "32009991", null);
+            AdminIssuedCouponPageResponse response =
+                    couponService.getAdminIssuedCouponsPage(0, 50, null, "32009991", null, null, null, null);
 
             // then
             assertEquals(1, response.totalElements());
@@ -197,7 +206,7 @@ class CouponServiceTest extends IntegrationTest {
 
             // when
             AdminIssuedCouponPageResponse response = couponService.getAdminIssuedCouponsPage(
-                    0, 50, null, couponB.getId(), memberB.getId(), true, "id,asc");
+                    0, 50, null, null, couponB.getId(), memberB.getId(), true, "id,asc");
 
             // then
             assertEquals(1, response.totalElements());
@@ -208,7 +217,8 @@ class CouponServiceTest extends IntegrationTest {
         void 지원하지_않는_sort는_실패한다() {
             // when
             CustomException exception = assertThrows(
-                    CustomException.class, () -> couponService.getAdminIssuedCouponsPage(0, 50, null, "invalid,asc"));
+                    CustomException.class,
+                    () -> couponService.getAdminIssuedCouponsPage(0, 50, null, null, null, null, null, "invalid,asc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
@@ -517,6 +527,89 @@ class CouponServiceTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    class 쿠폰_일괄발급 {
+        @Test
+        void 성공한다() {
+            // given
+            Member member1 = createMember();
+            Member member2 = createMember();
+            Coupon coupon = createCoupon();
+            CouponIssueRequest request =
+                    new CouponIssueRequest(coupon.getId(), List.of(member1.getId(), member2.getId()));
+
+            // when
+            CouponBulkIssueResponse response = couponService.issueCouponInBulk(request);
+
+            // then
+            assertEquals(2, response.requestedCount());
+            assertEquals(2, response.issuedCount());
+            assertTrue(response.alreadyIssuedMemberIds().isEmpty());
+            assertTrue(response.missingMemberIds().isEmpty());
+
+            List<IssuedCoupon> issuedCoupons = issuedCouponRepository.findAllByMemberWithCoupon(member1);
+            assertEquals(1, issuedCoupons.size());
+            assertEquals(coupon.getId(), issuedCoupons.getFirst().getCoupon().getId());
+            assertTrue(issuedCoupons.getFirst().getIsValid());
+            assertEquals(1, issuedCouponRepository.findAllByMemberWithCoupon(member2).size());
+        }
+
+        @Test
+        void 개별_발급과_같은_회원에게_발급한다() {
+            // given
+            List<Long> memberIds = List.of(createMember().getId(), createMember().getId(), createMember().getId());
+            Coupon entityCoupon = createCoupon("개별발급쿠폰");
+            Coupon bulkCoupon = createCoupon("일괄발급쿠폰");
+
+            // when
+            List<IssuedCouponResponse> entityResult =
+                    couponService.createIssuedCoupon(new CouponIssueRequest(entityCoupon.getId(), memberIds));
+            CouponBulkIssueResponse bulkResult =
+                    couponService.issueCouponInBulk(new CouponIssueRequest(bulkCoupon.getId(), memberIds));
+
+            // then
+            assertEquals(memberIds.size(), entityResult.size());
+            assertEquals(memberIds.size(), bulkResult.issuedCount());
+            assertEquals(issuedMemberIds(entityCoupon), issuedMemberIds(bulkCoupon));
+        }
+
+        @Test
+        void 이미_발급받은_회원과_존재하지_않는_회원은_제외하고_보고한다() {
+            // given
+            Member issuedMember = createMember();
+            Member newMember = createMember();
+            Coupon coupon = createCoupon();
+            createIssuedCoupon(coupon, issuedMember);
+            Long nonExistentMemberId = newMember.getId() + 1L;
+            CouponIssueRequest request = new CouponIssueRequest(
+                    coupon.getId(),
+                    List.of(issuedMember.getId(), newMember.getId(), nonExistentMemberId, newMember.getId()));
+
+            // when
+            CouponBulkIssueResponse response = couponService.issueCouponInBulk(request);
+
+            // then
+            assertEquals(3, response.requestedCount());
+            assertEquals(1, response.issuedCount());
+            assertEquals(List.of(issuedMember.getId()), response.alreadyIssuedMemberIds());
+            assertEquals(List.of(nonExistentMemberId), response.missingMemberIds());
+            assertEquals(1, issuedCouponRepository.findAllByMemberWithCoupon(issuedMember).size());
+            assertEquals(1, issuedCouponRepository.findAllByMemberWithCoupon(newMember).size());
+        }
+
+        @Test
+        void 존재하지_않는_쿠폰이면_실패한다() {
+            // given
+            Member member = createMember();
+            CouponIssueRequest request = new CouponIssueRequest(member.getId() + 999L, List.of(member.getId()));
+
+            // when-then
+            CustomException exception =
+                    assertThrows(CustomException.class, () -> couponService.issueCouponInBulk(request));
+            assertEquals(ErrorCode.COUPON_NOT_FOUND, exception.getErrorCode());
+        }
+    }
+
     @Nested
     class 쿠폰삭제 {
         @Test
@@ -671,6 +764,66 @@ class CouponServiceTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    class 쿠폰코드_일괄발급 {
+        @Test
+        void 성공한다() {
+            // given
+            Coupon coupon = createCoupon();
+            CouponCodePoolResponse before = couponService.getCouponCodePool();
+            CouponCodeBulkCreateRequest request = new CouponCodeBulkCreateRequest(coupon.getId(), 100, " 축제 배포 ");
+
+            // when
+            CouponCodeBulkCreateResponse response = couponService.createCouponCodesInBulk(request);
+
+            // then
+            assertEquals(100, response.createdCount());
+            assertEquals(100, response.codes().stream().distinct().count());
+            assertTrue(response.codes().stream().allMatch(code -> code.matches("[0-9A-F]{8}")));
+            assertEquals(before.remainingCount() - 100, response.remainingCount());
+
+            CouponCode couponCode =
+                    couponCodeRepository.findByCode(response.codes().getFirst()).get();
+            assertEquals(coupon.getId(), couponCode.getCoupon().getId());
+            assertEquals("축제 배포", couponCode.getDescription());
+            assertTrue(couponCode.getIsValid());
+
+            CouponCodePoolResponse after = couponService.getCouponCodePool();
+            assertEquals(before.usedCount() + 100, after.usedCount());
+            assertEquals(after.capacity(), after.usedCount() + after.remainingCount());
+        }
+
+        @Test
+        void 기존_코드와_겹치는_코드는_건너뛰고_요청한_개수를_채운다() {
+            // given
+            Coupon coupon = createCoupon();
+            long usedCount = couponService.getCouponCodePool().usedCount();
+            // 순열 도입 전 무작위로 만든 코드가 다음 순열 코드와 같은 상황
+            String legacyCode = couponCodePermutation.codeOf(usedCount);
+            couponCodeRepository.save(CouponCode.of(coupon, legacyCode, null));
+
+            // when
+            CouponCodeBulkCreateResponse response =
+                    couponService.createCouponCodesInBulk(new CouponCodeBulkCreateRequest(coupon.getId(), 3, null));
+
+            // then
+            assertEquals(3, response.createdCount());
+            assertFalse(response.codes().contains(legacyCode));
+            assertEquals(usedCount + 4, couponService.getCouponCodePool().usedCount());
+        }
+
+        @Test
+        void 존재하지_않는_쿠폰이면_실패한다() {
+            // given
+            CouponCodeBulkCreateRequest request = new CouponCodeBulkCreateRequest(999L, 10, null);
+
+            // when-then
+            CustomException exception =
+                    assertThrows(CustomException.class, () -> couponService.createCouponCodesInBulk(request));
+            assertEquals(ErrorCode.COUPON_NOT_FOUND, exception.getErrorCode());
+        }
+    }
+
     @Nested
     class 쿠폰코드_사용 {
         @Test
@@ -741,13 +894,21 @@ class CouponServiceTest extends IntegrationTest {
         return couponRepository.save(coupon);
     }
 
+    private List<Long> issuedMemberIds(Coupon coupon) {
+        return issuedCouponRepository.findAllWithCouponMemberAndPayment().stream()
+                .filter(issuedCoupon -> issuedCoupon.getCoupon().getId().equals(coupon.getId()))
+                .map(issuedCoupon -> issuedCoupon.getMember().getId())
+                .sorted()
+                .toList();
+    }
+
     private IssuedCoupon createIssuedCoupon(Coupon coupon, Member member) {
         IssuedCoupon issuedCoupon = IssuedCoupon.of(coupon, member);
         return issuedCouponRepository.save(issuedCoupon);
     }
 
     private CouponCode createCouponCode(Coupon coupon) {
-        String code = CodeGenerator.generateCouponCode(8);
+        String code = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         CouponCode couponCode = CouponCode.of(coupon, code, null);
         return couponCodeRepository.save(couponCode);
     }
@@ -0,0 +1,72 @@
+package aegis.server.domain.member.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.helper.IntegrationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberSearchTest extends IntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Nested
+    class 키워드_검색 {
+
+        @Test
+        void 정확히_일치_앞부분_일치_부분_일치_순으로_정렬한다() {
+            // given
+            Member contains = createMember();
+            contains.updateName("이철수");
+            memberRepository.save(contains);
+
+            Member exact = createMember();
+            exact.updateName("철수");
+            memberRepository.save(exact);
+
+            Member prefix = createMember();
+            prefix.updateName("철수민");
+            memberRepository.save(prefix);
+
+            // when
+            List<Member> response = memberRepository.searchByStudentIdOrName("철수", PageRequest.of(0, 20));
+
+            // then
+            assertEquals(
+                    List.of(exact.getId(), prefix.getId(), contains.getId()),
+                    response.stream().map(Member::getId).toList());
+        }
+    }
+
+    @Nested
+    class trigram_인덱스 {
+
+        @Test
+        void 시작_시_모든_검색_인덱스가_유효한_상태로_생성된다() {
+            // when
+            List<String> validIndexNames = jdbcTemplate.queryForList(
+                    "SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                            + "WHERE c.relname LIKE '%\\_trgm' AND i.indisvalid",
+                    String.class);
+
+            // then
+            assertTrue(
+                    validIndexNames.containsAll(MemberSearchIndexInitializer.TRIGRAM_INDEXES.stream()
+                            .map(MemberSearchIndexInitializer.TrigramIndex::name)
+                            .toList()),
+                    validIndexNames.toString());
+        }
+    }
+}
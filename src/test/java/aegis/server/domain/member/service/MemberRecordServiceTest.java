@@ -2,6 +2,8 @@ package aegis.server.domain.member.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,8 @@ import aegis.server.domain.member.domain.Gender;
 import aegis.server.domain.member.domain.Grade;
 import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.member.domain.MemberRecord;
+import aegis.server.domain.member.domain.MemberRecordBackfillJob;
+import aegis.server.domain.member.domain.MemberRecordBackfillJobStatus;
 import aegis.server.domain.member.domain.MemberRecordSource;
 import aegis.server.domain.member.domain.Role;
 import aegis.server.domain.member.dto.response.AdminMemberRecordPageResponse;
@@ -26,6 +30,8 @@ import aegis.server.domain.member.dto.response.AdminMemberRecordSemesterOptionRe
 import aegis.server.domain.member.dto.response.AdminMemberRecordTimelineResponse;
 import aegis.server.domain.member.dto.response.AdminMemberSemesterActivityDetailResponse;
 import aegis.server.domain.member.dto.response.MemberRecordBackfillResponse;
+import aegis.server.domain.member.repository.MemberRecordBackfillJdbcRepository;
+import aegis.server.domain.member.repository.MemberRecordBackfillJobRepository;
 import aegis.server.domain.member.repository.MemberRecordRepository;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.member.service.listener.MemberRecordEventListener;
@@ -57,6 +63,15 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
     @Autowired
     MemberRecordService memberRecordService;
 
+    @Autowired
+    MemberRecordBackfillService memberRecordBackfillService;
+
+    @Autowired
+    MemberRecordBackfillJobRepository memberRecordBackfillJobRepository;
+
+    @Autowired
+    MemberRecordBackfillJdbcRepository memberRecordBackfillJdbcRepository;
+
     @Autowired
     MemberRecordEventListener memberRecordEventListener;
 
@@ -138,7 +153,7 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
                     Payment.createForDev(unpaidMember, PaymentStatus.PENDING, YearSemester.YEAR_SEMESTER_2026_1));
 
             // when
-            MemberRecordBackfillResponse response = memberRecordService.backfillFromCompletedPayments();
+            MemberRecordBackfillResponse response = memberRecordBackfillService.start();
 
             // then 반환값 검증
             assertEquals(2, response.totalCompletedPayments());
@@ -167,8 +182,8 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
                     Payment.createForDev(member, PaymentStatus.COMPLETED, YearSemester.YEAR_SEMESTER_2025_1));
 
             // when
-            MemberRecordBackfillResponse first = memberRecordService.backfillFromCompletedPayments();
-            MemberRecordBackfillResponse second = memberRecordService.backfillFromCompletedPayments();
+            MemberRecordBackfillResponse first = memberRecordBackfillService.start();
+            MemberRecordBackfillResponse second = memberRecordBackfillService.start();
 
             // then 반환값 검증
             assertEquals(1, first.createdRecords());
@@ -184,6 +199,121 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
         }
     }
 
+    @Nested
+    class 결제완료_백필_작업 {
+
+        @Test
+        void 여러_청크로_나누어_처리하고_진행상황을_기록한다() {
+            // given 청크 크기(2)보다 많은 결제완료 5건
+            List<Member> members = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Member member = createMember();
+                members.add(member);
+                paymentRepository.save(
+                        Payment.createForDev(member, PaymentStatus.COMPLETED, YearSemester.YEAR_SEMESTER_2026_1));
+            }
+
+            // when
+            MemberRecordBackfillResponse started = memberRecordBackfillService.start();
+
+            // then 반환값 검증
+            MemberRecordBackfillResponse response = memberRecordBackfillService.getJob(started.jobId());
+            assertEquals(MemberRecordBackfillJobStatus.COMPLETED, response.status());
+            assertEquals(5, response.totalCompletedPayments());
+            assertEquals(5, response.createdRecords());
+            assertNotNull(response.finishedAt());
+
+            // then DB 상태 검증
+            assertTrue(members.stream()
+                    .allMatch(member -> memberRecordRepository.existsByMemberIdAndYearSemester(
+                            member.getId(), YearSemester.YEAR_SEMESTER_2026_1)));
+        }
+
+        @Test
+        void 끝나지_않은_작업은_체크포인트_다음_결제부터_이어서_처리한다() {
+            // given 첫 번째 결제까지 처리된 상태에서 멈춘 작업
+            Member processedMember = createMember();
+            Payment processedPayment = paymentRepository.save(
+                    Payment.createForDev(processedMember, PaymentStatus.COMPLETED, YearSemester.YEAR_SEMESTER_2026_1));
+            Member remainingMember = createMember();
+            paymentRepository.save(
+                    Payment.createForDev(remainingMember, PaymentStatus.COMPLETED, YearSemester.YEAR_SEMESTER_2026_1));
+
+            MemberRecordBackfillJob interrupted = MemberRecordBackfillJob.start(LocalDateTime.now());
+            interrupted.advance(processedPayment.getId(), 1, 1);
+            memberRecordBackfillJobRepository.save(interrupted);
+
+            // when
+            MemberRecordBackfillResponse response = memberRecordBackfillService.start();
+
+            // then 같은 작업을 이어서 완료
+            assertEquals(interrupted.getId(), response.jobId());
+            assertEquals(MemberRecordBackfillJobStatus.COMPLETED, response.status());
+            assertEquals(2, response.totalCompletedPayments());
+            assertEquals(2, response.createdRecords());
+
+            // then 체크포인트 이전 결제는 다시 처리하지 않음
+            assertFalse(memberRecordRepository.existsByMemberIdAndYearSemester(
+                    processedMember.getId(), YearSemester.YEAR_SEMESTER_2026_1));
+            assertTrue(memberRecordRepository.existsByMemberIdAndYearSemester(
+                    remainingMember.getId(), YearSemester.YEAR_SEMESTER_2026_1));
+        }
+
+        @Test
+        void 다른_인스턴스가_실행_중인_작업은_점유하지_않는다() {
+            // given heartbeat가 살아 있는 다른 인스턴스의 작업
+            Member member = createMember();
+            paymentRepository.save(
+                    Payment.createForDev(member, PaymentStatus.COMPLETED, YearSemester.YEAR_SEMESTER_2026_1));
+            MemberRecordBackfillJob running =
+                    memberRecordBackfillJobRepository.save(MemberRecordBackfillJob.start(LocalDateTime.now()));
+            LocalDateTime now = LocalDateTime.now();
+            assertTrue(memberRecordBackfillJdbcRepository.claimJob(
+                    running.getId(), "other-instance", now, now.minusMinutes(5)));
+
+            // when
+            MemberRecordBackfillResponse response = memberRecordBackfillService.start();
+
+            // then 같은 작업을 돌려주기만 하고 처리하지 않음
+            assertEquals(running.getId(), response.jobId());
+            assertEquals(MemberRecordBackfillJobStatus.RUNNING, response.status());
+            assertEquals(0, response.totalCompletedPayments());
+            assertFalse(memberRecordRepository.existsByMemberIdAndYearSemester(
+                    member.getId(), YearSemester.YEAR_SEMESTER_2026_1));
+        }
+
+        @Test
+        void heartbeat가_끊긴_작업은_넘겨받아_이어서_처리한다() {
+            // given lease 시간보다 오래전에 heartbeat가 멈춘 작업
+            Member member = createMember();
+            paymentRepository.save(
+                    Payment.createForDev(member, PaymentStatus.COMPLETED, YearSemester.YEAR_SEMESTER_2026_1));
+            MemberRecordBackfillJob stale =
+                    memberRecordBackfillJobRepository.save(MemberRecordBackfillJob.start(LocalDateTime.now()));
+            LocalDateTime staleHeartbeat = LocalDateTime.now().minusHours(1);
+            assertTrue(memberRecordBackfillJdbcRepository.claimJob(
+                    stale.getId(), "dead-instance", staleHeartbeat, staleHeartbeat.minusMinutes(5)));
+
+            // when
+            memberRecordBackfillService.resumeInterruptedJob();
+
+            // then
+            MemberRecordBackfillResponse response = memberRecordBackfillService.getJob(stale.getId());
+            assertEquals(MemberRecordBackfillJobStatus.COMPLETED, response.status());
+            assertEquals(1, response.createdRecords());
+            assertTrue(memberRecordRepository.existsByMemberIdAndYearSemester(
+                    member.getId(), YearSemester.YEAR_SEMESTER_2026_1));
+        }
+
+        @Test
+        void 존재하지_않는_작업을_조회하면_예외가_발생한다() {
+            // when & then
+            CustomException exception =
+                    assertThrows(CustomException.class, () -> memberRecordBackfillService.getJob(999999L));
+            assertEquals(ErrorCode.MEMBER_RECORD_BACKFILL_JOB_NOT_FOUND, exception.getErrorCode());
+        }
+    }
+
     @Nested
     class 관리자_회원기록_조회 {
 
@@ -202,7 +332,7 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
 
             // when
             AdminMemberRecordPageResponse response = memberRecordService.getMemberRecordsByYearSemester(
-                    YearSemester.YEAR_SEMESTER_2026_1, 0, 50, null, null, null);
+                    YearSemester.YEAR_SEMESTER_2026_1, 0, 50, null, null, null, null);
 
             // then
             assertEquals(2, response.content().size());
@@ -305,11 +435,11 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
 
             // when
             AdminMemberRecordPageResponse keywordFiltered = memberRecordService.getMemberRecordsByYearSemester(
-                    YearSemester.YEAR_SEMESTER_2026_1, 0, 50, "백엔드", null, "name,asc");
+                    YearSemester.YEAR_SEMESTER_2026_1, 0, 50, null, "백엔드", null, "name,asc");
             AdminMemberRecordPageResponse roleFiltered = memberRecordService.getMemberRecordsByYearSemester(
-                    YearSemester.YEAR_SEMESTER_2025_2, 0, 50, null, Role.GUEST, "name,asc");
+                    YearSemester.YEAR_SEMESTER_2025_2, 0, 50, null, null, Role.GUEST, "name,asc");
             AdminMemberRecordPageResponse sorted = memberRecordService.getMemberRecordsByYearSemester(
-                    YearSemester.YEAR_SEMESTER_2026_1, 0, 50, null, null, "name,desc");
+                    YearSemester.YEAR_SEMESTER_2026_1, 0, 50, null, null, null, "name,desc");
 
             // then
             assertEquals(1, keywordFiltered.content().size());
@@ -383,6 +513,46 @@ class MemberRecordServiceTest extends IntegrationTestWithoutTransactional {
                     response.activityParticipations().getFirst().activityParticipationId());
         }
 
+        @Test
+        void 여러_회원의_학기_활동상세를_요청한_순서대로_조회한다() {
+            // given
+            Member first = createMember();
+            Member second = createMember();
+            Long notExistingMemberId = 99_999_997L;
+
+            Activity ot = activityRepository.save(Activity.create("OT 참여", BigDecimal.valueOf(200)));
+            Activity mt = activityRepository.save(Activity.create("MT 참여", BigDecimal.valueOf(300)));
+            ActivityParticipation older =
+                    activityParticipationRepository.save(ActivityParticipation.create(ot, second));
+            ActivityParticipation newer =
+                    activityParticipationRepository.save(ActivityParticipation.create(mt, second));
+
+            // when
+            List<AdminMemberSemesterActivityDetailResponse> responses =
+                    memberRecordService.getMemberSemesterActivityDetails(
+                            List.of(second.getId(), notExistingMemberId, first.getId()),
+                            YearSemester.YEAR_SEMESTER_2026_1);
+
+            // then 존재하지 않는 회원은 제외하고 요청 순서 유지
+            assertEquals(2, responses.size());
+            assertEquals(second.getId(), responses.get(0).memberId());
+            assertEquals(first.getId(), responses.get(1).memberId());
+
+            // then 최근 참여 순으로 정렬
+            assertEquals(2, responses.get(0).summary().activityParticipationCount());
+            assertEquals(
+                    newer.getId(),
+                    responses.get(0).activityParticipations().get(0).activityParticipationId());
+            assertEquals(
+                    older.getId(),
+                    responses.get(0).activityParticipations().get(1).activityParticipationId());
+            assertEquals("MT 참여", responses.get(0).activityParticipations().get(0).activityName());
+
+            // then 활동이 없는 회원은 빈 목록
+            assertEquals(0, responses.get(1).summary().studyParticipationCount());
+            assertTrue(responses.get(1).activityParticipations().isEmpty());
+        }
+
         @Test
         void 존재하지_않는_회원의_학기_활동상세_조회는_실패한다() {
             // given
@@ -66,8 +66,8 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
                     Payment.createForDev(oldSemesterMember, PaymentStatus.PENDING, YearSemester.YEAR_SEMESTER_2025_2));
 
             // when
-            AdminPaymentPageResponse response =
-                    adminPaymentService.getPayments(0, 50, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING, "홍", null);
+            AdminPaymentPageResponse response = adminPaymentService.getPayments(
+                    0, 50, null, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING, "홍", null);
 
             // then
             assertEquals(1, response.totalElements());
@@ -93,7 +93,7 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
 
             // when
             AdminPaymentPageResponse response = adminPaymentService.getPayments(
-                    0, 50, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING, null, "finalPrice,desc");
+                    0, 50, null, CURRENT_YEAR_SEMESTER, PaymentStatus.PENDING, null, "finalPrice,desc");
 
             // then
             assertTrue(response.content().size() >= 2);
@@ -109,7 +109,8 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
             // when
             CustomException exception = assertThrows(
                     CustomException.class,
-                    () -> adminPaymentService.getPayments(0, 50, CURRENT_YEAR_SEMESTER, null, null, "unsupported,asc"));
+                    () -> adminPaymentService.getPayments(
+                            0, 50, null, CURRENT_YEAR_SEMESTER, null, null, "unsupported,asc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
@@ -150,6 +151,7 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
             AdminTransactionPageResponse response = adminPaymentService.getTransactions(
                     0,
                     50,
+                    null,
                     CURRENT_YEAR_SEMESTER,
                     TransactionType.DEPOSIT,
                     "홍",
@@ -178,6 +180,7 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
                     () -> adminPaymentService.getTransactions(
                             0,
                             50,
+                            null,
                             CURRENT_YEAR_SEMESTER,
                             null,
                             null,
@@ -205,7 +208,7 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
 
             // when
             AdminTransactionPageResponse response = adminPaymentService.getTransactions(
-                    0, 50, CURRENT_YEAR_SEMESTER, null, null, null, null, "transactionTime,asc");
+                    0, 50, null, CURRENT_YEAR_SEMESTER, null, null, null, null, "transactionTime,asc");
 
             // then
             assertTrue(response.content().size() >= 2);
@@ -225,7 +228,7 @@ public class AdminPaymentServiceTest extends IntegrationTestWithoutTransactional
             CustomException exception = assertThrows(
                     CustomException.class,
                     () -> adminPaymentService.getTransactions(
-                            0, 50, CURRENT_YEAR_SEMESTER, null, null, null, null, "unsupported,asc"));
+                            0, 50, null, CURRENT_YEAR_SEMESTER, null, null, null, null, "unsupported,asc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
@@ -0,0 +1,114 @@
+package aegis.server.domain.payment.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.member.domain.Role;
+import aegis.server.domain.member.repository.MemberRecordRepository;
+import aegis.server.domain.member.repository.MemberRepository;
+import aegis.server.domain.member.service.listener.MemberRecordEventListener;
+import aegis.server.domain.payment.domain.Payment;
+import aegis.server.domain.payment.domain.PaymentOutbox;
+import aegis.server.domain.payment.domain.PaymentOutboxStatus;
+import aegis.server.domain.payment.domain.PaymentStatus;
+import aegis.server.domain.payment.repository.PaymentOutboxRepository;
+import aegis.server.domain.payment.repository.PaymentRepository;
+import aegis.server.domain.payment.service.outbox.PaymentOutboxProcessor;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PaymentOutboxTest extends IntegrationTestWithoutTransactional {
+
+    @Autowired
+    AdminPaymentService adminPaymentService;
+
+    @Autowired
+    PaymentOutboxProcessor paymentOutboxProcessor;
+
+    @Autowired
+    PaymentOutboxRepository paymentOutboxRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberRecordRepository memberRecordRepository;
+
+    @MockitoSpyBean
+    MemberRecordEventListener memberRecordEventListener;
+
+    @Test
+    void 결제_완료와_함께_아웃박스를_기록하고_모든_후속_처리를_마친다() {
+        // given
+        Member member = createGuestMember();
+        Payment payment =
+                paymentRepository.save(Payment.createForDev(member, PaymentStatus.PENDING, CURRENT_YEAR_SEMESTER));
+
+        // when
+        adminPaymentService.forceCompletePayment(payment.getId());
+
+        // then
+        PaymentOutbox outbox = paymentOutboxRepository.findAll().getFirst();
+        assertEquals(payment.getId(), outbox.getPaymentId());
+        assertEquals(PaymentOutboxStatus.DISPATCHED, outbox.getStatus());
+        assertTrue(outbox.isHandled("MemberEventListener"));
+        assertTrue(outbox.isHandled("MemberRecordEventListener"));
+        assertEquals(Role.USER, memberRepository.findById(member.getId()).orElseThrow().getRole());
+    }
+
+    @Test
+    void 실패한_처리기부터_백오프_후_재시도한다() {
+        // given
+        Member member = createGuestMember();
+        Payment payment =
+                paymentRepository.save(Payment.createForDev(member, PaymentStatus.PENDING, CURRENT_YEAR_SEMESTER));
+        doThrow(new IllegalStateException("일시적인 오류"))
+                .doCallRealMethod()
+                .when(memberRecordEventListener)
+                .handlePaymentCompletedEvent(any());
+
+        // when
+        adminPaymentService.forceCompletePayment(payment.getId());
+
+        // then
+        PaymentOutbox failed = paymentOutboxRepository.findAll().getFirst();
+        assertEquals(PaymentOutboxStatus.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getNextAttemptAt().isAfter(failed.getCreatedAt()));
+        assertTrue(failed.getLastError().startsWith("MemberRecordEventListener"));
+        assertTrue(failed.isHandled("MemberEventListener"));
+        assertFalse(failed.isHandled("MemberRecordEventListener"));
+        assertEquals(Role.USER, memberRepository.findById(member.getId()).orElseThrow().getRole());
+        assertFalse(memberRecordRepository.existsByMemberIdAndYearSemester(member.getId(), CURRENT_YEAR_SEMESTER));
+
+        // when
+        paymentOutboxProcessor.process(failed.getId());
+
+        // then
+        PaymentOutbox retried = paymentOutboxRepository.findById(failed.getId()).orElseThrow();
+        assertEquals(PaymentOutboxStatus.DISPATCHED, retried.getStatus());
+        assertEquals(2, retried.getAttempts());
+        assertTrue(memberRecordRepository.existsByMemberIdAndYearSemester(member.getId(), CURRENT_YEAR_SEMESTER));
+        verify(memberRecordEventListener, times(2)).handlePaymentCompletedEvent(any());
+    }
+
+    private Member createGuestMember() {
+        Member member = createMember();
+        member.demoteToGuest();
+        return memberRepository.save(member);
+    }
+}
@@ -1,13 +1,21 @@
 package aegis.server.domain.payment.service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import jakarta.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -33,7 +41,11 @@ import aegis.server.helper.IntegrationTestWithoutTransactional;
 import static aegis.server.global.constant.Constant.CLUB_DUES;
 import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 public class PaymentServiceTest extends IntegrationTestWithoutTransactional {
 
@@ -52,6 +64,18 @@ public class PaymentServiceTest extends IntegrationTestWithoutTransactional {
     @Autowired
     EntityManager entityManager;
 
+    @Autowired
+    PaymentStatusService paymentStatusService;
+
+    @Autowired
+    AdminPaymentService adminPaymentService;
+
+    @Autowired
+    PaymentStatusBroadcaster paymentStatusBroadcaster;
+
+    @Autowired
+    WebApplicationContext webApplicationContext;
+
     @Nested
     class 결제정보_생성 {
 
@@ -486,6 +510,102 @@ public class PaymentServiceTest extends IntegrationTestWithoutTransactional {
         }
     }
 
+    @Nested
+    class 결제상태_캐시 {
+
+        @Test
+        void 조회한_결제상태는_결제가_바뀌었다고_알려질_때까지_캐시에서_응답한다() {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            paymentService.createPayment(new PaymentRequest(List.of()), userDetails);
+            paymentService.checkPaymentStatus(userDetails);
+
+            Payment payment = paymentRepository.findByMemberInCurrentYearSemester(member).orElseThrow();
+            ReflectionTestUtils.setField(payment, "status", PaymentStatus.COMPLETED);
+            paymentRepository.save(payment);
+
+            // when
+            PaymentStatusResponse cached = paymentService.checkPaymentStatus(userDetails);
+            paymentStatusService.refresh(member.getId());
+            PaymentStatusResponse refreshed = paymentService.checkPaymentStatus(userDetails);
+
+            // then
+            assertEquals(PaymentCheckStatus.PENDING, cached.status());
+            assertEquals(PaymentCheckStatus.COMPLETED, refreshed.status());
+        }
+
+        @Test
+        void 결제_완료를_기다리는_요청은_결제가_완료되는_즉시_응답한다() {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            paymentService.createPayment(new PaymentRequest(List.of()), userDetails);
+            Payment payment = paymentRepository.findByMemberInCurrentYearSemester(member).orElseThrow();
+
+            DeferredResult<PaymentStatusResponse> result = paymentService.waitPaymentStatus(userDetails);
+            assertFalse(result.hasResult());
+
+            // when
+            adminPaymentService.forceCompletePayment(payment.getId());
+
+            // then
+            PaymentStatusResponse response = (PaymentStatusResponse) result.getResult();
+            assertEquals(PaymentCheckStatus.COMPLETED, response.status());
+        }
+
+        @Test
+        void 다른_인스턴스에서_완료된_결제도_기다리는_요청에_전달한다() {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            paymentService.createPayment(new PaymentRequest(List.of()), userDetails);
+            DeferredResult<PaymentStatusResponse> result = paymentService.waitPaymentStatus(userDetails);
+
+            String body = "other-instance|" + member.getId() + "|COMPLETED|" + CLUB_DUES.toPlainString();
+            DefaultMessage message = new DefaultMessage(
+                    PaymentStatusBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8));
+
+            // when
+            paymentStatusBroadcaster.onMessage(message, null);
+
+            // then
+            PaymentStatusResponse response = (PaymentStatusResponse) result.getResult();
+            assertEquals(PaymentCheckStatus.COMPLETED, response.status());
+            assertEquals(CLUB_DUES, response.finalPrice());
+        }
+
+        @Test
+        void 결제상태_스트림은_현재_상태를_보내고_결제가_완료되면_완료_상태를_보낸_뒤_닫힌다() throws Exception {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            paymentService.createPayment(new PaymentRequest(List.of()), userDetails);
+            Payment payment = paymentRepository.findByMemberInCurrentYearSemester(member).orElseThrow();
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute("userDetails", userDetails);
+            MvcResult result = mockMvc.perform(get("/payments/stream").session(session))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String initial = result.getResponse().getContentAsString();
+
+            // when
+            adminPaymentService.forceCompletePayment(payment.getId());
+
+            // then
+            assertTrue(initial.contains("event:payment-status"), initial);
+            assertTrue(initial.contains(PaymentCheckStatus.PENDING.name()), initial);
+            assertFalse(initial.contains(PaymentCheckStatus.COMPLETED.name()), initial);
+            String streamed = result.getResponse().getContentAsString();
+            assertTrue(streamed.contains(PaymentCheckStatus.COMPLETED.name()), streamed);
+            // 스트림이 닫히면 비동기 처리가 끝나 재디스패치되므로, 대기 시간 안에 결과가 설정되어야 한다
+            result.getAsyncResult(1_000);
+        }
+    }
+
     private Coupon createCoupon() {
         Coupon coupon = Coupon.create("테스트쿠폰", BigDecimal.valueOf(5000L));
         return couponRepository.save(coupon);
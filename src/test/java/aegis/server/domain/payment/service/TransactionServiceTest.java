@@ -1,14 +1,19 @@
 package aegis.server.domain.payment.service;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import aegis.server.domain.common.domain.YearSemester;
 import aegis.server.domain.coupon.domain.Coupon;
 import aegis.server.domain.coupon.domain.IssuedCoupon;
 import aegis.server.domain.coupon.repository.CouponRepository;
@@ -17,11 +22,14 @@ import aegis.server.domain.member.domain.Department;
 import aegis.server.domain.member.domain.Gender;
 import aegis.server.domain.member.domain.Grade;
 import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.member.domain.MemberRecord;
 import aegis.server.domain.member.domain.Role;
+import aegis.server.domain.member.repository.MemberRecordRepository;
 import aegis.server.domain.member.repository.MemberRepository;
 import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.domain.PaymentStatus;
 import aegis.server.domain.payment.dto.request.PaymentRequest;
+import aegis.server.domain.payment.dto.response.TransactionBatchResponse;
 import aegis.server.domain.payment.repository.PaymentRepository;
 import aegis.server.domain.payment.repository.TransactionRepository;
 import aegis.server.global.security.oidc.UserDetails;
@@ -29,6 +37,7 @@ import aegis.server.helper.IntegrationTestWithoutTransactional;
 
 import static aegis.server.global.constant.Constant.CLUB_DUES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TransactionServiceTest extends IntegrationTestWithoutTransactional {
 
@@ -53,6 +62,12 @@ public class TransactionServiceTest extends IntegrationTestWithoutTransactional
     @Autowired
     IssuedCouponRepository issuedCouponRepository;
 
+    @Autowired
+    MemberRecordRepository memberRecordRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     private final String DEPOSIT_TRANSACTION_LOG_FORMAT = """
             [입금] %s원 %s
             982-******-01-017
@@ -251,6 +266,94 @@ public class TransactionServiceTest extends IntegrationTestWithoutTransactional
         }
     }
 
+    @Nested
+    class 일괄_입금 {
+
+        @Test
+        void 한_번의_요청으로_결제_완료_불일치_동명이인을_각각_처리한다() {
+            // given
+            Member matched = createMember();
+            Member wrongAmount = createMember();
+            Member sameName1 = createMemberWithName("김동명");
+            Member sameName2 = createMemberWithName("김동명");
+            PaymentRequest request = new PaymentRequest(List.of());
+            paymentService.createPayment(request, UserDetails.from(matched));
+            paymentService.createPayment(request, UserDetails.from(wrongAmount));
+            paymentService.createPayment(request, UserDetails.from(sameName1));
+            paymentService.createPayment(request, UserDetails.from(sameName2));
+            int initialTransactionCount = transactionRepository.findAll().size();
+
+            List<String> transactionLogs = List.of(
+                    String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, matched.getName()),
+                    String.format(
+                            DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES.subtract(BigDecimal.ONE), wrongAmount.getName()),
+                    "잘못된 거래 로그",
+                    String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "김동명"),
+                    String.format(WITHDRAWAL_TRANSACTION_LOG_FORMAT, CLUB_DUES, matched.getName()));
+
+            // when
+            TransactionBatchResponse response = transactionService.createTransactions(transactionLogs);
+
+            // then
+            assertEquals(5, response.receivedCount());
+            assertEquals(4, response.savedCount());
+            assertEquals(3, response.depositCount());
+            assertEquals(List.of(2), response.failedIndexes());
+            assertEquals(initialTransactionCount + 4, transactionRepository.findAll().size());
+
+            assertEquals(PaymentStatus.COMPLETED, statusOf(matched));
+            assertEquals(PaymentStatus.PENDING, statusOf(wrongAmount));
+            assertEquals(PaymentStatus.PENDING, statusOf(sameName1));
+            assertEquals(PaymentStatus.PENDING, statusOf(sameName2));
+        }
+
+        @Test
+        void 같은_회원의_중복_입금은_한_번만_결제_완료된다() {
+            // given
+            Member member = createMember();
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(member));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, member.getName());
+
+            // when
+            TransactionBatchResponse response =
+                    transactionService.createTransactions(List.of(transactionLog, transactionLog));
+
+            // then
+            assertEquals(2, response.savedCount());
+            assertEquals(PaymentStatus.COMPLETED, statusOf(member));
+        }
+
+        @Test
+        void 일괄_입금으로_완료된_결제는_완료_시각이_회원_기록에_남는다() {
+            // given
+            Member member = createMember();
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(member));
+            Payment payment = paymentRepository.findByMemberInCurrentYearSemester(member).orElseThrow();
+            LocalDateTime createdUpdatedAt = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.MICROS);
+            jdbcTemplate.update(
+                    "UPDATE payment SET updated_at = ? WHERE id = ?",
+                    Timestamp.valueOf(createdUpdatedAt),
+                    payment.getId());
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, member.getName());
+
+            // when
+            transactionService.createTransactions(List.of(transactionLog));
+
+            // then: 결제 생성(수정) 시각이 아니라 완료 처리로 갱신된 시각이 기록된다
+            Payment completed = paymentRepository.findById(payment.getId()).orElseThrow();
+            List<MemberRecord> memberRecords =
+                    memberRecordRepository.findByMemberIdOrderByYearSemesterDescIdDesc(member.getId());
+            assertEquals(1, memberRecords.size());
+            LocalDateTime paymentCompletedAt = memberRecords.getFirst().getPaymentCompletedAt();
+            assertTrue(paymentCompletedAt.isAfter(createdUpdatedAt));
+            assertEquals(completed.getUpdatedAt(), paymentCompletedAt);
+        }
+
+        private PaymentStatus statusOf(Member member) {
+            return paymentRepository.findByMemberInCurrentYearSemester(member).get().getStatus();
+        }
+    }
+
     @Nested
     class 동명이인_결제 {
 
@@ -280,14 +383,131 @@ public class TransactionServiceTest extends IntegrationTestWithoutTransactional
             assertEquals(PaymentStatus.PENDING, payment1.getStatus());
             assertEquals(PaymentStatus.PENDING, payment2.getStatus());
         }
+    }
+
+    @Nested
+    class 유사_입금자명 {
+
+        @Test
+        void 한_글자_오타가_있는_입금자명도_결제를_COMPLETED_처리한다() {
+            // given
+            Member member = createMemberWithName("홍길동");
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(member));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "홍길둥");
+
+            // when
+            transactionService.createTransaction(transactionLog);
+
+            // then
+            Payment payment =
+                    paymentRepository.findByMemberInCurrentYearSemester(member).get();
+            assertEquals(PaymentStatus.COMPLETED, payment.getStatus());
+        }
+
+        @Test
+        void 은행에서_잘린_입금자명도_결제를_COMPLETED_처리한다() {
+            // given
+            Member member = createMemberWithName("남궁민수");
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(member));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "남궁민");
+
+            // when
+            transactionService.createTransaction(transactionLog);
+
+            // then
+            Payment payment =
+                    paymentRepository.findByMemberInCurrentYearSemester(member).get();
+            assertEquals(PaymentStatus.COMPLETED, payment.getStatus());
+        }
+
+        @Test
+        void 비슷한_이름이_여럿이면_모두_PENDING_상태를_유지한다() {
+            // given
+            Member member1 = createMemberWithName("이영희");
+            Member member2 = createMemberWithName("이영회");
+            PaymentRequest request = new PaymentRequest(List.of());
+            paymentService.createPayment(request, UserDetails.from(member1));
+            paymentService.createPayment(request, UserDetails.from(member2));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "이영혜");
+
+            // when
+            transactionService.createTransaction(transactionLog);
+
+            // then
+            assertEquals(
+                    PaymentStatus.PENDING,
+                    paymentRepository.findByMemberInCurrentYearSemester(member1).get().getStatus());
+            assertEquals(
+                    PaymentStatus.PENDING,
+                    paymentRepository.findByMemberInCurrentYearSemester(member2).get().getStatus());
+        }
+
+        @Test
+        void 인덱스에_없는_비슷한_이름의_결제가_있으면_PENDING_상태를_유지한다() {
+            // given 다른 인스턴스에서 생성되어 아직 인덱스에 반영되지 않은 결제
+            Member indexed = createMemberWithName("홍길동");
+            Member notIndexed = createMemberWithName("홍길둥");
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(indexed));
+            paymentRepository.save(
+                    Payment.createForDev(notIndexed, PaymentStatus.PENDING, YearSemester.YEAR_SEMESTER_2026_1));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "홍길돋");
+
+            // when
+            transactionService.createTransaction(transactionLog);
+
+            // then
+            assertEquals(
+                    PaymentStatus.PENDING,
+                    paymentRepository.findByMemberInCurrentYearSemester(indexed).get().getStatus());
+            assertEquals(
+                    PaymentStatus.PENDING,
+                    paymentRepository.findByMemberInCurrentYearSemester(notIndexed).get().getStatus());
+        }
+
+        @Test
+        void 금액이_다른_비슷한_이름의_결제가_있으면_PENDING_상태를_유지한다() {
+            // given
+            Member fullPrice = createMemberWithName("이영희");
+            Member discounted = createMemberWithName("이영회");
+            Coupon coupon = couponRepository.save(Coupon.create("테스트쿠폰", BigDecimal.valueOf(5000L)));
+            IssuedCoupon issuedCoupon = issuedCouponRepository.save(IssuedCoupon.of(coupon, discounted));
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(fullPrice));
+            paymentService.createPayment(
+                    new PaymentRequest(List.of(issuedCoupon.getId())), UserDetails.from(discounted));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "이영혜");
+
+            // when
+            transactionService.createTransaction(transactionLog);
+
+            // then
+            assertEquals(
+                    PaymentStatus.PENDING,
+                    paymentRepository.findByMemberInCurrentYearSemester(fullPrice).get().getStatus());
+        }
+
+        @Test
+        void 일괄_입금에서도_유사_입금자명을_결제_완료_처리한다() {
+            // given
+            Member member = createMemberWithName("홍길동");
+            paymentService.createPayment(new PaymentRequest(List.of()), UserDetails.from(member));
+            String transactionLog = String.format(DEPOSIT_TRANSACTION_LOG_FORMAT, CLUB_DUES, "홍길둥");
+
+            // when
+            transactionService.createTransactions(List.of(transactionLog, transactionLog));
 
-        private Member createMemberWithName(String name) {
-            String uniqueId = String.valueOf(System.nanoTime());
-            Member member = Member.create(uniqueId, "test" + uniqueId + "@dankook.ac.kr", name);
-            member.updatePersonalInfo(
-                    "010-1234-5678", "32000001", Department.SW융합대학_컴퓨터공학과, Grade.THREE, "010101", Gender.MALE);
-            member.promoteToUser();
-            return memberRepository.save(member);
+            // then
+            Payment payment =
+                    paymentRepository.findByMemberInCurrentYearSemester(member).get();
+            assertEquals(PaymentStatus.COMPLETED, payment.getStatus());
         }
     }
+
+    private Member createMemberWithName(String name) {
+        String uniqueId = String.valueOf(System.nanoTime());
+        Member member = Member.create(uniqueId, "test" + uniqueId + "@dankook.ac.kr", name);
+        member.updatePersonalInfo(
+                "010-1234-5678", "32000001", Department.SW융합대학_컴퓨터공학과, Grade.THREE, "010101", Gender.MALE);
+        member.promoteToUser();
+        return memberRepository.save(member);
+    }
 }
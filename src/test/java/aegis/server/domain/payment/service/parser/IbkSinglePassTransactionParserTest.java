@@ -0,0 +1,179 @@
+package aegis.server.domain.payment.service.parser;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.payment.domain.Transaction;
+import aegis.server.domain.payment.domain.TransactionType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class IbkSinglePassTransactionParserTest {
+
+    private final int currentYear = 2024;
+    private IbkSinglePassTransactionParser parser;
+    private IbkTransactionParser regexParser;
+    private ZoneId timeZone;
+
+    @BeforeEach
+    void setUp() {
+        timeZone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(
+                LocalDateTime.of(currentYear, 12, 17, 14, 30).atZone(timeZone).toInstant(), timeZone);
+        parser = new IbkSinglePassTransactionParser(clock);
+        regexParser = new IbkTransactionParser(clock);
+    }
+
+    @Test
+    @DisplayName("입금 거래를 정상적으로 파싱한다")
+    void parseDepositTransaction() {
+        // given
+        String log = """
+                [입금] 10,000원 윤성민212874
+                982-******-01-017
+                01/13 19:10 /잔액 150,000원""";
+
+        // when
+        Transaction transaction = parser.parse(log);
+
+        // then
+        assertThat(transaction.getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(transaction.getAmount()).isEqualTo(BigDecimal.valueOf(10000));
+        assertThat(transaction.getDepositorName()).isEqualTo("윤성민212874");
+        assertThat(transaction.getBalance()).isEqualTo(BigDecimal.valueOf(150000));
+        assertThat(transaction.getTransactionTime()).isEqualTo(LocalDateTime.of(currentYear, 1, 13, 19, 10));
+    }
+
+    @Test
+    @DisplayName("출금 거래를 정상적으로 파싱한다")
+    void parseWithdrawalTransaction() {
+        // given
+        String log = """
+                [출금] 30,000원 ATM출금
+                982-******-01-017
+                12/17 14:30 / 잔액 120,000원""";
+
+        // when
+        Transaction transaction = parser.parse(log);
+
+        // then
+        assertThat(transaction.getTransactionType()).isEqualTo(TransactionType.WITHDRAWAL);
+        assertThat(transaction.getAmount()).isEqualTo(BigDecimal.valueOf(30000));
+        assertThat(transaction.getDepositorName()).isEqualTo("ATM출금");
+        assertThat(transaction.getBalance()).isEqualTo(BigDecimal.valueOf(120000));
+        assertThat(transaction.getTransactionTime()).isEqualTo(LocalDateTime.of(currentYear, 12, 17, 14, 30));
+    }
+
+    @Test
+    @DisplayName("연도가 바뀌는 경우 거래 시간을 올바르게 파싱한다")
+    void parseYearRolloverProperly() {
+        // given
+        Clock januaryClock = Clock.fixed(
+                LocalDateTime.of(currentYear + 1, 1, 1, 0, 0).atZone(timeZone).toInstant(), timeZone);
+        parser = new IbkSinglePassTransactionParser(januaryClock);
+
+        String log = """
+                [입금] 50,000원 홍길동
+                982-******-01-017
+                12/31 23:59 /잔액 150,000원""";
+
+        // when
+        Transaction transaction = parser.parse(log);
+
+        // then
+        assertThat(transaction.getTransactionTime()).isEqualTo(LocalDateTime.of(currentYear, 12, 31, 23, 59));
+    }
+
+    @Test
+    @DisplayName("3줄 이후에 문구가 추가되어도 정상적으로 파싱한다")
+    void parseTransactionWithAdditionalLines() {
+        // given
+        String log = """
+                [입금] 10,000원 윤성민212874
+                982-******-01-017
+                01/13 19:10 /잔액 150,000원
+                지금 i-ONE Bank 앱을 설치해보세요.""";
+
+        // when
+        Transaction transaction = parser.parse(log);
+
+        // then
+        assertThat(transaction.getDepositorName()).isEqualTo("윤성민212874");
+        assertThat(transaction.getBalance()).isEqualTo(BigDecimal.valueOf(150000));
+    }
+
+    @Test
+    @DisplayName("잘못된 거래 유형은 예외를 발생시킨다")
+    void parseInvalidTransactionType() {
+        // given
+        String invalidLog = """
+                [송금] 50,000원 홍길동
+                982-******-01-017
+                12/25 14:30 /잔액 150,000원""";
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(invalidLog))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("거래유형, 거래금액, 이름을 추출할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("세번째 줄이 없으면 예외를 발생시킨다")
+    void parseMissingThirdLine() {
+        // given
+        String invalidLog = """
+                [입금] 50,000원 홍길동
+                982-******-01-017""";
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(invalidLog))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("거래시간, 잔액을 추출할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("정규식 파서와 같은 결과를 반환하고 같은 입력을 거부한다")
+    void parseSameAsRegexParser() {
+        // given
+        List<String> logs = List.of(
+                "[입금] 10,000원 윤성민212874\n982-******-01-017\n01/13 19:10 /잔액 150,000원",
+                "[입금]1,234,567원홍 길동 \n982-******-01-017\n02/30   09:05/잔액1,000원\n광고",
+                "[출금] 5원 수수료\n\n11/01 00:00 / 잔액 0원",
+                "[입금] 원 홍길동\n982-******-01-017\n01/13 19:10 /잔액 150,000원",
+                "[입금] 10,000 홍길동\n982-******-01-017\n01/13 19:10 /잔액 150,000원",
+                "[입금] 10,000원 홍길동\n982-******-01-017\n01/13 19:10 /잔액 150,000원 ",
+                "[입금] 10,000원 홍길동\n982-******-01-017\n1/13 19:10 /잔액 150,000원",
+                "[입금] 10,000원 홍길동\n982-******-01-017\n01/1319:10 /잔액 150,000원",
+                "[입금] 10,000원 홍길동\n982-******-01-017\n2023년 12월 25일 /잔액 150,000원",
+                "잘못된 형식의 로그\n입니다");
+
+        for (String log : logs) {
+            // when
+            Throwable expectedError = catchThrowable(() -> regexParser.parse(log));
+            Throwable actualError = catchThrowable(() -> parser.parse(log));
+
+            // then
+            if (expectedError != null) {
+                assertThat(actualError).as(log).isInstanceOf(RuntimeException.class);
+                continue;
+            }
+            assertThat(actualError).as(log).isNull();
+            Transaction expected = regexParser.parse(log);
+            Transaction actual = parser.parse(log);
+            assertThat(actual.getTransactionType()).as(log).isEqualTo(expected.getTransactionType());
+            assertThat(actual.getDepositorName()).as(log).isEqualTo(expected.getDepositorName());
+            assertThat(actual.getAmount()).as(log).isEqualTo(expected.getAmount());
+            assertThat(actual.getBalance()).as(log).isEqualTo(expected.getBalance());
+            assertThat(actual.getTransactionTime()).as(log).isEqualTo(expected.getTransactionTime());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package aegis.server.domain.payment.service.parser;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.payment.domain.Transaction;
+import aegis.server.domain.payment.domain.TransactionType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionParserRegistryTest {
+
+    private static final String IBK_LOG = """
+            [입금] 10,000원 윤성민212874
+            982-******-01-017
+            01/13 19:10 /잔액 150,000원""";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionParserRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId timeZone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(
+                LocalDateTime.of(2024, 12, 17, 14, 30).atZone(timeZone).toInstant(), timeZone);
+        meterRegistry = new SimpleMeterRegistry();
+
+        TransactionParser otherBankParser = log -> Transaction.of(
+                LocalDateTime.of(2024, 12, 1, 9, 0),
+                "다른은행",
+                TransactionType.DEPOSIT,
+                BigDecimal.ONE,
+                BigDecimal.ONE);
+        registry = new TransactionParserRegistry(
+                List.of(
+                        new BankParser("ibk", List.of("[입금]", "[출금]"), new IbkSinglePassTransactionParser(clock)),
+                        new BankParser("other", List.of("[입금알림]", "[Web발신]"), otherBankParser)),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("첫 줄의 머리말로 은행을 판별하여 해당 파서로 파싱한다")
+    void dispatchBySignature() {
+        // when
+        Transaction ibkTransaction = registry.parse(IBK_LOG);
+        Transaction otherTransaction = registry.parse("[Web발신]\n입금 1원");
+
+        // then
+        assertThat(ibkTransaction.getDepositorName()).isEqualTo("윤성민212874");
+        assertThat(otherTransaction.getDepositorName()).isEqualTo("다른은행");
+    }
+
+    @Test
+    @DisplayName("머리말이 겹치면 가장 길게 일치하는 머리말의 은행을 선택한다")
+    void detectLongestSignature() {
+        // when & then
+        assertThat(registry.detectBank("[입금] 10,000원 홍길동")).isEqualTo("ibk");
+        assertThat(registry.detectBank("[입금알림] 10,000원 홍길동")).isEqualTo("other");
+        assertThat(registry.detectBank("[입\n금]")).isNull();
+    }
+
+    @Test
+    @DisplayName("판별할 수 없는 형식은 예외를 발생시키고 별도로 기록한다")
+    void parseUnknownFormat() {
+        // when & then
+        assertThatThrownBy(() -> registry.parse("잘못된 형식의 로그\n입니다"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지원하지 않는 거래 내역 형식입니다");
+        assertThat(meterRegistry
+                        .get(TransactionParserRegistry.UNKNOWN_FORMAT_METRIC_NAME)
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("파싱 시간과 실패를 은행별로 기록한다")
+    void recordMetricsPerBank() {
+        // when
+        registry.parse(IBK_LOG);
+        assertThatThrownBy(() -> registry.parse("[입금] 50,000원 홍길동\n982-******-01-017"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(parseCount("ibk", "success")).isEqualTo(1);
+        assertThat(parseCount("ibk", "failure")).isEqualTo(1);
+        assertThat(parseCount("other", "success")).isZero();
+    }
+
+    @Test
+    @DisplayName("서로 다른 은행이 같은 머리말을 등록하면 예외를 발생시킨다")
+    void rejectDuplicateSignature() {
+        // given
+        TransactionParser parser = log -> null;
+
+        // when & then
+        assertThatThrownBy(() -> new TransactionParserRegistry(
+                        List.of(
+                                new BankParser("ibk", List.of("[입금]"), parser),
+                                new BankParser("other", List.of("[입금]"), parser)),
+                        meterRegistry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private long parseCount(String bank, String result) {
+        return meterRegistry
+                .get(TransactionParserRegistry.PARSE_METRIC_NAME)
+                .tag("bank", bank)
+                .tag("result", result)
+                .timer()
+                .count();
+    }
+}
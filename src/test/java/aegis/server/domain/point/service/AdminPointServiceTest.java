@@ -4,6 +4,9 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +44,9 @@ class AdminPointServiceTest extends IntegrationTest {
     @Autowired
     PointTransactionRepository pointTransactionRepository;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Nested
     class 통합_원장_조회 {
 
@@ -66,7 +72,7 @@ class AdminPointServiceTest extends IntegrationTest {
 
             // when
             AdminPointLedgerPageResponse response =
-                    adminPointService.getLedger(0, 50, "32001111", PointTransactionType.EARN, null, null, null);
+                    adminPointService.getLedger(0, 50, null, "32001111", PointTransactionType.EARN, null, null, null);
 
             // then
             assertEquals(1, response.content().size());
@@ -98,9 +104,9 @@ class AdminPointServiceTest extends IntegrationTest {
 
             // when
             AdminPointLedgerPageResponse nullKeywordResponse =
-                    adminPointService.getLedger(0, 50, null, null, null, null, null);
+                    adminPointService.getLedger(0, 50, null, null, null, null, null, null);
             AdminPointLedgerPageResponse blankKeywordResponse =
-                    adminPointService.getLedger(0, 50, "   ", null, null, null, null);
+                    adminPointService.getLedger(0, 50, null, "   ", null, null, null, null);
 
             // then
             assertTrue(nullKeywordResponse.content().size() >= 2);
@@ -127,7 +133,7 @@ class AdminPointServiceTest extends IntegrationTest {
 
             // when
             AdminPointLedgerPageResponse response =
-                    adminPointService.getLedger(0, 50, null, null, null, null, "amount,asc");
+                    adminPointService.getLedger(0, 50, null, null, null, null, null, "amount,asc");
 
             // then
             assertTrue(response.content().size() >= 2);
@@ -138,12 +144,83 @@ class AdminPointServiceTest extends IntegrationTest {
                     <= 0);
         }
 
+        @Test
+        void 커서로_다음_페이지를_이어서_조회한다() {
+            // given
+            Member member = createMember();
+            member.updatePersonalInfo(
+                    "010-0000-0003", "32003333", Department.SW융합대학_컴퓨터공학과, Grade.THREE, "010101", Gender.MALE);
+            memberRepository.save(member);
+            PointAccount account = createPointAccount(member);
+            createEarnPointTransaction(account, BigDecimal.valueOf(300), "첫번째");
+            createEarnPointTransaction(account, BigDecimal.valueOf(100), "두번째");
+            createEarnPointTransaction(account, BigDecimal.valueOf(200), "세번째");
+
+            // when
+            AdminPointLedgerPageResponse firstPage =
+                    adminPointService.getLedger(0, 2, "", "32003333", null, null, null, "amount,asc");
+            AdminPointLedgerPageResponse secondPage = adminPointService.getLedger(
+                    0, 2, firstPage.nextCursor(), "32003333", null, null, null, "amount,asc");
+
+            // then
+            assertEquals(
+                    List.of("두번째", "세번째"),
+                    firstPage.content().stream()
+                            .map(AdminPointLedgerItemResponse::reason)
+                            .toList());
+            assertTrue(firstPage.hasNext());
+            assertEquals(3, firstPage.totalElements());
+
+            assertEquals(1, secondPage.content().size());
+            assertEquals("첫번째", secondPage.content().getFirst().reason());
+            assertFalse(secondPage.hasNext());
+            assertNull(secondPage.nextCursor());
+        }
+
+        @Test
+        void 다른_정렬로_발급된_커서는_실패한다() {
+            // given
+            Member member = createMember();
+            PointAccount account = createPointAccount(member);
+            createEarnPointTransaction(account, BigDecimal.valueOf(100), "첫번째");
+            createEarnPointTransaction(account, BigDecimal.valueOf(200), "두번째");
+            String cursor = adminPointService
+                    .getLedger(0, 1, "", null, null, null, null, "amount,asc")
+                    .nextCursor();
+
+            // when
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> adminPointService.getLedger(0, 1, cursor, null, null, null, null, "amount,desc"));
+
+            // then
+            assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
+        }
+
+        @Test
+        void 같은_필터와_정렬_조합은_쿼리_플랜_캐시에서_처리된다() {
+            // given
+            Member member = createMember();
+            PointAccount account = createPointAccount(member);
+            createEarnPointTransaction(account, BigDecimal.valueOf(100), "적립");
+            adminPointService.getLedger(0, 50, null, null, PointTransactionType.EARN, null, null, "amount,desc");
+            double missesBefore = planCacheCount("miss");
+            double hitsBefore = planCacheCount("hit");
+
+            // when
+            adminPointService.getLedger(1, 20, null, null, PointTransactionType.EARN, null, null, "amount,desc");
+
+            // then
+            assertEquals(missesBefore, planCacheCount("miss"));
+            assertTrue(planCacheCount("hit") > hitsBefore);
+        }
+
         @Test
         void 지원하지_않는_sort는_실패한다() {
             // when
             CustomException exception = assertThrows(
                     CustomException.class,
-                    () -> adminPointService.getLedger(0, 50, null, null, null, null, "unsupported,desc"));
+                    () -> adminPointService.getLedger(0, 50, null, null, null, null, null, "unsupported,desc"));
 
             // then
             assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
@@ -277,6 +354,67 @@ class AdminPointServiceTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    class 일괄_지급_원장 {
+
+        @Test
+        void 같은_requestId로_다시_요청하면_모든_회원이_중복으로_처리된다() {
+            // given
+            Member memberA = createMember();
+            Member memberB = createMember();
+            createPointAccount(memberA);
+            createPointAccount(memberB);
+
+            AdminPointBatchGrantRequest request = new AdminPointBatchGrantRequest(
+                    UUID.randomUUID().toString(), List.of(memberB.getId(), memberA.getId()), 50L, "재요청 지급");
+            adminPointService.grantBatch(request);
+
+            // when
+            AdminPointBatchGrantResultResponse retried = adminPointService.grantBatch(request);
+
+            // then
+            assertEquals(0, retried.successCount());
+            assertEquals(2, retried.duplicateCount());
+            assertEquals(memberB.getId(), retried.results().get(0).memberId());
+            assertEquals(memberA.getId(), retried.results().get(1).memberId());
+            assertEquals(BigDecimal.valueOf(50), retried.results().get(0).newBalance());
+
+            assertEquals(
+                    1,
+                    pointTransactionRepository
+                            .findAllByPointAccountId(memberA.getId())
+                            .size());
+        }
+
+        @Test
+        void 회원은_있지만_포인트_계좌가_없으면_해당_회원만_실패한다() {
+            // given
+            Member withAccount = createMember();
+            Member withoutAccount = createMember();
+            createPointAccount(withAccount);
+
+            AdminPointBatchGrantRequest request = new AdminPointBatchGrantRequest(
+                    UUID.randomUUID().toString(),
+                    List.of(withoutAccount.getId(), withAccount.getId()),
+                    20L,
+                    "계좌 누락");
+
+            // when
+            AdminPointBatchGrantResultResponse response = adminPointService.grantBatch(request);
+
+            // then
+            assertEquals(
+                    AdminPointBatchGrantStatus.FAILED, response.results().get(0).status());
+            assertEquals(
+                    ErrorCode.POINT_ACCOUNT_NOT_FOUND.name(),
+                    response.results().get(0).errorName());
+            assertEquals(
+                    AdminPointBatchGrantStatus.SUCCESS,
+                    response.results().get(1).status());
+            assertNotNull(response.results().get(1).pointTransactionId());
+        }
+    }
+
     @Nested
     class 회원_검색 {
 
@@ -306,4 +444,10 @@ class AdminPointServiceTest extends IntegrationTest {
                     byStudentId.stream().anyMatch(member -> member.memberId().equals(memberB.getId())));
         }
     }
+
+    private double planCacheCount(String result) {
+        FunctionCounter counter =
+                meterRegistry.find("hibernate.query.plan.cache").tag("result", result).functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
 }
@@ -0,0 +1,136 @@
+package aegis.server.domain.point.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.point.domain.PointAccount;
+import aegis.server.domain.point.dto.response.PointActionResult;
+import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointTransactionRepository;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("concurrency")
+class PointLedgerInsertFirstConcurrencyTest extends IntegrationTestWithoutTransactional {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedgerInsertFirstConcurrencyTest.class);
+
+    private static final int REWARD_COUNT = 100;
+    private static final int THREADS = 32;
+    private static final BigDecimal REWARD_AMOUNT = BigDecimal.valueOf(30);
+
+    @Autowired
+    PointLedger pointLedger;
+
+    @Autowired
+    PointAccountRepository pointAccountRepository;
+
+    @Autowired
+    PointTransactionRepository pointTransactionRepository;
+
+    @AfterEach
+    void restoreMode() {
+        switchMode(PointLedgerMode.LOCKING);
+    }
+
+    @Test
+    void 동일_계좌에_동시_적립이_몰려도_멱등키당_한번만_반영된다() throws Exception {
+        // given
+        Member lockingTarget = createMember();
+        Member insertFirstTarget = createMember();
+        pointAccountRepository.save(PointAccount.create(lockingTarget));
+        pointAccountRepository.save(PointAccount.create(insertFirstTarget));
+
+        // when
+        switchMode(PointLedgerMode.LOCKING);
+        BurstResult locking = runBurst(lockingTarget.getId(), "locking");
+        switchMode(PointLedgerMode.INSERT_FIRST);
+        BurstResult insertFirst = runBurst(insertFirstTarget.getId(), "insert-first");
+
+        log.info(
+                "[PointLedgerInsertFirstConcurrencyTest] LOCKING={}ms, INSERT_FIRST={}ms ({}건, 스레드 {}개)",
+                locking.elapsedMillis(),
+                insertFirst.elapsedMillis(),
+                REWARD_COUNT * 2,
+                THREADS);
+
+        // then: 두 방식 모두 멱등키당 1회만 반영된다
+        for (BurstResult result : List.of(locking, insertFirst)) {
+            assertEquals(REWARD_COUNT, result.applied());
+            assertEquals(REWARD_COUNT, result.duplicated());
+        }
+        assertBalance(lockingTarget.getId());
+        assertBalance(insertFirstTarget.getId());
+    }
+
+    private BurstResult runBurst(Long memberId, String keyPrefix) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+
+        // 같은 멱등키를 두 번씩 요청하여 중복 요청도 함께 섞는다
+        List<CompletableFuture<Void>> futures = new ArrayList<>(REWARD_COUNT * 2);
+        for (int i = 0; i < REWARD_COUNT * 2; i++) {
+            String idempotencyKey = "ipk:test:" + keyPrefix + ":" + (i % REWARD_COUNT);
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        try {
+                            start.await();
+                            PointActionResult result =
+                                    pointLedger.earn(memberId, REWARD_AMOUNT, "동시 적립", idempotencyKey);
+                            if (result.applied()) {
+                                applied.incrementAndGet();
+                            } else {
+                                duplicated.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    },
+                    pool));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        pool.shutdown();
+
+        return new BurstResult(applied.get(), duplicated.get(), elapsedMillis);
+    }
+
+    private void assertBalance(Long memberId) {
+        BigDecimal expected = REWARD_AMOUNT.multiply(BigDecimal.valueOf(REWARD_COUNT));
+        PointAccount refreshed = pointAccountRepository.findById(memberId).orElseThrow();
+        assertEquals(0, expected.compareTo(refreshed.getBalance()));
+        assertEquals(0, expected.compareTo(refreshed.getTotalEarned()));
+        assertEquals(
+                REWARD_COUNT,
+                pointTransactionRepository.findAllByPointAccountId(memberId).size());
+    }
+
+    private void switchMode(PointLedgerMode mode) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(pointLedger), "mode", mode);
+    }
+
+    private record BurstResult(int applied, int duplicated, long elapsedMillis) {}
+}
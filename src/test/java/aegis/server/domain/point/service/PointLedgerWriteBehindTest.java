@@ -0,0 +1,239 @@
+package aegis.server.domain.point.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.point.domain.PointAccount;
+import aegis.server.domain.point.domain.PointTransaction;
+import aegis.server.domain.point.dto.response.PointActionResult;
+import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointTransactionRepository;
+import aegis.server.domain.point.service.writebehind.PointEarnFlusher;
+import aegis.server.global.exception.ErrorCode;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 주기적 반영이 검증 도중 끼어들지 않도록 스케줄러는 사실상 끄고, 반영은 테스트에서 직접 호출한다
+@TestPropertySource(
+        properties = {"point.ledger.mode=write-behind", "point.ledger.write-behind.flush-interval-ms=3600000"})
+class PointLedgerWriteBehindTest extends IntegrationTestWithoutTransactional {
+
+    @Autowired
+    PointLedger pointLedger;
+
+    @Autowired
+    PointEarnFlusher pointEarnFlusher;
+
+    @Autowired
+    PointAccountRepository pointAccountRepository;
+
+    @Autowired
+    PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void 적립은_버퍼에_쌓였다가_일괄_반영되고_동일_멱등키는_한번만_반영된다() {
+        // given
+        Member member = createMember();
+        pointAccountRepository.save(PointAccount.create(member));
+
+        // when
+        PointActionResult first = pointLedger.earn(member.getId(), BigDecimal.valueOf(30), "적립 1", "ipk:test:1");
+        PointActionResult duplicate =
+                pointLedger.earn(member.getId(), BigDecimal.valueOf(30), "적립 1", "ipk:test:1");
+        PointActionResult second = pointLedger.earn(member.getId(), BigDecimal.valueOf(10), "적립 2", "ipk:test:2");
+
+        // then: 반영 전에는 DB 잔액이 그대로다
+        assertTrue(first.applied());
+        assertFalse(duplicate.applied());
+        assertTrue(second.applied());
+        assertEquals(BigDecimal.valueOf(40), second.accountBalance());
+        assertEquals(
+                0,
+                pointAccountRepository
+                        .findById(member.getId())
+                        .orElseThrow()
+                        .getBalance()
+                        .compareTo(BigDecimal.ZERO));
+
+        // when
+        pointEarnFlusher.flushAll();
+
+        // then
+        PointAccount refreshed = pointAccountRepository.findById(member.getId()).orElseThrow();
+        assertEquals(0, refreshed.getBalance().compareTo(BigDecimal.valueOf(40)));
+        assertEquals(0, refreshed.getTotalEarned().compareTo(BigDecimal.valueOf(40)));
+
+        List<PointTransaction> transactions = pointTransactionRepository.findAllByPointAccountId(member.getId());
+        assertEquals(2, transactions.size());
+
+        // when: 반영 이후 같은 멱등키로 다시 적립
+        PointActionResult afterFlush =
+                pointLedger.earn(member.getId(), BigDecimal.valueOf(30), "적립 1", "ipk:test:1");
+
+        // then
+        assertFalse(afterFlush.applied());
+    }
+
+    @Test
+    void 일괄_적립도_버퍼를_거쳐_반영된다() {
+        // given
+        Member member = createMember();
+        Member memberWithoutAccount = createMember();
+        pointAccountRepository.save(PointAccount.create(member));
+        List<PointEarnCommand> commands = List.of(
+                new PointEarnCommand(member.getId(), BigDecimal.valueOf(20), "일괄 적립", "ipk:test:batch"),
+                new PointEarnCommand(member.getId(), BigDecimal.valueOf(20), "일괄 적립", "ipk:test:batch"),
+                new PointEarnCommand(memberWithoutAccount.getId(), BigDecimal.valueOf(20), "일괄 적립", "ipk:test:none"),
+                new PointEarnCommand(member.getId(), BigDecimal.ZERO, "일괄 적립", "ipk:test:zero"));
+
+        // when
+        List<PointEarnResult> results = pointLedger.earnBatch(commands);
+
+        // then: 반영 전에는 DB 잔액이 그대로다
+        assertTrue(results.get(0).applied());
+        assertFalse(results.get(1).applied());
+        assertFalse(results.get(1).isFailed());
+        assertEquals(ErrorCode.POINT_ACCOUNT_NOT_FOUND, results.get(2).error());
+        assertEquals(ErrorCode.POINT_ACTION_AMOUNT_NOT_POSITIVE, results.get(3).error());
+        assertEquals(
+                0,
+                pointAccountRepository
+                        .findById(member.getId())
+                        .orElseThrow()
+                        .getBalance()
+                        .compareTo(BigDecimal.ZERO));
+
+        // when
+        pointEarnFlusher.flushAll();
+
+        // then
+        PointAccount refreshed = pointAccountRepository.findById(member.getId()).orElseThrow();
+        assertEquals(0, refreshed.getBalance().compareTo(BigDecimal.valueOf(20)));
+        assertEquals(1, pointTransactionRepository.findAllByPointAccountId(member.getId()).size());
+    }
+
+    @Test
+    void 차감_전에_반영_대기_중인_적립분을_먼저_반영한다() {
+        // given
+        Member member = createMember();
+        pointAccountRepository.save(PointAccount.create(member));
+        pointLedger.earn(member.getId(), BigDecimal.valueOf(100), "적립", "ipk:test:spend");
+
+        // when
+        PointActionResult result = pointLedger.spend(member.getId(), BigDecimal.valueOf(100), "차감");
+
+        // then
+        assertTrue(result.applied());
+        assertEquals(0, result.accountBalance().compareTo(BigDecimal.ZERO));
+
+        PointAccount refreshed = pointAccountRepository.findById(member.getId()).orElseThrow();
+        assertEquals(0, refreshed.getBalance().compareTo(BigDecimal.ZERO));
+        assertEquals(0, refreshed.getTotalEarned().compareTo(BigDecimal.valueOf(100)));
+    }
+
+    @Test
+    void 같은_트랜잭션에서_앞서_적립한_분도_차감_전에_반영한다() {
+        // given
+        Member member = createMember();
+        pointAccountRepository.save(PointAccount.create(member));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        PointActionResult result = transactionTemplate.execute(status -> {
+            pointLedger.earn(member.getId(), BigDecimal.valueOf(50), "적립", "ipk:test:same-tx");
+            return pointLedger.spend(member.getId(), BigDecimal.valueOf(30), "차감");
+        });
+
+        // then
+        assertTrue(result.applied());
+        assertEquals(0, result.accountBalance().compareTo(BigDecimal.valueOf(20)));
+
+        pointEarnFlusher.flushAll();
+        PointAccount refreshed = pointAccountRepository.findById(member.getId()).orElseThrow();
+        assertEquals(0, refreshed.getBalance().compareTo(BigDecimal.valueOf(20)));
+        assertEquals(
+                1,
+                pointTransactionRepository.findAllByPointAccountId(member.getId()).stream()
+                        .filter(tx -> "ipk:test:same-tx".equals(tx.getIdempotencyKey()))
+                        .count());
+    }
+
+    @Test
+    void 호출_트랜잭션이_롤백되면_적립이_버려지고_같은_멱등키로_다시_적립할_수_있다() {
+        // given
+        Member member = createMember();
+        pointAccountRepository.save(PointAccount.create(member));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            pointLedger.earn(member.getId(), BigDecimal.valueOf(30), "적립", "ipk:test:rollback");
+            status.setRollbackOnly();
+        });
+
+        // when
+        PointActionResult retried =
+                pointLedger.earn(member.getId(), BigDecimal.valueOf(30), "적립", "ipk:test:rollback");
+        pointEarnFlusher.flushAll();
+
+        // then
+        assertTrue(retried.applied());
+        PointAccount refreshed = pointAccountRepository.findById(member.getId()).orElseThrow();
+        assertEquals(0, refreshed.getBalance().compareTo(BigDecimal.valueOf(30)));
+    }
+
+    @Test
+    void 같은_멱등키로_동시에_적립하면_하나만_적용된다() {
+        // given
+        Member member = createMember();
+        pointAccountRepository.save(PointAccount.create(member));
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger applied = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        try {
+                            start.await();
+                            PointActionResult result = pointLedger.earn(
+                                    member.getId(), BigDecimal.valueOf(10), "동시 적립", "ipk:test:concurrent");
+                            if (result.applied()) {
+                                applied.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    },
+                    pool));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        pool.shutdown();
+        pointEarnFlusher.flushAll();
+
+        // then
+        assertEquals(1, applied.get());
+        PointAccount refreshed = pointAccountRepository.findById(member.getId()).orElseThrow();
+        assertEquals(0, refreshed.getBalance().compareTo(BigDecimal.valueOf(10)));
+    }
+}
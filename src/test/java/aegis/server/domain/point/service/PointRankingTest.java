@@ -0,0 +1,105 @@
+package aegis.server.domain.point.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.payment.domain.Payment;
+import aegis.server.domain.payment.repository.PaymentRepository;
+import aegis.server.domain.point.domain.PointAccount;
+import aegis.server.domain.point.dto.response.PointRankingListResponse;
+import aegis.server.domain.point.repository.PointAccountRepository;
+import aegis.server.domain.point.repository.PointRankingBoard;
+import aegis.server.domain.point.repository.PointRankingEntry;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointRankingTest extends IntegrationTestWithoutTransactional {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    PointLedger pointLedger;
+
+    @Autowired
+    PointAccountRepository pointAccountRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    PointRankingBoard pointRankingBoard;
+
+    private Member createPaidMemberWithAccount() {
+        Member member = createMember();
+        Payment payment = Payment.of(member);
+        payment.completePayment();
+        paymentRepository.save(payment);
+        pointAccountRepository.save(PointAccount.create(member));
+        return member;
+    }
+
+    @Test
+    void 적립이_커밋되면_랭킹에_바로_반영된다() {
+        // given
+        Member first = createPaidMemberWithAccount();
+        Member second = createPaidMemberWithAccount();
+        pointLedger.earn(first.getId(), BigDecimal.valueOf(100), "적립", "ranking-first-1");
+
+        PointRankingListResponse before = pointService.getPointRanking(createUserDetails(second));
+        assertEquals(2L, before.me().rank());
+
+        // when
+        pointLedger.earn(second.getId(), BigDecimal.valueOf(300), "적립", "ranking-second-1");
+
+        // then
+        PointRankingListResponse after = pointService.getPointRanking(createUserDetails(second));
+        assertEquals(1L, after.me().rank());
+        assertEquals(BigDecimal.valueOf(300), after.top10().getFirst().totalEarnedPoints());
+        assertEquals(second.getName(), after.top10().getFirst().name());
+        assertEquals(BigDecimal.valueOf(100), after.top10().get(1).totalEarnedPoints());
+    }
+
+    @Test
+    void 결제하지_않은_회원의_적립은_랭킹에_추가되지_않는다() {
+        // given
+        Member paid = createPaidMemberWithAccount();
+        Member unpaid = createMember();
+        pointAccountRepository.save(PointAccount.create(unpaid));
+        pointService.getPointRanking(createUserDetails(paid));
+
+        // when
+        pointLedger.earn(unpaid.getId(), BigDecimal.valueOf(500), "적립", "ranking-unpaid-1");
+
+        // then
+        PointRankingListResponse response = pointService.getPointRanking(createUserDetails(paid));
+        assertEquals(1, response.top10().size());
+        assertEquals(paid.getName(), response.top10().getFirst().name());
+        assertEquals(1L, response.me().rank());
+    }
+
+    @Test
+    void 재구성_중에_반영된_적립은_스냅샷으로_덮어쓰지_않는다() {
+        // given
+        Member member = createPaidMemberWithAccount();
+        pointService.getPointRanking(createUserDetails(member));
+        assertTrue(pointRankingBoard.beginRebuild(CURRENT_YEAR_SEMESTER));
+        List<PointRankingEntry> staleSnapshot = List.of(new PointRankingEntry(member.getId(), BigDecimal.ZERO));
+
+        // when: 스냅샷을 읽은 뒤 적립이 커밋되고 나서 교체
+        pointLedger.earn(member.getId(), BigDecimal.valueOf(100), "적립", "ranking-rebuild-1");
+        pointRankingBoard.completeRebuild(CURRENT_YEAR_SEMESTER, staleSnapshot, List.of(member.getId()));
+
+        // then
+        PointRankingListResponse response = pointService.getPointRanking(createUserDetails(member));
+        assertEquals(BigDecimal.valueOf(100), response.top10().getFirst().totalEarnedPoints());
+        assertEquals(1, response.memberCount());
+    }
+}
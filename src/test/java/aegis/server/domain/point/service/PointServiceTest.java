@@ -1,6 +1,7 @@
 package aegis.server.domain.point.service;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -12,6 +13,7 @@ import aegis.server.domain.payment.domain.Payment;
 import aegis.server.domain.payment.repository.PaymentRepository;
 import aegis.server.domain.point.domain.PointAccount;
 import aegis.server.domain.point.domain.PointTransactionType;
+import aegis.server.domain.point.dto.response.PointHistoryPageResponse;
 import aegis.server.domain.point.dto.response.PointRankingListResponse;
 import aegis.server.domain.point.dto.response.PointSummaryResponse;
 import aegis.server.domain.point.repository.PointAccountRepository;
@@ -112,6 +114,58 @@ class PointServiceTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    class 포인트_거래_내역_조회 {
+
+        @Test
+        void 요약은_최근_10건만_내려주고_다음_커서를_포함한다() {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            PointAccount pointAccount = pointAccountRepository.save(PointAccount.create(member));
+
+            for (int i = 1; i <= 12; i++) {
+                createEarnPointTransaction(pointAccount, BigDecimal.valueOf(10), "적립" + i);
+            }
+
+            // when
+            PointSummaryResponse response = pointService.getPointSummary(userDetails);
+
+            // then
+            assertEquals(BigDecimal.valueOf(120), response.balance());
+            assertEquals(10, response.history().size());
+            assertEquals("적립12", response.history().getFirst().reason());
+            assertEquals(response.history().getLast().pointTransactionId(), response.nextCursor());
+        }
+
+        @Test
+        void 커서로_이전_내역을_끝까지_조회한다() {
+            // given
+            Member member = createMember();
+            UserDetails userDetails = createUserDetails(member);
+            PointAccount pointAccount = pointAccountRepository.save(PointAccount.create(member));
+
+            for (int i = 1; i <= 5; i++) {
+                createEarnPointTransaction(pointAccount, BigDecimal.valueOf(10), "적립" + i);
+            }
+
+            // when
+            PointHistoryPageResponse first = pointService.getPointHistory(userDetails, null, 2);
+            PointHistoryPageResponse second = pointService.getPointHistory(userDetails, first.nextCursor(), 2);
+            PointHistoryPageResponse last = pointService.getPointHistory(userDetails, second.nextCursor(), 2);
+
+            // then
+            assertEquals(List.of("적립5", "적립4"), reasons(first));
+            assertEquals(List.of("적립3", "적립2"), reasons(second));
+            assertEquals(List.of("적립1"), reasons(last));
+            assertNull(last.nextCursor());
+        }
+
+        private List<String> reasons(PointHistoryPageResponse page) {
+            return page.history().stream().map(h -> h.reason()).toList();
+        }
+    }
+
     @Nested
     class 포인트_랭킹_조회 {
 
@@ -0,0 +1,106 @@
+package aegis.server.domain.study.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.study.domain.Study;
+import aegis.server.domain.study.domain.StudyAttendance;
+import aegis.server.domain.study.domain.StudyCategory;
+import aegis.server.domain.study.domain.StudyLevel;
+import aegis.server.domain.study.domain.StudyMember;
+import aegis.server.domain.study.domain.StudyRecruitmentMethod;
+import aegis.server.domain.study.domain.StudyRole;
+import aegis.server.domain.study.domain.StudySession;
+import aegis.server.domain.study.repository.StudyAttendanceRepository;
+import aegis.server.domain.study.repository.StudyMemberRepository;
+import aegis.server.domain.study.repository.StudyRepository;
+import aegis.server.domain.study.repository.StudySessionRepository;
+import aegis.server.domain.study.service.attendance.AttendanceMatrix;
+import aegis.server.helper.IntegrationTest;
+
+import static aegis.server.global.constant.Constant.CURRENT_YEAR_SEMESTER;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyAdminServiceTest extends IntegrationTest {
+
+    @Autowired
+    StudyAdminService studyAdminService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    StudyMemberRepository studyMemberRepository;
+
+    @Autowired
+    StudySessionRepository studySessionRepository;
+
+    @Autowired
+    StudyAttendanceRepository studyAttendanceRepository;
+
+    @Test
+    void 학기의_모든_스터디_출석_행렬을_스터디별로_나누어_만든다() {
+        // given
+        Member p1 = createMember();
+        Member p2 = createMember();
+        Study study1 = createStudy("스터디1");
+        Study study2 = createStudy("스터디2");
+        Study emptyStudy = createStudy("빈 스터디");
+
+        studyMemberRepository.save(StudyMember.create(study1, p1, StudyRole.PARTICIPANT));
+        studyMemberRepository.save(StudyMember.create(study2, p1, StudyRole.PARTICIPANT));
+        studyMemberRepository.save(StudyMember.create(study2, p2, StudyRole.PARTICIPANT));
+
+        StudySession s1 = studySessionRepository.save(StudySession.create(study1, LocalDate.of(2026, 3, 2), "1111"));
+        StudySession s2a = studySessionRepository.save(StudySession.create(study2, LocalDate.of(2026, 3, 3), "2222"));
+        StudySession s2b = studySessionRepository.save(StudySession.create(study2, LocalDate.of(2026, 3, 10), "3333"));
+
+        studyAttendanceRepository.save(StudyAttendance.create(s1, p1));
+        studyAttendanceRepository.save(StudyAttendance.create(s2b, p1));
+        studyAttendanceRepository.save(StudyAttendance.create(s2a, p2));
+
+        // when
+        List<AttendanceMatrix> matrices = studyAdminService.findAttendanceMatrices(CURRENT_YEAR_SEMESTER);
+
+        // then
+        assertEquals(
+                List.of(study1.getId(), study2.getId(), emptyStudy.getId()),
+                matrices.stream().map(AttendanceMatrix::studyId).toList());
+
+        AttendanceMatrix first = matrices.get(0);
+        assertEquals(1, first.sessionCount());
+        assertEquals(1, first.memberCount());
+        assertTrue(first.isAttended(0, 0));
+
+        AttendanceMatrix second = matrices.get(1);
+        assertEquals(2, second.sessionCount());
+        assertEquals(2, second.memberCount());
+        int p1Row = second.memberId(0) == p1.getId() ? 0 : 1;
+        assertFalse(second.isAttended(p1Row, 0));
+        assertTrue(second.isAttended(p1Row, 1));
+        assertTrue(second.isAttended(1 - p1Row, 0));
+        assertFalse(second.isAttended(1 - p1Row, 1));
+
+        AttendanceMatrix empty = matrices.get(2);
+        assertEquals(0, empty.sessionCount());
+        assertEquals(0, empty.memberCount());
+    }
+
+    private Study createStudy(String title) {
+        return studyRepository.save(Study.create(
+                title,
+                StudyCategory.WEB,
+                StudyLevel.BASIC,
+                "출석 집계 테스트용 스터디",
+                StudyRecruitmentMethod.FCFS,
+                0,
+                "주 1회",
+                List.of("커리큘럼"),
+                List.of("자격 요건")));
+    }
+}
@@ -0,0 +1,97 @@
+package aegis.server.domain.study.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.study.domain.StudyCategory;
+import aegis.server.domain.study.domain.StudyLevel;
+import aegis.server.domain.study.domain.StudyRecruitmentMethod;
+import aegis.server.domain.study.dto.request.StudyCreateUpdateRequest;
+import aegis.server.domain.study.dto.request.StudyEnrollRequest;
+import aegis.server.domain.study.dto.response.GeneralStudyDetail;
+import aegis.server.domain.study.dto.response.GeneralStudySummary;
+import aegis.server.domain.study.service.StudyCatalogCache.Versioned;
+import aegis.server.global.security.oidc.UserDetails;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyCatalogCacheTest extends IntegrationTestWithoutTransactional {
+
+    @Autowired
+    StudyCatalogCache studyCatalogCache;
+
+    @Autowired
+    StudyGeneralService studyGeneralService;
+
+    @Autowired
+    StudyInstructorService studyInstructorService;
+
+    @Test
+    void 변경이_없으면_같은_ETag와_캐시된_목록을_돌려준다() {
+        // given
+        Member instructor = createMember();
+        studyGeneralService.createStudy(createRequest("캐시 스터디", 5), createUserDetails(instructor));
+
+        // when
+        Versioned<List<GeneralStudySummary>> first = studyCatalogCache.getSummaries();
+        Versioned<List<GeneralStudySummary>> second = studyCatalogCache.getSummaries();
+
+        // then
+        assertNotNull(first.eTag());
+        assertEquals(first.eTag(), second.eTag());
+        assertSame(first.value(), second.value());
+        assertEquals(1, first.value().size());
+    }
+
+    @Test
+    void 스터디를_수정하면_ETag가_바뀌고_수정된_상세를_돌려준다() {
+        // given
+        UserDetails instructor = createUserDetails(createMember());
+        GeneralStudyDetail created = studyGeneralService.createStudy(createRequest("수정 전", 5), instructor);
+        Versioned<GeneralStudyDetail> before = studyCatalogCache.getDetail(created.id());
+
+        // when
+        studyInstructorService.updateStudy(created.id(), createRequest("수정 후", 5), instructor);
+
+        // then
+        Versioned<GeneralStudyDetail> after = studyCatalogCache.getDetail(created.id());
+        assertNotEquals(before.eTag(), after.eTag());
+        assertEquals("수정 후", after.value().title());
+    }
+
+    @Test
+    void 선착순_가입이_커밋되면_참가자_수가_반영된다() {
+        // given
+        UserDetails instructor = createUserDetails(createMember());
+        GeneralStudyDetail created = studyGeneralService.createStudy(createRequest("선착순", 5), instructor);
+        Versioned<List<GeneralStudySummary>> before = studyCatalogCache.getSummaries();
+
+        // when
+        studyGeneralService.enrollInStudy(
+                created.id(), new StudyEnrollRequest("가입 신청"), createUserDetails(createMember()));
+
+        // then
+        Versioned<List<GeneralStudySummary>> after = studyCatalogCache.getSummaries();
+        assertNotEquals(before.eTag(), after.eTag());
+        assertEquals(0, before.value().getFirst().participantCount());
+        assertEquals(1, after.value().getFirst().participantCount());
+    }
+
+    private StudyCreateUpdateRequest createRequest(String title, int maxParticipants) {
+        return new StudyCreateUpdateRequest(
+                title,
+                StudyCategory.WEB,
+                StudyLevel.BASIC,
+                "캐시 테스트용 스터디",
+                StudyRecruitmentMethod.FCFS,
+                maxParticipants,
+                "주 1회",
+                List.of("커리큘럼"),
+                List.of("자격 요건"));
+    }
+}
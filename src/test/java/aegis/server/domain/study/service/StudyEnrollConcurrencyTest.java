@@ -40,6 +40,12 @@ class StudyEnrollConcurrencyTest extends IntegrationTestWithoutTransactional {
     @Autowired
     StudyGeneralService studyGeneralService;
 
+    @Autowired
+    StudyEnrollmentAdmission studyEnrollmentAdmission;
+
+    @Autowired
+    StudySeatRecounter studySeatRecounter;
+
     @Autowired
     StudyRepository studyRepository;
 
@@ -229,6 +235,78 @@ class StudyEnrollConcurrencyTest extends IntegrationTestWithoutTransactional {
                 maxParticipants, applicantCount, successCount.get(), failCount.get());
     }
 
+    @Test
+    void 동시_신청_테스트_좌석_카운터() throws InterruptedException {
+        // 테스트 변수 설정
+        int maxParticipants = 5; // 스터디 정원
+        int applicantCount = 1000; // 신청자 수
+
+        // given
+        Study study = createStudyWithMaxParticipants(maxParticipants, StudyRecruitmentMethod.FCFS);
+        studySeatRecounter.recount(study.getId());
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < applicantCount; i++) {
+            members.add(createUniqueTestMember(i));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(applicantCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(applicantCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, applicantCount)
+                .mapToObj(i -> CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                startLatch.await();
+
+                                UserDetails userDetails = createUserDetails(members.get(i));
+                                StudyEnrollRequest request = new StudyEnrollRequest("좌석 카운터 테스트 신청");
+
+                                studyEnrollmentAdmission.enroll(study.getId(), request, userDetails);
+                                successCount.incrementAndGet();
+
+                            } catch (CustomException e) {
+                                if (e.getErrorCode() == ErrorCode.STUDY_FULL) {
+                                    failCount.incrementAndGet();
+                                } else {
+                                    throw new RuntimeException("예상하지 못한 예외 발생: " + e.getErrorCode());
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException("예상하지 못한 예외 발생", e);
+                            } finally {
+                                endLatch.countDown();
+                            }
+                        },
+                        executorService))
+                .toList();
+
+        startLatch.countDown();
+        endLatch.await();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+
+        // then
+        Study updatedStudy = studyRepository.findById(study.getId()).get();
+        List<StudyMember> studyMembers = studyMemberRepository.findByStudy(study);
+
+        // 좌석 카운터를 거치면 정원만큼 정확히 가입되고 나머지는 모두 정원 초과로 거절된다
+        assertEquals(maxParticipants, successCount.get());
+        assertEquals(applicantCount - maxParticipants, failCount.get());
+        assertEquals(maxParticipants, updatedStudy.getCurrentParticipants());
+        assertEquals(maxParticipants, studyMembers.size());
+        // 재계산 결과도 DB와 일치해야 한다
+        assertFalse(studySeatRecounter.recount(study.getId()));
+
+        System.out.printf(
+                "좌석 카운터 테스트 결과 - 정원: %d명, 신청자: %d명, 성공: %d명, 실패: %d명%n",
+                maxParticipants, applicantCount, successCount.get(), failCount.get());
+    }
+
     private Member createUniqueTestMember(int index) {
         String uniqueId = "test_user_" + System.currentTimeMillis() + "_" + index;
         Member member = Member.create(uniqueId, uniqueId + "@dankook.ac.kr", "테스트사용자" + index);
@@ -0,0 +1,147 @@
+package aegis.server.domain.study.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aegis.server.domain.member.domain.Member;
+import aegis.server.domain.study.domain.Study;
+import aegis.server.domain.study.domain.StudyCategory;
+import aegis.server.domain.study.domain.StudyLevel;
+import aegis.server.domain.study.domain.StudyMember;
+import aegis.server.domain.study.domain.StudyRecruitmentMethod;
+import aegis.server.domain.study.domain.StudyRole;
+import aegis.server.domain.study.dto.request.StudyEnrollRequest;
+import aegis.server.domain.study.repository.StudyMemberRepository;
+import aegis.server.domain.study.repository.StudyRepository;
+import aegis.server.global.exception.CustomException;
+import aegis.server.global.exception.ErrorCode;
+import aegis.server.helper.IntegrationTestWithoutTransactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyEnrollmentAdmissionTest extends IntegrationTestWithoutTransactional {
+
+    @Autowired
+    StudyEnrollmentAdmission studyEnrollmentAdmission;
+
+    @Autowired
+    StudySeatRecounter studySeatRecounter;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    StudyMemberRepository studyMemberRepository;
+
+    private final StudyEnrollRequest request = new StudyEnrollRequest("선착순 신청");
+
+    @Nested
+    class 좌석_카운터 {
+
+        @Test
+        void 좌석을_확보한_요청만_가입되고_나머지는_정원_초과로_거절된다() {
+            // given
+            Study study = createFcfsStudy(1);
+            studySeatRecounter.recount(study.getId());
+            Member winner = createMember();
+            Member loser = createMember();
+
+            // when
+            studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(winner));
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(loser)));
+
+            // then
+            assertEquals(ErrorCode.STUDY_FULL, exception.getErrorCode());
+            assertEquals(1, studyRepository.findById(study.getId()).get().getCurrentParticipants());
+        }
+
+        @Test
+        void 가입에_실패하면_확보한_좌석을_돌려준다() {
+            // given
+            Study study = createFcfsStudy(2);
+            studySeatRecounter.recount(study.getId());
+            Member member = createMember();
+            studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(member));
+
+            // when
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(member)));
+
+            // then
+            assertEquals(ErrorCode.STUDY_APPLICATION_ALREADY_EXISTS, exception.getErrorCode());
+            studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(createMember()));
+            assertEquals(2, studyRepository.findById(study.getId()).get().getCurrentParticipants());
+        }
+
+        @Test
+        void 카운터가_없는_스터디는_DB_잠금으로_정원을_확인한다() {
+            // given
+            Study study = createFcfsStudy(1);
+            studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(createMember()));
+
+            // when
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(createMember())));
+
+            // then
+            assertEquals(ErrorCode.STUDY_FULL, exception.getErrorCode());
+        }
+    }
+
+    @Nested
+    class 참가자_수_재계산 {
+
+        @Test
+        void StudyMember_기준으로_참가자_수와_좌석_카운터를_맞춘다() {
+            // given
+            Study study = createFcfsStudy(1);
+            studyMemberRepository.save(StudyMember.create(study, createMember(), StudyRole.PARTICIPANT));
+
+            // when
+            boolean corrected = studySeatRecounter.recount(study.getId());
+
+            // then
+            assertTrue(corrected);
+            assertEquals(1, studyRepository.findById(study.getId()).get().getCurrentParticipants());
+            CustomException exception = assertThrows(
+                    CustomException.class,
+                    () -> studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(createMember())));
+            assertEquals(ErrorCode.STUDY_FULL, exception.getErrorCode());
+        }
+
+        @Test
+        void 참가자_수가_맞으면_고치지_않는다() {
+            // given
+            Study study = createFcfsStudy(3);
+            studyEnrollmentAdmission.enroll(study.getId(), request, createUserDetails(createMember()));
+
+            // when
+            boolean corrected = studySeatRecounter.recount(study.getId());
+
+            // then
+            assertFalse(corrected);
+            assertEquals(1, studyRepository.findById(study.getId()).get().getCurrentParticipants());
+        }
+    }
+
+    private Study createFcfsStudy(int maxParticipants) {
+        return studyRepository.save(Study.create(
+                "선착순 스터디",
+                StudyCategory.WEB,
+                StudyLevel.INTERMEDIATE,
+                "선착순 스터디 설명",
+                StudyRecruitmentMethod.FCFS,
+                maxParticipants,
+                "주 1회",
+                List.of("커리큘럼"),
+                List.of("자격 요건")));
+    }
+}
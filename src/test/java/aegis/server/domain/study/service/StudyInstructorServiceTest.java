@@ -5,7 +5,6 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -18,8 +17,6 @@ import aegis.server.domain.member.domain.Member;
 import aegis.server.domain.study.domain.*;
 import aegis.server.domain.study.dto.request.StudyCreateUpdateRequest;
 import aegis.server.domain.study.dto.response.AttendanceCodeIssueResponse;
-import aegis.server.domain.study.dto.response.AttendanceMatrixResponse;
-import aegis.server.domain.study.dto.response.AttendanceMemberRow;
 import aegis.server.domain.study.dto.response.GeneralStudyDetail;
 import aegis.server.domain.study.dto.response.InstructorStudyApplicationReason;
 import aegis.server.domain.study.dto.response.InstructorStudyApplicationSummary;
@@ -28,6 +25,7 @@ import aegis.server.domain.study.repository.StudyApplicationRepository;
 import aegis.server.domain.study.repository.StudyMemberRepository;
 import aegis.server.domain.study.repository.StudyRepository;
 import aegis.server.domain.study.repository.StudySessionRepository;
+import aegis.server.domain.study.service.attendance.AttendanceMatrix;
 import aegis.server.global.exception.CustomException;
 import aegis.server.global.exception.ErrorCode;
 import aegis.server.global.security.oidc.UserDetails;
@@ -304,21 +302,17 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studyAttendanceRepository.save(StudyAttendance.create(s2, p2));
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(2, response.sessions().size());
-            assertEquals(LocalDate.of(2025, 9, 10), response.sessions().get(0).date());
-            assertEquals(LocalDate.of(2025, 9, 17), response.sessions().get(1).date());
+            assertEquals(2, matrix.sessionCount());
+            assertEquals(LocalDate.of(2025, 9, 10), matrix.sessionDate(0));
+            assertEquals(LocalDate.of(2025, 9, 17), matrix.sessionDate(1));
 
             // 멤버별 검증 (memberId 매칭)
-            Map<Long, AttendanceMemberRow> byId = response.members().stream()
-                    .collect(java.util.stream.Collectors.toMap(AttendanceMemberRow::memberId, m -> m));
-
-            List<Boolean> p1Row = byId.get(p1.getId()).attendance();
-            List<Boolean> p2Row = byId.get(p2.getId()).attendance();
-            List<Boolean> p3Row = byId.get(p3.getId()).attendance();
+            List<Boolean> p1Row = attendanceOf(matrix, p1.getId());
+            List<Boolean> p2Row = attendanceOf(matrix, p2.getId());
+            List<Boolean> p3Row = attendanceOf(matrix, p3.getId());
 
             assertEquals(List.of(true, true), p1Row);
             assertEquals(List.of(false, true), p2Row);
@@ -335,13 +329,12 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studyMemberRepository.save(StudyMember.create(study, p1, StudyRole.PARTICIPANT));
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(0, response.sessions().size());
-            assertEquals(1, response.members().size());
-            assertEquals(0, response.members().getFirst().attendance().size());
+            assertEquals(0, matrix.sessionCount());
+            assertEquals(1, matrix.memberCount());
+            assertEquals(0, attendanceOf(matrix, matrix.memberId(0)).size());
         }
 
         @Test
@@ -370,12 +363,11 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studySessionRepository.save(StudySession.create(study, LocalDate.of(2025, 9, 3), "1111"));
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(1, response.sessions().size());
-            assertEquals(0, response.members().size());
+            assertEquals(1, matrix.sessionCount());
+            assertEquals(0, matrix.memberCount());
         }
 
         @Test
@@ -388,6 +380,8 @@ class StudyInstructorServiceTest extends IntegrationTest {
             a.updateName("이지수");
             b.updateName("강다연");
             c.updateName("박서준");
+            // 출석 행렬은 JDBC로 조회하므로 이름 변경을 먼저 반영한다
+            studyMemberRepository.flush();
 
             UserDetails instructorDetails = createUserDetails(instructor);
             Study study = createStudyWithInstructor(instructor);
@@ -402,13 +396,12 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studyAttendanceRepository.save(StudyAttendance.create(s1, a));
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then: 이름 오름차순: 강다연, 박서준, 이지수
-            assertEquals("강다연", response.members().get(0).name());
-            assertEquals("박서준", response.members().get(1).name());
-            assertEquals("이지수", response.members().get(2).name());
+            assertEquals("강다연", matrix.memberName(0));
+            assertEquals("박서준", matrix.memberName(1));
+            assertEquals("이지수", matrix.memberName(2));
         }
 
         @Test
@@ -428,16 +421,15 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studyAttendanceRepository.save(StudyAttendance.create(s1, outsider));
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(1, response.sessions().size());
-            assertEquals(1, response.members().size());
+            assertEquals(1, matrix.sessionCount());
+            assertEquals(1, matrix.memberCount());
             // 유일한 멤버는 participant여야 함
-            assertEquals(participant.getId(), response.members().getFirst().memberId());
+            assertEquals(participant.getId(), matrix.memberId(0));
             // outsider 출석은 무시되므로 false
-            assertEquals(java.util.List.of(false), response.members().getFirst().attendance());
+            assertEquals(java.util.List.of(false), attendanceOf(matrix, matrix.memberId(0)));
         }
 
         @Test
@@ -463,16 +455,14 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studyAttendanceRepository.save(StudyAttendance.create(s2, s2p)); // study2 출석만 체크
 
             // when: study1 조회
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study1.getId(), instructor1Details);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study1.getId(), instructor1Details);
 
             // then: study2 데이터는 포함되면 안 됨
-            assertEquals(1, response.sessions().size());
-            assertEquals(
-                    LocalDate.of(2025, 9, 3), response.sessions().getFirst().date());
-            assertEquals(1, response.members().size());
-            assertEquals(s1p.getId(), response.members().getFirst().memberId());
-            assertEquals(java.util.List.of(false), response.members().getFirst().attendance());
+            assertEquals(1, matrix.sessionCount());
+            assertEquals(LocalDate.of(2025, 9, 3), matrix.sessionDate(0));
+            assertEquals(1, matrix.memberCount());
+            assertEquals(s1p.getId(), matrix.memberId(0));
+            assertEquals(java.util.List.of(false), attendanceOf(matrix, matrix.memberId(0)));
         }
 
         @Test
@@ -491,12 +481,11 @@ class StudyInstructorServiceTest extends IntegrationTest {
             studySessionRepository.save(StudySession.create(study, LocalDate.of(2025, 9, 10), "2222"));
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(3, response.sessions().size());
-            assertEquals(3, response.members().getFirst().attendance().size());
+            assertEquals(3, matrix.sessionCount());
+            assertEquals(3, attendanceOf(matrix, matrix.memberId(0)).size());
         }
 
         @Test
@@ -534,21 +523,17 @@ class StudyInstructorServiceTest extends IntegrationTest {
             }
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then: 크기 검증
-            assertEquals(sessionCount, response.sessions().size());
-            assertEquals(memberCount, response.members().size());
+            assertEquals(sessionCount, matrix.sessionCount());
+            assertEquals(memberCount, matrix.memberCount());
 
             // 샘플 멤버 3명에 대해 패턴 검증 (memberId 매핑 사용)
-            var byId = response.members().stream()
-                    .collect(java.util.stream.Collectors.toMap(AttendanceMemberRow::memberId, m -> m));
-
             int[] sampleIdx = {0, 13, 47};
             for (int idx : sampleIdx) {
                 Member mem = members.get(idx);
-                List<Boolean> actual = byId.get(mem.getId()).attendance();
+                List<Boolean> actual = attendanceOf(matrix, mem.getId());
                 for (int s = 0; s < sessionCount; s++) {
                     boolean expected = (s % 7 == idx % 5);
                     assertEquals(expected, actual.get(s), "member:" + idx + ", session:" + s);
@@ -583,14 +568,13 @@ class StudyInstructorServiceTest extends IntegrationTest {
             }
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(sessionCount, response.sessions().size());
-            assertEquals(memberCount, response.members().size());
-            for (var row : response.members()) {
-                assertTrue(row.attendance().stream().allMatch(Boolean::booleanValue));
+            assertEquals(sessionCount, matrix.sessionCount());
+            assertEquals(memberCount, matrix.memberCount());
+            for (int row = 0; row < matrix.memberCount(); row++) {
+                assertEquals(sessionCount, matrix.attendedCount(row));
             }
         }
 
@@ -602,12 +586,11 @@ class StudyInstructorServiceTest extends IntegrationTest {
             Study study = createStudyWithInstructor(instructor);
 
             // when
-            AttendanceMatrixResponse response =
-                    studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
+            AttendanceMatrix matrix = studyInstructorService.findAttendanceMatrix(study.getId(), instructorDetails);
 
             // then
-            assertEquals(0, response.sessions().size());
-            assertEquals(0, response.members().size());
+            assertEquals(0, matrix.sessionCount());
+            assertEquals(0, matrix.memberCount());
         }
     }
 
@@ -1006,6 +989,19 @@ class StudyInstructorServiceTest extends IntegrationTest {
         return studyApplicationRepository.save(studyApplication);
     }
 
+    private List<Boolean> attendanceOf(AttendanceMatrix matrix, Long memberId) {
+        for (int row = 0; row < matrix.memberCount(); row++) {
+            if (matrix.memberId(row) == memberId) {
+                List<Boolean> attendance = new java.util.ArrayList<>(matrix.sessionCount());
+                for (int col = 0; col < matrix.sessionCount(); col++) {
+                    attendance.add(matrix.isAttended(row, col));
+                }
+                return attendance;
+            }
+        }
+        throw new AssertionError("출석 행렬에 없는 회원: " + memberId);
+    }
+
     private StudyCreateUpdateRequest createStudyCreateUpdateRequest() {
         return new StudyCreateUpdateRequest(
                 "수정된 스터디",
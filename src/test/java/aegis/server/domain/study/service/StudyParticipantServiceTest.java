@@ -2,6 +2,7 @@ package aegis.server.domain.study.service;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,7 @@ import aegis.server.domain.study.domain.*;
 import aegis.server.domain.study.dto.request.AttendanceMarkRequest;
 import aegis.server.domain.study.dto.response.AttendanceCodeIssueResponse;
 import aegis.server.domain.study.dto.response.AttendanceMarkResponse;
+import aegis.server.domain.study.repository.StudyCheckInAttemptBoard;
 import aegis.server.domain.study.repository.StudyAttendanceRepository;
 import aegis.server.domain.study.repository.StudyMemberRepository;
 import aegis.server.domain.study.repository.StudyRepository;
@@ -43,6 +45,9 @@ class StudyParticipantServiceTest extends IntegrationTest {
     @Autowired
     StudyAttendanceRepository studyAttendanceRepository;
 
+    @Autowired
+    StudyCheckInAttemptBoard studyCheckInAttemptBoard;
+
     @MockitoBean
     Clock clock;
 
@@ -172,6 +177,207 @@ class StudyParticipantServiceTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    class 체크인_캐시 {
+        @Test
+        void 명단을_캐싱한_뒤_합류한_참여자도_출석할_수_있다() {
+            // given
+            Member instructor = createMember();
+            Member early = createMember();
+            Member late = createMember();
+            createPointAccount(instructor);
+            createPointAccount(early);
+            createPointAccount(late);
+
+            Study study = createStudyWithInstructor(instructor);
+            addParticipant(study, early);
+            AttendanceCodeIssueResponse issued =
+                    studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+            studyParticipantService.markAttendance(
+                    study.getId(), AttendanceMarkRequest.of(issued.code()), createUserDetails(early));
+
+            // when: 명단이 캐싱된 뒤에 합류
+            addParticipant(study, late);
+            AttendanceMarkResponse response = studyParticipantService.markAttendance(
+                    study.getId(), AttendanceMarkRequest.of(issued.code()), createUserDetails(late));
+
+            // then
+            assertEquals(issued.sessionId(), response.sessionId());
+            assertTrue(studyAttendanceRepository.existsByStudySessionIdAndMemberId(issued.sessionId(), late.getId()));
+        }
+
+        @Test
+        void 캐싱된_회차로도_코드를_검증한다() {
+            // given
+            Member instructor = createMember();
+            Member p1 = createMember();
+            Member p2 = createMember();
+            createPointAccount(instructor);
+            createPointAccount(p1);
+
+            Study study = createStudyWithInstructor(instructor);
+            addParticipant(study, p1);
+            addParticipant(study, p2);
+            AttendanceCodeIssueResponse issued =
+                    studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+            studyParticipantService.markAttendance(
+                    study.getId(), AttendanceMarkRequest.of(issued.code()), createUserDetails(p1));
+
+            // when-then
+            String wrongCode = issued.code().equals("0000") ? "1111" : "0000";
+            CustomException e = assertThrows(
+                    CustomException.class,
+                    () -> studyParticipantService.markAttendance(
+                            study.getId(), AttendanceMarkRequest.of(wrongCode), createUserDetails(p2)));
+            assertEquals(ErrorCode.STUDY_ATTENDANCE_CODE_INVALID, e.getErrorCode());
+        }
+    }
+
+    @Nested
+    class 출석_코드_시도_제한 {
+        @Test
+        void 실패가_한도에_닿으면_올바른_코드도_거절한다() {
+            // given
+            Member instructor = createMember();
+            Member participant = createMember();
+            createPointAccount(instructor);
+            createPointAccount(participant);
+            UserDetails participantDetails = createUserDetails(participant);
+
+            Study study = createStudyWithInstructor(instructor);
+            addParticipant(study, participant);
+            AttendanceCodeIssueResponse issued =
+                    studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+            String wrongCode = issued.code().equals("0000") ? "1111" : "0000";
+            for (int i = 0; i < 5; i++) {
+                assertThrows(
+                        CustomException.class,
+                        () -> studyParticipantService.markAttendance(
+                                study.getId(), AttendanceMarkRequest.of(wrongCode), participantDetails));
+            }
+
+            // when
+            CustomException e = assertThrows(
+                    CustomException.class,
+                    () -> studyParticipantService.markAttendance(
+                            study.getId(), AttendanceMarkRequest.of(issued.code()), participantDetails));
+
+            // then
+            assertEquals(ErrorCode.STUDY_ATTENDANCE_TOO_MANY_ATTEMPTS, e.getErrorCode());
+            assertFalse(studyAttendanceRepository.existsByStudySessionIdAndMemberId(
+                    issued.sessionId(), participant.getId()));
+        }
+
+        @Test
+        void 다른_회원의_실패는_회원별_한도에_포함되지_않는다() {
+            // given
+            Member instructor = createMember();
+            Member guesser = createMember();
+            Member participant = createMember();
+            createPointAccount(instructor);
+            createPointAccount(participant);
+
+            Study study = createStudyWithInstructor(instructor);
+            addParticipant(study, guesser);
+            addParticipant(study, participant);
+            AttendanceCodeIssueResponse issued =
+                    studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+            String wrongCode = issued.code().equals("0000") ? "1111" : "0000";
+            UserDetails guesserDetails = createUserDetails(guesser);
+            for (int i = 0; i < 5; i++) {
+                assertThrows(
+                        CustomException.class,
+                        () -> studyParticipantService.markAttendance(
+                                study.getId(), AttendanceMarkRequest.of(wrongCode), guesserDetails));
+            }
+
+            // when
+            AttendanceMarkResponse response = studyParticipantService.markAttendance(
+                    study.getId(), AttendanceMarkRequest.of(issued.code()), createUserDetails(participant));
+
+            // then
+            assertEquals(issued.sessionId(), response.sessionId());
+        }
+
+        @Test
+        void 회차별_한도에_닿아도_올바른_코드는_통과하고_틀린_코드만_거절한다() {
+            // given
+            Member instructor = createMember();
+            Member participant = createMember();
+            Member guesser = createMember();
+            createPointAccount(instructor);
+            createPointAccount(participant);
+
+            Study study = createStudyWithInstructor(instructor);
+            addParticipant(study, participant);
+            addParticipant(study, guesser);
+            AttendanceCodeIssueResponse issued =
+                    studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+            String wrongCode = issued.code().equals("0000") ? "1111" : "0000";
+
+            // 여러 계정이 돌려 가며 틀린 코드를 입력해 회차별 한도(50회)를 채운 상태
+            LocalDate today = LocalDate.now(clock);
+            long nowMillis = clock.instant().toEpochMilli();
+            for (long otherMemberId = 1; otherMemberId <= 50; otherMemberId++) {
+                studyCheckInAttemptBoard.recordFailure(study.getId(), today, -otherMemberId, nowMillis, 600_000);
+            }
+
+            // when
+            AttendanceMarkResponse response = studyParticipantService.markAttendance(
+                    study.getId(), AttendanceMarkRequest.of(issued.code()), createUserDetails(participant));
+            CustomException e = assertThrows(
+                    CustomException.class,
+                    () -> studyParticipantService.markAttendance(
+                            study.getId(), AttendanceMarkRequest.of(wrongCode), createUserDetails(guesser)));
+
+            // then
+            assertEquals(issued.sessionId(), response.sessionId());
+            assertEquals(ErrorCode.STUDY_ATTENDANCE_TOO_MANY_ATTEMPTS, e.getErrorCode());
+        }
+
+        @Test
+        void 회차별_한도로_거절된_시도도_회원별_한도에_포함되어_올바른_코드까지_거절한다() {
+            // given
+            Member instructor = createMember();
+            Member guesser = createMember();
+            createPointAccount(instructor);
+            createPointAccount(guesser);
+            UserDetails guesserDetails = createUserDetails(guesser);
+
+            Study study = createStudyWithInstructor(instructor);
+            addParticipant(study, guesser);
+            AttendanceCodeIssueResponse issued =
+                    studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+            String wrongCode = issued.code().equals("0000") ? "1111" : "0000";
+
+            LocalDate today = LocalDate.now(clock);
+            long nowMillis = clock.instant().toEpochMilli();
+            for (long otherMemberId = 1; otherMemberId <= 50; otherMemberId++) {
+                studyCheckInAttemptBoard.recordFailure(study.getId(), today, -otherMemberId, nowMillis, 600_000);
+            }
+
+            // 회차 한도에 닿은 뒤의 틀린 코드는 429로 거절되지만 회원별 실패로도 기록된다
+            for (int i = 0; i < 5; i++) {
+                CustomException e = assertThrows(
+                        CustomException.class,
+                        () -> studyParticipantService.markAttendance(
+                                study.getId(), AttendanceMarkRequest.of(wrongCode), guesserDetails));
+                assertEquals(ErrorCode.STUDY_ATTENDANCE_TOO_MANY_ATTEMPTS, e.getErrorCode());
+            }
+
+            // when
+            CustomException e = assertThrows(
+                    CustomException.class,
+                    () -> studyParticipantService.markAttendance(
+                            study.getId(), AttendanceMarkRequest.of(issued.code()), guesserDetails));
+
+            // then
+            assertEquals(ErrorCode.STUDY_ATTENDANCE_TOO_MANY_ATTEMPTS, e.getErrorCode());
+            assertFalse(studyAttendanceRepository.existsByStudySessionIdAndMemberId(
+                    issued.sessionId(), guesser.getId()));
+        }
+    }
+
     private Study createStudyWithInstructor(Member instructor) {
         Study study = Study.create(
                 "출석 스터디",
@@ -3,6 +3,7 @@ package aegis.server.domain.study.service;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +18,10 @@ import aegis.server.domain.point.domain.PointAccount;
 import aegis.server.domain.point.repository.PointAccountRepository;
 import aegis.server.domain.point.repository.PointTransactionRepository;
 import aegis.server.domain.study.domain.*;
+import aegis.server.domain.study.dto.internal.CheckInSession;
 import aegis.server.domain.study.dto.request.AttendanceMarkRequest;
 import aegis.server.domain.study.dto.response.AttendanceCodeIssueResponse;
+import aegis.server.domain.study.repository.StudyCheckInBoard;
 import aegis.server.domain.study.repository.StudyMemberRepository;
 import aegis.server.domain.study.repository.StudyRepository;
 import aegis.server.helper.IntegrationTestWithoutTransactional;
@@ -46,6 +49,9 @@ class StudyPointRewardTest extends IntegrationTestWithoutTransactional {
     @Autowired
     PointAccountRepository pointAccountRepository;
 
+    @Autowired
+    StudyCheckInBoard studyCheckInBoard;
+
     @MockitoBean
     Clock clock;
 
@@ -115,6 +121,32 @@ class StudyPointRewardTest extends IntegrationTestWithoutTransactional {
         assertEquals(BigDecimal.valueOf(30), refreshed.getBalance());
     }
 
+    @Test
+    void 스터디장_보상이_커밋되면_회차_캐시에_지급_완료가_표시된다() {
+        // given
+        Member instructor = createMember();
+        Member participant = createMember();
+        pointAccountRepository.save(PointAccount.create(instructor));
+        pointAccountRepository.save(PointAccount.create(participant));
+
+        Study study = createStudyWithInstructor(instructor);
+        addParticipant(study, participant);
+
+        AttendanceCodeIssueResponse issued =
+                studyInstructorService.issueAttendanceCode(study.getId(), createUserDetails(instructor));
+
+        // when
+        studyParticipantService.markAttendance(
+                study.getId(), AttendanceMarkRequest.of(issued.code()), createUserDetails(participant));
+
+        // then: 이후 출석은 스터디장 보상을 다시 시도하지 않는다
+        LocalDate today = LocalDate.of(2025, 9, 11);
+        CheckInSession cached = studyCheckInBoard.findSession(study.getId(), today).orElseThrow();
+        assertEquals(issued.sessionId(), cached.sessionId());
+        assertEquals(instructor.getId(), cached.instructorId());
+        assertTrue(cached.instructorRewarded());
+    }
+
     @Test
     void 출석_성공_시_참가자_10포인트_지급() {
         // given
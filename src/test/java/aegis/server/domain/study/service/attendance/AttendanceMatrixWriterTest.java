@@ -0,0 +1,93 @@
+package aegis.server.domain.study.service.attendance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttendanceMatrixWriterTest {
+
+    @Test
+    void 행렬은_64회차를_넘어도_회차별로_표시된다() {
+        int sessionCount = 130;
+        long[] sessionIds = new long[sessionCount];
+        LocalDate[] dates = new LocalDate[sessionCount];
+        for (int i = 0; i < sessionCount; i++) {
+            sessionIds[i] = 1_000 - i;
+            dates[i] = LocalDate.of(2026, 3, 1).plusDays(i);
+        }
+        AttendanceMatrix matrix = new AttendanceMatrix(
+                1L, "스터디", sessionIds, dates, new long[] {30L, 10L}, new String[] {"가", "나"});
+
+        assertThat(matrix.mark(30L, sessionIds[0])).isTrue();
+        assertThat(matrix.mark(30L, sessionIds[64])).isTrue();
+        assertThat(matrix.mark(10L, sessionIds[129])).isTrue();
+        assertThat(matrix.mark(99L, sessionIds[0])).isFalse();
+        assertThat(matrix.mark(10L, 1L)).isFalse();
+
+        assertThat(matrix.isAttended(0, 0)).isTrue();
+        assertThat(matrix.isAttended(0, 64)).isTrue();
+        assertThat(matrix.isAttended(0, 1)).isFalse();
+        assertThat(matrix.isAttended(1, 129)).isTrue();
+        assertThat(matrix.isAttended(1, 65)).isFalse();
+        assertThat(matrix.attendedCount(0)).isEqualTo(2);
+        assertThat(matrix.attendedCount(1)).isEqualTo(1);
+    }
+
+    @Test
+    void JSON은_기존_출석_현황_응답과_같은_모양으로_쓴다() {
+        AttendanceMatrix matrix = sampleMatrix();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AttendanceMatrixWriter.writeJson(matrix, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"sessions\":[{\"sessionId\":11,\"date\":\"2026-03-02\"},"
+                        + "{\"sessionId\":12,\"date\":\"2026-03-09\"}],"
+                        + "\"members\":[{\"memberId\":1,\"name\":\"김철수\",\"attendance\":[true,false]},"
+                        + "{\"memberId\":2,\"name\":\"=SUM(A1)\",\"attendance\":[false,false]}]}");
+    }
+
+    @Test
+    void CSV는_BOM과_회차_머리글을_쓰고_수식으로_해석될_값을_막는다() throws IOException {
+        AttendanceMatrix matrix = sampleMatrix();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AttendanceMatrixWriter.writeCsv(matrix, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("\uFEFF이름,회원 ID,2026-03-02,2026-03-09,출석 수\r\n"
+                        + "김철수,1,O,X,1\r\n"
+                        + "'=SUM(A1),2,X,X,0\r\n");
+    }
+
+    @Test
+    void 학기_CSV는_스터디와_참여자마다_한_행을_쓴다() throws IOException {
+        AttendanceMatrix matrix = sampleMatrix();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AttendanceMatrixWriter.writeCsv(List.of(matrix), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("\uFEFF스터디 ID,스터디명,회원 ID,이름,출석 수,회차 수,회차별 출석\r\n"
+                        + "7,\"웹, 백엔드\",1,김철수,1,2,OX\r\n"
+                        + "7,\"웹, 백엔드\",2,'=SUM(A1),0,2,XX\r\n");
+    }
+
+    private AttendanceMatrix sampleMatrix() {
+        AttendanceMatrix matrix = new AttendanceMatrix(
+                7L,
+                "웹, 백엔드",
+                new long[] {11L, 12L},
+                new LocalDate[] {LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9)},
+                new long[] {1L, 2L},
+                new String[] {"김철수", "=SUM(A1)"});
+        matrix.mark(1L, 11L);
+        return matrix;
+    }
+}
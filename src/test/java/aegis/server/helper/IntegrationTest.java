@@ -10,6 +10,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.junit.jupiter.api.AfterEach;
+
 import aegis.server.domain.discord.service.listener.DiscordEventListener;
 import aegis.server.domain.member.domain.*;
 import aegis.server.domain.member.repository.MemberRepository;
@@ -31,6 +33,9 @@ public class IntegrationTest {
     @MockitoBean
     DiscordEventListener discordEventListener;
 
+    @Autowired
+    RedisCleaner redisCleaner;
+
     @Autowired
     MemberRepository memberRepository;
 
@@ -40,6 +45,12 @@ public class IntegrationTest {
     @Autowired
     PointTransactionRepository pointTransactionRepository;
 
+    @AfterEach
+    void cleanRedis() {
+        // DB는 롤백되지만 Redis(랭킹 등)는 롤백되지 않으므로 테스트마다 비운다
+        redisCleaner.clean();
+    }
+
     protected Member createMember() {
         String uniqueId = String.valueOf(System.nanoTime());
         Member member = Member.create(uniqueId, "test" + uniqueId + "@dankook.ac.kr", "테스트사용자이름" + uniqueId);
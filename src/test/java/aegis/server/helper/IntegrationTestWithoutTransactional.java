@@ -14,6 +14,7 @@ import aegis.server.domain.coupon.repository.IssuedCouponRepository;
 import aegis.server.domain.discord.service.listener.DiscordEventListener;
 import aegis.server.domain.member.domain.*;
 import aegis.server.domain.member.repository.MemberRepository;
+import aegis.server.domain.payment.service.matching.PendingPaymentIndex;
 import aegis.server.global.security.oidc.UserDetails;
 
 @SpringBootTest
@@ -35,6 +36,9 @@ public class IntegrationTestWithoutTransactional {
     @Autowired
     IssuedCouponRepository issuedCouponRepository;
 
+    @Autowired
+    PendingPaymentIndex pendingPaymentIndex;
+
     @MockitoBean
     JDA jda;
 
@@ -45,6 +49,8 @@ public class IntegrationTestWithoutTransactional {
     void setUp() {
         databaseCleaner.clean();
         redisCleaner.clean();
+        // ID가 다시 1부터 시작하므로 메모리에 남은 매칭 인덱스도 비운다
+        pendingPaymentIndex.rebuild();
     }
 
     protected Member createMember() {